@@ -4,6 +4,7 @@ plugins {
     id("io.spring.dependency-management") version "1.1.7"
     checkstyle
     jacoco
+    id("me.champeau.jmh") version "0.7.2"
 }
 val springCloudVersion by extra("2025.0.1")
 
@@ -50,6 +51,9 @@ dependencies {
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
     testImplementation("net.datafaker:datafaker:2.3.1")
     testImplementation("com.github.codemonstur:embedded-redis:1.4.3")
+    testImplementation("org.springframework.boot:spring-boot-testcontainers")
+    testImplementation("org.testcontainers:junit-jupiter")
+    testImplementation("org.testcontainers:postgresql")
 
 
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.8.13")
@@ -107,6 +111,17 @@ tasks.withType<Test> {
     useJUnitPlatform()
 }
 
+/** -----------------------------
+ *  JMH (src/jmh/java, ./gradlew jmh)
+ *  ----------------------------- */
+jmh {
+    jmhVersion = "1.37"
+    warmupIterations = 3
+    iterations = 5
+    fork = 1
+    includes = listOf(project.findProperty("jmhIncludes")?.toString() ?: ".*")
+}
+
 tasks.withType<JavaCompile>().configureEach {
     options.encoding = "UTF-8"
     options.compilerArgs.add("-parameters")
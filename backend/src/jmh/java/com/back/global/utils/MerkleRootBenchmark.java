@@ -0,0 +1,87 @@
+package com.back.global.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Merkle Root 계산 벤치마크
+ * - legacyBuildRoot: 기존 구현 (호출마다 getInstance + String.format hex + 문자열 연결)
+ * - buildRoot: Sha256Util 기반 hex 문자열 트리
+ * - buildDigestRoot: byte[] 트리 (hex 변환 없음)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=MerkleRootBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MerkleRootBenchmark {
+
+	@Param({"10000"})
+	private int leafCount;
+
+	private List<String> hexLeaves;
+	private List<byte[]> digestLeaves;
+
+	@Setup
+	public void setUp() {
+		hexLeaves = new ArrayList<>(leafCount);
+		digestLeaves = new ArrayList<>(leafCount);
+		for (int i = 0; i < leafCount; i++) {
+			byte[] leaf = Sha256Util.digest(i + ":1:2:2026-10-18T12:00:00");
+			digestLeaves.add(leaf);
+			hexLeaves.add(Sha256Util.toHex(leaf));
+		}
+	}
+
+	@Benchmark
+	public String legacyBuildRoot() {
+		List<String> current = new ArrayList<>(hexLeaves);
+		while (current.size() > 1) {
+			List<String> next = new ArrayList<>();
+			for (int i = 0; i < current.size(); i += 2) {
+				String left = current.get(i);
+				String right = i + 1 < current.size() ? current.get(i + 1) : left;
+				next.add(legacySha256(left + right));
+			}
+			current = next;
+		}
+		return current.get(0);
+	}
+
+	@Benchmark
+	public String buildRoot() {
+		return MerkleUtil.buildRoot(hexLeaves);
+	}
+
+	@Benchmark
+	public byte[] buildDigestRoot() {
+		return MerkleUtil.buildDigestRoot(digestLeaves);
+	}
+
+	private static String legacySha256(String input) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			byte[] hashBytes = digest.digest(input.getBytes(StandardCharsets.UTF_8));
+			StringBuilder sb = new StringBuilder();
+			for (byte b : hashBytes) {
+				sb.append(String.format("%02x", b));
+			}
+			return sb.toString();
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException(e);
+		}
+	}
+}
@@ -1,89 +1,292 @@
 package com.back.api.auth.service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Component;
 
 import com.back.api.auth.dto.cache.ActiveSessionDto;
 import com.back.domain.auth.entity.ActiveSession;
 import com.back.domain.auth.repository.ActiveSessionRepository;
+import com.back.domain.auth.repository.ActiveSessionView;
 import com.back.global.error.code.AuthErrorCode;
 import com.back.global.error.exception.ErrorException;
 
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * ActiveSession Redis 캐시
- * - Redis 우선 조회, Redis miss 시 DB 조회 후 캐싱
- * - Redis 장애 시 fast-fail (DB 과부하 방지)
+ * ActiveSession 2단계 캐시 (로컬 near-cache → Redis → DB)
+ * - 로컬 캐시 hit 시 네트워크 왕복 없이 인증 (TTL 5초, 최대 MAX_NEAR_ENTRIES건)
+ * - Redis miss 시 DB 조회 후 캐싱 (사용자별 single-flight + DB 동시 조회 상한으로 캐시 유실 시 DB 부하 제한)
+ * - 로그인/로그아웃/탈퇴 시 Redis pub/sub으로 전체 노드의 로컬 캐시 무효화 (메시지 유실 시 로컬 TTL로 보정)
+ * - Redis 장애 시 최근(STALE_GRACE 이내) 로컬 값으로 인증, 없으면 fast-fail (DB 과부하 방지)
  * - String 직렬화: "{sessionId}:{tokenVersion}"
  * - TTL 랜덤 지터로 캐시 stampede 방지
- * - 로그인/로그아웃 시 자동 무효화
  */
 @Component
 @Slf4j
-public class ActiveSessionCache {
+public class ActiveSessionCache implements MessageListener {
 
 	private static final String KEY_PREFIX = "active_session:";
+	private static final String WARM_MARKER_KEY = "active_session_warmed";
 	private static final double JITTER_RATIO = 0.1; // ±10% 지터
 	private static final String DELIMITER = ":"; // sessionId:tokenVersion
 
+	static final String INVALIDATION_CHANNEL = "active_session:invalidate";
+	private static final long NEAR_TTL_NANOS = Duration.ofSeconds(5).toNanos();
+	private static final long STALE_GRACE_NANOS = Duration.ofSeconds(30).toNanos();
+	private static final int MAX_NEAR_ENTRIES = 100_000;
+
+	private static final long LEADER_WAIT_MS = 2_000; // 같은 사용자의 선행 조회 대기
+	private static final int DB_LOAD_PERMITS = 16; // miss 시 DB 동시 조회 상한
+	private static final long DB_LOAD_WAIT_MS = 500;
+
 	private final RedisTemplate<String, String> redisTemplate;
 	private final ActiveSessionRepository activeSessionRepository;
+	private final RedisMessageListenerContainer listenerContainer;
+
+	private final ConcurrentHashMap<Long, NearEntry> nearCache = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<Long, CompletableFuture<Optional<ActiveSessionDto>>> inFlight =
+		new ConcurrentHashMap<>();
+	private final Semaphore dbLoadPermits = new Semaphore(DB_LOAD_PERMITS);
 
 	public ActiveSessionCache(
 		@Qualifier("stringTemplate") RedisTemplate<String, String> redisTemplate,
-		ActiveSessionRepository activeSessionRepository
+		ActiveSessionRepository activeSessionRepository,
+		RedisMessageListenerContainer listenerContainer
 	) {
 		this.redisTemplate = redisTemplate;
 		this.activeSessionRepository = activeSessionRepository;
+		this.listenerContainer = listenerContainer;
 	}
 
 	@Value("${custom.jwt.access-token-duration:3600}")
 	private long accessTokenDurationSeconds;
 
 	/**
-	 * ActiveSession 조회 (Redis 우선, miss 시 DB 조회 후 캐싱)
-	 * - Redis 장애 시 fast-fail (TEMPORARY_AUTH_UNAVAILABLE)
+	 * 로컬 캐시 항목 (expiresAt: System.nanoTime 기준 로컬 TTL 만료 시각)
+	 * session이 null이면 무효화 표시 - 무효화 전에 시작된 조회가 이전 값을 다시 넣지 못하게 막음
+	 */
+	record NearEntry(ActiveSessionDto session, long expiresAt) {
+
+		static NearEntry invalidated(long now) {
+			return new NearEntry(null, now);
+		}
+
+		boolean isFresh(long now) {
+			return session != null && now - expiresAt < 0;
+		}
+
+		boolean isWithinGrace(long now) {
+			return now - (expiresAt + STALE_GRACE_NANOS) < 0;
+		}
+	}
+
+	@PostConstruct
+	void subscribe() {
+		listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+	}
+
+	/**
+	 * ActiveSession 조회 (로컬 → Redis → DB 순, miss 시 상위 계층에 캐싱)
+	 * - 같은 사용자의 동시 miss는 먼저 들어온 요청의 조회 결과를 공유 (single-flight)
+	 * - Redis 장애 시 최근 로컬 값이 있으면 사용, 없으면 fast-fail (TEMPORARY_AUTH_UNAVAILABLE)
 	 */
 	public Optional<ActiveSessionDto> get(long userId) {
+		long now = System.nanoTime();
+		NearEntry near = nearCache.get(userId);
+		if (near != null && near.isFresh(now)) {
+			return Optional.of(near.session());
+		}
+
+		CompletableFuture<Optional<ActiveSessionDto>> flight = new CompletableFuture<>();
+		CompletableFuture<Optional<ActiveSessionDto>> leader = inFlight.putIfAbsent(userId, flight);
+		if (leader != null) {
+			return awaitLeader(userId, leader);
+		}
+
+		try {
+			Optional<ActiveSessionDto> session = load(userId, near, now);
+			flight.complete(session);
+			return session;
+		} catch (RuntimeException e) {
+			flight.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(userId, flight);
+		}
+	}
+
+	private Optional<ActiveSessionDto> load(long userId, NearEntry near, long now) {
 		String key = getKey(userId);
 
 		try {
 			// Redis에서 조회 시도
 			String cached = redisTemplate.opsForValue().get(key);
 			if (cached != null) {
-				return Optional.of(deserialize(cached));
+				ActiveSessionDto dto = deserialize(cached);
+				putNear(userId, near, dto);
+				return Optional.of(dto);
 			}
 
 			// Redis miss, DB에서 조회 후 캐싱
-			Optional<ActiveSession> dbSession = activeSessionRepository.findByUserId(userId);
+			Optional<ActiveSession> dbSession = findFromDb(userId);
 
 			if (dbSession.isPresent()) {
 				ActiveSessionDto dto = ActiveSessionDto.from(dbSession.get());
-				set(userId, dto); // 캐싱
+				cache(userId, dto);
+				putNear(userId, near, dto);
 				return Optional.of(dto);
 			}
 
 			return Optional.empty();
 
 		} catch (Exception e) {
-			// [Fast-fail] Redis 장애 시 즉시 예외 발생
-			log.error("Redis failure detected for userId: {}, failing fast to prevent DB overload", userId, e);
+			if (e instanceof InterruptedException) {
+				Thread.currentThread().interrupt();
+			}
+
+			// Redis 순단 - 그 사이 무효화되지 않은 최근 로컬 값으로 인증 유지
+			if (near != null && near.session() != null && near.isWithinGrace(now) && nearCache.get(userId) == near) {
+				log.warn("ActiveSession lookup failed for userId: {}, using stale local session", userId);
+				return Optional.of(near.session());
+			}
+
+			// [Fast-fail] Redis 장애/DB 조회 포화 시 즉시 예외 발생
+			log.error("ActiveSession lookup failed for userId: {}, failing fast to prevent DB overload", userId, e);
+			throw new ErrorException(AuthErrorCode.TEMPORARY_AUTH_UNAVAILABLE);
+		}
+	}
+
+	// DB 동시 조회 수 제한 - Redis 재시작/대량 만료 직후 전체 사용자의 miss가 DB로 몰리는 것 방지
+	private Optional<ActiveSession> findFromDb(long userId) throws InterruptedException {
+		if (!dbLoadPermits.tryAcquire(DB_LOAD_WAIT_MS, TimeUnit.MILLISECONDS)) {
+			throw new ErrorException(AuthErrorCode.TEMPORARY_AUTH_UNAVAILABLE);
+		}
+
+		try {
+			return activeSessionRepository.findByUserId(userId);
+		} finally {
+			dbLoadPermits.release();
+		}
+	}
+
+	private Optional<ActiveSessionDto> awaitLeader(long userId, CompletableFuture<Optional<ActiveSessionDto>> leader) {
+		try {
+			return leader.get(LEADER_WAIT_MS, TimeUnit.MILLISECONDS);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof ErrorException errorException) {
+				throw errorException;
+			}
+			throw new ErrorException(AuthErrorCode.TEMPORARY_AUTH_UNAVAILABLE);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ErrorException(AuthErrorCode.TEMPORARY_AUTH_UNAVAILABLE);
+		} catch (TimeoutException e) {
+			log.warn("Timed out waiting for in-flight ActiveSession lookup for userId: {}", userId);
 			throw new ErrorException(AuthErrorCode.TEMPORARY_AUTH_UNAVAILABLE);
 		}
 	}
 
 	/**
-	 * ActiveSession 캐싱 (TTL 랜덤 지터 적용)
-	 * - 캐시 stampede 방지를 위해 TTL에 ±10% 지터 추가
+	 * ActiveSession 캐싱 (로그인 시 세션 교체)
+	 * - 다른 노드에 남은 이전 세션은 pub/sub으로 무효화
 	 */
 	public void set(long userId, ActiveSessionDto session) {
+		cache(userId, session);
+		invalidate(userId);
+	}
+
+	//ActiveSession 캐시 무효화 (Redis + 전체 노드 로컬 캐시)
+	public void evict(long userId) {
+		String key = getKey(userId);
+
+		try {
+			redisTemplate.delete(key);
+		} catch (Exception e) {
+			// 무효화 실패 시 로깅만 (TTL 만료 시 자동 삭제됨)
+			log.warn("Failed to evict ActiveSession cache for userId: {}", userId, e);
+		}
+
+		invalidate(userId);
+	}
+
+	/**
+	 * 세션 일괄 적재 (Redis 재시작/대량 만료 대비 warm-up)
+	 * - 사용자별 SET NX를 파이프라인 한 번으로 전송, 그 사이 로그인으로 갱신된 값은 덮어쓰지 않음
+	 *
+	 * @return 이번 호출로 새로 적재된 수
+	 */
+	public int warmUp(List<ActiveSessionView> sessions) {
+		if (sessions.isEmpty()) {
+			return 0;
+		}
+
+		List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			for (ActiveSessionView session : sessions) {
+				connection.stringCommands().set(
+					getKey(session.getUserId()).getBytes(StandardCharsets.UTF_8),
+					serialize(new ActiveSessionDto(session.getSessionId(), session.getTokenVersion()))
+						.getBytes(StandardCharsets.UTF_8),
+					Expiration.from(getTtlWithJitter()),
+					RedisStringCommands.SetOption.ifAbsent()
+				);
+			}
+			return null;
+		});
+
+		return (int)results.stream().filter(Boolean.TRUE::equals).count();
+	}
+
+	/**
+	 * warm-up 완료 표시가 남아 있는지 확인
+	 * - Redis 재시작/flush로 표시가 사라졌다면 세션 캐시도 함께 유실된 것으로 간주
+	 */
+	public boolean isWarm() {
+		return Boolean.TRUE.equals(redisTemplate.hasKey(WARM_MARKER_KEY));
+	}
+
+	// warm-up 완료 표시 - 세션 TTL과 같이 만료되어 토큰 수명마다 한 번은 다시 적재
+	public void markWarm() {
+		redisTemplate.opsForValue().set(WARM_MARKER_KEY, "1", Duration.ofSeconds(accessTokenDurationSeconds));
+	}
+
+	// 다른 노드(자신 포함)의 무효화 메시지 수신
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		try {
+			removeNear(Long.parseLong(new String(message.getBody(), StandardCharsets.UTF_8)));
+		} catch (NumberFormatException e) {
+			log.warn("Invalid ActiveSession invalidation message: {}", message);
+		}
+	}
+
+	/**
+	 * Redis 캐싱 (TTL 랜덤 지터 적용)
+	 * - 캐시 stampede 방지를 위해 TTL에 ±10% 지터 추가
+	 */
+	private void cache(long userId, ActiveSessionDto session) {
 		String key = getKey(userId);
 		String value = serialize(session);
 		Duration ttl = getTtlWithJitter();
@@ -96,15 +299,45 @@ public class ActiveSessionCache {
 		}
 	}
 
-	//ActiveSession 캐시 무효화
-	public void evict(long userId) {
-		String key = getKey(userId);
+	private void invalidate(long userId) {
+		removeNear(userId);
 
 		try {
-			Boolean deleted = redisTemplate.delete(key);
+			redisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(userId));
 		} catch (Exception e) {
-			// 무효화 실패 시 로깅만 (TTL 만료 시 자동 삭제됨)
-			log.warn("Failed to evict ActiveSession cache for userId: {}", userId, e);
+			// 발행 실패 시 다른 노드는 로컬 TTL 만료 후 Redis 값으로 갱신
+			log.warn("Failed to publish ActiveSession invalidation for userId: {}", userId, e);
+		}
+	}
+
+	private void removeNear(long userId) {
+		nearCache.put(userId, NearEntry.invalidated(System.nanoTime()));
+	}
+
+	// 조회 시작 시점의 항목이 그대로일 때만 교체 (조회 도중 무효화됐다면 이전 값일 수 있으므로 버림)
+	private void putNear(long userId, NearEntry expected, ActiveSessionDto session) {
+		if (nearCache.size() >= MAX_NEAR_ENTRIES) {
+			pruneNear();
+		}
+
+		NearEntry entry = new NearEntry(session, System.nanoTime() + NEAR_TTL_NANOS);
+		if (expected == null) {
+			nearCache.putIfAbsent(userId, entry);
+		} else {
+			nearCache.replace(userId, expected, entry);
+		}
+	}
+
+	// 장애 대비 유예 시간까지 지난 항목(무효화 표시 포함) 제거, 그래도 가득 차면 임의 항목 10% 제거
+	private void pruneNear() {
+		long now = System.nanoTime();
+		nearCache.values().removeIf(entry -> !entry.isWithinGrace(now));
+
+		Iterator<Long> iterator = nearCache.keySet().iterator();
+		int toRemove = nearCache.size() - MAX_NEAR_ENTRIES * 9 / 10;
+		while (toRemove-- > 0 && iterator.hasNext()) {
+			iterator.next();
+			iterator.remove();
 		}
 	}
 
@@ -0,0 +1,99 @@
+package com.back.api.auth.service;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+
+import com.back.domain.auth.repository.ActiveSessionRepository;
+import com.back.domain.auth.repository.ActiveSessionView;
+import com.back.domain.event.entity.EventStatus;
+import com.back.domain.queue.entity.QueueEntryStatus;
+import com.back.global.observability.MdcContext;
+import com.back.global.observability.metrics.SchedulerMetrics;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ActiveSession 캐시 warm-up (custom.active-session.warm-up.enabled=true 일 때만)
+ * - 티켓팅 진행 중(OPEN) 이벤트 대기열의 사용자 세션을 Redis에 미리 적재
+ * - Redis 재시작/flush 직후 대기열 사용자의 첫 요청이 한꺼번에 DB로 몰리는 것 방지
+ * - 스케줄러 스레드에서 주기적으로 warm-up 표시(Redis)를 확인해 사라졌을 때만 적재
+ *   (기동 스레드를 막지 않고, Redis 재시작도 감지, 분산 락으로 한 노드만 실행)
+ * - DB는 userId keyset 페이지 단위로 조회, Redis는 페이지당 파이프라인 1회
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "custom.active-session.warm-up.enabled", havingValue = "true")
+public class ActiveSessionWarmer {
+
+	private static final String JOB_NAME = "ActiveSessionWarmUp";
+	private static final int PAGE_SIZE = 1_000;
+	private static final Set<QueueEntryStatus> QUEUED_STATUSES =
+		Set.of(QueueEntryStatus.WAITING, QueueEntryStatus.ENTERED);
+
+	private final ActiveSessionRepository activeSessionRepository;
+	private final ActiveSessionCache activeSessionCache;
+	private final SchedulerMetrics schedulerMetrics;
+
+	@Scheduled(initialDelay = 10_000, fixedDelay = 30_000)
+	@SchedulerLock(
+		name = "ActiveSessionWarmUp",
+		lockAtMostFor = "10m",
+		lockAtLeastFor = "10s"
+	)
+	public void warmUpIfCold() {
+		String runId = UUID.randomUUID().toString();
+		long startAt = System.currentTimeMillis();
+
+		try {
+			MdcContext.putRunId(runId);
+
+			if (activeSessionCache.isWarm()) {
+				return;
+			}
+
+			warmUp();
+			activeSessionCache.markWarm();
+		} catch (Exception e) {
+			// warm-up 실패는 조회 시 miss 처리로 대체, 표시가 없으므로 다음 주기에 재시도
+			log.warn("SCHED_FAIL job={} durationMs={} error={}",
+				JOB_NAME, System.currentTimeMillis() - startAt, e.toString(), e);
+		} finally {
+			schedulerMetrics.recordDuration(JOB_NAME, System.currentTimeMillis() - startAt);
+			MdcContext.removeRunId();
+		}
+	}
+
+	public void warmUp() {
+		long startAt = System.currentTimeMillis();
+		long lastUserId = 0;
+		int scanned = 0;
+		int loaded = 0;
+
+		List<ActiveSessionView> page;
+		do {
+			page = activeSessionRepository.findQueuedSessionsAfter(
+				lastUserId, EventStatus.OPEN, QUEUED_STATUSES, Limit.of(PAGE_SIZE)
+			);
+			if (page.isEmpty()) {
+				break;
+			}
+
+			loaded += activeSessionCache.warmUp(page);
+			scanned += page.size();
+			lastUserId = page.get(page.size() - 1).getUserId();
+		} while (page.size() == PAGE_SIZE);
+
+		log.info("SCHED_END job={} scanned={} loaded={} durationMs={}",
+			JOB_NAME, scanned, loaded, System.currentTimeMillis() - startAt);
+	}
+}
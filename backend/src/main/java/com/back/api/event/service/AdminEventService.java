@@ -10,6 +10,7 @@ import com.back.api.event.dto.request.EventCreateRequest;
 import com.back.api.event.dto.request.EventUpdateRequest;
 import com.back.api.event.dto.response.AdminEventDashboardResponse;
 import com.back.api.event.dto.response.EventResponse;
+import com.back.api.seat.service.SeatAvailabilityService;
 import com.back.domain.event.entity.Event;
 import com.back.domain.event.repository.EventRepository;
 import com.back.domain.preregister.entity.PreRegisterStatus;
@@ -30,6 +31,7 @@ public class AdminEventService {
 	private final EventRepository eventRepository;
 	private final PreRegisterRepository preRegisterRepository;
 	private final SeatRepository seatRepository;
+	private final SeatAvailabilityService seatAvailabilityService;
 
 	@Transactional
 	public EventResponse createEvent(EventCreateRequest request, long storeId) {
@@ -59,8 +61,8 @@ public class AdminEventService {
 				PreRegisterStatus.REGISTERED
 			);
 
-			// 2. 이벤트별 총 판매 좌석 조회 (SOLD 상태인 좌석)
-			Long totalSoldSeats = seatRepository.countByEventIdAndSeatStatus(eventId, SeatStatus.SOLD);
+			// 2. 이벤트별 총 판매 좌석 조회 (SOLD 상태인 좌석, Redis 카운터)
+			Long totalSoldSeats = seatAvailabilityService.countByStatus(eventId, SeatStatus.SOLD);
 
 			// 3. 이벤트별 총 판매 금액 조회
 			Long totalSalesAmount = seatRepository.sumPriceByEventIdAndSeatStatus(eventId, SeatStatus.SOLD);
@@ -1,14 +1,17 @@
 package com.back.api.payment.order.controller;
 
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 
 import com.back.api.payment.order.dto.request.OrderRequestDto;
 import com.back.api.payment.order.dto.response.OrderResponseDto;
 import com.back.api.payment.order.dto.response.V2_OrderResponseDto;
 import com.back.global.config.swagger.ApiErrorCode;
+import com.back.global.idempotency.IdempotencyStore;
 import com.back.global.response.ApiResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 
@@ -41,7 +44,13 @@ public interface OrderApi {
 		"TICKET_NOT_IN_PROGRESS",
 		"TICKET_NOT_FOUND",
 		"UNAUTHORIZED_TICKET_ACCESS",
-		"INVALID_TICKET_STATE"
+		"INVALID_TICKET_STATE",
+		"IDEMPOTENT_REQUEST_IN_PROGRESS",
+		"IDEMPOTENCY_KEY_REUSED"
 	})
-	ApiResponse<V2_OrderResponseDto> v2_createOrder(@Valid @RequestBody OrderRequestDto orderRequestDto);
+	ApiResponse<V2_OrderResponseDto> v2_createOrder(
+		@Valid @RequestBody OrderRequestDto orderRequestDto,
+		@Parameter(description = "멱등성 키 (생략 시 같은 Draft 티켓의 PENDING 주문 재사용)")
+		@RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey
+	);
 }
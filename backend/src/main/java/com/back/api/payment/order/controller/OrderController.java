@@ -2,6 +2,7 @@ package com.back.api.payment.order.controller;
 
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -10,6 +11,7 @@ import com.back.api.payment.order.dto.response.OrderResponseDto;
 import com.back.api.payment.order.dto.response.V2_OrderResponseDto;
 import com.back.api.payment.order.service.OrderService;
 import com.back.global.http.HttpRequestContext;
+import com.back.global.idempotency.IdempotencyStore;
 import com.back.global.response.ApiResponse;
 
 import lombok.RequiredArgsConstructor;
@@ -20,6 +22,7 @@ import lombok.RequiredArgsConstructor;
 public class OrderController implements OrderApi {
 	private final OrderService orderService;
 	private final HttpRequestContext httpRequestContext;
+	private final IdempotencyStore idempotencyStore;
 
 	@PostMapping("/v1/order")
 	public ApiResponse<OrderResponseDto> createOrder(@RequestBody OrderRequestDto orderRequestDto) {
@@ -31,11 +34,28 @@ public class OrderController implements OrderApi {
 	}
 
 	@PostMapping("/v2/orders/prepare")
-	public ApiResponse<V2_OrderResponseDto> v2_createOrder(@RequestBody OrderRequestDto orderRequestDto) {
+	public ApiResponse<V2_OrderResponseDto> v2_createOrder(
+		@RequestBody OrderRequestDto orderRequestDto,
+		@RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey
+	) {
 
 		Long userId = httpRequestContext.getUserId();
 
-		V2_OrderResponseDto orderResponseDto = orderService.v2_createOrder(orderRequestDto, userId);
+		// 헤더가 없으면 멱등성 키 없이 처리 - 서비스가 같은 Draft 티켓의 PENDING 주문을 재사용
+		// (좌석 기준 자연 키는 결제 실패로 FAILED가 된 주문을 TTL 동안 재생하므로 사용하지 않음)
+		if (idempotencyKey == null || idempotencyKey.isBlank()) {
+			return ApiResponse.ok("주문이 생성되었습니다", orderService.v2_createOrder(orderRequestDto, userId));
+		}
+
+		V2_OrderResponseDto orderResponseDto = idempotencyStore.execute(
+			"order_prepare",
+			userId,
+			idempotencyKey,
+			idempotencyKey,
+			orderRequestDto,
+			V2_OrderResponseDto.class,
+			() -> orderService.v2_createOrder(orderRequestDto, userId)
+		);
 
 		return ApiResponse.ok("주문이 생성되었습니다", orderResponseDto);
 	}
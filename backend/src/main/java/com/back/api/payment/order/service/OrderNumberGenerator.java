@@ -0,0 +1,96 @@
+package com.back.api.payment.order.service;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.stereotype.Component;
+
+import com.back.domain.payment.order.repository.OrderRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주문번호 생성기 (WFS + 9자리 일련번호 + Luhn 체크 숫자, 예: WFS0000010017)
+ * - 기존 랜덤 주문번호(WF + 숫자 10자리)와 겹치지 않도록 세 번째 자리에 문자(S) 사용
+ * - order_number_seq에서 노드별로 BLOCK_SIZE개 구간을 임대해 메모리에서 순차 발급
+ *   (DB 왕복은 BLOCK_SIZE건당 1회, 노드 간 구간이 겹치지 않아 중복/재시도 없음)
+ * - 재시작 시 남은 구간은 버려짐 (번호 공백만 생기고 중복은 없음)
+ * - 체크 숫자로 고객 문의/CS 입력 시 오타 검증 가능 (isValid)
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderNumberGenerator {
+
+	// order_number_seq INCREMENT BY와 일치해야 함
+	static final int BLOCK_SIZE = 1000;
+
+	private static final String PREFIX = "WFS"; // 기존 주문번호는 WF 뒤가 모두 숫자
+	private static final int SERIAL_DIGITS = 9;
+
+	private final OrderRepository orderRepository;
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private long next;
+	private long blockEnd;
+
+	public String generate() {
+		long serial;
+		lock.lock();
+		try {
+			if (next == blockEnd) {
+				next = orderRepository.nextOrderNumberBlock();
+				blockEnd = next + BLOCK_SIZE;
+			}
+			serial = next++;
+		} finally {
+			lock.unlock();
+		}
+		return format(serial);
+	}
+
+	static String format(long serial) {
+		String digits = Long.toString(serial);
+		int padding = Math.max(0, SERIAL_DIGITS - digits.length());
+
+		StringBuilder sb = new StringBuilder(PREFIX.length() + padding + digits.length() + 1);
+		sb.append(PREFIX);
+		for (int i = 0; i < padding; i++) {
+			sb.append('0');
+		}
+		sb.append(digits);
+		sb.append(checkDigit(sb, PREFIX.length()));
+		return sb.toString();
+	}
+
+	public static boolean isValid(String orderNumber) {
+		if (orderNumber == null || !orderNumber.startsWith(PREFIX)
+			|| orderNumber.length() < PREFIX.length() + SERIAL_DIGITS + 1) {
+			return false;
+		}
+		for (int i = PREFIX.length(); i < orderNumber.length(); i++) {
+			if (!Character.isDigit(orderNumber.charAt(i))) {
+				return false;
+			}
+		}
+
+		int last = orderNumber.length() - 1;
+		return checkDigit(orderNumber.subSequence(0, last), PREFIX.length()) == orderNumber.charAt(last);
+	}
+
+	// Luhn mod 10 - 오른쪽 끝 숫자부터 한 자리 건너 두 배
+	private static char checkDigit(CharSequence number, int from) {
+		int sum = 0;
+		boolean doubled = true;
+		for (int i = number.length() - 1; i >= from; i--) {
+			int digit = number.charAt(i) - '0';
+			if (doubled) {
+				digit *= 2;
+				if (digit > 9) {
+					digit -= 9;
+				}
+			}
+			sum += digit;
+			doubled = !doubled;
+		}
+		return (char)('0' + (10 - sum % 10) % 10);
+	}
+}
@@ -1,7 +1,6 @@
 package com.back.api.payment.order.service;
 
 import java.util.Optional;
-import java.util.Random;
 import java.util.UUID;
 
 import org.springframework.stereotype.Service;
@@ -15,6 +14,7 @@ import com.back.domain.payment.order.entity.Order;
 import com.back.domain.payment.order.entity.OrderStatus;
 import com.back.domain.payment.order.entity.V2_Order;
 import com.back.domain.payment.order.repository.OrderRepository;
+import com.back.domain.payment.order.repository.PaymentReceiptView;
 import com.back.domain.payment.order.repository.V2_OrderRepository;
 import com.back.domain.ticket.entity.Ticket;
 import com.back.global.error.code.OrderErrorCode;
@@ -31,6 +31,7 @@ public class OrderService {
 	private final OrderRepository orderRepository;
 	private final TicketService ticketService;
 	private final V2_OrderRepository v2_orderRepository;
+	private final OrderNumberGenerator orderNumberGenerator;
 
 	/**
 	 * 주문 생성
@@ -61,8 +62,8 @@ public class OrderService {
 			throw new ErrorException(OrderErrorCode.AMOUNT_MISMATCH);
 		}
 
-		// 주문번호 생성 (WF + 10자리 숫자)
-		String orderNumber = generateOrderNumber();
+		// 주문번호 생성 (WFS + 9자리 일련번호 + 체크 숫자)
+		String orderNumber = orderNumberGenerator.generate();
 
 		// 주문 생성
 		Order newOrder = Order.builder()
@@ -78,15 +79,6 @@ public class OrderService {
 		return OrderResponseDto.from(savedOrder, savedOrder.getTicket());
 	}
 
-	/**
-	 * 주문번호 생성 (WF + 10자리 숫자)
-	 */
-	private String generateOrderNumber() {
-		Random random = new Random();
-		long number = 1000000000L + (long)(random.nextDouble() * 9000000000L);
-		return "WF" + number;
-	}
-
 	// 결제 가능한 Order 조회 및 검증 -> 결제 서비스에 보장
 	@Transactional(readOnly = true)
 	public Order getOrderForPayment(Long orderId, Long userId, Long clientAmount) {
@@ -110,18 +102,18 @@ public class OrderService {
 	}
 
 	/**
-	 * 영수증 조회용 Order 조회 (Ticket, Event, Seat 포함)
+	 * 결제 영수증 조회 - 엔티티 그래프 대신 projection 단건 조회
 	 */
 	@Transactional(readOnly = true)
-	public Order getOrderWithDetails(Long orderId, Long userId) {
-		Order order = orderRepository.findByIdWithDetails(orderId)
+	public PaymentReceiptView getPaymentReceipt(Long orderId, Long userId) {
+		PaymentReceiptView receipt = orderRepository.findReceiptById(orderId)
 			.orElseThrow(() -> new ErrorException(OrderErrorCode.ORDER_NOT_FOUND));
 
-		if (!order.getTicket().getOwner().getId().equals(userId)) {
+		if (!receipt.getOwnerId().equals(userId)) {
 			throw new ErrorException(OrderErrorCode.UNAUTHORIZED_ORDER_ACCESS);
 		}
 
-		return order;
+		return receipt;
 	}
 
 	@Transactional
@@ -0,0 +1,72 @@
+package com.back.api.payment.payment.batch;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.back.domain.payment.order.repository.StalePendingOrder;
+import com.back.domain.payment.order.repository.V2_OrderRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 결제 대사 배치
+ * PG 호출과 결과 반영 사이에서 타임아웃/장애로 PENDING에 남은 주문을 PG 결제 상태 기준으로 정리
+ * (좌석이 Draft 만료까지 RESERVED로 묶이는 것을 방지, 요청 경로의 동기 재시도 불필요)
+ *
+ * 실행: PaymentReconcileScheduler가 requestedAt 파라미터로 주기 실행
+ */
+@Configuration
+@RequiredArgsConstructor
+public class PaymentReconcileJobConfig {
+
+	public static final String JOB_NAME = "paymentReconcileJob";
+	private static final String STEP_NAME = "paymentReconcileStep";
+	private static final int CHUNK_SIZE = 50;
+
+	// 동기 승인(PG 타임아웃 포함)이 끝났을 충분한 시간 - 비동기 승인은 outbox 상태로 별도 제외
+	private static final Duration STALE_AFTER = Duration.ofMinutes(2);
+
+	private final JobRepository jobRepository;
+	private final V2_OrderRepository orderRepository;
+	private final PaymentReconcileWriter paymentReconcileWriter;
+
+	@Bean
+	public Job paymentReconcileJob(Step paymentReconcileStep) {
+		return new JobBuilder(JOB_NAME, jobRepository)
+			.start(paymentReconcileStep)
+			.build();
+	}
+
+	/**
+	 * PG 조회 동안 DB 커넥션을 잡지 않도록 청크 트랜잭션은 사용하지 않음
+	 * (결과 반영은 PaymentTransactionService 트랜잭션에서 처리)
+	 */
+	@Bean
+	public Step paymentReconcileStep(StalePendingOrderReader stalePendingOrderReader) {
+		return new StepBuilder(STEP_NAME, jobRepository)
+			.<StalePendingOrder, StalePendingOrder>chunk(CHUNK_SIZE, new ResourcelessTransactionManager())
+			.reader(stalePendingOrderReader)
+			.writer(paymentReconcileWriter)
+			.build();
+	}
+
+	@Bean
+	@StepScope
+	public StalePendingOrderReader stalePendingOrderReader(
+		@Value("#{jobParameters['requestedAt']}") LocalDateTime requestedAt
+	) {
+		LocalDateTime baseTime = requestedAt != null ? requestedAt : LocalDateTime.now();
+		return new StalePendingOrderReader(orderRepository, baseTime.minus(STALE_AFTER), CHUNK_SIZE);
+	}
+}
@@ -0,0 +1,163 @@
+package com.back.api.payment.payment.batch;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import com.back.api.payment.payment.dto.response.TossPaymentStatusResponse;
+import com.back.api.payment.payment.service.PaymentTransactionService;
+import com.back.api.payment.payment.service.PgBulkhead;
+import com.back.api.payment.payment.service.TossPaymentService;
+import com.back.api.ticket.service.TicketService;
+import com.back.domain.payment.order.repository.StalePendingOrder;
+import com.back.global.error.exception.ErrorException;
+import com.back.global.observability.metrics.BusinessMetrics;
+import com.back.global.observability.metrics.PaymentPhaseMetrics;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 결제 대사 writer
+ * 1. 청크 내 주문의 PG 결제 상태를 paymentReconcileExecutor에서 병렬 조회 (풀 크기 = 최대 동시 조회 수)
+ * 2. 결과 분류
+ *    - DONE: 결제 성공 처리 (Payment 저장 + Order PAID + Ticket 발급)
+ *      후속 처리 실패 시 REFUND_REQUIRED로 표시 (PENDING이 아니므로 이후 대사 대상에서 제외)
+ *    - ABORTED/EXPIRED/CANCELED: 실패 처리
+ *    - 승인 이력 없음: Draft 만료 시간이 지난 주문만 실패 처리 (아직 결제창에 있을 수 있음)
+ *    - 그 외 (진행 중, PG 장애): 다음 실행에서 재확인
+ * 3. 실패 건은 청크 단위로 일괄 처리 (Order FAILED + Ticket FAILED + 좌석 해제)
+ */
+@Component
+@Slf4j
+public class PaymentReconcileWriter implements ItemWriter<StalePendingOrder> {
+
+	private final TossPaymentService tossPaymentService;
+	private final PgBulkhead pgBulkhead;
+	private final PaymentTransactionService paymentTransactionService;
+	private final BusinessMetrics businessMetrics;
+	private final Executor executor;
+
+	public PaymentReconcileWriter(
+		TossPaymentService tossPaymentService,
+		PgBulkhead pgBulkhead,
+		PaymentTransactionService paymentTransactionService,
+		BusinessMetrics businessMetrics,
+		@Qualifier("paymentReconcileExecutor") Executor executor
+	) {
+		this.tossPaymentService = tossPaymentService;
+		this.pgBulkhead = pgBulkhead;
+		this.paymentTransactionService = paymentTransactionService;
+		this.businessMetrics = businessMetrics;
+		this.executor = executor;
+	}
+
+	enum Decision {
+		PAID,
+		FAILED,
+		SKIPPED
+	}
+
+	record Lookup(StalePendingOrder order, Decision decision, TossPaymentStatusResponse payment) {
+	}
+
+	@Override
+	public void write(Chunk<? extends StalePendingOrder> chunk) {
+		LocalDateTime abandonedBefore = LocalDateTime.now().minus(TicketService.DRAFT_TTL);
+
+		List<CompletableFuture<Lookup>> futures = chunk.getItems().stream()
+			.map(order -> CompletableFuture.supplyAsync(() -> lookup(order, abandonedBefore), executor))
+			.toList();
+
+		List<Lookup> paid = new ArrayList<>();
+		List<String> failedOrderIds = new ArrayList<>();
+		List<Long> failedTicketIds = new ArrayList<>();
+		int skipped = 0;
+
+		for (CompletableFuture<Lookup> future : futures) {
+			Lookup lookup = future.join();
+			switch (lookup.decision()) {
+				case PAID -> paid.add(lookup);
+				case FAILED -> {
+					failedOrderIds.add(lookup.order().getOrderId());
+					failedTicketIds.add(lookup.order().getTicketId());
+				}
+				case SKIPPED -> skipped++;
+			}
+		}
+
+		int failed = paymentTransactionService.handleFailures(failedOrderIds, failedTicketIds);
+		int recovered = applySuccesses(paid);
+
+		businessMetrics.paymentReconciled("paid", recovered);
+		businessMetrics.paymentReconciled("failed", failed);
+		businessMetrics.paymentReconciled("skipped", skipped);
+
+		log.info("[Payment] 결제 대사 청크 - size: {}, paid: {}, failed: {}, skipped: {}",
+			chunk.size(), recovered, failed, skipped);
+	}
+
+	Lookup lookup(StalePendingOrder order, LocalDateTime abandonedBefore) {
+		Optional<TossPaymentStatusResponse> payment;
+		try {
+			payment = pgBulkhead.execute(() -> tossPaymentService.getPaymentByOrderId(order.getOrderId()));
+		} catch (ErrorException e) {
+			// PG 장애/포화 - 다음 실행에서 재확인
+			return new Lookup(order, Decision.SKIPPED, null);
+		}
+
+		if (payment.isEmpty()) {
+			Decision decision = order.getCreatedAt().isBefore(abandonedBefore) ? Decision.FAILED : Decision.SKIPPED;
+			return new Lookup(order, decision, null);
+		}
+
+		TossPaymentStatusResponse status = payment.get();
+		if (status.isDone()) {
+			return new Lookup(order, Decision.PAID, status);
+		}
+		if (status.isFailed()) {
+			return new Lookup(order, Decision.FAILED, status);
+		}
+		return new Lookup(order, Decision.SKIPPED, status);
+	}
+
+	// PG 승인 완료 건은 주문별 트랜잭션으로 후속 처리 (티켓 발급/대기열 완료/알림)
+	private int applySuccesses(List<Lookup> paid) {
+		int recovered = 0;
+		for (Lookup lookup : paid) {
+			StalePendingOrder order = lookup.order();
+			try {
+				paymentTransactionService.handleSuccess(
+					order.getOrderId(),
+					lookup.payment().toConfirmResponse(),
+					order.getUserId(),
+					PaymentPhaseMetrics.PATH_RECONCILE
+				);
+				recovered++;
+			} catch (Exception e) {
+				// 티켓이 이미 만료된 경우 등 - PG 승인은 완료되었으므로 환불 대상으로 표시 (다음 대사에서 제외)
+				log.error("[Payment] 결제 대사 성공 반영 실패 - orderId: {}, paymentKey: {}",
+					order.getOrderId(), lookup.payment().paymentKey(), e);
+				businessMetrics.paymentReconciled("mismatch", 1);
+				markRefundRequired(order.getOrderId(), lookup.payment().paymentKey());
+			}
+		}
+		return recovered;
+	}
+
+	private void markRefundRequired(String orderId, String paymentKey) {
+		try {
+			paymentTransactionService.markRefundRequired(orderId, paymentKey);
+		} catch (Exception e) {
+			// 표시 실패 시 주문은 PENDING으로 남아 다음 대사에서 다시 시도
+			log.error("[Payment] 환불 필요 표시 실패 - orderId: {}", orderId, e);
+		}
+	}
+}
@@ -0,0 +1,63 @@
+package com.back.api.payment.payment.batch;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.batch.item.ItemReader;
+import org.springframework.data.domain.Limit;
+
+import com.back.domain.payment.order.entity.OrderStatus;
+import com.back.domain.payment.order.repository.StalePendingOrder;
+import com.back.domain.payment.order.repository.V2_OrderRepository;
+import com.back.domain.payment.payment.entity.PaymentConfirmStatus;
+
+/**
+ * 결제 대사 대상 PENDING 주문 reader
+ * - orderId keyset 순회: 처리 중 상태가 바뀌어 결과에서 빠지는 주문이 있어도 건너뛰지 않음
+ * - 비동기 승인 outbox가 아직 처리 중인 주문은 제외
+ * - PENDING만 조회하므로 후속 처리 실패로 REFUND_REQUIRED가 된 주문은 다시 처리하지 않음
+ */
+public class StalePendingOrderReader implements ItemReader<StalePendingOrder> {
+
+	private static final Set<PaymentConfirmStatus> ACTIVE_OUTBOX_STATUSES =
+		Set.of(PaymentConfirmStatus.PENDING, PaymentConfirmStatus.PROCESSING);
+
+	private final V2_OrderRepository orderRepository;
+	private final LocalDateTime createdBefore;
+	private final int pageSize;
+
+	private Iterator<StalePendingOrder> page = Collections.emptyIterator();
+	private String lastOrderId = "";
+	private boolean exhausted;
+
+	public StalePendingOrderReader(V2_OrderRepository orderRepository, LocalDateTime createdBefore, int pageSize) {
+		this.orderRepository = orderRepository;
+		this.createdBefore = createdBefore;
+		this.pageSize = pageSize;
+	}
+
+	@Override
+	public StalePendingOrder read() {
+		if (!page.hasNext() && !exhausted) {
+			fetchNextPage();
+		}
+		return page.hasNext() ? page.next() : null;
+	}
+
+	private void fetchNextPage() {
+		List<StalePendingOrder> orders = orderRepository.findStaleOrdersAfter(
+			OrderStatus.PENDING, createdBefore, lastOrderId, ACTIVE_OUTBOX_STATUSES, Limit.of(pageSize)
+		);
+
+		if (orders.size() < pageSize) {
+			exhausted = true;
+		}
+		if (!orders.isEmpty()) {
+			lastOrderId = orders.get(orders.size() - 1).getOrderId();
+		}
+		page = orders.iterator();
+	}
+}
@@ -16,6 +16,7 @@ import org.springframework.web.client.RestClient;
  * - 연결 타임아웃: 3초 - 서버 연결까지 대기 시간
  * - 읽기 타임아웃: 5초 - 응답 대기 시간 (Toss 권장 최대 30초이나 UX 고려)
  * 타임아웃 초과 시 ResourceAccessException 발생 → 서킷브레이커에서 처리
+ * base-url: 기본값은 실제 Toss API, pg-sim 프로필에서는 로컬 시뮬레이터(TossPaymentSimulator)
  */
 @Configuration
 public class TossPaymentConfig {
@@ -26,6 +27,9 @@ public class TossPaymentConfig {
 	@Value("${toss.payments.secret}")
 	private String secretKey;
 
+	@Value("${toss.payments.base-url:https://api.tosspayments.com}")
+	private String baseUrl;
+
 	@Bean
 	public RestClient tossRestClient() {
 		String encodedKey = Base64.getEncoder()
@@ -40,7 +44,7 @@ public class TossPaymentConfig {
 		requestFactory.setReadTimeout(READ_TIMEOUT);
 
 		return RestClient.builder()
-			.baseUrl("https://api.tosspayments.com")
+			.baseUrl(baseUrl)
 			.defaultHeader("Authorization", "Basic " + encodedKey)
 			.defaultHeader("Content-Type", "application/json")
 			.requestFactory(requestFactory)
@@ -1,15 +1,20 @@
 package com.back.api.payment.payment.controller;
 
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 
 import com.back.api.payment.payment.dto.request.PaymentConfirmRequest;
 import com.back.api.payment.payment.dto.request.V2_PaymentConfirmRequest;
+import com.back.api.payment.payment.dto.response.PaymentConfirmStatusResponse;
 import com.back.api.payment.payment.dto.response.PaymentReceiptResponse;
 import com.back.api.payment.payment.dto.response.V2_PaymentConfirmResponse;
 import com.back.global.config.swagger.ApiErrorCode;
+import com.back.global.idempotency.IdempotencyStore;
 import com.back.global.response.ApiResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 
@@ -53,9 +58,45 @@ public interface PaymentApi {
 		"ORDER_NOT_FOUND",
 		"PAYMENT_ALREADY_PROCESSED",
 		"PAYMENT_AMOUNT_MISMATCH",
-		"PAYMENT_FAILED"
+		"PAYMENT_FAILED",
+		"IDEMPOTENT_REQUEST_IN_PROGRESS",
+		"IDEMPOTENCY_KEY_REUSED"
 	})
 	ApiResponse<V2_PaymentConfirmResponse> V2_confirmPayment(
-		@Valid @RequestBody V2_PaymentConfirmRequest request
+		@Valid @RequestBody V2_PaymentConfirmRequest request,
+		@Parameter(description = "멱등성 키 (생략 시 주문 ID 기준으로 중복 요청 판단)")
+		@RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey
+	);
+
+	@Operation(
+		summary = "결제 승인 (비동기)",
+		description = "결제 승인 요청을 접수하고 즉시 응답합니다. PG 승인과 티켓 발급은 워커가 처리하며, "
+			+ "결과는 상태 조회 API 또는 /topic/users/{userId}/payment 구독으로 확인합니다"
+	)
+	@ApiErrorCode({
+		"ORDER_NOT_FOUND",
+		"UNAUTHORIZED_ORDER_ACCESS",
+		"INVALID_ORDER_STATUS",
+		"AMOUNT_VERIFICATION_FAILED",
+		"IDEMPOTENT_REQUEST_IN_PROGRESS",
+		"IDEMPOTENCY_KEY_REUSED"
+	})
+	ApiResponse<PaymentConfirmStatusResponse> V2_confirmPaymentAsync(
+		@Valid @RequestBody V2_PaymentConfirmRequest request,
+		@Parameter(description = "멱등성 키 (생략 시 주문 ID 기준으로 중복 요청 판단)")
+		@RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey
+	);
+
+	@Operation(
+		summary = "결제 승인 상태 조회",
+		description = "비동기 결제 승인 요청의 처리 상태(PENDING / PROCESSING / SUCCEEDED / FAILED)를 조회합니다"
+	)
+	@ApiErrorCode({
+		"PAYMENT_CONFIRM_NOT_FOUND",
+		"UNAUTHORIZED_ORDER_ACCESS"
+	})
+	ApiResponse<PaymentConfirmStatusResponse> V2_getConfirmStatus(
+		@Parameter(description = "주문 ID", example = "3f2b8c1e-9a4d-4e7b-8c6f-1a2b3c4d5e6f")
+		@PathVariable String orderId
 	);
 }
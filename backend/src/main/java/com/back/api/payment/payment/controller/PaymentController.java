@@ -1,16 +1,22 @@
 package com.back.api.payment.payment.controller;
 
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.back.api.payment.payment.dto.request.PaymentConfirmRequest;
 import com.back.api.payment.payment.dto.request.V2_PaymentConfirmRequest;
+import com.back.api.payment.payment.dto.response.PaymentConfirmStatusResponse;
 import com.back.api.payment.payment.dto.response.PaymentReceiptResponse;
 import com.back.api.payment.payment.dto.response.V2_PaymentConfirmResponse;
+import com.back.api.payment.payment.service.PaymentConfirmOutboxService;
 import com.back.api.payment.payment.service.PaymentService;
 import com.back.global.http.HttpRequestContext;
+import com.back.global.idempotency.IdempotencyStore;
 import com.back.global.response.ApiResponse;
 
 import jakarta.validation.Valid;
@@ -22,7 +28,9 @@ import lombok.RequiredArgsConstructor;
 public class PaymentController implements PaymentApi {
 
 	private final PaymentService paymentService;
+	private final PaymentConfirmOutboxService paymentConfirmOutboxService;
 	private final HttpRequestContext httpRequestContext;
+	private final IdempotencyStore idempotencyStore;
 
 	@Override
 	@PostMapping("/v1/payments/confirm")
@@ -62,18 +70,28 @@ public class PaymentController implements PaymentApi {
 	 }
 	 */
 
+	@Override
 	@PostMapping("/v2/payments/confirm")
 	public ApiResponse<V2_PaymentConfirmResponse> V2_confirmPayment(
-		@Valid @RequestBody V2_PaymentConfirmRequest request
+		@Valid @RequestBody V2_PaymentConfirmRequest request,
+		@RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey
 	) {
 
 		Long userId = httpRequestContext.getUserId();
 
-		V2_PaymentConfirmResponse response = paymentService.v2_confirmPayment(
+		V2_PaymentConfirmResponse response = idempotencyStore.execute(
+			"payment_confirm",
+			userId,
+			idempotencyKey,
 			request.orderId(),
-			request.paymentKey(),
-			request.amount(),
-			userId
+			request,
+			V2_PaymentConfirmResponse.class,
+			() -> paymentService.v2_confirmPayment(
+				request.orderId(),
+				request.paymentKey(),
+				request.amount(),
+				userId
+			)
 		);
 
 		return ApiResponse.ok(
@@ -81,4 +99,48 @@ public class PaymentController implements PaymentApi {
 			response
 		);
 	}
+
+	@Override
+	@PostMapping("/v2/payments/confirm/async")
+	public ApiResponse<PaymentConfirmStatusResponse> V2_confirmPaymentAsync(
+		@Valid @RequestBody V2_PaymentConfirmRequest request,
+		@RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey
+	) {
+		Long userId = httpRequestContext.getUserId();
+
+		PaymentConfirmStatusResponse response = idempotencyStore.execute(
+			"payment_confirm_async",
+			userId,
+			idempotencyKey,
+			request.orderId(),
+			request,
+			PaymentConfirmStatusResponse.class,
+			() -> paymentConfirmOutboxService.accept(
+				request.orderId(),
+				request.paymentKey(),
+				request.amount(),
+				userId
+			)
+		);
+
+		return ApiResponse.accepted(
+			"결제 승인 요청이 접수되었습니다.",
+			response
+		);
+	}
+
+	@Override
+	@GetMapping("/v2/payments/confirm/{orderId}")
+	public ApiResponse<PaymentConfirmStatusResponse> V2_getConfirmStatus(
+		@PathVariable String orderId
+	) {
+		Long userId = httpRequestContext.getUserId();
+
+		PaymentConfirmStatusResponse response = paymentConfirmOutboxService.getStatus(orderId, userId);
+
+		return ApiResponse.ok(
+			"결제 승인 상태를 조회했습니다.",
+			response
+		);
+	}
 }
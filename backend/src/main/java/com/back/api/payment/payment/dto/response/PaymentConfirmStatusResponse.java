@@ -0,0 +1,26 @@
+package com.back.api.payment.payment.dto.response;
+
+import com.back.domain.payment.payment.entity.PaymentConfirmOutbox;
+import com.back.domain.payment.payment.entity.PaymentConfirmStatus;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record PaymentConfirmStatusResponse(
+	@Schema(description = "주문 ID", example = "3f2b8c1e-9a4d-4e7b-8c6f-1a2b3c4d5e6f")
+	String orderId,
+
+	@Schema(description = "승인 처리 상태", example = "PENDING / PROCESSING / SUCCEEDED / FAILED")
+	PaymentConfirmStatus status,
+
+	@Schema(description = "실패 사유 코드 (FAILED 또는 재시도 대기 시)", example = "PG_TIMEOUT")
+	String failureCode
+) {
+	public static PaymentConfirmStatusResponse from(PaymentConfirmOutbox outbox) {
+		return new PaymentConfirmStatusResponse(outbox.getOrderId(), outbox.getStatus(), outbox.getFailureCode());
+	}
+
+	// outbox 도입 전 또는 동기 승인으로 이미 결제 완료된 주문
+	public static PaymentConfirmStatusResponse paid(String orderId) {
+		return new PaymentConfirmStatusResponse(orderId, PaymentConfirmStatus.SUCCEEDED, null);
+	}
+}
@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 
 import com.back.domain.payment.order.entity.Order;
 import com.back.domain.payment.order.entity.OrderStatus;
+import com.back.domain.payment.order.repository.PaymentReceiptView;
 import com.back.domain.ticket.entity.Ticket;
 import com.back.domain.ticket.entity.TicketStatus;
 
@@ -90,4 +91,27 @@ public record PaymentReceiptResponse(
 			"신용카드" // 결제 수단
 		);
 	}
+
+	public static PaymentReceiptResponse from(PaymentReceiptView view) {
+		return new PaymentReceiptResponse(
+			view.getOrderId(),
+			view.getOrderKey(),
+			view.getOrderNumber(),
+			view.getPaymentKey(),
+			view.getPaidAt(),
+			view.getOrderStatus(),
+			view.getAmount(),
+			view.getTicketId(),
+			view.getTicketStatus(),
+			view.getEventId(),
+			view.getEventTitle(),
+			view.getEventPlace(),
+			view.getEventDate(),
+			view.getSeatId(),
+			view.getSeatCode(),
+			view.getSeatGrade().getDisplayName(),
+			view.getSeatPrice(),
+			"신용카드" // 결제 수단
+		);
+	}
 }
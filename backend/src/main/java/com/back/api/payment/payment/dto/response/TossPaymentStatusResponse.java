@@ -0,0 +1,42 @@
+package com.back.api.payment.payment.dto.response;
+
+import com.back.domain.payment.payment.entity.ApproveStatus;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+// 백엔드 <-> 토스페이먼츠 API 서버 : 결제 조회 응답 DTO (결제 대사용)
+// status: READY, IN_PROGRESS, WAITING_FOR_DEPOSIT, DONE, CANCELED, PARTIAL_CANCELED, ABORTED, EXPIRED
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record TossPaymentStatusResponse(
+	@JsonProperty("paymentKey")
+	String paymentKey,
+
+	@JsonProperty("orderId")
+	String orderId,
+
+	@JsonProperty("status")
+	String status,
+
+	@JsonProperty("method")
+	String method,
+
+	@JsonProperty("totalAmount")
+	Long totalAmount,
+
+	@JsonProperty("approvedAt")
+	String approvedAt
+) {
+
+	public boolean isDone() {
+		return "DONE".equals(status);
+	}
+
+	// PG에서 더 이상 승인될 수 없는 종료 상태
+	public boolean isFailed() {
+		return "ABORTED".equals(status) || "EXPIRED".equals(status) || "CANCELED".equals(status);
+	}
+
+	public TossPaymentResponse toConfirmResponse() {
+		return new TossPaymentResponse(paymentKey, ApproveStatus.DONE, method, totalAmount, approvedAt);
+	}
+}
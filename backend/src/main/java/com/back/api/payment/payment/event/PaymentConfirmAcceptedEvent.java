@@ -0,0 +1,5 @@
+package com.back.api.payment.payment.event;
+
+// 승인 요청 outbox 저장 완료 - 커밋 후 워커에 바로 전달
+public record PaymentConfirmAcceptedEvent(Long outboxId) {
+}
@@ -0,0 +1,39 @@
+package com.back.api.payment.payment.event;
+
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.back.api.payment.payment.service.PaymentConfirmWorker;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentConfirmEventHandler {
+
+	private final PaymentConfirmWorker paymentConfirmWorker;
+	private final SimpMessagingTemplate messagingTemplate;
+
+	// outbox 행이 커밋된 뒤에 워커로 전달 (커밋 전 워커가 행을 못 찾는 경우 방지)
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handleAccepted(PaymentConfirmAcceptedEvent event) {
+		paymentConfirmWorker.dispatch(event.outboxId());
+	}
+
+	// unicast - 결제 승인 결과
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handleStatus(PaymentConfirmStatusEvent event) {
+		String destination = "/topic/users/" + event.userId() + "/payment";
+
+		try {
+			messagingTemplate.convertAndSend(destination, event.status());
+		} catch (Exception e) {
+			// 전송 실패 시 클라이언트는 상태 조회 API로 확인
+			log.warn("Failed to publish payment confirm status - orderId={}", event.status().orderId(), e);
+		}
+	}
+}
@@ -0,0 +1,7 @@
+package com.back.api.payment.payment.event;
+
+import com.back.api.payment.payment.dto.response.PaymentConfirmStatusResponse;
+
+// 승인 처리 결과 - 커밋 후 사용자에게 WebSocket 전송
+public record PaymentConfirmStatusEvent(Long userId, PaymentConfirmStatusResponse status) {
+}
@@ -0,0 +1,89 @@
+package com.back.api.payment.payment.scheduler;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+
+import com.back.api.payment.payment.service.PaymentConfirmOutboxService;
+import com.back.api.payment.payment.service.PaymentConfirmWorker;
+import com.back.global.observability.MdcContext;
+import com.back.global.observability.metrics.SchedulerMetrics;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 결제 승인 outbox 폴링 스케줄러
+ * - 커밋 직후 전달이 거절되었거나(워커 포화) 재시도 시각이 된 PENDING 건을 lease 설정 후 워커에 전달
+ *   (워커가 선점하기 전 다음 폴링에서 같은 건을 다시 전달하지 않음)
+ * - 워커 종료 등으로 PROCESSING에 남은 건은 PENDING으로 복구, 시도 횟수를 모두 쓴 건은 FAILED 처리
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@Profile({"perf", "dev", "prod"})
+public class PaymentConfirmOutboxScheduler {
+
+	private static final String JOB_NAME = "PaymentConfirmOutbox";
+	private static final int BATCH_SIZE = 200;
+
+	// PG 타임아웃(읽기 5초) + 후속 처리보다 충분히 긴 시간
+	private static final long STALE_PROCESSING_SECONDS = 120L;
+
+	private final PaymentConfirmOutboxService paymentConfirmOutboxService;
+	private final PaymentConfirmWorker paymentConfirmWorker;
+	private final SchedulerMetrics schedulerMetrics;
+
+	@Scheduled(fixedRate = 1_000)
+	@SchedulerLock(
+		name = "PaymentConfirmOutbox",
+		lockAtMostFor = "1m",
+		lockAtLeastFor = "500ms"
+	)
+	public void dispatchPending() {
+		String runId = UUID.randomUUID().toString();
+		long startAt = System.currentTimeMillis();
+
+		try {
+			MdcContext.putRunId(runId);
+			LocalDateTime now = LocalDateTime.now();
+
+			LocalDateTime staleBefore = now.minusSeconds(STALE_PROCESSING_SECONDS);
+			int exhausted = paymentConfirmOutboxService.failExhausted(staleBefore);
+			int released = paymentConfirmOutboxService.releaseStale(staleBefore);
+
+			List<Long> outboxIds = paymentConfirmOutboxService.leaseDispatchTargets(now, BATCH_SIZE);
+
+			int dispatched = 0;
+			for (Long outboxId : outboxIds) {
+				if (!paymentConfirmWorker.dispatch(outboxId)) {
+					// 워커 포화 - 남은 건은 lease를 풀어 다음 실행에서 이어서 전달
+					paymentConfirmOutboxService.releaseLease(outboxIds.subList(dispatched, outboxIds.size()));
+					break;
+				}
+				dispatched++;
+			}
+
+			if (exhausted > 0 || released > 0 || dispatched > 0) {
+				log.info(
+					"SCHED_END job={} exhausted={} released={} targets={} dispatched={} durationMs={}",
+					JOB_NAME, exhausted, released, outboxIds.size(), dispatched, System.currentTimeMillis() - startAt
+				);
+			}
+		} catch (Exception ex) {
+			log.error(
+				"SCHED_FAIL job={} durationMs={} error={}",
+				JOB_NAME, System.currentTimeMillis() - startAt, ex.toString(), ex
+			);
+		} finally {
+			schedulerMetrics.recordDuration(JOB_NAME, System.currentTimeMillis() - startAt);
+			MdcContext.removeRunId();
+		}
+	}
+}
@@ -0,0 +1,121 @@
+package com.back.api.payment.payment.scheduler;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+
+import com.back.api.payment.payment.batch.PaymentReconcileJobConfig;
+import com.back.global.batch.BatchMetadataRepository;
+import com.back.global.observability.MdcContext;
+import com.back.global.observability.metrics.SchedulerMetrics;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 결제 대사 배치(paymentReconcileJob) 주기 실행
+ * - 1분마다 job instance가 하나씩 생기므로 보관 기간이 지난 배치 메타데이터는 매일 정리
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@Profile({"perf", "dev", "prod"})
+public class PaymentReconcileScheduler {
+
+	private static final String JOB_NAME = "PaymentReconcile";
+	private static final String CLEANUP_JOB_NAME = "PaymentReconcileMetadataCleanup";
+	private static final int METADATA_RETENTION_DAYS = 7;
+
+	private final JobLauncher jobLauncher;
+	private final Job paymentReconcileJob;
+	private final BatchMetadataRepository batchMetadataRepository;
+	private final SchedulerMetrics schedulerMetrics;
+
+	@Scheduled(fixedRate = 60_000)
+	@SchedulerLock(
+		name = "PaymentReconcile",
+		lockAtMostFor = "10m",
+		lockAtLeastFor = "10s"
+	)
+	public void reconcile() {
+		String runId = UUID.randomUUID().toString();
+		long startAt = System.currentTimeMillis();
+
+		try {
+			MdcContext.putRunId(runId);
+
+			JobParameters parameters = new JobParametersBuilder()
+				.addLocalDateTime("requestedAt", LocalDateTime.now())
+				.toJobParameters();
+			JobExecution execution = jobLauncher.run(paymentReconcileJob, parameters);
+
+			if (execution.getStatus() != BatchStatus.COMPLETED) {
+				log.error(
+					"SCHED_FAIL job={} status={} durationMs={}",
+					JOB_NAME, execution.getStatus(), System.currentTimeMillis() - startAt
+				);
+				return;
+			}
+
+			log.info(
+				"SCHED_END job={} read={} durationMs={}",
+				JOB_NAME,
+				execution.getStepExecutions().stream().mapToLong(StepExecution::getReadCount).sum(),
+				System.currentTimeMillis() - startAt
+			);
+		} catch (Exception ex) {
+			log.error(
+				"SCHED_FAIL job={} durationMs={} error={}",
+				JOB_NAME, System.currentTimeMillis() - startAt, ex.toString(), ex
+			);
+		} finally {
+			schedulerMetrics.recordDuration(JOB_NAME, System.currentTimeMillis() - startAt);
+			MdcContext.removeRunId();
+		}
+	}
+
+	@Scheduled(cron = "0 30 4 * * *", zone = "Asia/Seoul")
+	@SchedulerLock(
+		name = "PaymentReconcileMetadataCleanup",
+		lockAtMostFor = "10m",
+		lockAtLeastFor = "10s"
+	)
+	public void cleanupMetadata() {
+		String runId = UUID.randomUUID().toString();
+		long startAt = System.currentTimeMillis();
+
+		try {
+			MdcContext.putRunId(runId);
+
+			int deleted = batchMetadataRepository.deleteFinishedBefore(
+				PaymentReconcileJobConfig.JOB_NAME,
+				LocalDateTime.now().minusDays(METADATA_RETENTION_DAYS)
+			);
+
+			log.info(
+				"SCHED_END job={} deleted={} durationMs={}",
+				CLEANUP_JOB_NAME, deleted, System.currentTimeMillis() - startAt
+			);
+		} catch (Exception ex) {
+			log.error(
+				"SCHED_FAIL job={} durationMs={} error={}",
+				CLEANUP_JOB_NAME, System.currentTimeMillis() - startAt, ex.toString(), ex
+			);
+		} finally {
+			schedulerMetrics.recordDuration(CLEANUP_JOB_NAME, System.currentTimeMillis() - startAt);
+			MdcContext.removeRunId();
+		}
+	}
+}
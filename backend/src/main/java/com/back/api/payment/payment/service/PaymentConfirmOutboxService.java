@@ -0,0 +1,307 @@
+package com.back.api.payment.payment.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.back.api.payment.order.service.OrderService;
+import com.back.api.payment.payment.dto.response.PaymentConfirmStatusResponse;
+import com.back.api.payment.payment.dto.response.TossPaymentResponse;
+import com.back.api.payment.payment.event.PaymentConfirmAcceptedEvent;
+import com.back.api.payment.payment.event.PaymentConfirmStatusEvent;
+import com.back.domain.payment.payment.entity.PaymentConfirmOutbox;
+import com.back.domain.payment.payment.entity.PaymentConfirmStatus;
+import com.back.domain.payment.payment.repository.PaymentConfirmOutboxRepository;
+import com.back.global.error.code.OrderErrorCode;
+import com.back.global.error.code.PaymentErrorCode;
+import com.back.global.error.exception.ErrorException;
+import com.back.global.observability.metrics.PaymentPhaseMetrics;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비동기 결제 승인 outbox 상태 관리
+ *
+ * 처리 흐름:
+ * 1. accept: 주문 검증 + outbox 저장 (PENDING) 후 즉시 응답, 커밋 후 워커에 전달
+ * 2. claim: 워커가 PENDING -> PROCESSING 선점 (조건부 UPDATE, 1건만 성공)
+ * 3. PG 호출은 워커 스레드에서 트랜잭션 밖으로 수행 (PaymentConfirmWorker)
+ * 4. completeSuccess / completeFailure / scheduleRetry: 결과 반영 + 사용자에게 상태 전송
+ *
+ * 요청 스레드와 DB 커넥션은 PG 응답을 기다리지 않음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentConfirmOutboxService {
+
+	// 일시적 PG 장애(OPEN/타임아웃) 재시도 횟수와 지수 backoff 기준 간격
+	private static final int MAX_ATTEMPTS = 5;
+	private static final Duration RETRY_BASE_DELAY = Duration.ofSeconds(2);
+
+	// bulkhead 포화로 PG를 호출하지 못한 건의 재전달 간격 (±50% 지터로 동시 재시도 분산)
+	private static final Duration BUSY_RETRY_DELAY = Duration.ofSeconds(2);
+
+	// 폴링으로 전달한 건을 다시 전달하기까지의 시간 (워커 큐 대기 + 선점보다 충분히 길게)
+	private static final Duration DISPATCH_LEASE = Duration.ofSeconds(30);
+
+	// 처리 중 워커 종료가 반복되어 시도 횟수를 모두 쓴 건 (PG 승인 여부 불명 - 주문은 대사 대상)
+	private static final String PROCESSING_EXHAUSTED = "PROCESSING_EXHAUSTED";
+
+	private final PaymentConfirmOutboxRepository outboxRepository;
+	private final OrderService orderService;
+	private final PaymentTransactionService paymentTransactionService;
+	private final ApplicationEventPublisher eventPublisher;
+
+	/**
+	 * 결제 승인 요청 접수
+	 * - 이미 접수된 주문이면 기존 상태 반환 (중복 요청 멱등)
+	 * - 이미 결제 완료된 주문이면 SUCCEEDED 반환
+	 */
+	@Transactional
+	public PaymentConfirmStatusResponse accept(String orderId, String paymentKey, Long clientAmount, Long userId) {
+		Optional<PaymentConfirmOutbox> existing = outboxRepository.findByOrderId(orderId);
+		if (existing.isPresent()) {
+			validateOwner(existing.get(), userId);
+			return PaymentConfirmStatusResponse.from(existing.get());
+		}
+
+		if (orderService.v2_findPaidOrder(orderId, userId).isPresent()) {
+			return PaymentConfirmStatusResponse.paid(orderId);
+		}
+
+		Long ticketId = orderService.v2_validateAndGetTicketId(orderId, userId, clientAmount);
+
+		PaymentConfirmOutbox outbox = outboxRepository.save(
+			PaymentConfirmOutbox.builder()
+				.orderId(orderId)
+				.userId(userId)
+				.ticketId(ticketId)
+				.paymentKey(paymentKey)
+				.amount(clientAmount)
+				.build()
+		);
+
+		eventPublisher.publishEvent(new PaymentConfirmAcceptedEvent(outbox.getId()));
+
+		return PaymentConfirmStatusResponse.from(outbox);
+	}
+
+	/**
+	 * 승인 처리 상태 조회 (polling)
+	 */
+	@Transactional(readOnly = true)
+	public PaymentConfirmStatusResponse getStatus(String orderId, Long userId) {
+		Optional<PaymentConfirmOutbox> outbox = outboxRepository.findByOrderId(orderId);
+		if (outbox.isPresent()) {
+			validateOwner(outbox.get(), userId);
+			return PaymentConfirmStatusResponse.from(outbox.get());
+		}
+
+		return orderService.v2_findPaidOrder(orderId, userId)
+			.map(order -> PaymentConfirmStatusResponse.paid(orderId))
+			.orElseThrow(() -> new ErrorException(PaymentErrorCode.PAYMENT_CONFIRM_NOT_FOUND));
+	}
+
+	/**
+	 * 폴링 전달 대상 조회 + lease 설정
+	 * - nextAttemptAt을 lease 만료 시각으로 미뤄 워커가 선점하기 전까지 다음 폴링에서 다시 전달하지 않음
+	 * - 전달 후 워커가 선점하지 못한 채 lease가 끝나면 다시 전달 대상이 됨
+	 */
+	@Transactional
+	public List<Long> leaseDispatchTargets(LocalDateTime now, int limit) {
+		List<Long> outboxIds = outboxRepository.findDispatchTargets(
+			PaymentConfirmStatus.PENDING, now, Limit.of(limit)
+		);
+		if (!outboxIds.isEmpty()) {
+			outboxRepository.updateNextAttemptAt(
+				outboxIds, PaymentConfirmStatus.PENDING, now.plus(DISPATCH_LEASE), now
+			);
+		}
+		return outboxIds;
+	}
+
+	/**
+	 * 워커 포화로 전달하지 못한 건의 lease 해제 (다음 폴링에서 바로 전달)
+	 */
+	@Transactional
+	public void releaseLease(List<Long> outboxIds) {
+		if (outboxIds.isEmpty()) {
+			return;
+		}
+		LocalDateTime now = LocalDateTime.now();
+		outboxRepository.updateNextAttemptAt(outboxIds, PaymentConfirmStatus.PENDING, now, now);
+	}
+
+	/**
+	 * 워커 선점 (PENDING -> PROCESSING)
+	 * @return 다른 워커가 이미 선점했거나 처리가 끝났으면 Optional.empty()
+	 */
+	@Transactional
+	public Optional<PaymentConfirmOutbox> claim(Long outboxId) {
+		int claimed = outboxRepository.claimIfMatch(
+			outboxId, PaymentConfirmStatus.PENDING, PaymentConfirmStatus.PROCESSING, LocalDateTime.now()
+		);
+		if (claimed == 0) {
+			return Optional.empty();
+		}
+		return outboxRepository.findById(outboxId);
+	}
+
+	/**
+	 * PG 승인 성공 - 후속 처리(Payment/Order/Ticket/Seat/Queue/알림)와 outbox 완료를 한 트랜잭션으로 반영
+	 */
+	@Transactional
+	public void completeSuccess(Long outboxId, TossPaymentResponse pgResponse) {
+		PaymentConfirmOutbox outbox = getOutbox(outboxId);
+		if (outbox.isFinished()) {
+			return;
+		}
+
+		paymentTransactionService.handleSuccess(
+			outbox.getOrderId(), pgResponse, outbox.getUserId(), PaymentPhaseMetrics.PATH_OUTBOX
+		);
+		outbox.markSucceeded();
+
+		publishStatus(outbox);
+	}
+
+	/**
+	 * 재시도 없는 실패
+	 *
+	 * @param failOrder true면 Order/Ticket FAILED + 좌석 해제 (PG 승인 거절)
+	 *                  false면 주문은 PENDING 유지 (PG 결과와 불일치 가능 - 대사 대상)
+	 */
+	@Transactional
+	public void completeFailure(Long outboxId, String failureCode, boolean failOrder) {
+		PaymentConfirmOutbox outbox = getOutbox(outboxId);
+		if (outbox.isFinished()) {
+			return;
+		}
+
+		if (failOrder) {
+			paymentTransactionService.handleFailure(
+				outbox.getOrderId(), outbox.getTicketId(), PaymentPhaseMetrics.PATH_OUTBOX
+			);
+		}
+		outbox.markFailed(failureCode);
+
+		publishStatus(outbox);
+	}
+
+	/**
+	 * PG 승인 후 후속 처리 실패 - 주문은 REFUND_REQUIRED로 표시하고 outbox는 FAILED
+	 * (주문을 PENDING으로 남기면 결제 대사가 같은 후속 처리를 반복)
+	 */
+	@Transactional
+	public void completeRefundRequired(Long outboxId, String paymentKey, String failureCode) {
+		PaymentConfirmOutbox outbox = getOutbox(outboxId);
+		if (outbox.isFinished()) {
+			return;
+		}
+
+		paymentTransactionService.markRefundRequired(outbox.getOrderId(), paymentKey);
+		outbox.markFailed(failureCode);
+
+		publishStatus(outbox);
+	}
+
+	/**
+	 * 일시적 PG 장애 - 지수 backoff 후 재처리 (Toss 승인 API는 같은 paymentKey 재호출에 멱등)
+	 * 최대 시도 횟수를 넘으면 FAILED 처리하고 주문은 PENDING 유지 (PG 승인 여부 불명 - 대사 대상)
+	 */
+	@Transactional
+	public void scheduleRetry(Long outboxId, String failureCode) {
+		PaymentConfirmOutbox outbox = getOutbox(outboxId);
+		if (outbox.isFinished()) {
+			return;
+		}
+
+		if (outbox.getAttempts() >= MAX_ATTEMPTS) {
+			log.error("[Payment] 결제 승인 재시도 한도 초과 - orderId: {}, attempts: {}, failureCode: {}",
+				outbox.getOrderId(), outbox.getAttempts(), failureCode);
+			outbox.markFailed(failureCode);
+			publishStatus(outbox);
+			return;
+		}
+
+		Duration delay = RETRY_BASE_DELAY.multipliedBy(1L << Math.max(outbox.getAttempts() - 1, 0));
+		outbox.retryAt(LocalDateTime.now().plus(delay), failureCode);
+	}
+
+	/**
+	 * PG bulkhead 포화(PG_BUSY) - PG를 호출하지 않았으므로 선점 시 늘린 시도 횟수를 되돌리고 대기 상태로
+	 * 재시도 한도는 PG 장애에만 쓰고, 포화는 지연 후 다시 전달
+	 */
+	@Transactional
+	public void requeueBusy(Long outboxId) {
+		PaymentConfirmOutbox outbox = getOutbox(outboxId);
+		if (outbox.isFinished()) {
+			return;
+		}
+
+		long baseMillis = BUSY_RETRY_DELAY.toMillis();
+		Duration delay = Duration.ofMillis(ThreadLocalRandom.current().nextLong(baseMillis / 2, baseMillis * 3 / 2));
+		outbox.requeueWithoutAttempt(LocalDateTime.now().plus(delay));
+	}
+
+	/**
+	 * claimedBefore 이전에 선점된 채 남은 PROCESSING 건을 PENDING으로 복구
+	 * @return 복구된 건수
+	 */
+	@Transactional
+	public int releaseStale(LocalDateTime claimedBefore) {
+		return outboxRepository.releaseStale(
+			PaymentConfirmStatus.PROCESSING,
+			PaymentConfirmStatus.PENDING,
+			claimedBefore,
+			MAX_ATTEMPTS,
+			LocalDateTime.now()
+		);
+	}
+
+	/**
+	 * claimedBefore 이전에 선점된 채 시도 횟수를 모두 쓴 PROCESSING 건을 FAILED 처리
+	 * - 주문은 PENDING 유지 (PG 승인 여부 불명 - 대사 대상)
+	 * @return 실패 처리된 건수
+	 */
+	@Transactional
+	public int failExhausted(LocalDateTime claimedBefore) {
+		List<PaymentConfirmOutbox> exhausted = outboxRepository.findStaleExhausted(
+			PaymentConfirmStatus.PROCESSING, claimedBefore, MAX_ATTEMPTS
+		);
+
+		for (PaymentConfirmOutbox outbox : exhausted) {
+			log.error("[Payment] 처리 중 재시도 한도 초과 - orderId: {}, attempts: {}",
+				outbox.getOrderId(), outbox.getAttempts());
+			outbox.markFailed(PROCESSING_EXHAUSTED);
+			publishStatus(outbox);
+		}
+		return exhausted.size();
+	}
+
+	private PaymentConfirmOutbox getOutbox(Long outboxId) {
+		return outboxRepository.findById(outboxId)
+			.orElseThrow(() -> new ErrorException(PaymentErrorCode.PAYMENT_CONFIRM_NOT_FOUND));
+	}
+
+	private void validateOwner(PaymentConfirmOutbox outbox, Long userId) {
+		if (!outbox.getUserId().equals(userId)) {
+			throw new ErrorException(OrderErrorCode.UNAUTHORIZED_ORDER_ACCESS);
+		}
+	}
+
+	private void publishStatus(PaymentConfirmOutbox outbox) {
+		eventPublisher.publishEvent(
+			new PaymentConfirmStatusEvent(outbox.getUserId(), PaymentConfirmStatusResponse.from(outbox))
+		);
+	}
+}
@@ -0,0 +1,150 @@
+package com.back.api.payment.payment.service;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+
+import com.back.api.payment.payment.dto.request.V2_PaymentConfirmRequest;
+import com.back.api.payment.payment.dto.response.TossPaymentResponse;
+import com.back.api.payment.payment.dto.response.TossPaymentStatusResponse;
+import com.back.domain.payment.payment.entity.ApproveStatus;
+import com.back.domain.payment.payment.entity.PaymentConfirmOutbox;
+import com.back.global.error.code.ErrorCode;
+import com.back.global.error.code.PaymentErrorCode;
+import com.back.global.error.exception.ErrorException;
+import com.back.global.observability.metrics.BusinessMetrics;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 결제 승인 워커
+ * - paymentConfirmExecutor 스레드에서 outbox 1건씩 처리 (PG 호출은 트랜잭션 밖)
+ * - 풀/큐가 가득 차 거절된 건은 PaymentConfirmOutboxScheduler 폴링이 다시 전달
+ * - 재시도(이전 시도가 타임아웃/워커 종료로 결과 불명)는 PG 결제 조회를 먼저 수행
+ *   DONE이면 승인 재요청 없이 성공 처리, 승인 이력이 없거나 미승인일 때만 다시 승인 요청
+ */
+@Component
+@Slf4j
+public class PaymentConfirmWorker {
+
+	// 재시도 대상 (PG 일시 장애 - 승인 여부 불명)
+	private static final Set<ErrorCode> RETRYABLE_ERRORS = Set.of(
+		PaymentErrorCode.PG_UNAVAILABLE,
+		PaymentErrorCode.PG_TIMEOUT
+	);
+
+	private static final String NOT_DONE = "TOSS_PAYMENT_NOT_DONE";
+	private static final String POST_PROCESS_FAILED = "POST_PROCESS_FAILED";
+
+	private final PaymentConfirmOutboxService outboxService;
+	private final TossPaymentService tossPaymentService;
+	private final PgBulkhead pgBulkhead;
+	private final BusinessMetrics businessMetrics;
+	private final Executor executor;
+
+	public PaymentConfirmWorker(
+		PaymentConfirmOutboxService outboxService,
+		TossPaymentService tossPaymentService,
+		PgBulkhead pgBulkhead,
+		BusinessMetrics businessMetrics,
+		@Qualifier("paymentConfirmExecutor") Executor executor
+	) {
+		this.outboxService = outboxService;
+		this.tossPaymentService = tossPaymentService;
+		this.pgBulkhead = pgBulkhead;
+		this.businessMetrics = businessMetrics;
+		this.executor = executor;
+	}
+
+	/**
+	 * 워커 풀에 전달
+	 * @return 풀이 가득 차 거절되면 false (outbox는 PENDING 유지)
+	 */
+	public boolean dispatch(Long outboxId) {
+		try {
+			executor.execute(() -> process(outboxId));
+			return true;
+		} catch (TaskRejectedException e) {
+			log.warn("[Payment] 승인 워커 포화 - outboxId: {} (스케줄러가 재전달)", outboxId);
+			return false;
+		}
+	}
+
+	void process(Long outboxId) {
+		try {
+			Optional<PaymentConfirmOutbox> claimed = outboxService.claim(outboxId);
+			if (claimed.isEmpty()) {
+				return;
+			}
+			confirm(claimed.get());
+		} catch (Exception e) {
+			// 선점 이후 실패는 PROCESSING으로 남아 스케줄러가 복구
+			log.error("[Payment] 승인 워커 처리 실패 - outboxId: {}", outboxId, e);
+		}
+	}
+
+	private void confirm(PaymentConfirmOutbox outbox) {
+		Long outboxId = outbox.getId();
+
+		TossPaymentResponse result;
+		try {
+			result = lookupApproved(outbox)
+				.orElseGet(() -> pgBulkhead.execute(() -> tossPaymentService.confirmPayment(
+					new V2_PaymentConfirmRequest(outbox.getOrderId(), outbox.getPaymentKey(), outbox.getAmount())
+				)));
+		} catch (ErrorException e) {
+			String failureCode = e.getErrorCode().toString();
+			businessMetrics.paymentConfirmFailure(failureCode);
+
+			if (e.getErrorCode() == PaymentErrorCode.PG_BUSY) {
+				// bulkhead 거절 - PG를 호출하지 않았으므로 시도 횟수를 쓰지 않고 다시 대기
+				outboxService.requeueBusy(outboxId);
+			} else if (RETRYABLE_ERRORS.contains(e.getErrorCode())) {
+				outboxService.scheduleRetry(outboxId, failureCode);
+			} else {
+				outboxService.completeFailure(outboxId, failureCode, true);
+			}
+			return;
+		}
+
+		if (result.status() != ApproveStatus.DONE) {
+			businessMetrics.paymentConfirmFailure(NOT_DONE);
+			outboxService.completeFailure(outboxId, NOT_DONE, true);
+			return;
+		}
+
+		try {
+			outboxService.completeSuccess(outboxId, result);
+		} catch (Exception e) {
+			// PG 승인은 완료 - 주문은 REFUND_REQUIRED로 표시 (대사에서 같은 후속 처리를 반복하지 않음)
+			log.error("[Payment] PG 승인 후 후속 처리 실패 - orderId: {}, paymentKey: {}",
+				outbox.getOrderId(), result.paymentKey(), e);
+			businessMetrics.paymentConfirmFailure(POST_PROCESS_FAILED);
+			outboxService.completeRefundRequired(outboxId, result.paymentKey(), POST_PROCESS_FAILED);
+		}
+	}
+
+	/**
+	 * 이전 시도 결과를 모르는 재시도면 PG에 승인 여부 조회
+	 * - 첫 시도(claim으로 attempts = 1)는 승인 이력이 있을 수 없으므로 조회하지 않음
+	 * @return PG에서 이미 승인(DONE)된 결제면 승인 응답, 아니면 Optional.empty() (승인 요청 진행)
+	 */
+	private Optional<TossPaymentResponse> lookupApproved(PaymentConfirmOutbox outbox) {
+		if (outbox.getAttempts() <= 1) {
+			return Optional.empty();
+		}
+
+		Optional<TossPaymentStatusResponse> payment =
+			pgBulkhead.execute(() -> tossPaymentService.getPaymentByOrderId(outbox.getOrderId()));
+		if (payment.isPresent() && payment.get().isDone()) {
+			log.info("[Payment] 재시도 전 PG 조회 - 이미 승인된 결제, orderId: {}, attempts: {}",
+				outbox.getOrderId(), outbox.getAttempts());
+			return Optional.of(payment.get().toConfirmResponse());
+		}
+		return Optional.empty();
+	}
+}
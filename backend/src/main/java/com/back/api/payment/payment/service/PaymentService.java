@@ -24,6 +24,7 @@ import com.back.domain.ticket.entity.Ticket;
 import com.back.global.error.code.PaymentErrorCode;
 import com.back.global.error.exception.ErrorException;
 import com.back.global.observability.metrics.BusinessMetrics;
+import com.back.global.observability.metrics.PaymentPhaseMetrics;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -39,8 +40,10 @@ public class PaymentService {
 	private final QueueEntryProcessService queueEntryProcessService;
 	private final ApplicationEventPublisher eventPublisher;
 	private final TossPaymentService tossPaymentService;
+	private final PgBulkhead pgBulkhead;
 	private final PaymentTransactionService paymentTransactionService;
 	private final BusinessMetrics businessMetrics;
+	private final PaymentPhaseMetrics paymentPhaseMetrics;
 
 	@Transactional
 	public PaymentReceiptResponse confirmPayment(
@@ -104,25 +107,19 @@ public class PaymentService {
 			)
 		);
 
-		// 최종 결과조회
+		// 최종 결과
 		// mock구성에서는 프론트 개발속도를 위해 confirmPayment에서 처리
-		// PG연동시에 분리 필요
-		order = orderService.getOrderWithDetails(orderId, userId);
-		ticket = order.getTicket();
-
+		// 같은 트랜잭션에서 갱신한 order/ticket으로 바로 구성 (재조회 없음)
 		return PaymentReceiptResponse.from(order, ticket);
 	}
 
 	/**
 	 * 결제 영수증 조회
 	 * - 결제 완료 화면에 필요한 모든 정보 제공
+	 * - 주문/티켓/이벤트/좌석 fetch join 대신 필요한 컬럼만 projection 단건 조회
 	 */
-	@Transactional(readOnly = true)
 	public PaymentReceiptResponse getPaymentReceipt(Long orderId, Long userId) {
-		Order order = orderService.getOrderWithDetails(orderId, userId);
-		Ticket ticket = order.getTicket();
-
-		return PaymentReceiptResponse.from(order, ticket);
+		return PaymentReceiptResponse.from(orderService.getPaymentReceipt(orderId, userId));
 	}
 
 	/**
@@ -145,7 +142,9 @@ public class PaymentService {
 		Long userId
 	) {
 		// 0. 멱등성 확인: 이미 결제 완료된 주문이면 기존 결과 반환
-		Optional<V2_Order> paidOrder = orderService.v2_findPaidOrder(orderId, userId);
+		Optional<V2_Order> paidOrder = paymentPhaseMetrics.record(
+			PaymentPhaseMetrics.VALIDATE, () -> orderService.v2_findPaidOrder(orderId, userId)
+		);
 		if (paidOrder.isPresent()) {
 			log.info("[Payment] 이미 결제 완료된 주문 - orderId: {}", orderId);
 			// 간단한 응답 반환 (전체 데이터 조회 불필요)
@@ -153,19 +152,23 @@ public class PaymentService {
 		}
 
 		// 1. Order 검증 (읽기 트랜잭션)
-		Long ticketId = orderService.v2_validateAndGetTicketId(orderId, userId, clientAmount);
+		Long ticketId = paymentPhaseMetrics.record(
+			PaymentPhaseMetrics.VALIDATE, () -> orderService.v2_validateAndGetTicketId(orderId, userId, clientAmount)
+		);
 
-		// 2. PG 호출 (트랜잭션 밖)
+		// 2. PG 호출 (트랜잭션 밖, bulkhead로 동시 호출 수 제한)
 		V2_PaymentConfirmRequest request = new V2_PaymentConfirmRequest(orderId, paymentKey, clientAmount);
-		TossPaymentResponse result = tossPaymentService.confirmPayment(request);
+		TossPaymentResponse result = paymentPhaseMetrics.record(
+			PaymentPhaseMetrics.PG, () -> pgBulkhead.execute(() -> tossPaymentService.confirmPayment(request))
+		);
 
 		// 3. 결과에 따라 분기 - PaymentTransactionService에서 단일 트랜잭션으로 처리
 		if (result.status() != ApproveStatus.DONE) {
-			paymentTransactionService.handleFailure(orderId, ticketId);
+			paymentTransactionService.handleFailure(orderId, ticketId, PaymentPhaseMetrics.PATH_SYNC);
 			businessMetrics.paymentConfirmFailure("TOSS_PAYMENT_NOT_DONE");
 			throw new ErrorException(PaymentErrorCode.PAYMENT_FAILED);
 		}
 
-		return paymentTransactionService.handleSuccess(orderId, result, userId);
+		return paymentTransactionService.handleSuccess(orderId, result, userId, PaymentPhaseMetrics.PATH_SYNC);
 	}
 }
@@ -1,5 +1,8 @@
 package com.back.api.payment.payment.service;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,6 +21,7 @@ import com.back.domain.ticket.entity.Ticket;
 import com.back.global.error.code.OrderErrorCode;
 import com.back.global.error.exception.ErrorException;
 import com.back.global.observability.metrics.BusinessMetrics;
+import com.back.global.observability.metrics.PaymentPhaseMetrics;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -41,13 +45,17 @@ public class PaymentTransactionService {
 	private final QueueEntryProcessService queueEntryProcessService;
 	private final ApplicationEventPublisher eventPublisher;
 	private final BusinessMetrics businessMetrics;
+	private final PaymentPhaseMetrics paymentPhaseMetrics;
 
 	/**
 	 * 결제 실패 처리 - 단일 트랜잭션
 	 * Order FAILED + Ticket FAILED + Seat 해제
+	 *
+	 * @param path 호출 경로 (PaymentPhaseMetrics.PATH_*) - 커밋 구간 지표 구분용
 	 */
 	@Transactional
-	public void handleFailure(String orderId, Long ticketId) {
+	public void handleFailure(String orderId, Long ticketId, String path) {
+		paymentPhaseMetrics.recordCommit("failed", path);
 		log.info("[Payment] 결제 실패 처리 - orderId: {}, ticketId: {}", orderId, ticketId);
 
 		V2_Order order = orderRepository.findById(orderId)
@@ -57,18 +65,64 @@ public class PaymentTransactionService {
 		ticketService.failPayment(ticketId);
 	}
 
+	/**
+	 * 결제 실패 일괄 처리 (결제 대사) - 단일 트랜잭션
+	 * 아직 PENDING인 Order만 FAILED로 변경하고, DRAFT 티켓 FAILED + 좌석 해제는 한 statement로 처리
+	 * (그 사이 결제 완료된 주문의 티켓은 DRAFT가 아니므로 건너뜀)
+	 *
+	 * @return FAILED로 변경된 주문 수
+	 */
+	@Transactional
+	public int handleFailures(List<String> orderIds, List<Long> ticketIds) {
+		if (orderIds.isEmpty()) {
+			return 0;
+		}
+
+		int failed = orderRepository.updateStatusIfMatch(
+			orderIds, OrderStatus.PENDING, OrderStatus.FAILED, LocalDateTime.now()
+		);
+		ticketService.expireDraftTickets(ticketIds);
+
+		log.info("[Payment] 결제 실패 일괄 처리 - requested: {}, failed: {}", orderIds.size(), failed);
+		return failed;
+	}
+
+	/**
+	 * PG 승인 완료 후 후속 처리에 실패한 주문을 REFUND_REQUIRED로 표시
+	 * PENDING으로 남기면 결제 대사가 같은 후속 처리를 매 실행마다 반복하므로 대사 대상에서 제외
+	 *
+	 * @return 표시했으면 true, 이미 PENDING이 아니면 false
+	 */
+	@Transactional
+	public boolean markRefundRequired(String orderId, String paymentKey) {
+		V2_Order order = orderRepository.findById(orderId)
+			.orElseThrow(() -> new ErrorException(OrderErrorCode.ORDER_NOT_FOUND));
+		if (order.getStatus() != OrderStatus.PENDING) {
+			return false;
+		}
+
+		order.markRefundRequired(paymentKey);
+		log.error("[Payment] 환불 필요 주문 - orderId: {}, paymentKey: {}", orderId, paymentKey);
+		return true;
+	}
+
 	/**
 	 * 결제 성공 처리 - 단일 트랜잭션
 	 * Payment 저장 + Order PAID + Ticket CONFIRM + Queue 완료 + 알림 발행
 	 *
 	 * 멱등성 보장: 이미 PAID 상태인 주문은 기존 결과 반환
+	 *
+	 * @param path 호출 경로 (PaymentPhaseMetrics.PATH_*) - 커밋 구간 지표 구분용
 	 */
 	@Transactional
 	public V2_PaymentConfirmResponse handleSuccess(
 		String orderId,
 		TossPaymentResponse pgResponse,
-		Long userId
+		Long userId,
+		String path
 	) {
+		paymentPhaseMetrics.recordCommit("paid", path);
+
 		// Order 조회
 		V2_Order order = orderRepository.findById(orderId)
 			.orElseThrow(() -> new ErrorException(OrderErrorCode.ORDER_NOT_FOUND));
@@ -0,0 +1,207 @@
+package com.back.api.payment.payment.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.back.global.error.code.PaymentErrorCode;
+import com.back.global.error.exception.ErrorException;
+import com.back.global.properties.PgBulkheadProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * PG 호출 전용 적응형 동시성 제한 (bulkhead)
+ *
+ * PG 지연 시 Tomcat/워커 스레드가 모두 PG 응답 대기에 묶이는 것을 막아
+ * 좌석 선택/대기열 등 다른 API는 영향을 받지 않고 결제 API만 느려지도록 격리
+ *
+ * - 동시 호출 한도 AIMD 조정:
+ *   정상 응답이 현재 한도만큼 누적되면 +1, 타임아웃/지연 임계 초과 시 backoffRatio 배로 감소
+ *   감소는 한 RTT에 한 번만 - 직전 감소 이전에 시작된 호출의 과부하 응답은 이미 반영된 신호로 보고 무시
+ *   (동시에 타임아웃 난 호출 수만큼 연속으로 줄어 minLimit까지 붕괴하는 것 방지)
+ * - 한도 초과 시 제한된 대기열에서 maxWaitMs 동안 대기, 대기열 초과/대기 시간 초과는 PG_BUSY(503)
+ * - 서킷브레이커 바깥에서 감싸므로 bulkhead 거절은 서킷브레이커 실패율에 포함되지 않음
+ */
+@Component
+@Slf4j
+public class PgBulkhead {
+
+	private final PgBulkheadProperties properties;
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition permitReleased = lock.newCondition();
+
+	private final Timer waitTimer;
+	private final Counter queueFullCounter;
+	private final Counter waitTimeoutCounter;
+
+	// lock으로 보호
+	private int limit;
+	private int inFlight;
+	private int waiting;
+	private int successStreak;
+	private long lastDecreaseNanos;
+
+	public PgBulkhead(PgBulkheadProperties properties, MeterRegistry meterRegistry) {
+		this.properties = properties;
+		this.limit = properties.getInitialLimit();
+		this.lastDecreaseNanos = System.nanoTime();
+
+		Gauge.builder("pg.bulkhead.limit", this, PgBulkhead::getLimit)
+			.description("PG 동시 호출 한도")
+			.register(meterRegistry);
+		Gauge.builder("pg.bulkhead.in_flight", this, PgBulkhead::getInFlight)
+			.description("PG 호출 중인 요청 수")
+			.register(meterRegistry);
+		Gauge.builder("pg.bulkhead.waiting", this, PgBulkhead::getWaiting)
+			.description("PG 호출 대기 중인 요청 수")
+			.register(meterRegistry);
+
+		this.waitTimer = Timer.builder("pg.bulkhead.wait.duration")
+			.description("PG 호출 허가 대기 시간")
+			.register(meterRegistry);
+		this.queueFullCounter = Counter.builder("pg.bulkhead.rejected")
+			.tag("reason", "queue_full")
+			.register(meterRegistry);
+		this.waitTimeoutCounter = Counter.builder("pg.bulkhead.rejected")
+			.tag("reason", "wait_timeout")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 허가를 얻은 뒤 PG 호출 실행
+	 *
+	 * @throws ErrorException PG_BUSY - 대기열이 가득 찼거나 대기 시간 초과
+	 */
+	public <T> T execute(Supplier<T> call) {
+		acquire();
+
+		long start = System.nanoTime();
+		boolean overloaded = false;
+		boolean sampled = true;
+		try {
+			return call.get();
+		} catch (ErrorException e) {
+			overloaded = e.getErrorCode() == PaymentErrorCode.PG_TIMEOUT;
+			// 서킷브레이커 OPEN 즉시 실패는 PG 처리 시간과 무관하므로 한도 조정에서 제외
+			sampled = e.getErrorCode() != PaymentErrorCode.PG_UNAVAILABLE;
+			throw e;
+		} finally {
+			long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+			release(sampled, overloaded || elapsedMs > properties.getLatencyThresholdMs(), start);
+		}
+	}
+
+	private void acquire() {
+		long start = System.nanoTime();
+		lock.lock();
+		try {
+			if (inFlight < limit) {
+				inFlight++;
+				return;
+			}
+
+			if (waiting >= properties.getMaxQueueSize()) {
+				queueFullCounter.increment();
+				throw new ErrorException(PaymentErrorCode.PG_BUSY);
+			}
+
+			waiting++;
+			try {
+				long remainingNanos = TimeUnit.MILLISECONDS.toNanos(properties.getMaxWaitMs());
+				while (inFlight >= limit) {
+					if (remainingNanos <= 0) {
+						waitTimeoutCounter.increment();
+						throw new ErrorException(PaymentErrorCode.PG_BUSY);
+					}
+					remainingNanos = permitReleased.awaitNanos(remainingNanos);
+				}
+				inFlight++;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new ErrorException(PaymentErrorCode.PG_BUSY);
+			} finally {
+				waiting--;
+			}
+		} finally {
+			lock.unlock();
+			waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	private void release(boolean sampled, boolean overloaded, long startNanos) {
+		lock.lock();
+		try {
+			inFlight--;
+
+			if (sampled) {
+				adjustLimit(overloaded, startNanos);
+			}
+
+			// 한도가 늘었을 수 있으므로 가능한 만큼 대기자를 깨움
+			int available = limit - inFlight;
+			for (int i = 0; i < available && i < waiting; i++) {
+				permitReleased.signal();
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void adjustLimit(boolean overloaded, long startNanos) {
+		if (overloaded) {
+			successStreak = 0;
+			// 직전 감소 이전에 시작된 호출 - 같은 과부하 구간의 신호이므로 다시 줄이지 않음
+			if (startNanos - lastDecreaseNanos < 0) {
+				return;
+			}
+			int decreased = Math.max(properties.getMinLimit(), (int)(limit * properties.getBackoffRatio()));
+			if (decreased < limit) {
+				log.warn("[Payment] PG bulkhead 한도 감소 - {} -> {}, inFlight: {}", limit, decreased, inFlight);
+				limit = decreased;
+			}
+			lastDecreaseNanos = System.nanoTime();
+			return;
+		}
+
+		successStreak++;
+		if (successStreak >= limit) {
+			limit = Math.min(properties.getMaxLimit(), limit + 1);
+			successStreak = 0;
+		}
+	}
+
+	public int getLimit() {
+		lock.lock();
+		try {
+			return limit;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public int getInFlight() {
+		lock.lock();
+		try {
+			return inFlight;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public int getWaiting() {
+		lock.lock();
+		try {
+			return waiting;
+		} finally {
+			lock.unlock();
+		}
+	}
+}
@@ -1,19 +1,24 @@
 package com.back.api.payment.payment.service;
 
 import java.util.Map;
+import java.util.Optional;
 
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientException;
 
 import com.back.api.payment.payment.dto.request.V2_PaymentConfirmRequest;
 import com.back.api.payment.payment.dto.response.TossPaymentResponse;
+import com.back.api.payment.payment.dto.response.TossPaymentStatusResponse;
 import com.back.global.error.code.PaymentErrorCode;
 import com.back.global.error.exception.ErrorException;
+import com.back.global.observability.metrics.InfraMetrics;
 
 import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -36,7 +41,14 @@ public class TossPaymentService {
 
 	private static final String CIRCUIT_BREAKER_NAME = "tossPayment";
 
+	// payment.gateway.duration status 태그
+	private static final String STATUS_SUCCESS = "success";
+	private static final String STATUS_NOT_FOUND = "not_found";
+	private static final String STATUS_TIMEOUT = "timeout";
+	private static final String STATUS_ERROR = "error";
+
 	private final RestClient tossRestClient;
+	private final InfraMetrics infraMetrics;
 
 	/**
 	 * Toss 결제 승인 API 호출
@@ -49,47 +61,95 @@ public class TossPaymentService {
 	public TossPaymentResponse confirmPayment(V2_PaymentConfirmRequest request) {
 		// log.info("[Toss] 결제 승인 요청 - orderId: {}, amount: {}", request.orderId(), request.amount());
 
-		TossPaymentResponse response = tossRestClient.post()
-			.uri("/v1/payments/confirm")
-			.body(Map.of(
-				"paymentKey", request.paymentKey(),
-				"orderId", request.orderId(),
-				"amount", request.amount()
-			))
-			.retrieve()
-			.body(TossPaymentResponse.class);
+		Timer.Sample sample = infraMetrics.startTimer();
+		String status = STATUS_ERROR;
+		try {
+			TossPaymentResponse response = tossRestClient.post()
+				.uri("/v1/payments/confirm")
+				.body(Map.of(
+					"paymentKey", request.paymentKey(),
+					"orderId", request.orderId(),
+					"amount", request.amount()
+				))
+				.retrieve()
+				.body(TossPaymentResponse.class);
 
-		// log.info("[Toss] 결제 승인 완료 - orderId: {}, status: {}", request.orderId(), response.status());
+			// log.info("[Toss] 결제 승인 완료 - orderId: {}, status: {}", request.orderId(), response.status());
 
-		return response;
+			status = STATUS_SUCCESS;
+			return response;
+		} catch (ResourceAccessException e) {
+			status = STATUS_TIMEOUT;
+			throw e;
+		} finally {
+			sample.stop(infraMetrics.paymentGatewayTimer("confirm", status));
+		}
+	}
+
+	/**
+	 * Toss 결제 조회 API 호출 (orderId 기준, 결제 대사용)
+	 *
+	 * @return 승인 요청 이력이 없으면 Optional.empty() (404 NOT_FOUND_PAYMENT)
+	 * @throws ErrorException 서킷브레이커 OPEN, 연결 실패, API 오류 시
+	 */
+	@CircuitBreaker(name = CIRCUIT_BREAKER_NAME, fallbackMethod = "handleLookupFailure")
+	public Optional<TossPaymentStatusResponse> getPaymentByOrderId(String orderId) {
+		Timer.Sample sample = infraMetrics.startTimer();
+		String status = STATUS_ERROR;
+		try {
+			Optional<TossPaymentStatusResponse> response = Optional.ofNullable(
+				tossRestClient.get()
+					.uri("/v1/payments/orders/{orderId}", orderId)
+					.retrieve()
+					.body(TossPaymentStatusResponse.class)
+			);
+			status = STATUS_SUCCESS;
+			return response;
+		} catch (HttpClientErrorException.NotFound e) {
+			status = STATUS_NOT_FOUND;
+			return Optional.empty();
+		} catch (ResourceAccessException e) {
+			status = STATUS_TIMEOUT;
+			throw e;
+		} finally {
+			sample.stop(infraMetrics.paymentGatewayTimer("lookup", status));
+		}
 	}
 
 	/**
 	 * 서킷브레이커 fallback - 장애 유형별 처리
 	 */
 	private TossPaymentResponse handleFailure(V2_PaymentConfirmRequest request, Throwable throwable) {
+		throw toErrorException(request.orderId(), throwable);
+	}
+
+	private Optional<TossPaymentStatusResponse> handleLookupFailure(String orderId, Throwable throwable) {
+		throw toErrorException(orderId, throwable);
+	}
+
+	private ErrorException toErrorException(String orderId, Throwable throwable) {
 		// 서킷브레이커 OPEN 상태 - PG 서비스 일시 중단
 		if (throwable instanceof CallNotPermittedException) {
-			log.error("[Toss] 서킷브레이커 OPEN - orderId: {}", request.orderId());
-			throw new ErrorException(PaymentErrorCode.PG_UNAVAILABLE);
+			log.error("[Toss] 서킷브레이커 OPEN - orderId: {}", orderId);
+			return new ErrorException(PaymentErrorCode.PG_UNAVAILABLE);
 		}
 
 		// 연결/타임아웃 실패 - PG 연결 불가
 		if (throwable instanceof ResourceAccessException) {
 			log.error("[Toss] 연결/타임아웃 실패 - orderId: {}, error: {}",
-				request.orderId(), throwable.getMessage());
-			throw new ErrorException(PaymentErrorCode.PG_TIMEOUT);
+				orderId, throwable.getMessage());
+			return new ErrorException(PaymentErrorCode.PG_TIMEOUT);
 		}
 
 		// REST API 오류 (4xx, 5xx 등)
 		if (throwable instanceof RestClientException) {
 			log.error("[Toss] API 오류 - orderId: {}, error: {}",
-				request.orderId(), throwable.getMessage());
-			throw new ErrorException(PaymentErrorCode.PAYMENT_FAILED);
+				orderId, throwable.getMessage());
+			return new ErrorException(PaymentErrorCode.PAYMENT_FAILED);
 		}
 
 		// 예상치 못한 오류
-		log.error("[Toss] 알 수 없는 오류 - orderId: {}", request.orderId(), throwable);
-		throw new ErrorException(PaymentErrorCode.PAYMENT_FAILED);
+		log.error("[Toss] 알 수 없는 오류 - orderId: {}", orderId, throwable);
+		return new ErrorException(PaymentErrorCode.PAYMENT_FAILED);
 	}
 }
\ No newline at end of file
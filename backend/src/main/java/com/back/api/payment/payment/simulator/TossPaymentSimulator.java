@@ -0,0 +1,246 @@
+package com.back.api.payment.payment.simulator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import com.back.api.payment.payment.dto.response.TossPaymentResponse;
+import com.back.api.payment.payment.dto.response.TossPaymentStatusResponse;
+import com.back.domain.payment.payment.entity.ApproveStatus;
+import com.back.global.properties.TossSimulatorProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로컬 Toss 결제 승인 API 시뮬레이터 (pg-sim 프로필, 부하 테스트용)
+ * - 애플리케이션과 별도 포트의 내장 HTTP 서버 (Tomcat 요청 스레드/보안 필터와 분리, 요청당 가상 스레드)
+ * - 인증이 없으므로 loopback 주소에만 바인딩 (같은 호스트의 애플리케이션/부하 도구만 접근)
+ * - POST /v1/payments/confirm: 설정된 지연 분포와 실패 비율로 TossPaymentResponse 형태 응답
+ * - GET /v1/payments/orders/{orderId}: 기록된 승인 결과 조회 (타임아웃 건은 승인된 것으로 기록, 없으면 404)
+ * - GET/PUT /simulator/config: 실행 중 지연/실패 비율 조회 및 변경 (서킷브레이커 OPEN 유도 등)
+ *
+ * TossPaymentConfig의 toss.payments.base-url을 이 서버로 지정하면 실제 RestClient + tossPayment
+ * 서킷브레이커 경로를 그대로 사용
+ */
+@Component
+@Profile("pg-sim")
+@RequiredArgsConstructor
+@Slf4j
+public class TossPaymentSimulator implements SmartLifecycle {
+
+	private static final String JSON = "application/json";
+	private static final String ORDERS_PATH = "/v1/payments/orders/";
+
+	// 조회용으로 보관하는 최근 승인 결과 수 (초과 시 오래된 것부터 제거)
+	private static final int MAX_RECORDED_PAYMENTS = 200_000;
+
+	private final TossSimulatorProperties properties;
+	private final ObjectMapper objectMapper;
+
+	private final Map<String, TossPaymentStatusResponse> payments = Collections.synchronizedMap(
+		new LinkedHashMap<>() {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, TossPaymentStatusResponse> eldest) {
+				return size() > MAX_RECORDED_PAYMENTS;
+			}
+		}
+	);
+
+	private HttpServer server;
+	private ExecutorService executor;
+
+	enum Outcome {
+		APPROVED,
+		ABORTED,
+		ERROR,
+		TIMEOUT
+	}
+
+	@Override
+	public void start() {
+		try {
+			executor = Executors.newVirtualThreadPerTaskExecutor();
+			InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), properties.getPort());
+			server = HttpServer.create(address, 0);
+			server.setExecutor(executor);
+			server.createContext("/v1/payments/confirm", this::handleConfirm);
+			server.createContext(ORDERS_PATH, this::handleGetByOrderId);
+			server.createContext("/simulator/config", this::handleConfig);
+			server.start();
+			log.info("[PG_SIM] Toss 시뮬레이터 시작 - address={}", server.getAddress());
+		} catch (IOException e) {
+			throw new IllegalStateException("Failed to start Toss simulator on port " + properties.getPort(), e);
+		}
+	}
+
+	@Override
+	public void stop() {
+		if (server != null) {
+			server.stop(0);
+			executor.shutdownNow();
+			server = null;
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return server != null;
+	}
+
+	private void handleConfirm(HttpExchange exchange) throws IOException {
+		try (exchange) {
+			if (!"POST".equals(exchange.getRequestMethod())) {
+				exchange.sendResponseHeaders(405, -1);
+				return;
+			}
+
+			Map<?, ?> request = readBody(exchange.getRequestBody(), Map.class);
+			ThreadLocalRandom random = ThreadLocalRandom.current();
+			Outcome outcome = decide(properties, random.nextDouble());
+
+			String orderId = String.valueOf(request.get("orderId"));
+			String paymentKey = String.valueOf(request.get("paymentKey"));
+			Number amount = (Number)request.get("amount");
+			Long totalAmount = amount != null ? amount.longValue() : null;
+			String approvedAt = OffsetDateTime.now().toString();
+
+			// 타임아웃은 승인은 되었지만 응답이 늦는 경우로 처리 (재시도 전 결제 조회 경로 검증용)
+			if (outcome == Outcome.TIMEOUT) {
+				record(orderId, paymentKey, ApproveStatus.DONE, totalAmount, approvedAt);
+			}
+
+			long delayMs = outcome == Outcome.TIMEOUT
+				? properties.getTimeoutMs()
+				: sampleLatencyMs(properties, random.nextDouble());
+			sleep(delayMs);
+
+			if (outcome == Outcome.ERROR || outcome == Outcome.TIMEOUT) {
+				writeJson(exchange, 500, Map.of("code", "PROVIDER_ERROR", "message", "simulated provider error"));
+				return;
+			}
+
+			ApproveStatus status = outcome == Outcome.APPROVED ? ApproveStatus.DONE : ApproveStatus.ABORTED;
+			record(orderId, paymentKey, status, totalAmount, approvedAt);
+			writeJson(exchange, 200, new TossPaymentResponse(paymentKey, status, "카드", totalAmount, approvedAt));
+		}
+	}
+
+	private void handleGetByOrderId(HttpExchange exchange) throws IOException {
+		try (exchange) {
+			if (!"GET".equals(exchange.getRequestMethod())) {
+				exchange.sendResponseHeaders(405, -1);
+				return;
+			}
+
+			String orderId = exchange.getRequestURI().getPath().substring(ORDERS_PATH.length());
+			TossPaymentStatusResponse payment = payments.get(orderId);
+			if (payment == null) {
+				writeJson(exchange, 404, Map.of("code", "NOT_FOUND_PAYMENT", "message", "payment not found"));
+				return;
+			}
+			writeJson(exchange, 200, payment);
+		}
+	}
+
+	private void record(String orderId, String paymentKey, ApproveStatus status, Long amount, String approvedAt) {
+		payments.put(
+			orderId,
+			new TossPaymentStatusResponse(paymentKey, orderId, status.name(), "카드", amount, approvedAt)
+		);
+	}
+
+	private void handleConfig(HttpExchange exchange) throws IOException {
+		try (exchange) {
+			if ("PUT".equals(exchange.getRequestMethod())) {
+				// 전달된 필드만 변경
+				synchronized (properties) {
+					objectMapper.readerForUpdating(properties).readValue(exchange.getRequestBody());
+				}
+				log.info("[PG_SIM] 설정 변경 - {}", objectMapper.writeValueAsString(properties));
+			} else if (!"GET".equals(exchange.getRequestMethod())) {
+				exchange.sendResponseHeaders(405, -1);
+				return;
+			}
+			writeJson(exchange, 200, properties);
+		}
+	}
+
+	/**
+	 * 실패 주입 결과 결정 (r: [0, 1) 균등 난수)
+	 * [0, timeoutRate) TIMEOUT, 이어서 errorRate 구간 ERROR, abortRate 구간 ABORTED, 나머지 APPROVED
+	 */
+	static Outcome decide(TossSimulatorProperties properties, double r) {
+		double threshold = properties.getTimeoutRate();
+		if (r < threshold) {
+			return Outcome.TIMEOUT;
+		}
+		threshold += properties.getErrorRate();
+		if (r < threshold) {
+			return Outcome.ERROR;
+		}
+		threshold += properties.getAbortRate();
+		if (r < threshold) {
+			return Outcome.ABORTED;
+		}
+		return Outcome.APPROVED;
+	}
+
+	/**
+	 * 지연 샘플링 (u: [0, 1) 균등 난수)
+	 * 백분위 구간 [0, p50], [p50, p95], [p95, p99], [p99, max] 안에서 선형 보간
+	 */
+	static long sampleLatencyMs(TossSimulatorProperties properties, double u) {
+		if (u < 0.50) {
+			return interpolate(0, properties.getLatencyP50Ms(), u / 0.50);
+		}
+		if (u < 0.95) {
+			return interpolate(properties.getLatencyP50Ms(), properties.getLatencyP95Ms(), (u - 0.50) / 0.45);
+		}
+		if (u < 0.99) {
+			return interpolate(properties.getLatencyP95Ms(), properties.getLatencyP99Ms(), (u - 0.95) / 0.04);
+		}
+		return interpolate(properties.getLatencyP99Ms(), properties.getLatencyMaxMs(), (u - 0.99) / 0.01);
+	}
+
+	private static long interpolate(long from, long to, double ratio) {
+		return from + Math.round((to - from) * ratio);
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private <T> T readBody(InputStream body, Class<T> type) throws IOException {
+		return objectMapper.readValue(body, type);
+	}
+
+	private void writeJson(HttpExchange exchange, int status, Object body) throws IOException {
+		byte[] bytes = objectMapper.writeValueAsBytes(body);
+		exchange.getResponseHeaders().set("Content-Type", JSON);
+		exchange.sendResponseHeaders(status, bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+}
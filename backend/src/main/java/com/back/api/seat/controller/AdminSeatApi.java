@@ -11,6 +11,8 @@ import com.back.api.seat.dto.request.AutoCreateSeatsRequest;
 import com.back.api.seat.dto.request.BulkCreateSeatsRequest;
 import com.back.api.seat.dto.request.SeatCreateRequest;
 import com.back.api.seat.dto.request.SeatUpdateRequest;
+import com.back.api.seat.dto.response.SeatContentionResponse;
+import com.back.api.seat.dto.response.SeatCursorResponse;
 import com.back.api.seat.dto.response.SeatResponse;
 import com.back.global.config.swagger.ApiErrorCode;
 import com.back.global.response.ApiResponse;
@@ -118,4 +120,32 @@ public interface AdminSeatApi {
 		@Parameter(description = "페이지 크기")
 		@RequestParam(defaultValue = "20") int size
 	);
+
+	@Operation(
+		summary = "이벤트별 좌석 목록 커서 조회",
+		description = "등급, 좌석 코드 자연 정렬 순으로 좌석 목록을 커서 기반으로 조회합니다. 첫 페이지는 cursor 없이 요청합니다."
+	)
+	@ApiErrorCode("NOT_FOUND_EVENT")
+	ApiResponse<SeatCursorResponse> getSeatsByEventWithCursor(
+		@Parameter(description = "이벤트 ID", example = "1")
+		@PathVariable Long eventId,
+
+		@Parameter(description = "이전 응답의 nextCursor", example = "VIP:A0000000012:1024")
+		@RequestParam(required = false) String cursor,
+
+		@Parameter(description = "페이지 크기")
+		@RequestParam(defaultValue = "20") int size
+	);
+
+	@Operation(
+		summary = "좌석 경합 핫스팟 조회",
+		description = "좌석 선택 시 동시성 충돌이 많이 발생한 좌석을 근사 Top-K로 조회합니다. 인스턴스별 집계이며 추정치는 실제보다 클 수 있습니다."
+	)
+	ApiResponse<List<SeatContentionResponse>> getSeatContentionHotspots(
+		@Parameter(description = "이벤트 ID", example = "1")
+		@PathVariable Long eventId,
+
+		@Parameter(description = "조회 개수 (최대 50)")
+		@RequestParam(defaultValue = "10") int limit
+	);
 }
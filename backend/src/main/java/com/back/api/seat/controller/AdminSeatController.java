@@ -18,6 +18,8 @@ import com.back.api.seat.dto.request.AutoCreateSeatsRequest;
 import com.back.api.seat.dto.request.BulkCreateSeatsRequest;
 import com.back.api.seat.dto.request.SeatCreateRequest;
 import com.back.api.seat.dto.request.SeatUpdateRequest;
+import com.back.api.seat.dto.response.SeatContentionResponse;
+import com.back.api.seat.dto.response.SeatCursorResponse;
 import com.back.api.seat.dto.response.SeatResponse;
 import com.back.api.seat.service.AdminSeatService;
 import com.back.domain.seat.entity.Seat;
@@ -40,10 +42,7 @@ public class AdminSeatController implements AdminSeatApi {
 		@PathVariable Long eventId,
 		@Valid @RequestBody BulkCreateSeatsRequest request
 	) {
-		List<Seat> seats = adminSeatService.bulkCreateSeats(eventId, request.seats());
-		List<SeatResponse> responses = seats.stream()
-			.map(SeatResponse::from)
-			.toList();
+		List<SeatResponse> responses = adminSeatService.bulkCreateSeats(eventId, request.seats());
 
 		return ApiResponse.created(
 			"좌석을 대량 생산했습니다",
@@ -57,14 +56,11 @@ public class AdminSeatController implements AdminSeatApi {
 		@PathVariable Long eventId,
 		@Valid @RequestBody AutoCreateSeatsRequest request
 	) {
-		List<Seat> seats = adminSeatService.autoCreateSeats(eventId, request);
-		List<SeatResponse> responses = seats.stream()
-			.map(SeatResponse::from)
-			.toList();
+		List<SeatResponse> responses = adminSeatService.autoCreateSeats(eventId, request);
 
 		return ApiResponse.created(
 			String.format("좌석을 자동 생성했습니다. (총 %d개: %s행 x %s열)",
-				seats.size(), request.rows(), request.cols()),
+				responses.size(), request.rows(), request.cols()),
 			responses
 		);
 	}
@@ -125,4 +121,27 @@ public class AdminSeatController implements AdminSeatApi {
 
 		return ApiResponse.ok("좌석 목록을 조회했습니다.", response);
 	}
+
+	@Override
+	@GetMapping("/cursor")
+	public ApiResponse<SeatCursorResponse> getSeatsByEventWithCursor(
+		@PathVariable Long eventId,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "20") int size
+	) {
+		SeatCursorResponse response = adminSeatService.getSeatsByEventWithCursor(eventId, cursor, size);
+
+		return ApiResponse.ok("좌석 목록을 조회했습니다.", response);
+	}
+
+	@Override
+	@GetMapping("/contention")
+	public ApiResponse<List<SeatContentionResponse>> getSeatContentionHotspots(
+		@PathVariable Long eventId,
+		@RequestParam(defaultValue = "10") int limit
+	) {
+		List<SeatContentionResponse> response = adminSeatService.getSeatContentionHotspots(eventId, limit);
+
+		return ApiResponse.ok("좌석 경합 현황을 조회했습니다.", response);
+	}
 }
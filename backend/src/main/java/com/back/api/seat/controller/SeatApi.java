@@ -5,6 +5,7 @@ import java.util.List;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import com.back.api.seat.dto.response.SeatAvailabilityResponse;
 import com.back.api.seat.dto.response.SeatResponse;
 import com.back.domain.seat.entity.SeatGrade;
 import com.back.global.config.swagger.ApiErrorCode;
@@ -28,4 +29,13 @@ public interface SeatApi {
 		@Parameter(description = "좌석 등급 (선택) - 미입력 시 전체 좌석 조회", example = "VIP")
 		@RequestParam(required = false) SeatGrade grade
 	);
+
+	@Operation(
+		summary = "등급별 좌석 현황 조회",
+		description = "특정 이벤트의 등급별 예매 가능/선택 중/판매 완료 좌석 수를 조회합니다. 좌석 전체 목록을 불러오지 않고 매진 여부를 확인할 수 있습니다."
+	)
+	ApiResponse<SeatAvailabilityResponse> getSeatAvailability(
+		@Parameter(description = "이벤트 ID", example = "1")
+		@PathVariable Long eventId
+	);
 }
@@ -8,7 +8,9 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.back.api.seat.dto.response.SeatAvailabilityResponse;
 import com.back.api.seat.dto.response.SeatResponse;
+import com.back.api.seat.service.SeatAvailabilityService;
 import com.back.api.seat.service.SeatService;
 import com.back.domain.seat.entity.Seat;
 import com.back.domain.seat.entity.SeatGrade;
@@ -23,6 +25,7 @@ import lombok.RequiredArgsConstructor;
 public class SeatController implements SeatApi {
 
 	private final SeatService seatService;
+	private final SeatAvailabilityService seatAvailabilityService;
 	private final HttpRequestContext httpRequestContext;
 
 	@Override
@@ -40,4 +43,13 @@ public class SeatController implements SeatApi {
 			seats.stream().map(SeatResponse::from).toList()
 		);
 	}
+
+	@Override
+	@GetMapping("/events/{eventId}/seats/availability")
+	public ApiResponse<SeatAvailabilityResponse> getSeatAvailability(@PathVariable Long eventId) {
+		return ApiResponse.ok(
+			"등급별 좌석 현황을 조회했습니다.",
+			seatAvailabilityService.getAvailability(eventId)
+		);
+	}
 }
@@ -0,0 +1,27 @@
+package com.back.api.seat.dto.response;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record SeatAvailabilityResponse(
+	@Schema(description = "이벤트 id", example = "1")
+	Long eventId,
+	@Schema(description = "등급별 좌석 현황")
+	List<GradeAvailability> grades
+) {
+	public record GradeAvailability(
+		@Schema(description = "좌석 등급", example = "VIP")
+		String grade,
+		@Schema(description = "예매 가능 좌석 수", example = "120")
+		long available,
+		@Schema(description = "선택(결제 대기) 중인 좌석 수", example = "15")
+		long reserved,
+		@Schema(description = "판매 완료 좌석 수", example = "65")
+		long sold
+	) {
+		public boolean isSoldOut() {
+			return available == 0;
+		}
+	}
+}
@@ -0,0 +1,15 @@
+package com.back.api.seat.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record SeatContentionResponse(
+	@Schema(description = "좌석 id", example = "1")
+	Long seatId,
+	@Schema(description = "좌석 코드 (삭제된 좌석이면 null)", example = "A1")
+	String seatCode,
+	@Schema(description = "좌석 등급 (삭제된 좌석이면 null)", example = "VIP")
+	String grade,
+	@Schema(description = "추정 경합(선택 실패) 횟수 - 근사치, 실제보다 클 수 있음", example = "132")
+	long estimatedConflicts
+) {
+}
@@ -0,0 +1,15 @@
+package com.back.api.seat.dto.response;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record SeatCursorResponse(
+	@Schema(description = "좌석 목록")
+	List<SeatResponse> seats,
+	@Schema(description = "다음 페이지 커서 (없으면 null)", example = "VIP:A0000000012:1024")
+	String nextCursor,
+	@Schema(description = "다음 페이지 존재 여부", example = "true")
+	boolean hasNext
+) {
+}
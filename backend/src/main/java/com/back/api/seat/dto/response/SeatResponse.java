@@ -1,6 +1,7 @@
 package com.back.api.seat.dto.response;
 
 import com.back.domain.seat.entity.Seat;
+import com.back.domain.seat.entity.SeatStatus;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 
@@ -28,4 +29,16 @@ public record SeatResponse(
 			seat.getSeatStatus().name()
 		);
 	}
+
+	// JDBC batch로 INSERT된 좌석 (엔티티 재조회 없이 발급된 id로 구성)
+	public static SeatResponse ofCreated(Long id, Long eventId, Seat seat) {
+		return new SeatResponse(
+			id,
+			eventId,
+			seat.getSeatCode(),
+			seat.getGrade().getDisplayName(),
+			seat.getPrice(),
+			SeatStatus.AVAILABLE.name()
+		);
+	}
 }
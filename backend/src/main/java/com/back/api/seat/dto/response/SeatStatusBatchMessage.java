@@ -0,0 +1,12 @@
+package com.back.api.seat.dto.response;
+
+import java.util.List;
+
+/**
+ * 한 이벤트에서 동시에 상태가 바뀐 좌석 묶음 (Draft 일괄 만료 등)
+ */
+public record SeatStatusBatchMessage(
+	Long eventId,
+	List<SeatStatusMessage> seats
+) {
+}
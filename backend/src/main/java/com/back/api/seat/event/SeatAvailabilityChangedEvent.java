@@ -0,0 +1,16 @@
+package com.back.api.seat.event;
+
+import com.back.domain.seat.entity.SeatGrade;
+import com.back.domain.seat.entity.SeatStatus;
+
+/**
+ * 같은 등급 좌석 count개의 상태 전이 (커밋 후 등급별 카운터에 반영)
+ */
+public record SeatAvailabilityChangedEvent(
+	Long eventId,
+	SeatGrade grade,
+	SeatStatus from,
+	SeatStatus to,
+	long count
+) {
+}
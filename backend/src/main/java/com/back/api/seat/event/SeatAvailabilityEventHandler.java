@@ -0,0 +1,46 @@
+package com.back.api.seat.event;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.back.domain.seat.repository.SeatAvailabilityRedisRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatAvailabilityEventHandler {
+
+	private final SeatAvailabilityRedisRepository seatAvailabilityRedisRepository;
+
+	// 커밋 후 반영 (롤백된 전이로 카운터 오차를 만들지 않음), 트랜잭션 밖 발행은 즉시 처리
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void handleSeatAvailabilityChanged(SeatAvailabilityChangedEvent event) {
+		try {
+			seatAvailabilityRedisRepository.move(
+				event.eventId(), event.grade(), event.from(), event.to(), event.count()
+			);
+		} catch (Exception e) {
+			// 카운터 반영 실패 시 무효화하여 다음 조회에서 DB 기준으로 재구성
+			log.warn("Failed to update seat availability counters - eventId: {}, grade: {}, {} -> {} x{}",
+				event.eventId(), event.grade(), event.from(), event.to(), event.count(), e);
+			deleteCounters(event.eventId());
+		}
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void handleSeatAvailabilityEvicted(SeatAvailabilityEvictedEvent event) {
+		deleteCounters(event.eventId());
+	}
+
+	private void deleteCounters(Long eventId) {
+		try {
+			seatAvailabilityRedisRepository.delete(eventId);
+		} catch (Exception e) {
+			log.warn("Failed to evict seat availability counters - eventId: {}", eventId, e);
+		}
+	}
+}
@@ -0,0 +1,7 @@
+package com.back.api.seat.event;
+
+/**
+ * 관리자 좌석 변경으로 등급별 카운터 재구성이 필요한 이벤트 (커밋 후 무효화)
+ */
+public record SeatAvailabilityEvictedEvent(Long eventId) {
+}
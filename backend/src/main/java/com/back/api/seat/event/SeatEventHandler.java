@@ -4,6 +4,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+import com.back.api.seat.dto.response.SeatStatusBatchMessage;
 import com.back.api.seat.dto.response.SeatStatusMessage;
 
 import lombok.RequiredArgsConstructor;
@@ -22,4 +23,11 @@ public class SeatEventHandler {
 			msg.currentStatus());
 		publisher.publish(msg);
 	}
+
+	// 묶음 이벤트는 커밋 후 한 번에 받아 기존 좌석 토픽 메시지 형식으로 전송
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handleSeatStatusBatch(SeatStatusBatchMessage batch) {
+		log.debug("SEAT_BATCH_EVENT_RECEIVED eventId={} count={}", batch.eventId(), batch.seats().size());
+		batch.seats().forEach(publisher::publish);
+	}
 }
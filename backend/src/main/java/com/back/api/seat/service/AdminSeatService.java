@@ -1,6 +1,8 @@
 package com.back.api.seat.service;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -16,14 +18,20 @@ import org.springframework.transaction.annotation.Transactional;
 import com.back.api.seat.dto.request.AutoCreateSeatsRequest;
 import com.back.api.seat.dto.request.SeatCreateRequest;
 import com.back.api.seat.dto.request.SeatUpdateRequest;
+import com.back.api.seat.dto.response.SeatContentionResponse;
+import com.back.api.seat.dto.response.SeatCursorResponse;
 import com.back.api.seat.dto.response.SeatResponse;
 import com.back.domain.event.entity.Event;
 import com.back.domain.event.repository.EventRepository;
 import com.back.domain.seat.entity.Seat;
 import com.back.domain.seat.entity.SeatGrade;
+import com.back.domain.seat.repository.SeatBulkRepository;
 import com.back.domain.seat.repository.SeatRepository;
+import com.back.global.error.code.CommonErrorCode;
 import com.back.global.error.code.SeatErrorCode;
 import com.back.global.error.exception.ErrorException;
+import com.back.global.observability.metrics.SeatContentionTracker;
+import com.back.global.utils.CountMinTopK;
 
 import lombok.RequiredArgsConstructor;
 
@@ -31,8 +39,18 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class AdminSeatService {
 
+	private static final String CURSOR_DELIMITER = ":";
+	private static final int MAX_CONTENTION_LIMIT = 50;
+	// DB의 grade(문자열) 정렬 순서와 동일하게 enum 이름 기준 정렬
+	private static final List<SeatGrade> GRADE_ORDER = Arrays.stream(SeatGrade.values())
+		.sorted(Comparator.comparing(SeatGrade::name))
+		.toList();
+
 	private final SeatRepository seatRepository;
+	private final SeatBulkRepository seatBulkRepository;
 	private final EventRepository eventRepository;
+	private final SeatAvailabilityService seatAvailabilityService;
+	private final SeatContentionTracker seatContentionTracker;
 	// ===== 관리자용 API =====
 
 	/**
@@ -40,18 +58,12 @@ public class AdminSeatService {
 	 * POST /api/admin/events/{eventId}/seats
 	 */
 	@Transactional
-	public List<Seat> bulkCreateSeats(Long eventId, List<SeatCreateRequest> requests) {
+	public List<SeatResponse> bulkCreateSeats(Long eventId, List<SeatCreateRequest> requests) {
 		Event event = eventRepository.findById(eventId)
 			.orElseThrow(() -> new ErrorException(SeatErrorCode.NOT_FOUND_EVENT));
 
-		// (eventId, grade, seatCode) 기준 중복 검증
-		validateDuplicateSeats(eventId, requests);
-
-		List<Seat> seats = requests.stream()
-			.map(req -> createSeatEntity(event, req))
-			.toList();
-
-		return seatRepository.saveAll(seats);
+		// (eventId, grade, seatCode) 기준 중복 검증은 INSERT 시 유니크 제약으로 처리
+		return bulkInsertSeats(event, requests);
 	}
 
 	/**
@@ -66,7 +78,9 @@ public class AdminSeatService {
 		validateDuplicateSeats(eventId, List.of(request));
 
 		Seat seat = createSeatEntity(event, request);
-		return seatRepository.save(seat);
+		Seat saved = seatRepository.save(seat);
+		seatAvailabilityService.evict(eventId);
+		return saved;
 	}
 
 	/**
@@ -74,7 +88,7 @@ public class AdminSeatService {
 	 * POST /api/admin/events/{eventId}/seats/auto
 	 */
 	@Transactional
-	public List<Seat> autoCreateSeats(Long eventId, AutoCreateSeatsRequest request) {
+	public List<SeatResponse> autoCreateSeats(Long eventId, AutoCreateSeatsRequest request) {
 		Event event = eventRepository.findById(eventId)
 			.orElseThrow(() -> new ErrorException(SeatErrorCode.NOT_FOUND_EVENT));
 
@@ -96,14 +110,7 @@ public class AdminSeatService {
 			}
 		}
 
-		// 한 번의 공통 검증 로직 호출
-		validateDuplicateSeats(eventId, seatRequests);
-
-		List<Seat> seats = seatRequests.stream()
-			.map(req -> createSeatEntity(event, req))
-			.toList();
-
-		return seatRepository.saveAll(seats);
+		return bulkInsertSeats(event, seatRequests);
 	}
 
 	/**
@@ -119,7 +126,9 @@ public class AdminSeatService {
 		validateDuplicateSeatsOnUpdate(seat, request);
 
 		seat.update(request.seatCode(), request.grade(), request.price(), request.seatStatus());
-		return seatRepository.save(seat);
+		Seat saved = seatRepository.save(seat);
+		seatAvailabilityService.evict(seat.getEvent().getId());
+		return saved;
 	}
 
 	/**
@@ -128,10 +137,10 @@ public class AdminSeatService {
 	 */
 	@Transactional
 	public void deleteSeat(Long seatId) {
-		if (!seatRepository.existsById(seatId)) {
-			throw new ErrorException(SeatErrorCode.NOT_FOUND_SEAT);
-		}
-		seatRepository.deleteById(seatId);
+		Seat seat = seatRepository.findById(seatId)
+			.orElseThrow(() -> new ErrorException(SeatErrorCode.NOT_FOUND_SEAT));
+		seatRepository.delete(seat);
+		seatAvailabilityService.evict(seat.getEvent().getId());
 	}
 
 	/**
@@ -141,10 +150,49 @@ public class AdminSeatService {
 	@Transactional
 	public void deleteAllEventSeats(Long eventId) {
 		seatRepository.deleteByEventId(eventId);
+		seatAvailabilityService.evict(eventId);
 	}
 
 	// ===== Private Helper Methods =====
 
+	/**
+	 * 대량 좌석 INSERT (JDBC batch)
+	 * - 요청 내부 중복은 메모리에서 검증
+	 * - DB 중복은 uk_event_grade_seatcode + ON CONFLICT로 감지 후 전체 롤백
+	 */
+	private List<SeatResponse> bulkInsertSeats(Event event, List<SeatCreateRequest> requests) {
+		Long eventId = event.getId();
+		validateInternalDuplicates(requests);
+
+		List<Seat> seats = requests.stream()
+			.map(req -> createSeatEntity(event, req))
+			.toList();
+
+		List<Long> ids = seatBulkRepository.insertAllIgnoringConflicts(eventId, seats);
+
+		List<String> dbDuplicates = new ArrayList<>();
+		for (int i = 0; i < seats.size(); i++) {
+			if (ids.get(i) == null) {
+				dbDuplicates.add(seats.get(i).getGrade() + ":" + seats.get(i).getSeatCode());
+			}
+		}
+		if (!dbDuplicates.isEmpty()) {
+			throw new ErrorException(
+				"이미 존재하는 좌석: " + dbDuplicates,
+				SeatErrorCode.DUPLICATE_SEAT_CODE
+			);
+		}
+
+		seatAvailabilityService.evict(eventId);
+
+		// 발급된 id로 요청 순서대로 응답 구성 (이벤트 전체 좌석 재조회 없음)
+		List<SeatResponse> responses = new ArrayList<>(seats.size());
+		for (int i = 0; i < seats.size(); i++) {
+			responses.add(SeatResponse.ofCreated(ids.get(i), eventId, seats.get(i)));
+		}
+		return responses;
+	}
+
 	private Seat createSeatEntity(Event event, SeatCreateRequest request) {
 		return Seat.createSeat(event, request.seatCode(), request.grade(), request.price());
 	}
@@ -160,22 +208,7 @@ public class AdminSeatService {
 		}
 
 		// 1) 요청 내부 중복 체크
-		Set<String> seen = new HashSet<>();
-		Set<String> internalDuplicates = new HashSet<>();
-
-		for (SeatCreateRequest req : requests) {
-			String key = req.grade() + ":" + req.seatCode();
-			if (!seen.add(key)) {
-				internalDuplicates.add(key);
-			}
-		}
-
-		if (!internalDuplicates.isEmpty()) {
-			throw new ErrorException(
-				"요청 내 중복 좌석: " + internalDuplicates,
-				SeatErrorCode.DUPLICATE_SEAT_CODE
-			);
-		}
+		validateInternalDuplicates(requests);
 
 		// 2) DB 중복 체크 (grade별 그룹핑 후 한 번에 조회)
 		Map<SeatGrade, List<String>> seatsByGrade = requests.stream()
@@ -204,6 +237,26 @@ public class AdminSeatService {
 		}
 	}
 
+	// 요청 내부 (grade, seatCode) 중복 검증
+	private void validateInternalDuplicates(List<SeatCreateRequest> requests) {
+		Set<String> seen = new HashSet<>();
+		Set<String> internalDuplicates = new HashSet<>();
+
+		for (SeatCreateRequest req : requests) {
+			String key = req.grade() + ":" + req.seatCode();
+			if (!seen.add(key)) {
+				internalDuplicates.add(key);
+			}
+		}
+
+		if (!internalDuplicates.isEmpty()) {
+			throw new ErrorException(
+				"요청 내 중복 좌석: " + internalDuplicates,
+				SeatErrorCode.DUPLICATE_SEAT_CODE
+			);
+		}
+	}
+
 	/**
 	 * 수정 시 중복 검증
 	 * - 변경된 (grade, seatCode) 조합이 DB에 이미 존재하는지 확인
@@ -243,4 +296,94 @@ public class AdminSeatService {
 		return seatPage.map(SeatResponse::from);
 	}
 
+	/**
+	 * 관리자 좌석 목록 keyset 조회
+	 * - 커서: "{grade}:{sortKey}:{id}" (첫 페이지는 null)
+	 * - 등급별로 (event_id, grade, sort_key, id) 인덱스 범위를 이어서 탐색 (OFFSET/COUNT 없음)
+	 * - sortKey는 유일하지 않으므로 (예: "A1", "A01") id를 tie-breaker로 사용
+	 */
+	@Transactional(readOnly = true)
+	public SeatCursorResponse getSeatsByEventWithCursor(Long eventId, String cursor, int size) {
+		if (!eventRepository.existsById(eventId)) {
+			throw new ErrorException(SeatErrorCode.NOT_FOUND_EVENT);
+		}
+
+		int gradeIndex = 0;
+		String afterSortKey = "";
+		long afterId = 0L;
+		if (cursor != null && !cursor.isBlank()) {
+			// 좌석 코드에 구분자가 포함될 수 있으므로 grade는 첫 구분자, id는 마지막 구분자 기준으로 분리
+			int gradeEnd = cursor.indexOf(CURSOR_DELIMITER);
+			int idStart = cursor.lastIndexOf(CURSOR_DELIMITER);
+			if (gradeEnd < 0 || idStart == gradeEnd) {
+				throw new ErrorException(CommonErrorCode.INVALID_INPUT_VALUE);
+			}
+			try {
+				gradeIndex = GRADE_ORDER.indexOf(SeatGrade.valueOf(cursor.substring(0, gradeEnd)));
+				afterId = Long.parseLong(cursor.substring(idStart + 1));
+			} catch (IllegalArgumentException e) {
+				throw new ErrorException(CommonErrorCode.INVALID_INPUT_VALUE);
+			}
+			afterSortKey = cursor.substring(gradeEnd + 1, idStart);
+		}
+
+		// 다음 페이지 존재 여부 확인을 위해 size + 1개까지 조회
+		List<Seat> seats = new ArrayList<>(size + 1);
+		for (int i = gradeIndex; i < GRADE_ORDER.size() && seats.size() <= size; i++) {
+			seats.addAll(seatRepository.findSeatsByGradeAfterSortKey(
+				eventId,
+				GRADE_ORDER.get(i),
+				i == gradeIndex ? afterSortKey : "",
+				i == gradeIndex ? afterId : 0L,
+				PageRequest.of(0, size + 1 - seats.size())
+			));
+		}
+
+		boolean hasNext = seats.size() > size;
+		List<Seat> page = hasNext ? seats.subList(0, size) : seats;
+		String nextCursor = null;
+		if (hasNext) {
+			Seat last = page.get(page.size() - 1);
+			nextCursor = last.getGrade().name()
+				+ CURSOR_DELIMITER + last.getSortKey()
+				+ CURSOR_DELIMITER + last.getId();
+		}
+
+		return new SeatCursorResponse(
+			page.stream().map(SeatResponse::from).toList(),
+			nextCursor,
+			hasNext
+		);
+	}
+
+	/**
+	 * 좌석 경합 핫스팟 조회 (이 인스턴스에서 집계된 근사 Top-K)
+	 */
+	@Transactional(readOnly = true)
+	public List<SeatContentionResponse> getSeatContentionHotspots(Long eventId, int limit) {
+		List<CountMinTopK.Estimate> top = seatContentionTracker.topSeats(
+			eventId,
+			Math.clamp(limit, 1, MAX_CONTENTION_LIMIT)
+		);
+		if (top.isEmpty()) {
+			return List.of();
+		}
+
+		Map<Long, Seat> seats = seatRepository.findAllById(
+				top.stream().map(CountMinTopK.Estimate::item).toList()
+			).stream()
+			.collect(Collectors.toMap(Seat::getId, seat -> seat));
+
+		return top.stream()
+			.map(estimate -> {
+				Seat seat = seats.get(estimate.item());
+				return new SeatContentionResponse(
+					estimate.item(),
+					seat != null ? seat.getSeatCode() : null,
+					seat != null ? seat.getGrade().getDisplayName() : null,
+					estimate.count()
+				);
+			})
+			.toList();
+	}
 }
@@ -0,0 +1,138 @@
+package com.back.api.seat.service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+
+import com.back.api.seat.dto.response.SeatAvailabilityResponse;
+import com.back.api.seat.dto.response.SeatAvailabilityResponse.GradeAvailability;
+import com.back.api.seat.event.SeatAvailabilityChangedEvent;
+import com.back.api.seat.event.SeatAvailabilityEvictedEvent;
+import com.back.domain.seat.entity.SeatGrade;
+import com.back.domain.seat.entity.SeatStatus;
+import com.back.domain.seat.repository.SeatAvailabilityRedisRepository;
+import com.back.domain.seat.repository.SeatGradeStatusCount;
+import com.back.domain.seat.repository.SeatRepository;
+import com.back.global.event.EventPublisher;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 등급별 좌석 현황 카운터
+ * - 좌석 상태 전이 시 Redis 카운터를 원자적으로 이동 (커밋 후 SeatAvailabilityEventHandler에서 반영)
+ * - 카운터가 없거나 Redis 장애 시 DB 집계로 재구성 (집계 중 상태 이동이 있었다면 저장하지 않고 다음 조회에서 재시도)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SeatAvailabilityService {
+
+	private final SeatAvailabilityRedisRepository seatAvailabilityRedisRepository;
+	private final SeatRepository seatRepository;
+	private final EventPublisher eventPublisher;
+
+	/**
+	 * 좌석 상태 전이 기록
+	 * 트랜잭션 안이면 커밋 이후에만 반영하여 롤백 시 카운터 오차를 막는다.
+	 */
+	public void recordTransition(Long eventId, SeatGrade grade, SeatStatus from, SeatStatus to) {
+		recordTransitions(eventId, grade, from, to, 1);
+	}
+
+	/**
+	 * 같은 등급 좌석 여러 개의 상태 전이를 한 번에 기록 (일괄 만료 등)
+	 */
+	public void recordTransitions(Long eventId, SeatGrade grade, SeatStatus from, SeatStatus to, long count) {
+		eventPublisher.publishEvent(new SeatAvailabilityChangedEvent(eventId, grade, from, to, count));
+	}
+
+	/**
+	 * 등급별 좌석 현황 조회
+	 * Redis 카운터 우선, 없으면 DB 집계 후 캐싱
+	 */
+	public SeatAvailabilityResponse getAvailability(Long eventId) {
+		Map<String, Long> counts = loadCounts(eventId);
+
+		Map<SeatGrade, long[]> byGrade = new EnumMap<>(SeatGrade.class);
+		counts.forEach((field, count) -> {
+			String[] parts = field.split(":", 2);
+			long[] statusCounts = byGrade.computeIfAbsent(SeatGrade.valueOf(parts[0]), g -> new long[3]);
+			switch (SeatStatus.valueOf(parts[1])) {
+				case AVAILABLE -> statusCounts[0] += count;
+				case RESERVED -> statusCounts[1] += count;
+				case SOLD -> statusCounts[2] += count;
+			}
+		});
+
+		List<GradeAvailability> grades = new ArrayList<>();
+		byGrade.forEach((grade, c) -> grades.add(
+			new GradeAvailability(grade.getDisplayName(), Math.max(c[0], 0), Math.max(c[1], 0), Math.max(c[2], 0))
+		));
+
+		return new SeatAvailabilityResponse(eventId, grades);
+	}
+
+	/**
+	 * 이벤트의 특정 상태 좌석 수 (관리자 대시보드용)
+	 */
+	public long countByStatus(Long eventId, SeatStatus status) {
+		String suffix = ":" + status.name();
+		return loadCounts(eventId).entrySet().stream()
+			.filter(e -> e.getKey().endsWith(suffix))
+			.mapToLong(Map.Entry::getValue)
+			.sum();
+	}
+
+	/**
+	 * 좌석 생성/수정/삭제 등 관리자 변경 시 카운터 무효화 (커밋 후 반영)
+	 */
+	public void evict(Long eventId) {
+		eventPublisher.publishEvent(new SeatAvailabilityEvictedEvent(eventId));
+	}
+
+	private Map<String, Long> loadCounts(Long eventId) {
+		try {
+			Map<Object, Object> cached = seatAvailabilityRedisRepository.findAll(eventId);
+			if (!cached.isEmpty()) {
+				Map<String, Long> counts = new HashMap<>();
+				cached.forEach((k, v) -> counts.put(k.toString(), Long.parseLong(v.toString())));
+				return counts;
+			}
+		} catch (Exception e) {
+			log.warn("Failed to read seat availability counters, falling back to DB - eventId: {}", eventId, e);
+			return countFromDb(eventId);
+		}
+
+		// 세대를 DB 집계보다 먼저 읽음 - 집계 이후 커밋된 이동이 있으면 재구성 결과를 저장하지 않음
+		String generation;
+		try {
+			generation = seatAvailabilityRedisRepository.getGeneration(eventId);
+		} catch (Exception e) {
+			log.warn("Failed to read seat availability generation, falling back to DB - eventId: {}", eventId, e);
+			return countFromDb(eventId);
+		}
+
+		Map<String, Long> counts = countFromDb(eventId);
+		try {
+			Map<String, String> values = new HashMap<>();
+			counts.forEach((field, count) -> values.put(field, String.valueOf(count)));
+			seatAvailabilityRedisRepository.putAllIfGeneration(eventId, generation, values);
+		} catch (Exception e) {
+			log.warn("Failed to cache seat availability counters - eventId: {}", eventId, e);
+		}
+		return counts;
+	}
+
+	private Map<String, Long> countFromDb(Long eventId) {
+		Map<String, Long> counts = new HashMap<>();
+		for (SeatGradeStatusCount row : seatRepository.countGroupByGradeAndStatus(eventId)) {
+			counts.put(SeatAvailabilityRedisRepository.field(row.getGrade(), row.getSeatStatus()), row.getCount());
+		}
+		return counts;
+	}
+}
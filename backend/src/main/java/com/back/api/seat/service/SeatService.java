@@ -1,11 +1,15 @@
 package com.back.api.seat.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.back.api.queue.service.QueueEntryReadService;
+import com.back.api.seat.dto.response.SeatStatusBatchMessage;
 import com.back.api.seat.dto.response.SeatStatusMessage;
 import com.back.domain.seat.entity.Seat;
 import com.back.domain.seat.entity.SeatGrade;
@@ -15,6 +19,7 @@ import com.back.global.error.code.SeatErrorCode;
 import com.back.global.error.exception.ErrorException;
 import com.back.global.event.EventPublisher;
 import com.back.global.observability.metrics.BusinessMetrics;
+import com.back.global.observability.metrics.SeatContentionTracker;
 
 import lombok.RequiredArgsConstructor;
 
@@ -29,6 +34,8 @@ public class SeatService {
 	private final QueueEntryReadService queueEntryReadService;
 	private final EventPublisher eventPublisher;
 	private final BusinessMetrics businessMetrics;
+	private final SeatAvailabilityService seatAvailabilityService;
+	private final SeatContentionTracker seatContentionTracker;
 
 	// 이벤트의 좌석 목록 조회
 	@Transactional(readOnly = true)
@@ -57,6 +64,7 @@ public class SeatService {
 		if (updated == 0) {
 			// 동시성 충돌 발생 (CAS 실패)
 			businessMetrics.seatConcurrencyConflict(eventId);
+			seatContentionTracker.recordConflict(eventId, seatId);
 
 			// 실패: 좌석이 없거나, 이미 다른 상태로 변경됨
 			Seat current = seatRepository.findByEventIdAndId(eventId, seatId)
@@ -74,25 +82,28 @@ public class SeatService {
 			throw new ErrorException(SeatErrorCode.SEAT_CONCURRENCY_FAILURE);
 		}
 
-		// 성공: 좌석 조회 후 이벤트 발행
-		Seat seat = seatRepository.findByEventIdAndId(eventId, seatId)
-			.orElseThrow(() -> new ErrorException(SeatErrorCode.NOT_FOUND_SEAT));
+		return completeReservation(eventId, seatId);
+	}
 
-		SeatStatusMessage message = new SeatStatusMessage(
-			eventId,
-			seat.getId(),
-			seat.getSeatCode(),
-			seat.getSeatStatus().name(),
-			seat.getPrice(),
-			seat.getGrade().name()
+	/**
+	 * 좌석 예약 시도 (AVAILABLE -> RESERVED)
+	 * 충돌 시 예외 대신 Optional.empty()를 반환하여 호출 트랜잭션을 rollback-only로 만들지 않는다.
+	 * (최적 좌석 자동 배정처럼 다른 후보로 재시도하는 경우 사용)
+	 */
+	@Transactional
+	public Optional<Seat> tryReserveSeat(Long eventId, Long seatId) {
+		int updated = seatRepository.updateSeatStatusIfMatch(
+			eventId, seatId,
+			SeatStatus.AVAILABLE, SeatStatus.RESERVED
 		);
 
-		eventPublisher.publishEvent(message);
-
-		// 좌석 선택 성공 메트릭
-		businessMetrics.seatSelectionSuccess(eventId);
+		if (updated == 0) {
+			businessMetrics.seatConcurrencyConflict(eventId);
+			seatContentionTracker.recordConflict(eventId, seatId);
+			return Optional.empty();
+		}
 
-		return seat;
+		return Optional.of(completeReservation(eventId, seatId));
 	}
 
 	// 좌석을 SOLD 상태로 변경 (결제 완료 시)
@@ -130,6 +141,7 @@ public class SeatService {
 		);
 
 		eventPublisher.publishEvent(message);
+		seatAvailabilityService.recordTransition(eventId, seat.getGrade(), SeatStatus.RESERVED, SeatStatus.SOLD);
 	}
 
 	// 예약 취소 또는 결제 실패 시
@@ -171,5 +183,48 @@ public class SeatService {
 		);
 
 		eventPublisher.publishEvent(message);
+		seatAvailabilityService.recordTransition(eventId, seat.getGrade(), SeatStatus.RESERVED, SeatStatus.AVAILABLE);
+	}
+
+	/**
+	 * 일괄 UPDATE로 이미 AVAILABLE이 된 좌석들의 후처리
+	 * - 이벤트당 SeatStatusBatchMessage 1건 발행
+	 * - 등급별 카운터를 묶어서 반영
+	 */
+	public void publishReleasedSeats(Long eventId, List<SeatStatusMessage> releasedSeats) {
+		if (releasedSeats.isEmpty()) {
+			return;
+		}
+
+		eventPublisher.publishEvent(new SeatStatusBatchMessage(eventId, releasedSeats));
+
+		Map<SeatGrade, Long> countsByGrade = releasedSeats.stream()
+			.collect(Collectors.groupingBy(seat -> SeatGrade.valueOf(seat.grade()), Collectors.counting()));
+		countsByGrade.forEach((grade, count) -> seatAvailabilityService.recordTransitions(
+			eventId, grade, SeatStatus.RESERVED, SeatStatus.AVAILABLE, count
+		));
+	}
+
+	// 예약 성공 후처리: 좌석 조회 후 이벤트 발행
+	private Seat completeReservation(Long eventId, Long seatId) {
+		Seat seat = seatRepository.findByEventIdAndId(eventId, seatId)
+			.orElseThrow(() -> new ErrorException(SeatErrorCode.NOT_FOUND_SEAT));
+
+		SeatStatusMessage message = new SeatStatusMessage(
+			eventId,
+			seat.getId(),
+			seat.getSeatCode(),
+			seat.getSeatStatus().name(),
+			seat.getPrice(),
+			seat.getGrade().name()
+		);
+
+		eventPublisher.publishEvent(message);
+		seatAvailabilityService.recordTransition(eventId, seat.getGrade(), SeatStatus.AVAILABLE, SeatStatus.RESERVED);
+
+		// 좌석 선택 성공 메트릭
+		businessMetrics.seatSelectionSuccess(eventId);
+
+		return seat;
 	}
 }
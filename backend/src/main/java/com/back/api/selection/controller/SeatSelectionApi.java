@@ -1,8 +1,10 @@
 package com.back.api.selection.controller;
 
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.back.api.selection.dto.response.SeatSelectionResponse;
+import com.back.domain.seat.entity.SeatGrade;
 import com.back.global.config.swagger.ApiErrorCode;
 import com.back.global.response.ApiResponse;
 
@@ -28,6 +30,23 @@ public interface SeatSelectionApi {
 		@PathVariable Long seatId
 	);
 
+	@Operation(
+		summary = "최적 좌석 자동 배정",
+		description = "지정한 등급에서 앞 열/중앙에 가까운 가용 좌석을 자동으로 RESERVED 상태로 변경합니다. 충돌 시 다른 좌석으로 재시도합니다."
+	)
+	@ApiErrorCode(
+		{
+			"NO_AVAILABLE_SEAT",
+			"NOT_IN_QUEUE",
+			"NOT_FOUND_USER",
+			"NOT_FOUND_EVENT",
+		}
+	)
+	public ApiResponse<SeatSelectionResponse> autoSelectSeat(
+		@PathVariable Long eventId,
+		@RequestParam SeatGrade grade
+	);
+
 	@Operation(summary = "좌석 선택 취소", description = "선택한 좌석을 취소하고 AVAILABLE 상태로 복구합니다. Draft Ticket은 유지됩니다.")
 	@ApiErrorCode(
 		{
@@ -4,10 +4,12 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.back.api.selection.dto.response.SeatSelectionResponse;
 import com.back.api.selection.service.SeatSelectionService;
+import com.back.domain.seat.entity.SeatGrade;
 import com.back.domain.ticket.entity.Ticket;
 import com.back.global.http.HttpRequestContext;
 import com.back.global.response.ApiResponse;
@@ -15,7 +17,7 @@ import com.back.global.response.ApiResponse;
 import lombok.RequiredArgsConstructor;
 
 @RestController
-@RequestMapping("/api/v1/events/{eventId}/seats/{seatId}")
+@RequestMapping("/api/v1/events/{eventId}/seats")
 @RequiredArgsConstructor
 public class SeatSelectionController implements SeatSelectionApi {
 
@@ -27,7 +29,7 @@ public class SeatSelectionController implements SeatSelectionApi {
 	 * POST /api/v1/events/{eventId}/seats/{seatId}/select
 	 */
 	@Override
-	@PostMapping("/select")
+	@PostMapping("/{seatId}/select")
 	public ApiResponse<SeatSelectionResponse> selectSeat(
 		@PathVariable Long eventId,
 		@PathVariable Long seatId
@@ -42,12 +44,32 @@ public class SeatSelectionController implements SeatSelectionApi {
 		);
 	}
 
+	/**
+	 * 최적 좌석 자동 배정
+	 * POST /api/v1/events/{eventId}/seats/best-available/select?grade=VIP
+	 */
+	@Override
+	@PostMapping("/best-available/select")
+	public ApiResponse<SeatSelectionResponse> autoSelectSeat(
+		@PathVariable Long eventId,
+		@RequestParam SeatGrade grade
+	) {
+		Long userId = httpRequestContext.getUserId();
+
+		Ticket draftTicket = seatSelectionService.autoSelectSeatAndCreateTicket(eventId, grade, userId);
+
+		return ApiResponse.ok(
+			"좌석이 자동 배정되었습니다.",
+			SeatSelectionResponse.from(draftTicket)
+		);
+	}
+
 	/**
 	 * 좌석 선택 취소
 	 * DELETE /api/v1/events/{eventId}/seats/{seatId}/deselect
 	 */
 	@Override
-	@DeleteMapping("/deselect")
+	@DeleteMapping("/{seatId}/deselect")
 	public ApiResponse<Void> deselectSeat(
 		@PathVariable Long eventId, @PathVariable Long seatId
 	) {
@@ -0,0 +1,206 @@
+package com.back.api.selection.service;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.back.domain.seat.entity.SeatGrade;
+import com.back.domain.seat.entity.SeatStatus;
+import com.back.domain.seat.repository.SeatIndexRow;
+import com.back.domain.seat.repository.SeatRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 이벤트/등급별 최적 좌석 인덱스 (인스턴스 로컬)
+ * - 좌석 코드를 열(prefix) + 번호로 나누어 열마다 BitSet으로 가용 좌석을 표시
+ * - 앞 열, 열 중앙에 가까운 연속 좌석 블록을 우선 후보로 선정
+ * - 상위 후보 중 무작위로 골라 동시 요청이 같은 좌석에 몰리지 않도록 분산
+ * - DB 원자적 업데이트가 최종 판단 기준이며, 인덱스는 후보 선정용 힌트 (주기적으로 재구성)
+ * - 일정 시간 조회되지 않은 인덱스(종료/마감 이벤트 등)는 제거
+ */
+@Component
+@RequiredArgsConstructor
+public class BestAvailableSeatIndex {
+
+	private static final long REFRESH_INTERVAL_MILLIS = 5_000L;
+	private static final long IDLE_EVICT_MILLIS = 10 * 60_000L;
+	private static final int CANDIDATE_POOL_SIZE = 8;
+	private static final Pattern SEAT_CODE_PATTERN = Pattern.compile("^(\\D*)(\\d+)$");
+
+	private final SeatRepository seatRepository;
+
+	private final Map<IndexKey, GradeIndex> indexes = new ConcurrentHashMap<>();
+
+	/**
+	 * 최적 연속 좌석 블록 선택 (좌석 id 목록, 번호 오름차순)
+	 * 후보가 없으면 Optional.empty()
+	 */
+	public Optional<List<Long>> pickBlock(Long eventId, SeatGrade grade, int quantity) {
+		List<List<Long>> candidates = getIndex(eventId, grade).findBlocks(quantity, CANDIDATE_POOL_SIZE);
+		if (candidates.isEmpty()) {
+			return Optional.empty();
+		}
+		return Optional.of(candidates.get(ThreadLocalRandom.current().nextInt(candidates.size())));
+	}
+
+	/**
+	 * 예약 성공 또는 충돌로 더 이상 선택할 수 없는 좌석 반영
+	 */
+	public void markUnavailable(Long eventId, SeatGrade grade, List<Long> seatIds) {
+		GradeIndex index = indexes.get(new IndexKey(eventId, grade));
+		if (index != null) {
+			index.markUnavailable(seatIds);
+		}
+	}
+
+	/**
+	 * 조회되지 않은 지 IDLE_EVICT_MILLIS가 지난 인덱스 제거 (인스턴스 로컬 정리라 분산 락 없음)
+	 */
+	@Scheduled(fixedDelay = 60_000)
+	public void evictIdle() {
+		long now = System.currentTimeMillis();
+		indexes.values().removeIf(index -> now - index.lastAccessedAt >= IDLE_EVICT_MILLIS);
+	}
+
+	private GradeIndex getIndex(Long eventId, SeatGrade grade) {
+		IndexKey key = new IndexKey(eventId, grade);
+		long now = System.currentTimeMillis();
+
+		GradeIndex existing = indexes.get(key);
+		if (existing != null && now - existing.loadedAt < REFRESH_INTERVAL_MILLIS) {
+			existing.lastAccessedAt = now;
+			return existing;
+		}
+
+		// DB 조회는 맵 락(compute) 밖에서 수행 - 같은 bin의 다른 키를 막지 않음
+		// 동시에 재구성한 요청 중 먼저 설치한 결과를 공유 (인덱스는 힌트라 중복 조회는 허용)
+		GradeIndex loaded = GradeIndex.build(seatRepository.findIndexRowsByEventIdAndGrade(eventId, grade), now);
+		if (existing == null) {
+			GradeIndex raced = indexes.putIfAbsent(key, loaded);
+			return raced != null ? raced : loaded;
+		}
+		if (indexes.replace(key, existing, loaded)) {
+			return loaded;
+		}
+		return indexes.getOrDefault(key, loaded);
+	}
+
+	private record IndexKey(Long eventId, SeatGrade grade) {
+	}
+
+	private static final class GradeIndex {
+
+		private final List<Row> rows;
+		private final Map<Long, SeatPosition> positions;
+		private final long loadedAt;
+		private volatile long lastAccessedAt;
+
+		private GradeIndex(List<Row> rows, Map<Long, SeatPosition> positions, long loadedAt) {
+			this.rows = rows;
+			this.positions = positions;
+			this.loadedAt = loadedAt;
+			this.lastAccessedAt = loadedAt;
+		}
+
+		static GradeIndex build(List<SeatIndexRow> seats, long loadedAt) {
+			// 열 이름 순으로 정렬 (A열 -> B열 ...)
+			Map<String, Row> rowsByPrefix = new TreeMap<>();
+			for (SeatIndexRow seat : seats) {
+				Matcher matcher = SEAT_CODE_PATTERN.matcher(seat.getSeatCode());
+				String prefix = matcher.matches() ? matcher.group(1) : seat.getSeatCode();
+				int number = matcher.matches() ? Integer.parseInt(matcher.group(2)) : 0;
+
+				Row row = rowsByPrefix.computeIfAbsent(prefix, p -> new Row());
+				row.add(number, seat.getId(), seat.getSeatStatus() == SeatStatus.AVAILABLE);
+			}
+
+			List<Row> rows = new ArrayList<>(rowsByPrefix.values());
+			Map<Long, SeatPosition> positions = new HashMap<>();
+			for (int rowIndex = 0; rowIndex < rows.size(); rowIndex++) {
+				Row row = rows.get(rowIndex);
+				for (Map.Entry<Integer, Long> entry : row.seatIds.entrySet()) {
+					positions.put(entry.getValue(), new SeatPosition(rowIndex, entry.getKey()));
+				}
+			}
+			return new GradeIndex(rows, positions, loadedAt);
+		}
+
+		synchronized List<List<Long>> findBlocks(int quantity, int limit) {
+			List<List<Long>> result = new ArrayList<>(limit);
+			for (Row row : rows) {
+				for (int start : row.findBlockStarts(quantity)) {
+					result.add(row.seatIdsOf(start, quantity));
+					if (result.size() >= limit) {
+						return result;
+					}
+				}
+			}
+			return result;
+		}
+
+		synchronized void markUnavailable(List<Long> seatIds) {
+			for (Long seatId : seatIds) {
+				SeatPosition position = positions.get(seatId);
+				if (position != null) {
+					rows.get(position.rowIndex()).available.clear(position.number());
+				}
+			}
+		}
+	}
+
+	private static final class Row {
+
+		private final BitSet available = new BitSet();
+		private final Map<Integer, Long> seatIds = new HashMap<>();
+		private int minNumber = Integer.MAX_VALUE;
+		private int maxNumber = Integer.MIN_VALUE;
+
+		void add(int number, Long seatId, boolean isAvailable) {
+			seatIds.put(number, seatId);
+			minNumber = Math.min(minNumber, number);
+			maxNumber = Math.max(maxNumber, number);
+			if (isAvailable) {
+				available.set(number);
+			}
+		}
+
+		// 가용 구간마다 quantity개 연속 블록 시작 번호를 모아 열 중앙과 가까운 순으로 정렬
+		List<Integer> findBlockStarts(int quantity) {
+			double center = (minNumber + maxNumber) / 2.0;
+			List<Integer> starts = new ArrayList<>();
+			for (int from = available.nextSetBit(0); from >= 0; ) {
+				int to = available.nextClearBit(from);
+				for (int start = from; start + quantity <= to; start++) {
+					starts.add(start);
+				}
+				from = available.nextSetBit(to);
+			}
+			starts.sort(Comparator.comparingDouble(start -> Math.abs(start + (quantity - 1) / 2.0 - center)));
+			return starts;
+		}
+
+		List<Long> seatIdsOf(int start, int quantity) {
+			List<Long> ids = new ArrayList<>(quantity);
+			for (int number = start; number < start + quantity; number++) {
+				ids.add(seatIds.get(number));
+			}
+			return ids;
+		}
+	}
+
+	private record SeatPosition(int rowIndex, int number) {
+	}
+}
@@ -1,5 +1,8 @@
 package com.back.api.selection.service;
 
+import java.util.List;
+import java.util.Optional;
+
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -7,6 +10,7 @@ import com.back.api.queue.service.QueueEntryReadService;
 import com.back.api.seat.service.SeatService;
 import com.back.api.ticket.service.TicketService;
 import com.back.domain.seat.entity.Seat;
+import com.back.domain.seat.entity.SeatGrade;
 import com.back.domain.ticket.entity.Ticket;
 import com.back.domain.ticket.repository.TicketRepository;
 import com.back.global.error.code.SeatErrorCode;
@@ -21,10 +25,13 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class SeatSelectionService {
 
+	private static final int MAX_AUTO_SELECT_ATTEMPTS = 5;
+
 	private final SeatService seatService;
 	private final TicketService ticketService;
 	private final TicketRepository ticketRepository;
 	private final QueueEntryReadService queueEntryReadService;
+	private final BestAvailableSeatIndex bestAvailableSeatIndex;
 
 	/**
 	 * 좌석 선택 + DraftTicket 생성/업데이트
@@ -51,6 +58,7 @@ public class SeatSelectionService {
 
 		// Ticket에 좌석 할당
 		ticket.assignSeat(newSeat);
+		ticketService.scheduleDraftExpiry(ticket);
 
 		// 변경 사항을 명시적으로 저장
 		ticketRepository.save(ticket);
@@ -63,6 +71,36 @@ public class SeatSelectionService {
 		return ticket;
 	}
 
+	/**
+	 * 최적 좌석 자동 배정 + DraftTicket 생성/업데이트
+	 * - 인덱스에서 앞 열/중앙 우선 후보 중 하나를 골라 원자적으로 예약
+	 * - 충돌 시 해당 좌석을 인덱스에서 제외하고 다른 후보로 재시도
+	 * - DraftTicket은 좌석 1개만 보유하므로 1석 단위로 배정
+	 */
+	@Transactional
+	public Ticket autoSelectSeatAndCreateTicket(Long eventId, SeatGrade grade, Long userId) {
+		// 큐 검증
+		if (!queueEntryReadService.isUserEntered(eventId, userId)) {
+			throw new ErrorException(SeatErrorCode.NOT_IN_QUEUE);
+		}
+
+		Ticket ticket = ticketService.getOrCreateDraft(eventId, userId);
+		Seat oldSeat = ticket.getSeat();
+
+		Seat newSeat = reserveBestAvailableSeat(eventId, grade);
+
+		ticket.assignSeat(newSeat);
+		ticketService.scheduleDraftExpiry(ticket);
+		ticketRepository.save(ticket);
+
+		// 새 좌석 예약 성공했을 때만 기존 좌석 해제
+		if (oldSeat != null) {
+			seatService.markSeatAsAvailable(eventId, oldSeat.getId());
+		}
+
+		return ticket;
+	}
+
 	/**
 	 * 좌석 선택 취소 (DraftTicket은 유지, 좌석만 해제)
 	 */
@@ -86,4 +124,22 @@ public class SeatSelectionService {
 		// 변경 사항을 명시적으로 저장
 		ticketRepository.save(ticket);
 	}
+
+	private Seat reserveBestAvailableSeat(Long eventId, SeatGrade grade) {
+		for (int attempt = 0; attempt < MAX_AUTO_SELECT_ATTEMPTS; attempt++) {
+			Optional<List<Long>> block = bestAvailableSeatIndex.pickBlock(eventId, grade, 1);
+			if (block.isEmpty()) {
+				break;
+			}
+
+			Optional<Seat> reserved = seatService.tryReserveSeat(eventId, block.get().get(0));
+			// 성공/충돌 모두 이후 후보에서 제외
+			bestAvailableSeatIndex.markUnavailable(eventId, grade, block.get());
+
+			if (reserved.isPresent()) {
+				return reserved.get();
+			}
+		}
+		throw new ErrorException(SeatErrorCode.NO_AVAILABLE_SEAT);
+	}
 }
@@ -0,0 +1,72 @@
+package com.back.api.ticket.controller;
+
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import com.back.api.ticket.dto.request.GateScanBatchRequest;
+import com.back.api.ticket.dto.request.QrEntryBatchRequest;
+import com.back.api.ticket.dto.response.GateKeyResponse;
+import com.back.api.ticket.dto.response.GateScanBatchResponse;
+import com.back.api.ticket.dto.response.GateSnapshotResponse;
+import com.back.api.ticket.dto.response.QrEntryBatchResponse;
+import com.back.global.config.swagger.ApiErrorCode;
+import com.back.global.response.ApiResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+
+@Tag(name = "Gate Sync API", description = "게이트 단말 오프라인 QR 검증 동기화 API")
+public interface GateSyncApi {
+
+	@Operation(
+		summary = "QR 검증 공개키 조회",
+		description = "게이트 단말이 QR 토큰(Ed25519 서명)을 오프라인으로 검증할 공개키를 조회합니다."
+	)
+	ApiResponse<GateKeyResponse> getVerificationKey(
+		@Parameter(description = "이벤트 ID", example = "1")
+		@PathVariable Long eventId
+	);
+
+	@Operation(
+		summary = "티켓 유효성 스냅샷 조회",
+		description = "입장 가능(ISSUED)/입장 완료(USED) 티켓 목록을 티켓 ID 커서로 나누어 조회합니다."
+	)
+	@ApiErrorCode("NOT_FOUND_EVENT")
+	ApiResponse<GateSnapshotResponse> getSnapshot(
+		@Parameter(description = "이벤트 ID", example = "1")
+		@PathVariable Long eventId,
+
+		@Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+		@RequestParam(required = false) Long cursor,
+
+		@Parameter(description = "페이지 크기 (기본 1000, 최대 5000)")
+		@RequestParam(required = false) Integer size
+	);
+
+	@Operation(
+		summary = "게이트 스캔 일괄 업로드",
+		description = "게이트에서 오프라인 검증한 스캔 기록을 업로드합니다. 최초 입장만 확정되고 중복 입장은 별도로 반환됩니다."
+	)
+	ApiResponse<GateScanBatchResponse> uploadScans(
+		@Parameter(description = "이벤트 ID", example = "1")
+		@PathVariable Long eventId,
+
+		@Valid @RequestBody GateScanBatchRequest request
+	);
+
+	@Operation(
+		summary = "QR 코드 일괄 검증",
+		description = "게이트 단말에서 모은 QR 토큰을 한 번에 검증하고 입장 처리합니다. "
+			+ "토큰별 결과를 요청 순서대로 반환하며, 일부 토큰이 유효하지 않아도 나머지는 처리됩니다. "
+			+ "다른 이벤트의 티켓은 TICKET_NOT_FOUND로 반환됩니다."
+	)
+	ApiResponse<QrEntryBatchResponse> validateQrCodes(
+		@Parameter(description = "이벤트 ID", example = "1")
+		@PathVariable Long eventId,
+
+		@Valid @RequestBody QrEntryBatchRequest request
+	);
+}
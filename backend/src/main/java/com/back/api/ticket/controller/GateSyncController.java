@@ -0,0 +1,75 @@
+package com.back.api.ticket.controller;
+
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.back.api.ticket.dto.request.GateScanBatchRequest;
+import com.back.api.ticket.dto.request.QrEntryBatchRequest;
+import com.back.api.ticket.dto.response.GateKeyResponse;
+import com.back.api.ticket.dto.response.GateScanBatchResponse;
+import com.back.api.ticket.dto.response.GateSnapshotResponse;
+import com.back.api.ticket.dto.response.QrEntryBatchResponse;
+import com.back.api.ticket.service.GateSyncService;
+import com.back.api.ticket.service.QrService;
+import com.back.global.response.ApiResponse;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v1/admin/gates/events/{eventId}")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class GateSyncController implements GateSyncApi {
+
+	private final GateSyncService gateSyncService;
+	private final QrService qrService;
+
+	@Override
+	@GetMapping("/key")
+	public ApiResponse<GateKeyResponse> getVerificationKey(
+		@PathVariable Long eventId
+	) {
+		return ApiResponse.ok("QR 검증 공개키 조회 성공", gateSyncService.getVerificationKey());
+	}
+
+	@Override
+	@GetMapping("/snapshot")
+	public ApiResponse<GateSnapshotResponse> getSnapshot(
+		@PathVariable Long eventId,
+		@RequestParam(required = false) Long cursor,
+		@RequestParam(required = false) Integer size
+	) {
+		GateSnapshotResponse response = gateSyncService.getSnapshot(eventId, cursor, size);
+
+		return ApiResponse.ok("티켓 스냅샷 조회 성공", response);
+	}
+
+	@Override
+	@PostMapping("/scans")
+	public ApiResponse<GateScanBatchResponse> uploadScans(
+		@PathVariable Long eventId,
+		@Valid @RequestBody GateScanBatchRequest request
+	) {
+		GateScanBatchResponse response = gateSyncService.ingestScans(eventId, request);
+
+		return ApiResponse.ok("게이트 스캔 업로드 성공", response);
+	}
+
+	@Override
+	@PostMapping("/entries")
+	public ApiResponse<QrEntryBatchResponse> validateQrCodes(
+		@PathVariable Long eventId,
+		@Valid @RequestBody QrEntryBatchRequest request
+	) {
+		QrEntryBatchResponse response = qrService.validateAndProcessEntries(eventId, request.tokens());
+
+		return ApiResponse.ok("QR 코드 일괄 검증 & 사용 처리 성공", response);
+	}
+}
@@ -0,0 +1,34 @@
+package com.back.api.ticket.dto.request;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public record GateScanBatchRequest(
+	@Schema(description = "게이트 단말 식별자", example = "GATE-A-01")
+	@NotBlank
+	String gateId,
+
+	@Schema(description = "게이트에서 오프라인 검증 후 입장시킨 스캔 목록")
+	@NotEmpty
+	@Size(max = 1000)
+	@Valid
+	List<Scan> scans
+) {
+	public record Scan(
+		@Schema(description = "티켓 ID", example = "1")
+		@NotNull
+		Long ticketId,
+
+		@Schema(description = "스캔 시각", example = "2026-01-31T18:03:12")
+		@NotNull
+		LocalDateTime scannedAt
+	) {
+	}
+}
@@ -0,0 +1,16 @@
+package com.back.api.ticket.dto.request;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+public record QrEntryBatchRequest(
+	@Schema(description = "게이트에서 스캔한 QR 토큰 목록 (스캔 순서)")
+	@NotEmpty
+	@Size(max = 500)
+	List<@NotBlank String> tokens
+) {
+}
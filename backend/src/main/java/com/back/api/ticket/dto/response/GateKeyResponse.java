@@ -0,0 +1,16 @@
+package com.back.api.ticket.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "게이트 단말 QR 검증 키 응답 DTO")
+public record GateKeyResponse(
+	@Schema(description = "키 식별자 (QR 토큰 헤더 kid와 동일)", example = "3f2a9c0d41b7e6a8")
+	String keyId,
+
+	@Schema(description = "서명 알고리즘", example = "EdDSA")
+	String algorithm,
+
+	@Schema(description = "Ed25519 공개키 (X.509 DER Base64)", example = "MCowBQYDK2VwAyEA...")
+	String publicKey
+) {
+}
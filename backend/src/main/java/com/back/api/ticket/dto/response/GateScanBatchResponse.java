@@ -0,0 +1,21 @@
+package com.back.api.ticket.dto.response;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "게이트 스캔 일괄 업로드 결과 DTO")
+public record GateScanBatchResponse(
+	@Schema(description = "수신한 스캔 수", example = "120")
+	int received,
+
+	@Schema(description = "최초 입장으로 확정된 티켓 ID")
+	List<Long> accepted,
+
+	@Schema(description = "이미 입장 처리된 티켓 ID (다른 게이트/중복 스캔)")
+	List<Long> duplicates,
+
+	@Schema(description = "입장 불가 티켓 ID (없는 티켓, 다른 이벤트, 유효하지 않은 상태)")
+	List<Long> rejected
+) {
+}
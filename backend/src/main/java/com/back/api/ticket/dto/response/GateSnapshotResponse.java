@@ -0,0 +1,25 @@
+package com.back.api.ticket.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "게이트 티켓 유효성 스냅샷 응답 DTO")
+public record GateSnapshotResponse(
+	@Schema(description = "이벤트 ID", example = "1")
+	Long eventId,
+
+	@Schema(description = "스냅샷 생성 시각", example = "2026-01-31T18:00:00")
+	LocalDateTime generatedAt,
+
+	@Schema(description = "티켓 목록 (티켓 ID 오름차순)")
+	List<GateTicketEntry> tickets,
+
+	@Schema(description = "다음 페이지 커서 (마지막 티켓 ID, 없으면 null)", example = "1500")
+	Long nextCursor,
+
+	@Schema(description = "다음 페이지 존재 여부", example = "true")
+	boolean hasNext
+) {
+}
@@ -0,0 +1,18 @@
+package com.back.api.ticket.dto.response;
+
+import com.back.domain.ticket.entity.TicketStatus;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "게이트 스냅샷 티켓 항목")
+public record GateTicketEntry(
+	@Schema(description = "티켓 ID", example = "1")
+	Long ticketId,
+
+	@Schema(description = "소유자 ID (QR 토큰 userId와 대조)", example = "10")
+	Long ownerUserId,
+
+	@Schema(description = "티켓 상태 (ISSUED: 입장 가능, USED: 입장 완료)", example = "ISSUED")
+	TicketStatus status
+) {
+}
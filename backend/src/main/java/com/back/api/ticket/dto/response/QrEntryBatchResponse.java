@@ -0,0 +1,38 @@
+package com.back.api.ticket.dto.response;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "QR 일괄 입장 처리 결과 DTO")
+public record QrEntryBatchResponse(
+	@Schema(description = "수신한 토큰 수", example = "50")
+	int received,
+
+	@Schema(description = "입장 처리된 티켓 수", example = "48")
+	int entered,
+
+	@Schema(description = "토큰별 처리 결과 (요청 순서와 동일)")
+	List<QrEntryResult> results
+) {
+	public record QrEntryResult(
+		@Schema(description = "티켓 ID (토큰 검증 실패 시 null)", example = "1")
+		Long ticketId,
+
+		@Schema(description = "처리 결과", example = "ENTERED")
+		EntryStatus status,
+
+		@Schema(description = "결과 메시지", example = "QR 코드가 유효합니다.")
+		String message
+	) {
+	}
+
+	public enum EntryStatus {
+		ENTERED,
+		ALREADY_ENTERED,
+		INVALID_TICKET_STATE,
+		TICKET_NOT_FOUND,
+		TOKEN_EXPIRED,
+		INVALID_TOKEN
+	}
+}
@@ -0,0 +1,29 @@
+package com.back.api.ticket.dto.response;
+
+import java.util.List;
+
+import com.back.global.utils.MerkleUtil;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "양도 이력 Merkle Proof DTO")
+public record TransferProofResponse(
+	@Schema(description = "티켓 ID", example = "1")
+	Long ticketId,
+
+	@Schema(description = "양도 이력 ID", example = "3")
+	Long historyId,
+
+	@Schema(description = "리프 위치 (양도 순서, 0부터)", example = "2")
+	int leafIndex,
+
+	@Schema(description = "양도 이력 해시 (hex)")
+	String leafHash,
+
+	@Schema(description = "현재 Merkle Root (hex)")
+	String root,
+
+	@Schema(description = "리프 -> Root 순서의 형제 노드 목록")
+	List<MerkleUtil.ProofNode> proof
+) {
+}
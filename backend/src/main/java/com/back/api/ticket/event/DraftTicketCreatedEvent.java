@@ -0,0 +1,7 @@
+package com.back.api.ticket.event;
+
+/**
+ * Draft 티켓 생성 (커밋 후 만료 지연 큐에 등록)
+ */
+public record DraftTicketCreatedEvent(Long ticketId, long expireAtMillis) {
+}
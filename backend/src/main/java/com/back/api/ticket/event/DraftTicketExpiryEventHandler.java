@@ -0,0 +1,31 @@
+package com.back.api.ticket.event;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.back.domain.ticket.repository.DraftTicketExpiryRedisRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 소비자(DraftTicketExpiryWorker)와 같은 프로필에서만 등록 - 그 외 프로필에서는 지연 큐가 비워지지 않고 계속 쌓임
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Profile({"perf"})
+public class DraftTicketExpiryEventHandler {
+
+	private final DraftTicketExpiryRedisRepository draftTicketExpiryRedisRepository;
+
+	// 커밋된 Draft만 등록, 등록 실패 시 DraftTicketExpirationScheduler 폴링이 처리
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void handleDraftTicketCreated(DraftTicketCreatedEvent event) {
+		try {
+			draftTicketExpiryRedisRepository.schedule(event.ticketId(), event.expireAtMillis());
+		} catch (Exception e) {
+			log.warn("Failed to schedule draft ticket expiry - ticketId={}", event.ticketId(), e);
+		}
+	}
+}
@@ -0,0 +1,25 @@
+package com.back.api.ticket.event;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.back.api.ticket.service.MyTicketsCache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MyTicketsCacheEventHandler {
+
+	private final MyTicketsCache myTicketsCache;
+
+	// 커밋 후 무효화 (롤백된 변경으로 캐시를 지우지 않음), 트랜잭션 밖 발행은 즉시 처리
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void handleMyTicketsChanged(MyTicketsChangedEvent event) {
+		log.debug("MY_TICKETS_CACHE_EVICT userIds={}", event.userIds());
+		myTicketsCache.evictAll(event.userIds());
+	}
+}
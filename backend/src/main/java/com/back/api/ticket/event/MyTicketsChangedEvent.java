@@ -0,0 +1,20 @@
+package com.back.api.ticket.event;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 내 티켓 목록이 바뀐 사용자 (발급/결제 실패/양도/입장)
+ * 커밋 후 MyTicketsCache 무효화에 사용
+ */
+public record MyTicketsChangedEvent(Set<Long> userIds) {
+
+	public static MyTicketsChangedEvent of(Long... userIds) {
+		return of(Arrays.asList(userIds));
+	}
+
+	public static MyTicketsChangedEvent of(Collection<Long> userIds) {
+		return new MyTicketsChangedEvent(Set.copyOf(userIds));
+	}
+}
@@ -0,0 +1,25 @@
+package com.back.api.ticket.event;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.back.api.ticket.service.QrTokenCache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QrTokenCacheEventHandler {
+
+	private final QrTokenCache qrTokenCache;
+
+	// 커밋 후 제거 (롤백된 양도/입장으로 캐시를 지우지 않음), 트랜잭션 밖 발행은 즉시 처리
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void handleQrTokenInvalidated(QrTokenInvalidatedEvent event) {
+		log.debug("QR_TOKEN_CACHE_EVICT ticketIds={}", event.ticketIds());
+		qrTokenCache.evictAll(event.ticketIds());
+	}
+}
@@ -0,0 +1,19 @@
+package com.back.api.ticket.event;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 티켓 소유자/상태 변경(양도, 입장)으로 발급된 QR 토큰을 더 이상 재사용하면 안 되는 티켓 (커밋 후 캐시 제거)
+ */
+public record QrTokenInvalidatedEvent(Set<Long> ticketIds) {
+
+	public static QrTokenInvalidatedEvent of(Long... ticketIds) {
+		return of(Arrays.asList(ticketIds));
+	}
+
+	public static QrTokenInvalidatedEvent of(Collection<Long> ticketIds) {
+		return new QrTokenInvalidatedEvent(Set.copyOf(ticketIds));
+	}
+}
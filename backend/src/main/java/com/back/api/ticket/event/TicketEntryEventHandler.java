@@ -0,0 +1,29 @@
+package com.back.api.ticket.event;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.back.domain.ticket.repository.TicketEntryRedisRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TicketEntryEventHandler {
+
+	private final TicketEntryRedisRepository ticketEntryRedisRepository;
+
+	// 입장 트랜잭션 롤백 시 SET NX로 남긴 입장 기록 보상 삭제
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+	public void handleTicketEntryRolledBack(TicketEntryMarkedEvent event) {
+		try {
+			ticketEntryRedisRepository.deleteAll(event.ticketIds());
+			log.warn("TICKET_ENTRY_MARK_ROLLBACK ticketIds={}", event.ticketIds());
+		} catch (Exception e) {
+			log.error("Failed to roll back ticket entry marks - ticketIds={}", event.ticketIds(), e);
+		}
+	}
+}
@@ -0,0 +1,15 @@
+package com.back.api.ticket.event;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Redis 입장 기록(SET NX)을 남긴 티켓
+ * 트랜잭션이 롤백되면 입장 기록을 되돌리는 데 사용 (남아 있으면 이후 스캔이 영구히 중복 처리됨)
+ */
+public record TicketEntryMarkedEvent(Set<Long> ticketIds) {
+
+	public static TicketEntryMarkedEvent of(Collection<Long> ticketIds) {
+		return new TicketEntryMarkedEvent(Set.copyOf(ticketIds));
+	}
+}
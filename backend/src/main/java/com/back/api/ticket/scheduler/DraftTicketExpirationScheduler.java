@@ -1,19 +1,17 @@
 package com.back.api.ticket.scheduler;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.context.annotation.Profile;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Limit;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
 
 import com.back.api.ticket.service.TicketService;
-import com.back.domain.ticket.entity.Ticket;
 import com.back.domain.ticket.entity.TicketStatus;
 import com.back.domain.ticket.repository.TicketRepository;
 import com.back.global.observability.MdcContext;
@@ -58,7 +56,7 @@ public class DraftTicketExpirationScheduler {
 
 		try {
 			MdcContext.putRunId(runId);
-			LocalDateTime expiredBefore = LocalDateTime.now().minusMinutes(5);
+			LocalDateTime expiredBefore = LocalDateTime.now().minus(TicketService.DRAFT_TTL);
 
 			log.info(
 				"SCHED_START job=DraftTicketExpiration expiredBefore={}",
@@ -68,38 +66,34 @@ public class DraftTicketExpirationScheduler {
 			int total = 0;
 			int success = 0;
 			int fail = 0;
-			int page = 0;
+			long lastId = 0L;
 
+			// keyset 순회: 만료 처리로 결과에서 빠지는 행이 있어도 건너뛰지 않음
 			while (total < MAX_PER_RUN) {
-				Pageable pageable = PageRequest.of(page, PAGE_SIZE);
-				Page<Ticket> ticketPage =
-					ticketRepository.findExpiredDraftTickets(
-						TicketStatus.DRAFT, expiredBefore, pageable
-					);
+				List<Long> ticketIds = ticketRepository.findExpiredDraftTicketIdsAfter(
+					TicketStatus.DRAFT, expiredBefore, lastId, Limit.of(PAGE_SIZE)
+				);
 
-				if (ticketPage.isEmpty()) {
+				if (ticketIds.isEmpty()) {
 					break;
 				}
 
-				for (Ticket ticket : ticketPage.getContent()) {
-					try {
-						ticketService.expireDraftTicket(ticket.getId());
-						success++;
-						log.debug(
-							"SCHED_ITEM_SUCCESS job=DraftTicketExpiration runId={} ticketId={}",
-							runId, ticket.getId()
-						);
-					} catch (Exception ex) {
-						fail++;
-						log.error(
-							"SCHED_ITEM_FAIL job=DraftTicketExpiration runId={} ticketId={} error={}",
-							runId, ticket.getId(), ex.toString(), ex
-						);
-					}
+				try {
+					success += ticketService.expireDraftTickets(ticketIds);
+				} catch (Exception ex) {
+					fail += ticketIds.size();
+					log.error(
+						"SCHED_BATCH_FAIL job=DraftTicketExpiration runId={} size={} error={}",
+						runId, ticketIds.size(), ex.toString(), ex
+					);
 				}
 
-				total += ticketPage.getNumberOfElements();
-				page++;
+				total += ticketIds.size();
+				lastId = ticketIds.get(ticketIds.size() - 1);
+
+				if (ticketIds.size() < PAGE_SIZE) {
+					break;
+				}
 
 				if (total >= MAX_PER_RUN) {
 					log.warn(
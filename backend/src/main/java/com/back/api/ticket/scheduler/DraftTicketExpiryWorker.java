@@ -0,0 +1,89 @@
+package com.back.api.ticket.scheduler;
+
+import java.util.List;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.back.api.ticket.service.TicketService;
+import com.back.domain.ticket.repository.DraftTicketExpiryRedisRepository;
+import com.back.global.observability.metrics.SchedulerMetrics;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Draft 티켓 지연 큐 만료 워커
+ * - 만료 시각이 지난 티켓을 Redis Sorted Set에서 배치로 꺼내 만료 처리
+ * - 꺼내기가 원자적(ZRANGEBYSCORE + ZREM)이라 ShedLock 없이 여러 인스턴스에서 동시에 실행 가능
+ * - 배치 단위로 티켓 만료와 좌석 해제를 한 statement로 처리
+ * - 처리 실패 시 RETRY_DELAY 후 재시도하도록 다시 등록
+ * - 큐 등록이 누락된 티켓은 DraftTicketExpirationScheduler 폴링이 보완
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@Profile({"perf"})
+public class DraftTicketExpiryWorker {
+
+	private static final String JOB_NAME = "DraftTicketExpiryWorker";
+	private static final int BATCH_SIZE = 200;
+	private static final int MAX_BATCHES_PER_RUN = 10;
+	private static final long RETRY_DELAY_MILLIS = 10_000L;
+
+	private final DraftTicketExpiryRedisRepository draftTicketExpiryRedisRepository;
+	private final TicketService ticketService;
+	private final SchedulerMetrics schedulerMetrics;
+
+	@Scheduled(fixedDelay = 1_000)
+	public void drainDueTickets() {
+		long startAt = System.currentTimeMillis();
+		int claimed = 0;
+		int expired = 0;
+		int fail = 0;
+
+		for (int batch = 0; batch < MAX_BATCHES_PER_RUN; batch++) {
+			List<Long> ticketIds = List.of();
+			try {
+				ticketIds = draftTicketExpiryRedisRepository.claimDue(System.currentTimeMillis(), BATCH_SIZE);
+				if (ticketIds.isEmpty()) {
+					break;
+				}
+				claimed += ticketIds.size();
+				expired += ticketService.expireDraftTickets(ticketIds);
+			} catch (Exception ex) {
+				fail += ticketIds.size();
+				log.error(
+					"SCHED_BATCH_FAIL job={} size={} error={}",
+					JOB_NAME, ticketIds.size(), ex.toString(), ex
+				);
+				retryLater(ticketIds);
+				break;
+			}
+
+			if (ticketIds.size() < BATCH_SIZE) {
+				break;
+			}
+		}
+
+		if (claimed > 0) {
+			long durationMs = System.currentTimeMillis() - startAt;
+			schedulerMetrics.recordDuration(JOB_NAME, durationMs);
+			log.info(
+				"SCHED_END job={} claimed={} expired={} fail={} durationMs={}",
+				JOB_NAME, claimed, expired, fail, durationMs
+			);
+		}
+	}
+
+	private void retryLater(List<Long> ticketIds) {
+		long retryAt = System.currentTimeMillis() + RETRY_DELAY_MILLIS;
+		try {
+			ticketIds.forEach(ticketId -> draftTicketExpiryRedisRepository.schedule(ticketId, retryAt));
+		} catch (Exception ex) {
+			// 재등록 실패분은 DraftTicketExpirationScheduler 폴링이 처리
+			log.warn("Failed to reschedule draft ticket expiry - size={}", ticketIds.size(), ex);
+		}
+	}
+}
@@ -0,0 +1,86 @@
+package com.back.api.ticket.scheduler;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+
+import com.back.api.ticket.service.MerkleEpochAnchorService;
+import com.back.domain.ticket.entity.MerkleEpochAnchor;
+import com.back.global.observability.MdcContext;
+import com.back.global.observability.metrics.SchedulerMetrics;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 양도 이력 에포크 앵커링 스케줄러 (1분 에포크)
+ * - 직전 에포크 이후 저장된 양도 이력을 전역 Merkle Tree 하나로 앵커링
+ * - 한 에포크가 MAX_LEAVES_PER_EPOCH로 가득 차면 같은 실행에서 다음 에포크를 이어서 처리
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@Profile({"perf", "dev", "prod"})
+public class MerkleEpochAnchorScheduler {
+
+	private static final String JOB_NAME = "MerkleEpochAnchor";
+	private static final int MAX_EPOCHS_PER_RUN = 5;
+
+	// 커밋이 늦은 양도 트랜잭션의 이력이 앞선 에포크에서 빠지지 않도록 최근 저장분은 다음 에포크로 미룸
+	private static final long SETTLE_DELAY_SECONDS = 10L;
+
+	private final MerkleEpochAnchorService merkleEpochAnchorService;
+	private final SchedulerMetrics schedulerMetrics;
+
+	@Scheduled(fixedRate = 60_000)
+	@SchedulerLock(
+		name = "MerkleEpochAnchor",
+		lockAtMostFor = "5m",
+		lockAtLeastFor = "10s"
+	)
+	public void anchorEpochs() {
+		String runId = UUID.randomUUID().toString();
+		long startAt = System.currentTimeMillis();
+
+		try {
+			MdcContext.putRunId(runId);
+			LocalDateTime cutoff = LocalDateTime.now().minusSeconds(SETTLE_DELAY_SECONDS);
+
+			int epochs = 0;
+			int leaves = 0;
+			while (epochs < MAX_EPOCHS_PER_RUN) {
+				Optional<MerkleEpochAnchor> anchor = merkleEpochAnchorService.anchorEpoch(cutoff);
+				if (anchor.isEmpty()) {
+					break;
+				}
+				epochs++;
+				leaves += anchor.get().getLeafCount();
+
+				if (anchor.get().getLeafCount() < MerkleEpochAnchorService.MAX_LEAVES_PER_EPOCH) {
+					break;
+				}
+			}
+
+			if (epochs > 0) {
+				log.info(
+					"SCHED_END job={} epochs={} leaves={} durationMs={}",
+					JOB_NAME, epochs, leaves, System.currentTimeMillis() - startAt
+				);
+			}
+		} catch (Exception ex) {
+			log.error(
+				"SCHED_FAIL job={} durationMs={} error={}",
+				JOB_NAME, System.currentTimeMillis() - startAt, ex.toString(), ex
+			);
+		} finally {
+			schedulerMetrics.recordDuration(JOB_NAME, System.currentTimeMillis() - startAt);
+			MdcContext.removeRunId();
+		}
+	}
+}
@@ -0,0 +1,173 @@
+package com.back.api.ticket.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.back.api.ticket.dto.request.GateScanBatchRequest;
+import com.back.api.ticket.dto.response.GateKeyResponse;
+import com.back.api.ticket.dto.response.GateScanBatchResponse;
+import com.back.api.ticket.dto.response.GateSnapshotResponse;
+import com.back.api.ticket.dto.response.GateTicketEntry;
+import com.back.api.ticket.event.MyTicketsChangedEvent;
+import com.back.api.ticket.event.QrTokenInvalidatedEvent;
+import com.back.api.ticket.event.TicketEntryMarkedEvent;
+import com.back.domain.event.repository.EventRepository;
+import com.back.domain.ticket.entity.Ticket;
+import com.back.domain.ticket.entity.TicketStatus;
+import com.back.domain.ticket.repository.TicketBulkRepository;
+import com.back.domain.ticket.repository.TicketEntryRedisRepository;
+import com.back.domain.ticket.repository.TicketRepository;
+import com.back.global.error.code.EventErrorCode;
+import com.back.global.error.exception.ErrorException;
+import com.back.global.event.EventPublisher;
+import com.back.global.security.QrSigningKeyProvider;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게이트 단말 동기화 서비스
+ * - 게이트는 공개키 + 티켓 스냅샷으로 QR을 오프라인 검증하고, 입장 기록을 배치로 업로드
+ * - 서버는 업로드된 스캔을 Redis 입장 기록(SET NX)으로 정리하여 최초 입장만 확정
+ * - USED 변경은 ISSUED 조건부 UPDATE를 JDBC batch 한 번으로 반영 (티켓별 스캔 시각 유지)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GateSyncService {
+
+	private static final int DEFAULT_SNAPSHOT_SIZE = 1000;
+	private static final int MAX_SNAPSHOT_SIZE = 5000;
+
+	private final TicketRepository ticketRepository;
+	private final TicketBulkRepository ticketBulkRepository;
+	private final EventRepository eventRepository;
+	private final TicketEntryRedisRepository ticketEntryRedisRepository;
+	private final QrSigningKeyProvider qrSigningKeyProvider;
+	private final EventPublisher eventPublisher;
+
+	public GateKeyResponse getVerificationKey() {
+		return new GateKeyResponse(
+			qrSigningKeyProvider.getKeyId(),
+			QrSigningKeyProvider.SIGNATURE_ALGORITHM,
+			qrSigningKeyProvider.getEncodedPublicKey()
+		);
+	}
+
+	/**
+	 * 티켓 유효성 스냅샷 (티켓 ID keyset 페이지)
+	 * 게이트는 nextCursor로 끝까지 받아 로컬 목록을 구성한 뒤 주기적으로 다시 동기화
+	 */
+	@Transactional(readOnly = true)
+	public GateSnapshotResponse getSnapshot(Long eventId, Long cursor, Integer size) {
+		if (!eventRepository.existsById(eventId)) {
+			throw new ErrorException(EventErrorCode.NOT_FOUND_EVENT);
+		}
+
+		int pageSize = size == null ? DEFAULT_SNAPSHOT_SIZE : Math.clamp(size, 1, MAX_SNAPSHOT_SIZE);
+		long afterTicketId = cursor == null ? 0L : cursor;
+
+		List<GateTicketEntry> rows = ticketRepository.findGateSnapshot(eventId, afterTicketId, pageSize + 1);
+		boolean hasNext = rows.size() > pageSize;
+		List<GateTicketEntry> tickets = hasNext ? rows.subList(0, pageSize) : rows;
+		Long nextCursor = hasNext ? tickets.get(tickets.size() - 1).ticketId() : null;
+
+		return new GateSnapshotResponse(eventId, LocalDateTime.now(), tickets, nextCursor, hasNext);
+	}
+
+	/**
+	 * 게이트 스캔 일괄 업로드
+	 * - 같은 티켓이 여러 번 스캔되면 가장 이른 스캔만 입장으로 인정
+	 * - 다른 게이트/온라인 검증으로 이미 입장한 티켓은 duplicates로 반환하여 게이트가 사후 조치
+	 */
+	@Transactional
+	public GateScanBatchResponse ingestScans(Long eventId, GateScanBatchRequest request) {
+		Map<Long, LocalDateTime> firstScans = new LinkedHashMap<>();
+		List<Long> duplicates = new ArrayList<>();
+
+		request.scans().stream()
+			.sorted(Comparator.comparing(GateScanBatchRequest.Scan::scannedAt))
+			.forEach(scan -> {
+				if (firstScans.putIfAbsent(scan.ticketId(), scan.scannedAt()) != null) {
+					duplicates.add(scan.ticketId());
+				}
+			});
+
+		Map<Long, Ticket> tickets = ticketRepository.findAllById(firstScans.keySet()).stream()
+			.collect(Collectors.toMap(Ticket::getId, Function.identity()));
+
+		List<Long> accepted = new ArrayList<>();
+		List<Long> rejected = new ArrayList<>();
+		Map<Long, Long> candidates = new LinkedHashMap<>();
+
+		firstScans.forEach((ticketId, scannedAt) -> {
+			Ticket ticket = tickets.get(ticketId);
+
+			if (ticket == null || !ticket.getEvent().getId().equals(eventId)) {
+				rejected.add(ticketId);
+				return;
+			}
+			if (ticket.getTicketStatus() == TicketStatus.USED) {
+				duplicates.add(ticketId);
+				return;
+			}
+			if (ticket.getTicketStatus() != TicketStatus.ISSUED) {
+				rejected.add(ticketId);
+				return;
+			}
+
+			candidates.put(ticketId, scannedAt.atZone(ZoneId.systemDefault()).toEpochSecond());
+		});
+
+		// 후보 티켓의 SET NX를 파이프라인 한 번으로 전송 (롤백 시 TicketEntryEventHandler가 되돌림)
+		Set<Long> entered = ticketEntryRedisRepository.markEnteredIfAbsent(candidates);
+		if (!entered.isEmpty()) {
+			eventPublisher.publishEvent(TicketEntryMarkedEvent.of(entered));
+		}
+
+		Map<Long, LocalDateTime> usedAtByTicketId = new LinkedHashMap<>();
+		candidates.keySet().stream()
+			.filter(entered::contains)
+			.forEach(ticketId -> usedAtByTicketId.put(ticketId, firstScans.get(ticketId)));
+		Set<Long> updated = ticketBulkRepository.markAsUsedIfIssued(usedAtByTicketId);
+
+		List<Long> notUpdated = new ArrayList<>();
+		candidates.keySet().forEach(ticketId -> {
+			if (!entered.contains(ticketId)) {
+				duplicates.add(ticketId);
+			} else if (!updated.contains(ticketId)) {
+				// 조회 이후 다른 경로로 상태가 바뀐 티켓 - 입장 기록을 되돌리고 거부
+				notUpdated.add(ticketId);
+				rejected.add(ticketId);
+			} else {
+				accepted.add(ticketId);
+			}
+		});
+		ticketEntryRedisRepository.deleteAll(notUpdated);
+
+		if (!accepted.isEmpty()) {
+			eventPublisher.publishEvent(MyTicketsChangedEvent.of(
+				accepted.stream().map(ticketId -> tickets.get(ticketId).getOwner().getId()).toList()
+			));
+			eventPublisher.publishEvent(QrTokenInvalidatedEvent.of(accepted));
+		}
+
+		log.info(
+			"GATE_SCAN_INGEST eventId={} gateId={} received={} accepted={} duplicates={} rejected={}",
+			eventId, request.gateId(), request.scans().size(), accepted.size(), duplicates.size(), rejected.size()
+		);
+
+		return new GateScanBatchResponse(request.scans().size(), accepted, duplicates, rejected);
+	}
+}
@@ -1,12 +1,16 @@
 package com.back.api.ticket.service;
 
 import java.util.List;
+import java.util.stream.IntStream;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.back.api.ticket.dto.response.TransferProofResponse;
 import com.back.domain.ticket.entity.TicketTransferHistory;
 import com.back.domain.ticket.repository.TicketTransferHistoryRepository;
+import com.back.global.error.code.TicketErrorCode;
+import com.back.global.error.exception.ErrorException;
 import com.back.global.utils.MerkleUtil;
 
 import lombok.RequiredArgsConstructor;
@@ -20,7 +24,8 @@ import lombok.extern.slf4j.Slf4j;
  *
  * 사용 시나리오:
  * - 문제 발생 시 특정 티켓의 양도 이력 무결성 검증
- * - Loki에 기록된 Merkle Root와 현재 DB 상태 비교
+ * - 티켓별 frontier Root(ticket_merkle_frontier)와 현재 DB 이력 재계산 결과 비교
+ * - 외부 앵커(Loki)와의 대조는 MerkleEpochAnchorService의 에포크 Proof로 수행
  *
  * 프로덕션 환경 / 추가 구현 시에 해당 서비스 활용해서 양도 이력 검증 구현
  */
@@ -31,28 +36,50 @@ public class MerkleAnchorService {
 
 	private final TicketTransferHistoryRepository transferHistoryRepository;
 
-	// 특정 티켓의 현재 Merkle Root 계산
+	// 특정 티켓의 현재 Merkle Root 계산 (전체 이력 재계산, 양도 시 누산기 Root와 동일)
 	@Transactional(readOnly = true)
 	public String computeTicketMerkleRoot(Long ticketId) {
-		List<TicketTransferHistory> histories =
-			transferHistoryRepository.findByTicketIdOrderByTransferredAtDesc(ticketId);
+		List<byte[]> leaves = loadLeaves(ticketId);
 
-		if (histories.isEmpty()) {
+		if (leaves.isEmpty()) {
 			return "";
 		}
 
-		List<String> hashes = histories.stream()
-			.map(TicketTransferHistory::computeHash)
+		return MerkleUtil.toHex(MerkleUtil.buildDigestRoot(leaves));
+	}
+
+	/**
+	 * 특정 양도 이력의 Merkle Proof 생성
+	 * MerkleUtil.verify(leaf, proof, root)로 전체 이력 없이 포함 여부 검증 가능
+	 */
+	@Transactional(readOnly = true)
+	public TransferProofResponse getTransferProof(Long ticketId, Long historyId) {
+		List<TicketTransferHistory> histories = transferHistoryRepository.findByTicketIdOrderByIdAsc(ticketId);
+
+		int leafIndex = IntStream.range(0, histories.size())
+			.filter(i -> histories.get(i).getId().equals(historyId))
+			.findFirst()
+			.orElseThrow(() -> new ErrorException(TicketErrorCode.TRANSFER_HISTORY_NOT_FOUND));
+
+		List<byte[]> leaves = histories.stream()
+			.map(TicketTransferHistory::computeDigest)
 			.toList();
 
-		return MerkleUtil.buildRoot(hashes);
+		return new TransferProofResponse(
+			ticketId,
+			historyId,
+			leafIndex,
+			MerkleUtil.toHex(leaves.get(leafIndex)),
+			MerkleUtil.toHex(MerkleUtil.buildDigestRoot(leaves)),
+			MerkleUtil.buildProof(leaves, leafIndex)
+		);
 	}
 
 	/**
 	 * 특정 티켓의 Merkle Root 검증
-	 * Loki에 기록된 expectedRoot와 현재 DB 상태 비교
+	 * 기록된 expectedRoot와 현재 DB 상태 비교
 	 *
-	 * @param expectedRoot Loki에서 가져온 예상 Merkle Root
+	 * @param expectedRoot 티켓별 frontier에 저장된 Root 등 예상 Merkle Root
 	 */
 	@Transactional(readOnly = true)
 	public boolean verifyTicketHistory(Long ticketId, String expectedRoot) {
@@ -69,4 +96,10 @@ public class MerkleAnchorService {
 
 		return isValid;
 	}
+
+	private List<byte[]> loadLeaves(Long ticketId) {
+		return transferHistoryRepository.findByTicketIdOrderByIdAsc(ticketId).stream()
+			.map(TicketTransferHistory::computeDigest)
+			.toList();
+	}
 }
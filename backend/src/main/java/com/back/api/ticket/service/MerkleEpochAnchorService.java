@@ -0,0 +1,135 @@
+package com.back.api.ticket.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.back.domain.ticket.entity.MerkleEpochAnchor;
+import com.back.domain.ticket.entity.TicketTransferHistory;
+import com.back.domain.ticket.entity.TransferMerkleProof;
+import com.back.domain.ticket.repository.MerkleEpochAnchorRepository;
+import com.back.domain.ticket.repository.TicketTransferHistoryRepository;
+import com.back.domain.ticket.repository.TransferMerkleProofBulkRepository;
+import com.back.domain.ticket.repository.TransferMerkleProofRepository;
+import com.back.global.error.code.TicketErrorCode;
+import com.back.global.error.exception.ErrorException;
+import com.back.global.utils.MerkleUtil;
+import com.back.global.utils.ParallelMerkleTree;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 양도 이력 에포크 단위 전역 Merkle 앵커링 서비스
+ *
+ * - 에포크 동안 모든 티켓에서 발생한 양도 이력을 하나의 Merkle Tree로 묶어 Root를 에포크당 1회 앵커링
+ * - 트리는 fork-join으로 병렬 생성, Root와 이력별 Proof를 DB에 저장
+ * - 검증은 전체 이력 재계산 대신 저장된 Proof로 에포크 Root까지 해시 (O(log n))
+ * - 양도 요청 경로에서는 앵커링 로그를 남기지 않음 (티켓별 frontier 갱신만 수행)
+ * - 최근 LOOKBACK 동안 저장된 미앵커링 이력을 다시 확인해 늦게 커밋된 이력도 다음 에포크에 포함
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MerkleEpochAnchorService {
+
+	// 에포크당 최대 리프 수 (초과분은 다음 에포크로)
+	public static final int MAX_LEAVES_PER_EPOCH = 50_000;
+
+	// 늦게 커밋된 이력을 다시 확인하는 범위 (트랜잭션 타임아웃보다 충분히 길게)
+	private static final Duration LOOKBACK = Duration.ofMinutes(10);
+
+	private final TicketTransferHistoryRepository transferHistoryRepository;
+	private final MerkleEpochAnchorRepository epochAnchorRepository;
+	private final TransferMerkleProofRepository merkleProofRepository;
+	private final TransferMerkleProofBulkRepository merkleProofBulkRepository;
+
+	/**
+	 * 아직 앵커링되지 않은 cutoff 이전 양도 이력으로 새 에포크 앵커링
+	 *
+	 * @param cutoff 이 시각 이전에 저장된 이력만 포함 (진행 중인 트랜잭션의 이력 누락 방지용 여유)
+	 * @return 앵커링할 이력이 없으면 Optional.empty()
+	 */
+	@Transactional
+	public Optional<MerkleEpochAnchor> anchorEpoch(LocalDateTime cutoff) {
+		long lastHistoryId = epochAnchorRepository.findMaxLastHistoryId();
+
+		List<TicketTransferHistory> histories = transferHistoryRepository.findAnchorTargets(
+			lastHistoryId, cutoff.minus(LOOKBACK), cutoff, Limit.of(MAX_LEAVES_PER_EPOCH)
+		);
+
+		if (histories.isEmpty()) {
+			return Optional.empty();
+		}
+
+		List<byte[]> leaves = histories.stream()
+			.map(TicketTransferHistory::computeDigest)
+			.toList();
+		List<Long> historyIds = histories.stream()
+			.map(TicketTransferHistory::getId)
+			.toList();
+
+		ParallelMerkleTree tree = ParallelMerkleTree.build(leaves);
+
+		MerkleEpochAnchor anchor = epochAnchorRepository.save(
+			MerkleEpochAnchor.builder()
+				.firstHistoryId(historyIds.get(0))
+				.lastHistoryId(historyIds.get(historyIds.size() - 1))
+				.leafCount(leaves.size())
+				.root(MerkleUtil.toHex(tree.root()))
+				.build()
+		);
+
+		merkleProofBulkRepository.insertAll(anchor.getId(), historyIds, tree);
+
+		// 구조화된 로그 - Loki에서 파싱 가능 (외부 앵커, 에포크당 1회)
+		log.info("[MERKLE_EPOCH_ANCHOR] epochId={}, root={}, count={}, firstHistoryId={}, lastHistoryId={}",
+			anchor.getId(),
+			anchor.getRoot(),
+			anchor.getLeafCount(),
+			anchor.getFirstHistoryId(),
+			anchor.getLastHistoryId()
+		);
+
+		return Optional.of(anchor);
+	}
+
+	/**
+	 * 양도 이력 검증 (저장된 Proof -> 에포크 Root)
+	 *
+	 * @param expectedRoot Loki에서 가져온 에포크 Root (null이면 DB에 저장된 Root 사용)
+	 * @return 아직 앵커링되지 않은 이력이면 false
+	 */
+	@Transactional(readOnly = true)
+	public boolean verifyTransfer(Long historyId, String expectedRoot) {
+		TicketTransferHistory history = transferHistoryRepository.findById(historyId)
+			.orElseThrow(() -> new ErrorException(TicketErrorCode.TRANSFER_HISTORY_NOT_FOUND));
+
+		Optional<TransferMerkleProof> proof = merkleProofRepository.findById(historyId);
+		if (proof.isEmpty()) {
+			log.info("[MERKLE_VERIFY_PENDING] historyId={} not anchored yet", historyId);
+			return false;
+		}
+
+		MerkleEpochAnchor anchor = epochAnchorRepository.findById(proof.get().getEpochId())
+			.orElseThrow(() -> new IllegalStateException("epoch anchor missing: " + proof.get().getEpochId()));
+
+		String root = expectedRoot != null ? expectedRoot : anchor.getRoot();
+		boolean isValid = anchor.getRoot().equals(root)
+			&& MerkleUtil.verify(history.computeDigest(), proof.get().toProofNodes(), MerkleUtil.fromHex(root));
+
+		if (!isValid) {
+			log.warn("[MERKLE_VERIFY_FAILED] historyId={}, epochId={}, expected={}, stored={}",
+				historyId, anchor.getId(), root, anchor.getRoot());
+		} else {
+			log.info("[MERKLE_VERIFY_SUCCESS] historyId={}, epochId={}, root={}", historyId, anchor.getId(), root);
+		}
+
+		return isValid;
+	}
+}
@@ -0,0 +1,150 @@
+package com.back.api.ticket.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.back.api.ticket.dto.response.TicketResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 내 티켓 목록 Redis 캐시 (사용자별 read model)
+ * - 티켓 탭 조회는 캐시 우선, miss 시 DB 조회 후 캐싱
+ * - 발급/결제 실패/양도/입장 시 MyTicketsChangedEvent로 커밋 후 무효화
+ * - 무효화 누락 대비 TTL은 짧게 유지 (±10% 지터로 동시 만료 분산)
+ * - Redis 장애 시 DB 조회로 대체 (조회 전용 데이터라 fast-fail 하지 않음)
+ * - 무효화마다 사용자별 세대(generation)를 올리고, miss 시 읽은 세대가 그대로일 때만 캐싱
+ *   (DB 조회와 캐싱 사이에 무효화가 끼어들면 조회 결과가 오래된 것이므로 캐싱하지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MyTicketsCache {
+
+	private static final String KEY_PREFIX = "my_tickets:";
+	private static final String GENERATION_KEY_PREFIX = "my_tickets_gen:";
+	private static final Duration TTL = Duration.ofMinutes(5);
+	// 진행 중인 miss 조회보다 충분히 길게 유지 (만료되면 세대가 달라져 캐싱을 건너뛸 뿐)
+	private static final Duration GENERATION_TTL = Duration.ofHours(1);
+	private static final double JITTER_RATIO = 0.1;
+
+	private static final TypeReference<List<TicketResponse>> TICKET_LIST_TYPE = new TypeReference<>() {
+	};
+
+	// 읽어 둔 세대가 그대로일 때만 저장 (KEYS: 캐시, 세대 / ARGV: 세대, 값, TTL 초)
+	private static final RedisScript<Long> PUT_IF_GENERATION_SCRIPT = new DefaultRedisScript<>(
+		"""
+			local generation = redis.call('GET', KEYS[2]) or ''
+			if generation ~= ARGV[1] then
+				return 0
+			end
+			redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3])
+			return 1
+			""",
+		Long.class
+	);
+
+	// 캐시 삭제와 세대 증가 (KEYS: 캐시, 세대 쌍의 나열 / ARGV: 세대 TTL 초)
+	private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+		"""
+			for i = 1, #KEYS, 2 do
+				redis.call('DEL', KEYS[i])
+				redis.call('INCR', KEYS[i + 1])
+				redis.call('EXPIRE', KEYS[i + 1], ARGV[1])
+			end
+			return 0
+			""",
+		Long.class
+	);
+
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * 캐시 조회, miss 시 loader로 조회 후 캐싱
+	 * - 캐시와 세대를 MGET 한 번으로 읽고, 그 세대가 바뀌지 않았을 때만 loader 결과 저장
+	 */
+	public List<TicketResponse> getOrLoad(Long userId, Supplier<List<TicketResponse>> loader) {
+		String generation;
+		try {
+			List<String> values = redisTemplate.opsForValue()
+				.multiGet(List.of(getKey(userId), getGenerationKey(userId)));
+			if (values == null) {
+				return loader.get();
+			}
+			if (values.get(0) != null) {
+				return objectMapper.readValue(values.get(0), TICKET_LIST_TYPE);
+			}
+			generation = values.get(1) != null ? values.get(1) : "";
+		} catch (Exception e) {
+			log.warn("Failed to read my tickets cache for userId: {}", userId, e);
+			return loader.get();
+		}
+
+		List<TicketResponse> tickets = loader.get();
+		put(userId, generation, tickets);
+		return tickets;
+	}
+
+	public void evictAll(Collection<Long> userIds) {
+		if (userIds.isEmpty()) {
+			return;
+		}
+
+		List<String> keys = new ArrayList<>(userIds.size() * 2);
+		userIds.forEach(userId -> {
+			keys.add(getKey(userId));
+			keys.add(getGenerationKey(userId));
+		});
+
+		try {
+			redisTemplate.execute(EVICT_SCRIPT, keys, String.valueOf(GENERATION_TTL.toSeconds()));
+		} catch (Exception e) {
+			// 무효화 실패 시 로깅만 (TTL 만료 시 자동 삭제됨)
+			log.warn("Failed to evict my tickets cache for userIds: {}", userIds, e);
+		}
+	}
+
+	private void put(Long userId, String generation, List<TicketResponse> tickets) {
+		try {
+			Long stored = redisTemplate.execute(
+				PUT_IF_GENERATION_SCRIPT,
+				List.of(getKey(userId), getGenerationKey(userId)),
+				generation,
+				objectMapper.writeValueAsString(tickets),
+				String.valueOf(getTtlWithJitter().toSeconds())
+			);
+			if (stored == null || stored == 0L) {
+				log.debug("Skip caching my tickets - invalidated during load, userId: {}", userId);
+			}
+		} catch (Exception e) {
+			// 캐싱 실패 시 로깅만 (다음 요청 시 DB에서 조회)
+			log.warn("Failed to cache my tickets for userId: {}", userId, e);
+		}
+	}
+
+	private String getKey(Long userId) {
+		return KEY_PREFIX + userId;
+	}
+
+	private String getGenerationKey(Long userId) {
+		return GENERATION_KEY_PREFIX + userId;
+	}
+
+	private Duration getTtlWithJitter() {
+		double jitter = 1.0 + (ThreadLocalRandom.current().nextDouble() * 2 - 1) * JITTER_RATIO;
+		return Duration.ofSeconds((long)(TTL.toSeconds() * jitter));
+	}
+}
@@ -0,0 +1,129 @@
+package com.back.api.ticket.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.back.api.ticket.dto.response.QrEntryBatchResponse;
+import com.back.api.ticket.dto.response.QrEntryBatchResponse.EntryStatus;
+import com.back.api.ticket.dto.response.QrEntryBatchResponse.QrEntryResult;
+import com.back.api.ticket.event.MyTicketsChangedEvent;
+import com.back.api.ticket.event.QrTokenInvalidatedEvent;
+import com.back.api.ticket.event.TicketEntryMarkedEvent;
+import com.back.domain.ticket.entity.Ticket;
+import com.back.domain.ticket.entity.TicketStatus;
+import com.back.domain.ticket.repository.TicketBulkRepository;
+import com.back.domain.ticket.repository.TicketEntryRedisRepository;
+import com.back.domain.ticket.repository.TicketRepository;
+import com.back.global.error.code.TicketErrorCode;
+import com.back.global.event.EventPublisher;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * QR 일괄 입장 반영 - 단일 트랜잭션 (토큰 서명 검증은 QrService에서 트랜잭션 밖에서 완료)
+ * - 티켓 조회는 IN 쿼리 1회, 입장 기록은 티켓별 SET NX를 파이프라인 1회로 전송
+ * - USED 변경은 ISSUED 조건부 UPDATE batch 1회, 실제 변경된 티켓만 ENTERED (나머지는 입장 기록 되돌림)
+ * - 같은 티켓의 토큰이 배치에 여러 개면 첫 토큰만 입장, 나머지는 ALREADY_ENTERED
+ * - 다른 이벤트의 티켓은 TICKET_NOT_FOUND
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class QrEntryTransactionService {
+
+	private final TicketRepository ticketRepository;
+
+	private final TicketBulkRepository ticketBulkRepository;
+
+	private final TicketEntryRedisRepository ticketEntryRedisRepository;
+
+	private final EventPublisher eventPublisher;
+
+	@Transactional
+	public QrEntryBatchResponse applyEntries(Long eventId, List<QrTokenCheck> checks) {
+		Set<Long> ticketIds = checks.stream()
+			.filter(QrTokenCheck::isValid)
+			.map(check -> check.claims().getTicketId())
+			.collect(Collectors.toSet());
+
+		Map<Long, Ticket> tickets = ticketRepository.findAllById(ticketIds).stream()
+			.filter(ticket -> ticket.getEvent().getId().equals(eventId))
+			.collect(Collectors.toMap(Ticket::getId, Function.identity()));
+
+		LocalDateTime now = LocalDateTime.now();
+		long nowEpoch = now.atZone(ZoneId.systemDefault()).toEpochSecond();
+
+		Map<Long, Long> candidates = new LinkedHashMap<>();
+		tickets.values().stream()
+			.filter(ticket -> ticket.getTicketStatus() == TicketStatus.ISSUED)
+			.forEach(ticket -> candidates.put(ticket.getId(), nowEpoch));
+
+		Set<Long> marked = ticketEntryRedisRepository.markEnteredIfAbsent(candidates);
+		if(!marked.isEmpty()) {
+			// 롤백 시 TicketEntryEventHandler가 입장 기록을 되돌림
+			eventPublisher.publishEvent(TicketEntryMarkedEvent.of(marked));
+		}
+
+		Map<Long, LocalDateTime> usedAtByTicketId = new LinkedHashMap<>();
+		marked.forEach(ticketId -> usedAtByTicketId.put(ticketId, now));
+		Set<Long> entered = ticketBulkRepository.markAsUsedIfIssued(usedAtByTicketId);
+
+		// 조회 이후 다른 경로로 상태가 바뀐 티켓은 입장 기록을 되돌리고 실패로 응답
+		List<Long> notUpdated = marked.stream().filter(ticketId -> !entered.contains(ticketId)).toList();
+		if(!notUpdated.isEmpty()) {
+			log.warn("QR batch entry update mismatch - marked={}, updated={}, notUpdated={}",
+				marked.size(), entered.size(), notUpdated);
+			ticketEntryRedisRepository.deleteAll(notUpdated);
+		}
+
+		if(!entered.isEmpty()) {
+			eventPublisher.publishEvent(MyTicketsChangedEvent.of(
+				entered.stream().map(ticketId -> tickets.get(ticketId).getOwner().getId()).toList()
+			));
+			eventPublisher.publishEvent(QrTokenInvalidatedEvent.of(entered));
+		}
+
+		Set<Long> reported = new HashSet<>();
+		List<QrEntryResult> results = new ArrayList<>(checks.size());
+
+		for(QrTokenCheck check : checks) {
+			if(!check.isValid()) {
+				results.add(new QrEntryResult(null, check.status(), check.message()));
+				continue;
+			}
+
+			Long ticketId = check.claims().getTicketId();
+			Ticket ticket = tickets.get(ticketId);
+
+			if(ticket == null) {
+				results.add(new QrEntryResult(
+					ticketId, EntryStatus.TICKET_NOT_FOUND, TicketErrorCode.TICKET_NOT_FOUND.getMessage()
+				));
+			} else if(ticket.getTicketStatus() != TicketStatus.ISSUED
+				|| (marked.contains(ticketId) && !entered.contains(ticketId))) {
+				results.add(new QrEntryResult(ticketId, EntryStatus.INVALID_TICKET_STATE, "유효하지 않은 티켓 상태입니다."));
+			} else if(entered.contains(ticketId) && reported.add(ticketId)) {
+				results.add(new QrEntryResult(ticketId, EntryStatus.ENTERED, "QR 코드가 유효합니다."));
+			} else {
+				results.add(new QrEntryResult(ticketId, EntryStatus.ALREADY_ENTERED, "이미 입장 처리된 티켓입니다."));
+			}
+		}
+
+		log.info("QR batch entry processed - eventId={}, received={}, entered={}",
+			eventId, checks.size(), entered.size());
+
+		return new QrEntryBatchResponse(checks.size(), entered.size(), results);
+	}
+}
@@ -1,25 +1,35 @@
 package com.back.api.ticket.service;
 
-import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.back.api.ticket.dto.response.QrEntryBatchResponse;
+import com.back.api.ticket.dto.response.QrEntryBatchResponse.EntryStatus;
 import com.back.api.ticket.dto.response.QrTokenResponse;
 import com.back.api.ticket.dto.response.QrValidationResponse;
+import com.back.api.ticket.event.MyTicketsChangedEvent;
+import com.back.api.ticket.event.QrTokenInvalidatedEvent;
+import com.back.api.ticket.event.TicketEntryMarkedEvent;
+import com.back.api.ticket.service.QrTokenCache.CachedQrToken;
 import com.back.domain.ticket.entity.Ticket;
 import com.back.domain.ticket.entity.TicketStatus;
+import com.back.domain.ticket.repository.TicketEntryRedisRepository;
 import com.back.global.error.code.TicketErrorCode;
 import com.back.global.error.exception.ErrorException;
+import com.back.global.event.EventPublisher;
 import com.back.global.properties.SiteProperties;
+import com.back.global.security.QrSigningKeyProvider;
 import com.back.global.security.QrTokenClaims;
 import com.back.global.utils.JwtUtil;
 
@@ -31,26 +41,42 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class QrService {
 
-	private final RedisTemplate<String, String> redisTemplate;
-
 	private final SiteProperties siteProperties;
 
 	private final TicketService ticketService;
 
+	private final TicketEntryRedisRepository ticketEntryRedisRepository;
+
+	private final QrSigningKeyProvider qrSigningKeyProvider;
+
+	private final QrTokenCache qrTokenCache;
+
+	private final EventPublisher eventPublisher;
+
+	private final QrEntryTransactionService qrEntryTransactionService;
+
+	private final Executor qrVerifyExecutor;
+
 	public QrService(
-		@Qualifier("stringTemplate")
-		RedisTemplate<String, String> redisTemplate,
 		SiteProperties siteProperties,
-		TicketService ticketService
+		TicketService ticketService,
+		TicketEntryRedisRepository ticketEntryRedisRepository,
+		QrSigningKeyProvider qrSigningKeyProvider,
+		QrTokenCache qrTokenCache,
+		EventPublisher eventPublisher,
+		QrEntryTransactionService qrEntryTransactionService,
+		@Qualifier("qrVerifyExecutor") Executor qrVerifyExecutor
 	) {
-		this.redisTemplate = redisTemplate;
 		this.siteProperties = siteProperties;
 		this.ticketService = ticketService;
+		this.ticketEntryRedisRepository = ticketEntryRedisRepository;
+		this.qrSigningKeyProvider = qrSigningKeyProvider;
+		this.qrTokenCache = qrTokenCache;
+		this.eventPublisher = eventPublisher;
+		this.qrEntryTransactionService = qrEntryTransactionService;
+		this.qrVerifyExecutor = qrVerifyExecutor;
 	}
 
-	@Value("${custom.jwt.qr-secret}")
-	private String qrSecret;
-
 	private static final long QR_TOKEN_VALIDATE_SECEONDS = 60L; //60초
 
 	private static final String CLAIM_TICKET_ID = "ticketId";
@@ -59,28 +85,28 @@ public class QrService {
 	private static final String CLAIM_IAT = "iat";
 
 	// QR 토큰 발급
-	@Transactional(readOnly = true)
+	// 같은 30초 구간의 재발급은 캐시된 토큰과 티켓 정보로 처리 (트랜잭션/DB 조회/서명 없음)
 	public QrTokenResponse generateQrTokenResponse(Long ticketId, Long userId) {
-		Ticket ticket = ticketService.getTicketDetail(ticketId, userId);
-
-		// ISSUED 상태에서만 QR 발급
-		if(ticket.getTicketStatus() != TicketStatus.ISSUED) {
-			throw new ErrorException(TicketErrorCode.INVALID_TICKET_STATE);
+		long now = Instant.now().getEpochSecond();
+		long window = QrTokenCache.windowOf(now);
+
+		Optional<CachedQrToken> cached = qrTokenCache.get(ticketId, window);
+		if(cached.isPresent()) {
+			CachedQrToken token = cached.get();
+			validateQrIssuable(token.ownerId(), token.ticketStatus(), token.eventDate(), userId);
+			return buildQrTokenResponse(token.qrToken());
 		}
 
-		LocalDateTime now = LocalDateTime.now();
+		Ticket ticket = ticketService.getTicketDetail(ticketId, userId);
 		LocalDateTime eventDate = ticket.getEvent().getEventDate();
+		validateQrIssuable(ticket.getOwner().getId(), ticket.getTicketStatus(), eventDate, userId);
 
-		// 이벤트 시작 전에는 QR 발급 불가
-		if(now.isBefore(eventDate)) {
-			throw new ErrorException(TicketErrorCode.EVENT_NOT_STARTED);
-		}
-
-		String qrToken = generateQrToken(ticket, userId);
-		String qrUrl = buildQrUrl(qrToken);
-
-		return new QrTokenResponse(qrToken, 60, 30, qrUrl);
+		String qrToken = generateQrToken(ticket, userId, now);
+		qrTokenCache.put(ticketId, new CachedQrToken(
+			window, qrToken, ticket.getOwner().getId(), ticket.getTicketStatus(), eventDate
+		));
 
+		return buildQrTokenResponse(qrToken);
 	}
 
 	// QR 입장 검증 및 처리
@@ -99,7 +125,8 @@ public class QrService {
 			);
 		}
 
-		if(isEntered(ticket.getId())) {
+		// 확인과 기록을 SET NX 한 번으로 처리 (동시 스캔 시 한 요청만 입장)
+		if(!ticketEntryRedisRepository.markEnteredIfAbsent(ticket.getId(), Instant.now().getEpochSecond())) {
 			return buildInvalidResponse(
 				ticket,
 				"이미 입장 처리된 티켓입니다.",
@@ -107,34 +134,73 @@ public class QrService {
 			);
 		}
 
-		markAsEntered(ticket.getId());
+		eventPublisher.publishEvent(TicketEntryMarkedEvent.of(List.of(ticket.getId())));
 		ticket.markAsUsed();
+		eventPublisher.publishEvent(MyTicketsChangedEvent.of(ticket.getOwner().getId()));
+		eventPublisher.publishEvent(QrTokenInvalidatedEvent.of(ticket.getId()));
 
 		return buildValidResponse(ticket, claims.getIssuedAt());
 
 	}
 
+	/**
+	 * QR 일괄 입장 처리 (게이트 단말 배치 업로드)
+	 * - 토큰 서명 검증은 CPU 작업이라 트랜잭션 밖에서 qrVerifyExecutor로 병렬 처리 (DB 커넥션 점유 없음)
+	 * - 검증된 토큰의 입장 반영은 QrEntryTransactionService에서 단일 트랜잭션으로 처리
+	 */
+	public QrEntryBatchResponse validateAndProcessEntries(Long eventId, List<String> qrTokens) {
+		List<CompletableFuture<QrTokenCheck>> futures = qrTokens.stream()
+			.map(qrToken -> CompletableFuture.supplyAsync(() -> checkQrToken(qrToken), qrVerifyExecutor))
+			.toList();
+
+		List<QrTokenCheck> checks = futures.stream()
+			.map(CompletableFuture::join)
+			.toList();
+
+		return qrEntryTransactionService.applyEntries(eventId, checks);
+	}
 
-	private String generateQrToken(Ticket ticket, Long userId) {
-		if(!ticket.getOwner().getId().equals(userId)) {
+	private void validateQrIssuable(Long ownerId, TicketStatus status, LocalDateTime eventDate, Long userId) {
+		if(!ownerId.equals(userId)) {
 			throw new ErrorException(TicketErrorCode.UNAUTHORIZED_TICKET_ACCESS);
 		}
 
-		long now = Instant.now().getEpochSecond(); //1970-01-01 00:00:00 UTC 기준 초 단위
+		// ISSUED 상태에서만 QR 발급
+		if(status != TicketStatus.ISSUED) {
+			throw new ErrorException(TicketErrorCode.INVALID_TICKET_STATE);
+		}
+
+		// 이벤트 시작 전에는 QR 발급 불가
+		if(LocalDateTime.now().isBefore(eventDate)) {
+			throw new ErrorException(TicketErrorCode.EVENT_NOT_STARTED);
+		}
+	}
 
-		// JWT 토큰 생성
+	private QrTokenResponse buildQrTokenResponse(String qrToken) {
+		return new QrTokenResponse(qrToken, 60, 30, buildQrUrl(qrToken));
+	}
+
+	// now: 1970-01-01 00:00:00 UTC 기준 초 단위
+	private String generateQrToken(Ticket ticket, Long userId, long now) {
+
+		// JWT 토큰 생성 (Ed25519 서명 - 게이트 단말은 공개키로 오프라인 검증 가능)
 		Map<String, Object> claims = new HashMap<>();
 		claims.put(CLAIM_TICKET_ID, ticket.getId());
 		claims.put(CLAIM_EVENT_ID, ticket.getEvent().getId());
 		claims.put(CLAIM_USER_ID, userId);
 		claims.put(CLAIM_IAT, now);
 
-		return JwtUtil.sign(qrSecret,QR_TOKEN_VALIDATE_SECEONDS,claims);
+		return JwtUtil.sign(
+			qrSigningKeyProvider.getPrivateKey(),
+			qrSigningKeyProvider.getKeyId(),
+			QR_TOKEN_VALIDATE_SECEONDS,
+			claims
+		);
 	}
 
 	private QrTokenClaims validateAndParseQrToken(String qrToken) {
 		try {
-			Map<String, Object> payload = JwtUtil.payloadOrNull(qrToken, qrSecret);
+			Map<String, Object> payload = JwtUtil.payloadOrNull(qrToken, qrSigningKeyProvider.getPublicKey());
 
 			if(payload == null) {
 				log.warn("Invalid QR token: payload is null");
@@ -164,10 +230,16 @@ public class QrService {
 		}
 	}
 
-	// 입장 여부 확인
-	private boolean isEntered(Long ticketId) {
-		String redisKey = buildRedisKey(ticketId);
-		return redisTemplate.opsForValue().get(redisKey) != null;
+	// 일괄 처리용 토큰 검증 (예외 대신 결과로 반환)
+	private QrTokenCheck checkQrToken(String qrToken) {
+		try {
+			return new QrTokenCheck(validateAndParseQrToken(qrToken), null, null);
+		} catch (ErrorException e) {
+			EntryStatus status = e.getErrorCode() == TicketErrorCode.TICKET_QR_TOKEN_EXPIRED
+				? EntryStatus.TOKEN_EXPIRED
+				: EntryStatus.INVALID_TOKEN;
+			return new QrTokenCheck(null, status, e.getErrorCode().getMessage());
+		}
 	}
 
 	// QR URL 생성
@@ -175,25 +247,6 @@ public class QrService {
 		return siteProperties.getFrontUrl() + "/tickets/verify?token=" + qrToken;
 	}
 
-	// 입장 처리 기록 -> Redis
-	private void markAsEntered(Long ticketId) {
-		String redisKey = buildRedisKey(ticketId);
-		String existingEntry = redisTemplate.opsForValue().get(redisKey);
-
-		if(existingEntry != null) {
-			throw new ErrorException(TicketErrorCode.TICKET_ALREADY_ENTERED);
-		}
-
-		// 입장 기록 TTL 24시간
-		redisTemplate.opsForValue().set(
-			redisKey,
-			String.valueOf(Instant.now().getEpochSecond()),
-			Duration.ofHours(24)
-		);
-
-		log.info("Marked ticket {} as entered in Redis", ticketId);
-	}
-
 	private Long getLongValue(Map<String, Object> payload, String key) {
 		Object value = payload.get(key);
 
@@ -204,10 +257,6 @@ public class QrService {
 		}
 	}
 
-	private String buildRedisKey(Long ticketId) {
-		return "entry:ticket:" + ticketId;
-	}
-
 
 	// 유효한 입장 응답 생성
 	private QrValidationResponse buildValidResponse(Ticket ticket, Long issuedAtEpoch) {
@@ -252,4 +301,5 @@ public class QrService {
 			qrIssuedAt
 		);
 	}
+
 }
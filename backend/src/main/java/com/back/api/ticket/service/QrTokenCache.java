@@ -0,0 +1,138 @@
+package com.back.api.ticket.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import com.back.domain.ticket.entity.TicketStatus;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * QR 토큰 발급 캐시 (인스턴스 로컬)
+ * - (ticketId, 30초 구간) 단위로 서명된 토큰과 검증에 필요한 티켓 정보(소유자, 상태, 이벤트 일시)를 보관
+ * - 같은 구간 안의 재발급 요청은 DB 조회와 서명 없이 캐시된 토큰 반환
+ * - 토큰 유효시간(60초)이 구간(30초)보다 길어 캐시된 토큰도 최소 30초 이상 유효
+ * - 양도/입장 시 커밋 후 제거하고 Redis Pub/Sub으로 모든 인스턴스에 무효화 전파
+ * - 상한 도달 시 지난 구간 정리는 구간당 한 번만 수행, 정리 후에도 가득 차면 캐싱하지 않음
+ */
+@Component
+@Slf4j
+public class QrTokenCache implements MessageListener {
+
+	public static final long WINDOW_SECONDS = 30L;
+
+	static final String INVALIDATION_CHANNEL = "qr_token:invalidate";
+
+	private static final int MAX_ENTRIES = 100_000;
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
+
+	private final Map<Long, CachedQrToken> tokens = new ConcurrentHashMap<>();
+	private final AtomicLong lastCleanupWindow = new AtomicLong(-1);
+
+	public QrTokenCache(
+		@Qualifier("stringTemplate") RedisTemplate<String, String> redisTemplate,
+		RedisMessageListenerContainer listenerContainer
+	) {
+		this.redisTemplate = redisTemplate;
+		this.listenerContainer = listenerContainer;
+	}
+
+	@PostConstruct
+	void subscribe() {
+		listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+	}
+
+	public static long windowOf(long epochSecond) {
+		return epochSecond / WINDOW_SECONDS;
+	}
+
+	public Optional<CachedQrToken> get(Long ticketId, long window) {
+		CachedQrToken cached = tokens.get(ticketId);
+		if (cached == null || cached.window() != window) {
+			return Optional.empty();
+		}
+		return Optional.of(cached);
+	}
+
+	public void put(Long ticketId, CachedQrToken token) {
+		if (tokens.size() >= MAX_ENTRIES && !tokens.containsKey(ticketId)) {
+			cleanup(token.window());
+			if (tokens.size() >= MAX_ENTRIES) {
+				// 현재 구간 항목만으로 가득 참 - 캐싱 없이 매번 서명 (다음 구간에 정리)
+				return;
+			}
+		}
+		tokens.put(ticketId, token);
+	}
+
+	public void evict(Long ticketId) {
+		evictAll(List.of(ticketId));
+	}
+
+	/**
+	 * 모든 인스턴스의 캐시에서 제거 (자신은 즉시, 다른 인스턴스는 무효화 메시지로)
+	 * - 일괄 입장 시 메시지 하나에 쉼표로 구분한 ticketId 목록 전송
+	 */
+	public void evictAll(Collection<Long> ticketIds) {
+		if (ticketIds.isEmpty()) {
+			return;
+		}
+		ticketIds.forEach(tokens::remove);
+
+		String payload = ticketIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+		try {
+			redisTemplate.convertAndSend(INVALIDATION_CHANNEL, payload);
+		} catch (Exception e) {
+			// 발행 실패 시 다른 인스턴스의 캐시는 구간이 끝나면 자연 만료
+			log.warn("Failed to publish QR token invalidation for ticketIds: {}", payload, e);
+		}
+	}
+
+	// 다른 인스턴스(자신 포함)의 무효화 메시지 수신
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		try {
+			for (String ticketId : new String(message.getBody(), StandardCharsets.UTF_8).split(",")) {
+				tokens.remove(Long.parseLong(ticketId));
+			}
+		} catch (NumberFormatException e) {
+			log.warn("Invalid QR token invalidation message: {}", message);
+		}
+	}
+
+	// 지난 구간 항목 정리 - 구간당 한 스레드만 전체 순회 (상한 도달 시 매 put마다 O(n) 순회 방지)
+	private void cleanup(long currentWindow) {
+		long last = lastCleanupWindow.get();
+		if (last >= currentWindow || !lastCleanupWindow.compareAndSet(last, currentWindow)) {
+			return;
+		}
+		tokens.values().removeIf(cached -> cached.window() < currentWindow);
+	}
+
+	public record CachedQrToken(
+		long window,
+		String qrToken,
+		Long ownerId,
+		TicketStatus ticketStatus,
+		LocalDateTime eventDate
+	) {
+	}
+}
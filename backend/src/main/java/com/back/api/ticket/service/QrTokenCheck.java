@@ -0,0 +1,12 @@
+package com.back.api.ticket.service;
+
+import com.back.api.ticket.dto.response.QrEntryBatchResponse.EntryStatus;
+import com.back.global.security.QrTokenClaims;
+
+// 일괄 입장 처리용 토큰 검증 결과 (검증 실패 시 claims는 null, status/message에 실패 사유)
+public record QrTokenCheck(QrTokenClaims claims, EntryStatus status, String message) {
+
+	public boolean isValid() {
+		return claims != null;
+	}
+}
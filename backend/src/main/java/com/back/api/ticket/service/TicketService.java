@@ -1,19 +1,31 @@
 package com.back.api.ticket.service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.back.api.seat.dto.response.SeatStatusMessage;
 import com.back.api.seat.service.SeatService;
+import com.back.api.ticket.event.DraftTicketCreatedEvent;
+import com.back.api.ticket.event.MyTicketsChangedEvent;
+import com.back.api.ticket.event.QrTokenInvalidatedEvent;
 import com.back.api.ticket.dto.response.TicketResponse;
 import com.back.domain.event.entity.Event;
 import com.back.domain.event.repository.EventRepository;
+import com.back.domain.seat.entity.SeatStatus;
 import com.back.domain.ticket.entity.Ticket;
+import com.back.domain.ticket.entity.TicketMerkleFrontier;
 import com.back.domain.ticket.entity.TicketStatus;
 import com.back.domain.ticket.entity.TicketTransferHistory;
+import com.back.domain.ticket.repository.ExpiredDraftTicket;
+import com.back.domain.ticket.repository.TicketMerkleFrontierRepository;
 import com.back.domain.ticket.repository.TicketRepository;
 import com.back.domain.ticket.repository.TicketTransferHistoryRepository;
 import com.back.domain.user.entity.User;
@@ -22,8 +34,8 @@ import com.back.global.error.code.CommonErrorCode;
 import com.back.global.error.code.EventErrorCode;
 import com.back.global.error.code.TicketErrorCode;
 import com.back.global.error.exception.ErrorException;
+import com.back.global.event.EventPublisher;
 import com.back.global.observability.metrics.BusinessMetrics;
-import com.back.global.utils.MerkleUtil;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -36,12 +48,18 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class TicketService {
 
+	// Draft 티켓 유지 시간 (생성 후 결제 완료까지)
+	public static final Duration DRAFT_TTL = Duration.ofMinutes(5);
+
 	private final TicketRepository ticketRepository;
 	private final TicketTransferHistoryRepository transferHistoryRepository;
 	private final UserRepository userRepository;
 	private final EventRepository eventRepository;
 	private final SeatService seatService;
 	private final BusinessMetrics businessMetrics;
+	private final TicketMerkleFrontierRepository merkleFrontierRepository;
+	private final MyTicketsCache myTicketsCache;
+	private final EventPublisher eventPublisher;
 
 	/**
 	 * Draft Ticket 조회 또는 생성 (유저+이벤트당 1개 유지)
@@ -66,10 +84,23 @@ public class TicketService {
 					.ticketStatus(TicketStatus.DRAFT)
 					.build();
 
-				return ticketRepository.save(ticket);
+				Ticket saved = ticketRepository.save(ticket);
+				scheduleDraftExpiry(saved);
+				return saved;
 			});
 	}
 
+	/**
+	 * Draft 만료 시각을 지연 큐에 등록 (커밋 후 DraftTicketExpiryEventHandler에서 반영)
+	 * 등록 실패 시 DraftTicketExpirationScheduler 폴링이 처리
+	 * 지연 큐는 만료 워커가 실행되는 perf 프로필에서만 사용 (그 외 프로필에서는 이벤트 수신자 없음)
+	 */
+	public void scheduleDraftExpiry(Ticket ticket) {
+		LocalDateTime createdAt = ticket.getCreateAt() != null ? ticket.getCreateAt() : LocalDateTime.now();
+		long expireAtMillis = createdAt.plus(DRAFT_TTL).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+		eventPublisher.publishEvent(new DraftTicketCreatedEvent(ticket.getId(), expireAtMillis));
+	}
+
 	/**
 	 * 진행 중인 Draft Ticket 조회
 	 */
@@ -109,6 +140,8 @@ public class TicketService {
 		// 좌석 SOLD 처리 (원자적 업데이트)
 		seatService.markSeatAsSold(ticket.getEvent().getId(), ticket.getSeat().getId());
 
+		eventPublisher.publishEvent(MyTicketsChangedEvent.of(userId));
+
 		return ticket;
 	}
 
@@ -128,14 +161,17 @@ public class TicketService {
 		if (ticket.getSeat() != null) {
 			seatService.markSeatAsAvailable(ticket.getEvent().getId(), ticket.getSeat().getId());
 		}
+
+		eventPublisher.publishEvent(MyTicketsChangedEvent.of(ticket.getOwner().getId()));
 	}
 
 	/**
 	 * 내 티켓 목록 조회
+	 * - 사용자별 캐시 우선 (hit 시 트랜잭션/DB 조회 없음)
+	 * - miss 시 (owner_user_id, ticket_status, created_at) 인덱스로 조회 후 캐싱
 	 */
-	@Transactional(readOnly = true)
 	public List<TicketResponse> getMyTickets(Long userId) {
-		return ticketRepository.findMyTicketDto(userId);
+		return myTicketsCache.getOrLoad(userId, () -> ticketRepository.findMyTicketDto(userId));
 	}
 
 	public List<Ticket> getMyIssuedOrPaidTicketsBeforeEvent(Long userId) {
@@ -165,23 +201,40 @@ public class TicketService {
 	}
 
 	/**
-	 * Draft만료 전용 스케줄러 사용하는 메소드
+	 * Draft 티켓 일괄 만료 (만료 워커/스케줄러용)
+	 * - 티켓 FAILED 전환과 좌석 해제를 한 statement로 처리
+	 * - 이미 결제/취소되었거나 존재하지 않는 티켓은 건너뜀
+	 * @return 만료된 티켓 수
 	 */
 	@Transactional
-	public void expireDraftTicket(Long ticketId) {
-		Ticket ticket = ticketRepository.findByIdWithDetails(ticketId)
-			.orElseThrow(() -> new ErrorException(TicketErrorCode.TICKET_NOT_FOUND));
-
-		// 핵심 책임: 상태 변경은 무조건
-		ticket.fail();
-
-		// Draft 티켓 만료 메트릭
-		businessMetrics.draftTicketExpired(ticket.getEvent().getId());
-
-		// 부가 책임: 좌석이 있으면 해제 (원자적 업데이트)
-		if (ticket.getSeat() != null) {
-			seatService.markSeatAsAvailable(ticket.getEvent().getId(), ticket.getSeat().getId());
+	public int expireDraftTickets(List<Long> ticketIds) {
+		if (ticketIds.isEmpty()) {
+			return 0;
 		}
+
+		List<ExpiredDraftTicket> expired = ticketRepository.expireDraftsAndReleaseSeats(ticketIds);
+
+		Map<Long, List<ExpiredDraftTicket>> byEvent = expired.stream()
+			.collect(Collectors.groupingBy(ExpiredDraftTicket::getEventId));
+
+		byEvent.forEach((eventId, tickets) -> {
+			businessMetrics.draftTicketsExpired(eventId, tickets.size());
+
+			List<SeatStatusMessage> releasedSeats = tickets.stream()
+				.filter(row -> row.getSeatId() != null)
+				.map(row -> new SeatStatusMessage(
+					eventId,
+					row.getSeatId(),
+					row.getSeatCode(),
+					SeatStatus.AVAILABLE.name(),
+					row.getPrice(),
+					row.getGrade()
+				))
+				.toList();
+			seatService.publishReleasedSeats(eventId, releasedSeats);
+		});
+
+		return expired.size();
 	}
 
 	public void releaseDraftTicketAndSeat(Long eventId, Long userId) {
@@ -233,33 +286,43 @@ public class TicketService {
 		TicketTransferHistory history = TicketTransferHistory.record(ticketId, fromUserId, target.getId());
 		transferHistoryRepository.save(history);
 
-		// Merkle Root 앵커링 (Loki로 전송됨)
-		anchorTransferHistory(ticketId, history);
+		// 티켓별 Merkle frontier 갱신 (외부 앵커링은 MerkleEpochAnchorScheduler가 에포크 단위로 수행)
+		appendTransferLeaf(ticketId, history);
+
+		// 이전 소유자 기준으로 캐시된 QR 토큰 제거 (커밋 후)
+		eventPublisher.publishEvent(QrTokenInvalidatedEvent.of(ticketId));
+		eventPublisher.publishEvent(MyTicketsChangedEvent.of(fromUserId, target.getId()));
 
 		log.debug("[Ticket Transfer] ticketId={}, from={}, to={}", ticketId, fromUserId, target.getId());
 	}
 
 	/**
-	 * 양도 이력 Merkle Root 앵커링
-	 * 블록체인의 핵심 원리(위변조 감지)를 차용하여
-	 * 외부 로그 시스템(Loki)에 앵커링
+	 * 티켓별 양도 이력 Merkle Root 갱신
+	 * - 티켓별 frontier에 새 이력 리프만 추가 (O(log n) 해시, 전체 이력 재조회 없음)
+	 * - 외부 로그(Loki) 앵커링은 양도마다 하지 않고 에포크 단위로 모아서 수행 (MerkleEpochAnchorService)
 	 */
-	private void anchorTransferHistory(Long ticketId, TicketTransferHistory latestHistory) {
-		List<TicketTransferHistory> histories =
-			transferHistoryRepository.findByTicketIdOrderByTransferredAtDesc(ticketId);
-
-		List<String> hashes = histories.stream()
-			.map(TicketTransferHistory::computeHash)
-			.toList();
+	private void appendTransferLeaf(Long ticketId, TicketTransferHistory latestHistory) {
+		TicketMerkleFrontier merkleFrontier = merkleFrontierRepository.findById(ticketId)
+			.map(existing -> {
+				existing.append(latestHistory.computeDigest());
+				return existing;
+			})
+			.orElseGet(() -> initMerkleFrontier(ticketId));
 
-		String merkleRoot = MerkleUtil.buildRoot(hashes);
+		merkleFrontierRepository.save(merkleFrontier);
 
-		// 구조화된 로그 - Loki에서 파싱 가능 (외부 앵커)
-		log.info("[MERKLE_ANCHOR] ticketId={}, root={}, count={}, latestHash={}",
+		log.debug("[MERKLE_FRONTIER] ticketId={}, root={}, count={}",
 			ticketId,
-			merkleRoot,
-			histories.size(),
-			latestHistory.computeHash()
+			merkleFrontier.getRoot(),
+			merkleFrontier.getLeafCount()
 		);
 	}
+
+	// frontier가 없는 티켓 (첫 양도 또는 누산기 도입 이전 이력): 저장된 전체 이력으로 구성
+	private TicketMerkleFrontier initMerkleFrontier(Long ticketId) {
+		TicketMerkleFrontier merkleFrontier = TicketMerkleFrontier.create(ticketId);
+		transferHistoryRepository.findByTicketIdOrderByIdAsc(ticketId)
+			.forEach(history -> merkleFrontier.append(history.computeDigest()));
+		return merkleFrontier;
+	}
 }
@@ -1,7 +1,10 @@
 package com.back.domain.auth.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
@@ -9,6 +12,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.back.domain.auth.entity.ActiveSession;
+import com.back.domain.event.entity.EventStatus;
+import com.back.domain.queue.entity.QueueEntryStatus;
 
 import jakarta.persistence.LockModeType;
 
@@ -23,4 +28,26 @@ public interface ActiveSessionRepository extends JpaRepository<ActiveSession, Lo
 	@Modifying(flushAutomatically = true, clearAutomatically = true)
 	@Query("delete from ActiveSession a where a.user.id = :userId")
 	void deleteByUserId(@Param("userId") long userId);
+
+	/**
+	 * 지정 상태 이벤트의 대기열에 있는 사용자 세션 (userId keyset 페이지)
+	 */
+	@Query("""
+		SELECT s.user.id AS userId, s.sessionId AS sessionId, s.tokenVersion AS tokenVersion
+		FROM ActiveSession s
+		WHERE s.user.id > :lastUserId
+		AND EXISTS (
+			SELECT 1 FROM QueueEntry q
+			WHERE q.user.id = s.user.id
+			AND q.event.status = :eventStatus
+			AND q.queueEntryStatus IN :queueStatuses
+		)
+		ORDER BY s.user.id
+		""")
+	List<ActiveSessionView> findQueuedSessionsAfter(
+		@Param("lastUserId") long lastUserId,
+		@Param("eventStatus") EventStatus eventStatus,
+		@Param("queueStatuses") Collection<QueueEntryStatus> queueStatuses,
+		Limit limit
+	);
 }
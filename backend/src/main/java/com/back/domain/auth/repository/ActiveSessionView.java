@@ -0,0 +1,11 @@
+package com.back.domain.auth.repository;
+
+// ActiveSession 캐시 warm-up projection
+public interface ActiveSessionView {
+
+	Long getUserId();
+
+	String getSessionId();
+
+	long getTokenVersion();
+}
@@ -55,7 +55,7 @@ public class Order extends BaseEntity {
 
 	private String orderKey;   // merchant_uid(UUID)
 
-	private String orderNumber; // 주문번호 (예: WF4840318933)
+	private String orderNumber; // 주문번호 (예: WFS0000010017, 기존 주문은 WF4840318933)
 
 	private LocalDateTime paidAt;
 
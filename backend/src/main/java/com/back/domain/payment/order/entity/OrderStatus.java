@@ -4,4 +4,5 @@ public enum OrderStatus {
 	PENDING,
 	PAID,
 	FAILED,
+	REFUND_REQUIRED, // PG 승인은 완료되었지만 후속 처리(티켓 발급 등)에 실패 - 환불/수동 확인 대상
 }
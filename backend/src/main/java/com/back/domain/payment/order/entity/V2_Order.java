@@ -75,6 +75,18 @@ public class V2_Order extends BaseEntity {
 		this.paymentKey = paymentKey;
 	}
 
+	/**
+	 * PG 승인 후 후속 처리 실패 (PENDING → REFUND_REQUIRED)
+	 * 결제 대사 대상(PENDING)에서 빠지도록 표시하고 환불에 필요한 paymentKey 보관
+	 */
+	public void markRefundRequired(String paymentKey) {
+		if (this.status != PENDING) {
+			throw new ErrorException(OrderErrorCode.INVALID_ORDER_STATUS);
+		}
+		this.status = OrderStatus.REFUND_REQUIRED;
+		this.paymentKey = paymentKey;
+	}
+
 	/**
 	 * 결제 실패 처리 (PENDING → FAILED)
 	 */
@@ -14,13 +14,22 @@ import com.back.domain.payment.order.entity.OrderStatus;
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
 	@Query("""
-		SELECT o FROM Order o
-		JOIN FETCH o.ticket t
-		JOIN FETCH t.event e
-		JOIN FETCH t.seat s
+		SELECT o.id AS orderId, o.orderKey AS orderKey, o.orderNumber AS orderNumber,
+			o.paymentKey AS paymentKey, o.paidAt AS paidAt, o.status AS orderStatus, o.amount AS amount,
+			t.owner.id AS ownerId, t.id AS ticketId, t.ticketStatus AS ticketStatus,
+			e.id AS eventId, e.title AS eventTitle, e.place AS eventPlace, e.eventDate AS eventDate,
+			s.id AS seatId, s.seatCode AS seatCode, s.grade AS seatGrade, s.price AS seatPrice
+		FROM Order o
+		JOIN o.ticket t
+		JOIN t.event e
+		JOIN t.seat s
 		WHERE o.id = :orderId
 		""")
-	Optional<Order> findByIdWithDetails(@Param("orderId") Long orderId);
+	Optional<PaymentReceiptView> findReceiptById(@Param("orderId") Long orderId);
 
 	Optional<Order> findByTicketIdAndStatus(Long ticketId, OrderStatus orderStatus);
+
+	// 주문번호 블록 시작값 (order_number_seq INCREMENT BY = 블록 크기)
+	@Query(value = "SELECT nextval('order_number_seq')", nativeQuery = true)
+	long nextOrderNumberBlock();
 }
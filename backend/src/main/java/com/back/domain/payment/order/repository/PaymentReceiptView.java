@@ -0,0 +1,47 @@
+package com.back.domain.payment.order.repository;
+
+import java.time.LocalDateTime;
+
+import com.back.domain.payment.order.entity.OrderStatus;
+import com.back.domain.seat.entity.SeatGrade;
+import com.back.domain.ticket.entity.TicketStatus;
+
+// 결제 영수증 조회 projection (엔티티 그래프 대신 필요한 컬럼만 조회)
+public interface PaymentReceiptView {
+
+	Long getOrderId();
+
+	String getOrderKey();
+
+	String getOrderNumber();
+
+	String getPaymentKey();
+
+	LocalDateTime getPaidAt();
+
+	OrderStatus getOrderStatus();
+
+	Long getAmount();
+
+	Long getOwnerId();
+
+	Long getTicketId();
+
+	TicketStatus getTicketStatus();
+
+	Long getEventId();
+
+	String getEventTitle();
+
+	String getEventPlace();
+
+	LocalDateTime getEventDate();
+
+	Long getSeatId();
+
+	String getSeatCode();
+
+	SeatGrade getSeatGrade();
+
+	Integer getSeatPrice();
+}
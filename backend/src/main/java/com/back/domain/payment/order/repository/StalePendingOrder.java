@@ -0,0 +1,15 @@
+package com.back.domain.payment.order.repository;
+
+import java.time.LocalDateTime;
+
+// 결제 대사 대상 PENDING 주문 projection
+public interface StalePendingOrder {
+
+	String getOrderId();
+
+	Long getTicketId();
+
+	Long getUserId();
+
+	LocalDateTime getCreatedAt();
+}
@@ -1,15 +1,69 @@
 package com.back.domain.payment.order.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.back.domain.payment.order.entity.OrderStatus;
 import com.back.domain.payment.order.entity.V2_Order;
+import com.back.domain.payment.payment.entity.PaymentConfirmStatus;
 
 @Repository
 public interface V2_OrderRepository extends JpaRepository<V2_Order, String> {
 
 	Optional<V2_Order> findByTicket_IdAndStatus(Long ticketId, OrderStatus status);
+
+	/**
+	 * 결제 대사 대상 주문 (keyset: orderId 순)
+	 * - createdBefore 이전에 생성되어 아직 status인 주문
+	 * - 비동기 승인 outbox가 처리 중(activeStatuses)인 주문은 워커에 맡기고 제외
+	 */
+	@Query("""
+			SELECT o.orderId AS orderId, t.id AS ticketId, t.owner.id AS userId, o.createAt AS createdAt
+			FROM V2_Order o
+			JOIN o.ticket t
+			WHERE o.status = :status
+			AND o.createAt < :createdBefore
+			AND o.orderId > :lastOrderId
+			AND NOT EXISTS (
+				SELECT 1 FROM PaymentConfirmOutbox ob
+				WHERE ob.orderId = o.orderId
+				AND ob.status IN :activeStatuses
+			)
+			ORDER BY o.orderId
+		""")
+	List<StalePendingOrder> findStaleOrdersAfter(
+		@Param("status") OrderStatus status,
+		@Param("createdBefore") LocalDateTime createdBefore,
+		@Param("lastOrderId") String lastOrderId,
+		@Param("activeStatuses") Collection<PaymentConfirmStatus> activeStatuses,
+		Limit limit
+	);
+
+	/**
+	 * 주문 상태 일괄 변경 (fromStatus인 주문만)
+	 * - 벌크 업데이트라 Auditing이 적용되지 않으므로 modifiedAt을 함께 기록
+	 * @return 변경된 주문 수
+	 */
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query("""
+			UPDATE V2_Order o
+			SET o.status = :toStatus, o.modifiedAt = :now
+			WHERE o.orderId IN :orderIds
+			AND o.status = :fromStatus
+		""")
+	int updateStatusIfMatch(
+		@Param("orderIds") Collection<String> orderIds,
+		@Param("fromStatus") OrderStatus fromStatus,
+		@Param("toStatus") OrderStatus toStatus,
+		@Param("now") LocalDateTime now
+	);
 }
@@ -0,0 +1,111 @@
+package com.back.domain.payment.payment.entity;
+
+import java.time.LocalDateTime;
+
+import com.back.global.entity.BaseEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 결제 승인 요청 outbox
+ * - 승인 요청 접수 시 같은 트랜잭션으로 저장, PG 호출과 후속 처리는 워커가 수행
+ * - 주문당 1건 (중복 요청은 기존 행의 상태 반환)
+ */
+@Entity
+@Table(
+	name = "payment_confirm_outbox",
+	indexes = {
+		@Index(name = "idx_payment_confirm_outbox_status_next", columnList = "status, next_attempt_at")
+	}
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PaymentConfirmOutbox extends BaseEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "order_id", nullable = false, unique = true, length = 36)
+	private String orderId;
+
+	@Column(name = "user_id", nullable = false)
+	private Long userId;
+
+	@Column(name = "ticket_id", nullable = false)
+	private Long ticketId;
+
+	@Column(name = "payment_key", nullable = false)
+	private String paymentKey;
+
+	@Column(name = "amount", nullable = false)
+	private Long amount;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "status", nullable = false, length = 20)
+	private PaymentConfirmStatus status;
+
+	@Column(name = "attempts", nullable = false)
+	private int attempts;
+
+	@Column(name = "next_attempt_at", nullable = false)
+	private LocalDateTime nextAttemptAt;
+
+	@Column(name = "claimed_at")
+	private LocalDateTime claimedAt;
+
+	@Column(name = "failure_code", length = 50)
+	private String failureCode;
+
+	@Builder
+	private PaymentConfirmOutbox(String orderId, Long userId, Long ticketId, String paymentKey, Long amount) {
+		this.orderId = orderId;
+		this.userId = userId;
+		this.ticketId = ticketId;
+		this.paymentKey = paymentKey;
+		this.amount = amount;
+		this.status = PaymentConfirmStatus.PENDING;
+		this.attempts = 0;
+		this.nextAttemptAt = LocalDateTime.now();
+	}
+
+	public void markSucceeded() {
+		this.status = PaymentConfirmStatus.SUCCEEDED;
+		this.failureCode = null;
+	}
+
+	public void markFailed(String failureCode) {
+		this.status = PaymentConfirmStatus.FAILED;
+		this.failureCode = failureCode;
+	}
+
+	// 일시적 PG 장애 - 대기 상태로 되돌리고 nextAttemptAt 이후 재처리
+	public void retryAt(LocalDateTime nextAttemptAt, String failureCode) {
+		this.status = PaymentConfirmStatus.PENDING;
+		this.nextAttemptAt = nextAttemptAt;
+		this.failureCode = failureCode;
+	}
+
+	// PG를 호출하지 못한 선점(bulkhead 포화) - 시도 횟수를 되돌리고 대기 상태로
+	public void requeueWithoutAttempt(LocalDateTime nextAttemptAt) {
+		this.status = PaymentConfirmStatus.PENDING;
+		this.attempts = Math.max(attempts - 1, 0);
+		this.nextAttemptAt = nextAttemptAt;
+	}
+
+	public boolean isFinished() {
+		return status == PaymentConfirmStatus.SUCCEEDED || status == PaymentConfirmStatus.FAILED;
+	}
+}
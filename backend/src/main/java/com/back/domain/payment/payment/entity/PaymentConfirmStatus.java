@@ -0,0 +1,8 @@
+package com.back.domain.payment.payment.entity;
+
+public enum PaymentConfirmStatus {
+	PENDING, // 접수 (워커 처리 대기)
+	PROCESSING, // 워커 처리 중 (PG 호출 ~ 후속 처리)
+	SUCCEEDED, // 결제 승인 + 티켓 발급 완료
+	FAILED // 결제 실패 (재시도 없음)
+}
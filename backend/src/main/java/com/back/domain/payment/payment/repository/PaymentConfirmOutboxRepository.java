@@ -0,0 +1,113 @@
+package com.back.domain.payment.payment.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.back.domain.payment.payment.entity.PaymentConfirmOutbox;
+import com.back.domain.payment.payment.entity.PaymentConfirmStatus;
+
+public interface PaymentConfirmOutboxRepository extends JpaRepository<PaymentConfirmOutbox, Long> {
+
+	Optional<PaymentConfirmOutbox> findByOrderId(String orderId);
+
+	/**
+	 * 처리 대상 outbox ID (재시도 시각이 지난 대기 건, id 순)
+	 */
+	@Query("""
+			SELECT o.id FROM PaymentConfirmOutbox o
+			WHERE o.status = :status
+			AND o.nextAttemptAt <= :now
+			ORDER BY o.id
+		""")
+	List<Long> findDispatchTargets(
+		@Param("status") PaymentConfirmStatus status,
+		@Param("now") LocalDateTime now,
+		Limit limit
+	);
+
+	/**
+	 * 대기 건의 다음 처리 시각 변경 (폴링 전달 lease 설정/해제)
+	 * - 그 사이 워커가 선점했거나 처리가 끝난 행은 변경하지 않음
+	 */
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query("""
+			UPDATE PaymentConfirmOutbox o
+			SET o.nextAttemptAt = :nextAttemptAt,
+			    o.modifiedAt = :now
+			WHERE o.id IN :ids
+			AND o.status = :status
+		""")
+	int updateNextAttemptAt(
+		@Param("ids") Collection<Long> ids,
+		@Param("status") PaymentConfirmStatus status,
+		@Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+		@Param("now") LocalDateTime now
+	);
+
+	/**
+	 * 워커 선점 (fromStatus인 경우에만 toStatus로 변경, 시도 횟수 증가)
+	 * - 여러 워커/인스턴스가 같은 행을 동시에 받아도 1건만 성공 (변경 행 수 1)
+	 * - 벌크 업데이트라 Auditing이 적용되지 않으므로 modifiedAt을 함께 기록
+	 */
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query("""
+			UPDATE PaymentConfirmOutbox o
+			SET o.status = :toStatus,
+			    o.attempts = o.attempts + 1,
+			    o.claimedAt = :now,
+			    o.modifiedAt = :now
+			WHERE o.id = :id
+			AND o.status = :fromStatus
+		""")
+	int claimIfMatch(
+		@Param("id") Long id,
+		@Param("fromStatus") PaymentConfirmStatus fromStatus,
+		@Param("toStatus") PaymentConfirmStatus toStatus,
+		@Param("now") LocalDateTime now
+	);
+
+	/**
+	 * 처리 중 워커가 종료되어 남은 행을 대기 상태로 복구
+	 * - 시도 횟수가 maxAttempts 이상인 행은 복구하지 않음 (반복 실패 - 수동 확인 대상)
+	 */
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query("""
+			UPDATE PaymentConfirmOutbox o
+			SET o.status = :toStatus,
+			    o.nextAttemptAt = :now,
+			    o.modifiedAt = :now
+			WHERE o.status = :fromStatus
+			AND o.claimedAt < :claimedBefore
+			AND o.attempts < :maxAttempts
+		""")
+	int releaseStale(
+		@Param("fromStatus") PaymentConfirmStatus fromStatus,
+		@Param("toStatus") PaymentConfirmStatus toStatus,
+		@Param("claimedBefore") LocalDateTime claimedBefore,
+		@Param("maxAttempts") int maxAttempts,
+		@Param("now") LocalDateTime now
+	);
+
+	/**
+	 * 시도 횟수를 모두 쓴 채 처리 중에 남은 행 (releaseStale 복구 제외 대상)
+	 */
+	@Query("""
+			SELECT o FROM PaymentConfirmOutbox o
+			WHERE o.status = :status
+			AND o.claimedAt < :claimedBefore
+			AND o.attempts >= :maxAttempts
+		""")
+	List<PaymentConfirmOutbox> findStaleExhausted(
+		@Param("status") PaymentConfirmStatus status,
+		@Param("claimedBefore") LocalDateTime claimedBefore,
+		@Param("maxAttempts") int maxAttempts
+	);
+}
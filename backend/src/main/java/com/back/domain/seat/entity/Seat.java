@@ -13,6 +13,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.SequenceGenerator;
@@ -32,11 +33,19 @@ import lombok.NoArgsConstructor;
 			name = "uk_event_grade_seatcode",
 			columnNames = {"event_id", "grade", "seat_code"}
 		)
+	},
+	indexes = {
+		@Index( // 관리자 좌석 목록 정렬/페이징용 (grade, 자연 정렬 키, id tie-breaker)
+			name = "idx_seats_event_grade_sort_key_id",
+			columnList = "event_id, grade, sort_key, id"
+		)
 	}
 )
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class Seat extends BaseEntity {
+	private static final int SORT_KEY_NUMBER_WIDTH = 10;
+
 	@Id
 	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seat_seq")
 	@SequenceGenerator(
@@ -53,6 +62,10 @@ public class Seat extends BaseEntity {
 	@Column(nullable = false, name = "seat_code")
 	private String seatCode;  // 예시) "A1", "B2"
 
+	// 자연 정렬 키: 행 prefix + 10자리 zero-padding 번호 (예: "A12" -> "A0000000012")
+	@Column(nullable = false, name = "sort_key", length = 40)
+	private String sortKey;
+
 	@Enumerated(EnumType.STRING)
 	@Column(nullable = false, name = "grade")
 	private SeatGrade grade;
@@ -93,6 +106,7 @@ public class Seat extends BaseEntity {
 		Seat seat = new Seat();
 		seat.event = event;
 		seat.seatCode = seatCode;
+		seat.sortKey = toSortKey(seatCode);
 		seat.grade = grade;
 		seat.price = price;
 		seat.seatStatus = SeatStatus.AVAILABLE;
@@ -107,6 +121,7 @@ public class Seat extends BaseEntity {
 		Seat seat = new Seat();
 		seat.event = event;
 		seat.seatCode = seatCode;
+		seat.sortKey = toSortKey(seatCode);
 		seat.grade = grade;
 		seat.price = price;
 		seat.seatStatus = SeatStatus.SOLD;
@@ -123,8 +138,35 @@ public class Seat extends BaseEntity {
 
 	public void update(String seatCode, SeatGrade grade, int price, SeatStatus seatStatus) {
 		this.seatCode = seatCode;
+		this.sortKey = toSortKey(seatCode);
 		this.grade = grade;
 		this.price = price;
 		this.seatStatus = seatStatus;
 	}
+
+	/**
+	 * 좌석 코드 -> 자연 정렬 키
+	 * 숫자를 제외한 문자(행)를 앞에, 숫자만 모아 10자리로 zero-padding 하여 뒤에 붙인다.
+	 * 기존 REGEXP_REPLACE 정렬과 동일한 순서를 문자열 비교만으로 얻기 위함
+	 * 10자리를 넘는 번호는 backfill 마이그레이션의 LPAD와 같이 앞 10자리만 사용
+	 */
+	public static String toSortKey(String seatCode) {
+		StringBuilder prefix = new StringBuilder(seatCode.length());
+		StringBuilder number = new StringBuilder(SORT_KEY_NUMBER_WIDTH);
+		for (int i = 0; i < seatCode.length(); i++) {
+			char c = seatCode.charAt(i);
+			if (c >= '0' && c <= '9') {
+				number.append(c);
+			} else {
+				prefix.append(c);
+			}
+		}
+		if (number.length() > SORT_KEY_NUMBER_WIDTH) {
+			number.setLength(SORT_KEY_NUMBER_WIDTH);
+		}
+		for (int i = number.length(); i < SORT_KEY_NUMBER_WIDTH; i++) {
+			prefix.append('0');
+		}
+		return prefix.append(number).toString();
+	}
 }
@@ -0,0 +1,153 @@
+package com.back.domain.seat.repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import com.back.domain.seat.entity.SeatGrade;
+import com.back.domain.seat.entity.SeatStatus;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이벤트별 등급/상태 좌석 수 카운터 (Redis Hash)
+ * - key: seat:{eventId}:availability
+ * - field: {grade}:{status}  예) VIP:AVAILABLE
+ * - 상태 이동/무효화마다 이벤트별 세대(seat:{eventId}:availability_gen)를 올리고,
+ *   재구성은 DB 집계 전에 읽은 세대가 그대로일 때만 저장
+ *   (집계와 저장 사이에 커밋된 이동은 키가 없어 반영되지 못하므로, 그 집계로 덮어쓰면 TTL 동안 틀린 값이 남음)
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class SeatAvailabilityRedisRepository {
+
+	private final StringRedisTemplate redisTemplate;
+
+	private static final String AVAILABILITY_KEY = "seat:%d:availability";
+	private static final String GENERATION_KEY = "seat:%d:availability_gen";
+	private static final Duration TTL = Duration.ofMinutes(30); // 누락/드리프트 자동 복구용
+	// 진행 중인 재구성보다 충분히 길게 유지 (만료되면 세대가 달라져 저장을 건너뛸 뿐)
+	private static final Duration GENERATION_TTL = Duration.ofHours(1);
+
+	// 세대 증가 후 키가 존재할 때만 from -count, to +count (KEYS: 카운터, 세대 / ARGV: from, to, count, 세대 TTL 초)
+	// 키가 없으면 다음 조회 시 DB 기준으로 재구성, 진행 중인 재구성은 세대가 바뀌어 저장하지 않음
+	private static final RedisScript<Long> MOVE_SCRIPT = new DefaultRedisScript<>(
+		"""
+			redis.call('INCR', KEYS[2])
+			redis.call('EXPIRE', KEYS[2], ARGV[4])
+			if redis.call('EXISTS', KEYS[1]) == 0 then
+				return 0
+			end
+			redis.call('HINCRBY', KEYS[1], ARGV[1], -tonumber(ARGV[3]))
+			redis.call('HINCRBY', KEYS[1], ARGV[2], tonumber(ARGV[3]))
+			return 1
+			""",
+		Long.class
+	);
+
+	// 읽어 둔 세대가 그대로일 때만 전체 카운터 교체 (KEYS: 카운터, 세대 / ARGV: 세대, TTL 초, field, value, ...)
+	private static final RedisScript<Long> PUT_ALL_IF_GENERATION_SCRIPT = new DefaultRedisScript<>(
+		"""
+			local generation = redis.call('GET', KEYS[2]) or ''
+			if generation ~= ARGV[1] then
+				return 0
+			end
+			redis.call('DEL', KEYS[1])
+			redis.call('HSET', KEYS[1], unpack(ARGV, 3))
+			redis.call('EXPIRE', KEYS[1], ARGV[2])
+			return 1
+			""",
+		Long.class
+	);
+
+	// 카운터 삭제와 세대 증가 (KEYS: 카운터, 세대 / ARGV: 세대 TTL 초)
+	private static final RedisScript<Long> DELETE_SCRIPT = new DefaultRedisScript<>(
+		"""
+			redis.call('DEL', KEYS[1])
+			redis.call('INCR', KEYS[2])
+			redis.call('EXPIRE', KEYS[2], ARGV[1])
+			return 0
+			""",
+		Long.class
+	);
+
+	// 상태 이동 (AVAILABLE -> RESERVED 등)
+	public boolean move(Long eventId, SeatGrade grade, SeatStatus from, SeatStatus to, long count) {
+		Long result = redisTemplate.execute(
+			MOVE_SCRIPT,
+			List.of(getKey(eventId), getGenerationKey(eventId)),
+			field(grade, from),
+			field(grade, to),
+			String.valueOf(count),
+			String.valueOf(GENERATION_TTL.toSeconds())
+		);
+		return result != null && result == 1L;
+	}
+
+	public Map<Object, Object> findAll(Long eventId) {
+		return redisTemplate.opsForHash().entries(getKey(eventId));
+	}
+
+	// 재구성 전 현재 세대 조회 (DB 집계보다 먼저 읽어야 함, 없으면 빈 문자열)
+	public String getGeneration(Long eventId) {
+		String generation = redisTemplate.opsForValue().get(getGenerationKey(eventId));
+		return generation != null ? generation : "";
+	}
+
+	/**
+	 * DB 집계 결과로 전체 카운터 재구성
+	 * @param generation 집계 전에 읽은 세대 (그 사이 이동/무효화가 있었다면 저장하지 않음)
+	 * @return 저장했으면 true
+	 */
+	public boolean putAllIfGeneration(Long eventId, String generation, Map<String, String> counts) {
+		if (counts.isEmpty()) {
+			return false;
+		}
+
+		List<String> args = new ArrayList<>(counts.size() * 2 + 2);
+		args.add(generation);
+		args.add(String.valueOf(TTL.toSeconds()));
+		counts.forEach((field, count) -> {
+			args.add(field);
+			args.add(count);
+		});
+
+		Long result = redisTemplate.execute(
+			PUT_ALL_IF_GENERATION_SCRIPT,
+			List.of(getKey(eventId), getGenerationKey(eventId)),
+			args.toArray()
+		);
+		boolean stored = result != null && result == 1L;
+		log.debug("Rebuilt seat availability counters - eventId: {}, fields: {}, stored: {}",
+			eventId, counts.size(), stored);
+		return stored;
+	}
+
+	public void delete(Long eventId) {
+		redisTemplate.execute(
+			DELETE_SCRIPT,
+			List.of(getKey(eventId), getGenerationKey(eventId)),
+			String.valueOf(GENERATION_TTL.toSeconds())
+		);
+	}
+
+	public static String field(SeatGrade grade, SeatStatus status) {
+		return grade.name() + ":" + status.name();
+	}
+
+	private String getKey(Long eventId) {
+		return String.format(AVAILABILITY_KEY, eventId);
+	}
+
+	private String getGenerationKey(Long eventId) {
+		return String.format(GENERATION_KEY, eventId);
+	}
+}
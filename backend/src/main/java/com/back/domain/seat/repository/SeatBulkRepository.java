@@ -0,0 +1,87 @@
+package com.back.domain.seat.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Repository;
+
+import com.back.domain.seat.entity.Seat;
+import com.back.domain.seat.entity.SeatStatus;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 좌석 대량 INSERT 전용 JDBC 레포지토리
+ * - 엔티티 라이프사이클/영속성 컨텍스트를 거치지 않고 JDBC batch로 적재
+ * - id는 DB에서 seat_seq로 행마다 발급 (Hibernate pooled 블록과 겹치지 않음), generated keys로 회수
+ * - (event_id, grade, seat_code) 중복은 uk_event_grade_seatcode + ON CONFLICT로 감지
+ */
+@Repository
+@RequiredArgsConstructor
+public class SeatBulkRepository {
+
+	private static final int BATCH_SIZE = 1000;
+
+	private static final String INSERT_SQL = """
+		INSERT INTO seats
+			(id, event_id, seat_code, sort_key, grade, price, seat_status, version, created_at, modified_at)
+		VALUES (nextval('seat_seq'), ?, ?, ?, ?, ?, ?, 0, ?, ?)
+		ON CONFLICT DO NOTHING
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 좌석 일괄 INSERT
+	 * @return 요청 순서대로 발급된 좌석 id (이미 존재하여 INSERT되지 않은 좌석은 null)
+	 */
+	public List<Long> insertAllIgnoringConflicts(Long eventId, List<Seat> seats) {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		List<Long> ids = new ArrayList<>(seats.size());
+
+		for (int from = 0; from < seats.size(); from += BATCH_SIZE) {
+			List<Seat> batch = seats.subList(from, Math.min(from + BATCH_SIZE, seats.size()));
+			GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+
+			int[] results = jdbcTemplate.batchUpdate(
+				con -> con.prepareStatement(INSERT_SQL, new String[] {"id"}),
+				new BatchPreparedStatementSetter() {
+					@Override
+					public void setValues(PreparedStatement ps, int i) throws SQLException {
+						Seat seat = batch.get(i);
+						ps.setLong(1, eventId);
+						ps.setString(2, seat.getSeatCode());
+						ps.setString(3, seat.getSortKey());
+						ps.setString(4, seat.getGrade().name());
+						ps.setInt(5, seat.getPrice());
+						ps.setString(6, SeatStatus.AVAILABLE.name());
+						ps.setTimestamp(7, now);
+						ps.setTimestamp(8, now);
+					}
+
+					@Override
+					public int getBatchSize() {
+						return batch.size();
+					}
+				},
+				keyHolder
+			);
+
+			// 키는 INSERT된 행에 대해서만 순서대로 반환됨 (0: ON CONFLICT로 스킵된 행)
+			Iterator<Map<String, Object>> keys = keyHolder.getKeyList().iterator();
+			for (int updated : results) {
+				ids.add(updated == 0 ? null : ((Number)keys.next().values().iterator().next()).longValue());
+			}
+		}
+		return ids;
+	}
+}
@@ -0,0 +1,14 @@
+package com.back.domain.seat.repository;
+
+import com.back.domain.seat.entity.SeatGrade;
+import com.back.domain.seat.entity.SeatStatus;
+
+// 등급/상태별 좌석 수 집계 projection
+public interface SeatGradeStatusCount {
+
+	SeatGrade getGrade();
+
+	SeatStatus getSeatStatus();
+
+	Long getCount();
+}
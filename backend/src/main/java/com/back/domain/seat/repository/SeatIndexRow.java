@@ -0,0 +1,13 @@
+package com.back.domain.seat.repository;
+
+import com.back.domain.seat.entity.SeatStatus;
+
+// 좌석 가용 인덱스 구성용 projection (id, 좌석 코드, 상태만 조회)
+public interface SeatIndexRow {
+
+	Long getId();
+
+	String getSeatCode();
+
+	SeatStatus getSeatStatus();
+}
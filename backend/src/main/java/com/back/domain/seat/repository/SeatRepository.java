@@ -82,20 +82,64 @@ public interface SeatRepository extends JpaRepository<Seat, Long> {
 	// 관리자 대시보드용 - 이벤트별 특정 상태 좌석 수 조회
 	Long countByEventIdAndSeatStatus(Long eventId, SeatStatus seatStatus);
 
+	// 등급별 좌석 위치/상태 조회 (최적 좌석 인덱스 구성용)
+	@Query("""
+		SELECT s.id AS id, s.seatCode AS seatCode, s.seatStatus AS seatStatus
+		FROM Seat s
+		WHERE s.event.id = :eventId
+		AND s.grade = :grade
+		""")
+	List<SeatIndexRow> findIndexRowsByEventIdAndGrade(
+		@Param("eventId") Long eventId,
+		@Param("grade") SeatGrade grade
+	);
+
+	// 등급/상태별 좌석 수 집계 (Redis 카운터 재구성용)
+	@Query("""
+		SELECT s.grade AS grade, s.seatStatus AS seatStatus, COUNT(s) AS count
+		FROM Seat s
+		WHERE s.event.id = :eventId
+		GROUP BY s.grade, s.seatStatus
+		""")
+	List<SeatGradeStatusCount> countGroupByGradeAndStatus(@Param("eventId") Long eventId);
+
 	// 관리자 대시보드용 - 이벤트별 특정 상태 좌석의 총 판매 금액 조회
 	@Query("SELECT COALESCE(SUM(s.price), 0) FROM Seat s WHERE s.event.id = :eventId AND s.seatStatus = :seatStatus")
 	Long sumPriceByEventIdAndSeatStatus(@Param("eventId") Long eventId, @Param("seatStatus") SeatStatus seatStatus);
 
+	// 관리자 좌석 목록 - (event_id, grade, sort_key) 인덱스 순서로 정렬
+	@Query(
+		value = """
+			SELECT s
+			FROM Seat s
+			WHERE s.event.id = :eventId
+			ORDER BY s.grade ASC, s.sortKey ASC, s.id ASC
+			""",
+		countQuery = """
+			SELECT COUNT(s)
+			FROM Seat s
+			WHERE s.event.id = :eventId
+			"""
+	)
+	Page<Seat> findSortedSeatPageByEventIdForAdmin(
+		@Param("eventId") Long eventId,
+		Pageable pageable
+	);
+
+	// 관리자 좌석 목록 keyset 조회 - 등급 내에서 (sortKey, id) 이후 좌석 (sortKey는 유일하지 않아 id로 구분)
 	@Query("""
 		SELECT s
 		FROM Seat s
 		WHERE s.event.id = :eventId
-		ORDER BY s.grade ASC,
-				 REGEXP_REPLACE(s.seatCode, '[0-9]', '', 'g') ASC,
-				 CAST(REGEXP_REPLACE(s.seatCode, '[^0-9]', '', 'g') AS INTEGER) ASC
+			AND s.grade = :grade
+			AND (s.sortKey, s.id) > (:sortKey, :id)
+		ORDER BY s.sortKey ASC, s.id ASC
 		""")
-	Page<Seat> findSortedSeatPageByEventIdForAdmin(
+	List<Seat> findSeatsByGradeAfterSortKey(
 		@Param("eventId") Long eventId,
+		@Param("grade") SeatGrade grade,
+		@Param("sortKey") String sortKey,
+		@Param("id") Long id,
 		Pageable pageable
 	);
 
@@ -0,0 +1,57 @@
+package com.back.domain.ticket.entity;
+
+import java.time.LocalDateTime;
+
+import com.back.global.entity.BaseEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 에포크 단위 양도 이력 전역 Merkle Root
+ * - 앵커링되지 않은 양도 이력(id 순)을 리프로 사용, [firstHistoryId, lastHistoryId]는 리프 id의 최소/최대
+ * - 늦게 커밋된 이력이 다음 에포크에 포함되므로 구간이 에포크 간에 겹칠 수 있음 (소속은 transfer_merkle_proof 기준)
+ * - 에포크 Root는 외부 로그(Loki)에 에포크당 1회 앵커링
+ */
+@Entity
+@Table(name = "merkle_epoch_anchor")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MerkleEpochAnchor extends BaseEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "first_history_id", nullable = false)
+	private Long firstHistoryId;
+
+	@Column(name = "last_history_id", nullable = false)
+	private Long lastHistoryId;
+
+	@Column(name = "leaf_count", nullable = false)
+	private int leafCount;
+
+	@Column(name = "root", nullable = false, length = 64)
+	private String root;
+
+	@Column(name = "anchored_at", nullable = false)
+	private LocalDateTime anchoredAt;
+
+	@Builder
+	private MerkleEpochAnchor(Long firstHistoryId, Long lastHistoryId, int leafCount, String root) {
+		this.firstHistoryId = firstHistoryId;
+		this.lastHistoryId = lastHistoryId;
+		this.leafCount = leafCount;
+		this.root = root;
+		this.anchoredAt = LocalDateTime.now();
+	}
+}
@@ -17,6 +17,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.SequenceGenerator;
@@ -27,7 +28,15 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "tickets")
+@Table(
+	name = "tickets",
+	indexes = {
+		@Index( // 내 티켓 목록 조회용 (소유자, 상태, 생성 시각)
+			name = "idx_tickets_owner_status_created_at",
+			columnList = "owner_user_id, ticket_status, created_at"
+		)
+	}
+)
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -119,11 +128,16 @@ public class Ticket extends BaseEntity {
 
 	// ISSUED → USED
 	public void markAsUsed() {
+		markAsUsed(LocalDateTime.now());
+	}
+
+	// ISSUED → USED (게이트 오프라인 스캔 시각으로 기록)
+	public void markAsUsed(LocalDateTime usedAt) {
 		if (this.ticketStatus != TicketStatus.ISSUED) {
 			throw new ErrorException(TicketErrorCode.INVALID_TICKET_STATE);
 		}
 		this.ticketStatus = TicketStatus.USED;
-		this.usedAt = LocalDateTime.now();
+		this.usedAt = usedAt;
 	}
 
 	// DRAFT → FAILED (결제 실패)
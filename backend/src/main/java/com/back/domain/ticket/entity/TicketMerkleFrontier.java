@@ -0,0 +1,58 @@
+package com.back.domain.ticket.entity;
+
+import com.back.global.entity.BaseEntity;
+import com.back.global.utils.MerkleAccumulator;
+import com.back.global.utils.MerkleUtil;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 티켓별 양도 이력 Merkle 누산기 상태
+ * - 전체 이력 대신 frontier(레벨별 완전 서브트리 Root)만 저장하여 양도 시 O(log n) 해시로 Root 갱신
+ * - 동시 양도는 티켓 비관락(findByIdForUpdate)으로 직렬화
+ */
+@Entity
+@Table(name = "ticket_merkle_frontier")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TicketMerkleFrontier extends BaseEntity {
+
+	@Id
+	@Column(name = "ticket_id")
+	private Long ticketId;
+
+	@Column(name = "leaf_count", nullable = false)
+	private long leafCount;
+
+	@Column(name = "frontier", nullable = false, length = MerkleAccumulator.MAX_ENCODED_LENGTH)
+	private byte[] frontier;
+
+	@Column(name = "root", nullable = false, length = 64)
+	private String root;
+
+	public static TicketMerkleFrontier create(Long ticketId) {
+		TicketMerkleFrontier merkleFrontier = new TicketMerkleFrontier();
+		merkleFrontier.ticketId = ticketId;
+		merkleFrontier.apply(new MerkleAccumulator());
+		return merkleFrontier;
+	}
+
+	// 양도 이력 리프 추가 후 Root 갱신
+	public void append(byte[] leaf) {
+		MerkleAccumulator accumulator = MerkleAccumulator.restore(leafCount, frontier);
+		accumulator.append(leaf);
+		apply(accumulator);
+	}
+
+	private void apply(MerkleAccumulator accumulator) {
+		this.leafCount = accumulator.getLeafCount();
+		this.frontier = accumulator.encode();
+		this.root = MerkleUtil.toHex(accumulator.root());
+	}
+}
@@ -1,12 +1,10 @@
 package com.back.domain.ticket.entity;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
 import com.back.global.entity.BaseEntity;
+import com.back.global.utils.Sha256Util;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -69,6 +67,11 @@ public class TicketTransferHistory extends BaseEntity {
 	 * 데이터 무결성 검증을 위한 해시값 계산
 	 */
 	public String computeHash() {
+		return Sha256Util.toHex(computeDigest());
+	}
+
+	// Merkle 리프로 사용하는 raw SHA-256 digest
+	public byte[] computeDigest() {
 		String data = String.join(":",
 			String.valueOf(ticketId),
 			String.valueOf(fromUserId),
@@ -76,20 +79,6 @@ public class TicketTransferHistory extends BaseEntity {
 			transferredAt.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
 		);
 
-		try {
-			MessageDigest digest = MessageDigest.getInstance("SHA-256");
-			byte[] hashBytes = digest.digest(data.getBytes(StandardCharsets.UTF_8));
-			return bytesToHex(hashBytes);
-		} catch (NoSuchAlgorithmException e) {
-			throw new RuntimeException("SHA-256 algorithm not available", e);
-		}
-	}
-
-	private String bytesToHex(byte[] bytes) {
-		StringBuilder sb = new StringBuilder();
-		for (byte b : bytes) {
-			sb.append(String.format("%02x", b));
-		}
-		return sb.toString();
+		return Sha256Util.digest(data);
 	}
 }
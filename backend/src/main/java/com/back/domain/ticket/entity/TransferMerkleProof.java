@@ -0,0 +1,54 @@
+package com.back.domain.ticket.entity;
+
+import java.util.List;
+
+import com.back.global.entity.BaseEntity;
+import com.back.global.utils.MerkleUtil;
+import com.back.global.utils.ParallelMerkleTree;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 양도 이력별 에포크 Merkle Proof
+ * - siblings: 형제 digest를 리프 -> Root 순서로 이어 붙인 값
+ * - left_mask: i번째 형제가 왼쪽이면 i번째 비트 1
+ * - 저장은 TransferMerkleProofBulkRepository(JDBC batch)로 수행
+ */
+@Entity
+@Table(
+	name = "transfer_merkle_proof",
+	indexes = {
+		@Index(name = "idx_transfer_merkle_proof_epoch_id", columnList = "epoch_id")
+	}
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TransferMerkleProof extends BaseEntity {
+
+	@Id
+	@Column(name = "history_id")
+	private Long historyId;
+
+	@Column(name = "epoch_id", nullable = false)
+	private Long epochId;
+
+	@Column(name = "leaf_index", nullable = false)
+	private int leafIndex;
+
+	@Column(name = "siblings", nullable = false, length = 1024)
+	private byte[] siblings;
+
+	@Column(name = "left_mask", nullable = false)
+	private long leftMask;
+
+	public List<MerkleUtil.ProofNode> toProofNodes() {
+		return ParallelMerkleTree.decodeProof(siblings, leftMask);
+	}
+}
@@ -0,0 +1,57 @@
+package com.back.domain.ticket.repository;
+
+import java.util.List;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Draft 티켓 만료 지연 큐 (Redis Sorted Set)
+ * - key: ticket:draft:expiry
+ * - member: ticketId, score: 만료 시각 (epoch millis)
+ */
+@Repository
+@RequiredArgsConstructor
+public class DraftTicketExpiryRedisRepository {
+
+	private static final String EXPIRY_KEY = "ticket:draft:expiry";
+
+	// 만료 시각이 지난 항목을 limit개 꺼내면서 즉시 제거 (여러 인스턴스가 동시에 꺼내도 중복 처리 없음)
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>(
+		"""
+			local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2])
+			if #ids > 0 then
+				redis.call('ZREM', KEYS[1], unpack(ids))
+			end
+			return ids
+			""",
+		List.class
+	);
+
+	private final StringRedisTemplate redisTemplate;
+
+	// 만료 시각 등록 (이미 있으면 갱신)
+	public void schedule(Long ticketId, long expireAtMillis) {
+		redisTemplate.opsForZSet().add(EXPIRY_KEY, ticketId.toString(), expireAtMillis);
+	}
+
+	public List<Long> claimDue(long nowMillis, int limit) {
+		List<?> ids = redisTemplate.execute(
+			CLAIM_SCRIPT,
+			List.of(EXPIRY_KEY),
+			String.valueOf(nowMillis),
+			String.valueOf(limit)
+		);
+		if (ids == null) {
+			return List.of();
+		}
+		return ids.stream()
+			.map(id -> Long.valueOf(id.toString()))
+			.toList();
+	}
+}
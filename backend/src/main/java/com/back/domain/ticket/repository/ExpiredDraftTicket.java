@@ -0,0 +1,17 @@
+package com.back.domain.ticket.repository;
+
+// Draft 일괄 만료 결과 projection (좌석이 없거나 이미 해제된 경우 seat 필드는 null)
+public interface ExpiredDraftTicket {
+
+	Long getTicketId();
+
+	Long getEventId();
+
+	Long getSeatId();
+
+	String getSeatCode();
+
+	String getGrade();
+
+	Integer getPrice();
+}
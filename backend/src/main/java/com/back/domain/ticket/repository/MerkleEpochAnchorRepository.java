@@ -0,0 +1,13 @@
+package com.back.domain.ticket.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import com.back.domain.ticket.entity.MerkleEpochAnchor;
+
+public interface MerkleEpochAnchorRepository extends JpaRepository<MerkleEpochAnchor, Long> {
+
+	// 앵커링된 가장 큰 이력 id (늦게 커밋된 이력만 담은 에포크는 lastHistoryId가 이전 에포크보다 작을 수 있음)
+	@Query("SELECT COALESCE(MAX(a.lastHistoryId), 0) FROM MerkleEpochAnchor a")
+	long findMaxLastHistoryId();
+}
@@ -0,0 +1,70 @@
+package com.back.domain.ticket.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 티켓 입장 처리 전용 JDBC 레포지토리
+ * - 티켓별 입장 시각이 달라 단일 JPQL UPDATE로 표현할 수 없으므로 조건부 UPDATE를 JDBC batch 한 번으로 전송
+ * - 행별 update count로 실제 변경된 티켓만 식별 (조회 이후 다른 경로로 상태가 바뀐 티켓 제외)
+ * - @Modifying(flushAutomatically, clearAutomatically)와 같이 실행 전 flush, 실행 후 영속성 컨텍스트 clear
+ */
+@Repository
+@RequiredArgsConstructor
+public class TicketBulkRepository {
+
+	private static final String MARK_AS_USED_SQL = """
+		UPDATE tickets
+		SET ticket_status = 'USED', used_at = ?, modified_at = ?
+		WHERE id = ?
+		AND ticket_status = 'ISSUED'
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final EntityManager entityManager;
+
+	/**
+	 * ISSUED 티켓을 USED로 일괄 변경
+	 * @param usedAtByTicketId 티켓 ID -> 입장 시각
+	 * @return 실제로 USED로 변경된 티켓 ID
+	 */
+	public Set<Long> markAsUsedIfIssued(Map<Long, LocalDateTime> usedAtByTicketId) {
+		if (usedAtByTicketId.isEmpty()) {
+			return Set.of();
+		}
+
+		List<Long> ticketIds = new ArrayList<>(usedAtByTicketId.keySet());
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+		entityManager.flush();
+		int[][] results = jdbcTemplate.batchUpdate(MARK_AS_USED_SQL, ticketIds, ticketIds.size(), (ps, ticketId) -> {
+			ps.setTimestamp(1, Timestamp.valueOf(usedAtByTicketId.get(ticketId)));
+			ps.setTimestamp(2, now);
+			ps.setLong(3, ticketId);
+		});
+		entityManager.clear();
+
+		Set<Long> updated = new HashSet<>();
+		int index = 0;
+		for (int[] batch : results) {
+			for (int count : batch) {
+				if (count > 0) {
+					updated.add(ticketIds.get(index));
+				}
+				index++;
+			}
+		}
+		return updated;
+	}
+}
@@ -0,0 +1,90 @@
+package com.back.domain.ticket.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 티켓 입장 기록 (Redis String)
+ * - key: entry:ticket:{ticketId}
+ * - value: 입장 시각 (epoch seconds)
+ */
+@Repository
+@RequiredArgsConstructor
+public class TicketEntryRedisRepository {
+
+	private static final String ENTRY_KEY = "entry:ticket:%d";
+	private static final Duration TTL = Duration.ofHours(24);
+
+	private final StringRedisTemplate redisTemplate;
+
+	// 최초 입장일 때만 기록 (SET NX), 이미 기록이 있으면 false
+	public boolean markEnteredIfAbsent(Long ticketId, long enteredAtEpochSecond) {
+		Boolean result = redisTemplate.opsForValue()
+			.setIfAbsent(getKey(ticketId), String.valueOf(enteredAtEpochSecond), TTL);
+		return Boolean.TRUE.equals(result);
+	}
+
+	/**
+	 * 여러 티켓 입장 기록 (티켓별 SET NX를 파이프라인 한 번으로 전송)
+	 * @param enteredAtByTicketId 티켓 ID -> 입장 시각 (epoch seconds)
+	 * @return 이번 호출로 최초 입장이 기록된 티켓 ID
+	 */
+	public Set<Long> markEnteredIfAbsent(Map<Long, Long> enteredAtByTicketId) {
+		if (enteredAtByTicketId.isEmpty()) {
+			return Set.of();
+		}
+
+		List<Long> ticketIds = new ArrayList<>(enteredAtByTicketId.keySet());
+		Expiration expiration = Expiration.from(TTL);
+
+		List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			for (Long ticketId : ticketIds) {
+				connection.stringCommands().set(
+					getKey(ticketId).getBytes(StandardCharsets.UTF_8),
+					String.valueOf(enteredAtByTicketId.get(ticketId)).getBytes(StandardCharsets.UTF_8),
+					expiration,
+					RedisStringCommands.SetOption.ifAbsent()
+				);
+			}
+			return null;
+		});
+
+		Set<Long> entered = new HashSet<>();
+		for (int i = 0; i < ticketIds.size(); i++) {
+			if (Boolean.TRUE.equals(results.get(i))) {
+				entered.add(ticketIds.get(i));
+			}
+		}
+		return entered;
+	}
+
+	public void delete(Long ticketId) {
+		redisTemplate.delete(getKey(ticketId));
+	}
+
+	// DB 반영에 실패한 입장 기록 되돌리기
+	public void deleteAll(Collection<Long> ticketIds) {
+		if (ticketIds.isEmpty()) {
+			return;
+		}
+		redisTemplate.delete(ticketIds.stream().map(this::getKey).toList());
+	}
+
+	private String getKey(Long ticketId) {
+		return String.format(ENTRY_KEY, ticketId);
+	}
+}
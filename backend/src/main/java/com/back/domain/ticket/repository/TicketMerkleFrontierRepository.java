@@ -0,0 +1,8 @@
+package com.back.domain.ticket.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.back.domain.ticket.entity.TicketMerkleFrontier;
+
+public interface TicketMerkleFrontierRepository extends JpaRepository<TicketMerkleFrontier, Long> {
+}
@@ -4,8 +4,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
@@ -24,25 +23,21 @@ public interface TicketRepository extends JpaRepository<Ticket, Long>, TicketRep
 	@Query("SELECT t FROM Ticket t JOIN FETCH t.owner WHERE t.id = :ticketId")
 	Optional<Ticket> findByIdForUpdate(@Param("ticketId") Long ticketId);
 
-	@Query(
-		value = """
-				SELECT t
-				FROM Ticket t
-				WHERE t.ticketStatus = :status
-				AND t.createAt < :time
-				ORDER BY t.id
-			""",
-		countQuery = """
-				SELECT COUNT(t)
-				FROM Ticket t
-				WHERE t.ticketStatus = :status
-				AND t.createAt < :time
-			"""
-	)
-	Page<Ticket> findExpiredDraftTickets(
+	// 만료 대상 Draft 티켓 id keyset 조회 (id > lastId, COUNT 없음)
+	// idx_tickets_draft_id_created_at (WHERE ticket_status = 'DRAFT') 부분 인덱스 사용
+	@Query("""
+			SELECT t.id
+			FROM Ticket t
+			WHERE t.ticketStatus = :status
+			AND t.createAt < :time
+			AND t.id > :lastId
+			ORDER BY t.id
+		""")
+	List<Long> findExpiredDraftTicketIdsAfter(
 		@Param("status") TicketStatus status,
 		@Param("time") LocalDateTime time,
-		Pageable pageable
+		@Param("lastId") Long lastId,
+		Limit limit
 	);
 
 	Optional<Ticket> findBySeatIdAndOwnerIdAndTicketStatus(Long seatId, Long userId, TicketStatus ticketStatus);
@@ -54,4 +49,33 @@ public interface TicketRepository extends JpaRepository<Ticket, Long>, TicketRep
 		+ "LEFT JOIN FETCH t.seat s "
 		+ "WHERE t.id = :ticketId")
 	Optional<Ticket> findByIdWithDetails(@Param("ticketId") Long ticketId);
+
+	/**
+	 * Draft 티켓 일괄 만료 + 좌석 해제 (단일 statement)
+	 * - 아직 DRAFT인 티켓만 FAILED로 변경
+	 * - 해당 티켓의 RESERVED 좌석을 AVAILABLE로 변경 (version 증가)
+	 * - 만료된 티켓과 해제된 좌석 정보를 반환
+	 */
+	@Query(value = """
+		WITH expired AS (
+			UPDATE tickets
+			SET ticket_status = 'FAILED', modified_at = now()
+			WHERE id IN (:ticketIds)
+			AND ticket_status = 'DRAFT'
+			RETURNING id, event_id, seat_id
+		),
+		released AS (
+			UPDATE seats s
+			SET seat_status = 'AVAILABLE', version = s.version + 1, modified_at = now()
+			FROM expired e
+			WHERE s.id = e.seat_id
+			AND s.seat_status = 'RESERVED'
+			RETURNING s.id, s.seat_code, s.grade, s.price
+		)
+		SELECT e.id AS ticketId, e.event_id AS eventId,
+			r.id AS seatId, r.seat_code AS seatCode, r.grade AS grade, r.price AS price
+		FROM expired e
+		LEFT JOIN released r ON r.id = e.seat_id
+		""", nativeQuery = true)
+	List<ExpiredDraftTicket> expireDraftsAndReleaseSeats(@Param("ticketIds") List<Long> ticketIds);
 }
@@ -3,6 +3,7 @@ package com.back.domain.ticket.repository;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import com.back.api.ticket.dto.response.GateTicketEntry;
 import com.back.api.ticket.dto.response.TicketResponse;
 import com.back.domain.ticket.entity.Ticket;
 
@@ -11,4 +12,6 @@ public interface TicketRepositoryCustom {
 	List<TicketResponse> findMyTicketDto(Long userId);
 
 	List<Ticket> findIssuedOrPaidBeforeEvent(Long userId, LocalDateTime now);
+
+	List<GateTicketEntry> findGateSnapshot(Long eventId, Long afterTicketId, int limit);
 }
@@ -9,6 +9,7 @@ import java.util.List;
 
 import org.springframework.stereotype.Repository;
 
+import com.back.api.ticket.dto.response.GateTicketEntry;
 import com.back.api.ticket.dto.response.TicketResponse;
 import com.back.domain.ticket.entity.Ticket;
 import com.back.domain.ticket.entity.TicketStatus;
@@ -67,4 +68,27 @@ public class TicketRepositoryImpl implements TicketRepositoryCustom {
 			)
 			.fetch();
 	}
+
+	/**
+	 * 게이트 스냅샷 (입장 가능/완료 티켓) - 티켓 ID keyset 순회
+	 */
+	@Override
+	public List<GateTicketEntry> findGateSnapshot(Long eventId, Long afterTicketId, int limit) {
+		return jpaQueryFactory
+			.select(Projections.constructor(
+				GateTicketEntry.class,
+				ticket.id,
+				ticket.owner.id,
+				ticket.ticketStatus
+			))
+			.from(ticket)
+			.where(
+				ticket.event.id.eq(eventId),
+				ticket.ticketStatus.in(TicketStatus.ISSUED, TicketStatus.USED),
+				ticket.id.gt(afterTicketId)
+			)
+			.orderBy(ticket.id.asc())
+			.limit(limit)
+			.fetch();
+	}
 }
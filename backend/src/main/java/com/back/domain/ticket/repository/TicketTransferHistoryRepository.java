@@ -1,12 +1,41 @@
 package com.back.domain.ticket.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.back.domain.ticket.entity.TicketTransferHistory;
 
 public interface TicketTransferHistoryRepository extends JpaRepository<TicketTransferHistory, Long> {
 
 	List<TicketTransferHistory> findByTicketIdOrderByTransferredAtDesc(Long ticketId);
+
+	// Merkle 리프 순서 (추가 순서)
+	List<TicketTransferHistory> findByTicketIdOrderByIdAsc(Long ticketId);
+
+	/**
+	 * 에포크 앵커링 대상 (cutoff 이전 저장분 중 Proof가 없는 이력을 id 순으로)
+	 * - 마지막 앵커 이후 id와 함께 lookbackFrom 이후 저장분도 다시 확인
+	 * - id는 커밋 순서가 아니므로 늦게 커밋되어 더 큰 id 뒤에 보이게 된 이력도 다음 에포크에 포함
+	 */
+	@Query("""
+			SELECT h
+			FROM TicketTransferHistory h
+			WHERE (h.id > :lastId OR h.createAt >= :lookbackFrom)
+			AND h.createAt <= :cutoff
+			AND NOT EXISTS (
+				SELECT 1 FROM TransferMerkleProof p WHERE p.historyId = h.id
+			)
+			ORDER BY h.id
+		""")
+	List<TicketTransferHistory> findAnchorTargets(
+		@Param("lastId") Long lastId,
+		@Param("lookbackFrom") LocalDateTime lookbackFrom,
+		@Param("cutoff") LocalDateTime cutoff,
+		Limit limit
+	);
 }
@@ -0,0 +1,51 @@
+package com.back.domain.ticket.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.back.global.utils.ParallelMerkleTree;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 에포크 Merkle Proof 대량 INSERT 전용 JDBC 레포지토리
+ * - history_id가 할당 id라 JPA save 시 행마다 SELECT가 발생하므로 JDBC batch로 적재
+ */
+@Repository
+@RequiredArgsConstructor
+public class TransferMerkleProofBulkRepository {
+
+	private static final int BATCH_SIZE = 1000;
+
+	private static final String INSERT_SQL = """
+		INSERT INTO transfer_merkle_proof
+			(history_id, epoch_id, leaf_index, siblings, left_mask, created_at, modified_at)
+		VALUES (?, ?, ?, ?, ?, ?, ?)
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * @param historyIds 리프 순서의 양도 이력 ID (i번째 이력의 Proof는 tree.encodedProofOf(i))
+	 */
+	public void insertAll(Long epochId, List<Long> historyIds, ParallelMerkleTree tree) {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		List<Integer> leafIndexes = IntStream.range(0, historyIds.size()).boxed().toList();
+
+		jdbcTemplate.batchUpdate(INSERT_SQL, leafIndexes, BATCH_SIZE, (ps, leafIndex) -> {
+			ParallelMerkleTree.EncodedProof proof = tree.encodedProofOf(leafIndex);
+			ps.setLong(1, historyIds.get(leafIndex));
+			ps.setLong(2, epochId);
+			ps.setInt(3, leafIndex);
+			ps.setBytes(4, proof.siblings());
+			ps.setLong(5, proof.leftMask());
+			ps.setTimestamp(6, now);
+			ps.setTimestamp(7, now);
+		});
+	}
+}
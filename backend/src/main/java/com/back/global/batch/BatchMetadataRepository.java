@@ -0,0 +1,86 @@
+package com.back.global.batch;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Spring Batch 메타데이터 정리 전용 JDBC 레포지토리
+ * - 주기 실행 job은 실행마다 job instance가 하나씩 쌓이므로 보관 기간이 지난 실행 이력 삭제
+ * - 종료된(END_TIME 존재) 실행만 대상, FK 순서(step context → step → job context/params → job execution → instance)
+ */
+@Repository
+@RequiredArgsConstructor
+public class BatchMetadataRepository {
+
+	private static final String TARGET_EXECUTIONS = """
+		SELECT e.JOB_EXECUTION_ID
+		FROM BATCH_JOB_EXECUTION e
+		JOIN BATCH_JOB_INSTANCE i ON i.JOB_INSTANCE_ID = e.JOB_INSTANCE_ID
+		WHERE i.JOB_NAME = ?
+		AND e.END_TIME IS NOT NULL
+		AND e.CREATE_TIME < ?
+		""";
+
+	private static final String DELETE_STEP_EXECUTION_CONTEXT_SQL = """
+		DELETE FROM BATCH_STEP_EXECUTION_CONTEXT
+		WHERE STEP_EXECUTION_ID IN (
+			SELECT s.STEP_EXECUTION_ID FROM BATCH_STEP_EXECUTION s
+			WHERE s.JOB_EXECUTION_ID IN (%s)
+		)
+		""".formatted(TARGET_EXECUTIONS);
+
+	private static final String DELETE_STEP_EXECUTION_SQL = """
+		DELETE FROM BATCH_STEP_EXECUTION
+		WHERE JOB_EXECUTION_ID IN (%s)
+		""".formatted(TARGET_EXECUTIONS);
+
+	private static final String DELETE_JOB_EXECUTION_CONTEXT_SQL = """
+		DELETE FROM BATCH_JOB_EXECUTION_CONTEXT
+		WHERE JOB_EXECUTION_ID IN (%s)
+		""".formatted(TARGET_EXECUTIONS);
+
+	private static final String DELETE_JOB_EXECUTION_PARAMS_SQL = """
+		DELETE FROM BATCH_JOB_EXECUTION_PARAMS
+		WHERE JOB_EXECUTION_ID IN (%s)
+		""".formatted(TARGET_EXECUTIONS);
+
+	private static final String DELETE_JOB_EXECUTION_SQL = """
+		DELETE FROM BATCH_JOB_EXECUTION
+		WHERE JOB_EXECUTION_ID IN (%s)
+		""".formatted(TARGET_EXECUTIONS);
+
+	private static final String DELETE_ORPHAN_JOB_INSTANCE_SQL = """
+		DELETE FROM BATCH_JOB_INSTANCE i
+		WHERE i.JOB_NAME = ?
+		AND NOT EXISTS (
+			SELECT 1 FROM BATCH_JOB_EXECUTION e
+			WHERE e.JOB_INSTANCE_ID = i.JOB_INSTANCE_ID
+		)
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * cutoff 이전에 생성되어 종료된 jobName의 실행 이력 삭제
+	 * @return 삭제된 job execution 수
+	 */
+	@Transactional
+	public int deleteFinishedBefore(String jobName, LocalDateTime cutoff) {
+		Timestamp before = Timestamp.valueOf(cutoff);
+
+		jdbcTemplate.update(DELETE_STEP_EXECUTION_CONTEXT_SQL, jobName, before);
+		jdbcTemplate.update(DELETE_STEP_EXECUTION_SQL, jobName, before);
+		jdbcTemplate.update(DELETE_JOB_EXECUTION_CONTEXT_SQL, jobName, before);
+		jdbcTemplate.update(DELETE_JOB_EXECUTION_PARAMS_SQL, jobName, before);
+		int deleted = jdbcTemplate.update(DELETE_JOB_EXECUTION_SQL, jobName, before);
+		jdbcTemplate.update(DELETE_ORPHAN_JOB_INSTANCE_SQL, jobName);
+
+		return deleted;
+	}
+}
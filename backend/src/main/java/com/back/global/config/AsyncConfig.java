@@ -1,6 +1,7 @@
 package com.back.global.config;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -25,4 +26,55 @@ public class AsyncConfig {
 		executor.initialize();
 		return executor;
 	}
+
+	/*
+	결제 승인 워커 (PaymentConfirmWorker) - PG 응답 대기를 요청 스레드와 분리
+	큐가 가득 차면 거절하고 outbox 폴링 스케줄러가 다시 전달
+	 */
+	@Bean(name = "paymentConfirmExecutor")
+	public Executor paymentConfirmExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+		executor.setCorePoolSize(16);
+		executor.setMaxPoolSize(32);
+		executor.setQueueCapacity(500);
+		executor.setThreadNamePrefix("payment-confirm-");
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(30);
+		executor.initialize();
+		return executor;
+	}
+
+	/*
+	결제 대사 PG 조회 (PaymentReconcileWriter) - 동시 조회 수를 풀 크기로 제한
+	청크 단위로 제출하므로 큐는 청크 크기만큼만 필요
+	 */
+	@Bean(name = "paymentReconcileExecutor")
+	public Executor paymentReconcileExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+		executor.setCorePoolSize(8);
+		executor.setMaxPoolSize(8);
+		executor.setQueueCapacity(100);
+		executor.setThreadNamePrefix("payment-reconcile-");
+		executor.initialize();
+		return executor;
+	}
+
+	/*
+	QR 일괄 입장 토큰 서명 검증 (QrService) - CPU 작업이므로 코어 수로 제한
+	큐가 가득 차면 요청 스레드에서 직접 검증 (배치 요청 자체가 느려지는 backpressure)
+	 */
+	@Bean(name = "qrVerifyExecutor")
+	public Executor qrVerifyExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+		executor.setCorePoolSize(Runtime.getRuntime().availableProcessors());
+		executor.setMaxPoolSize(Runtime.getRuntime().availableProcessors());
+		executor.setQueueCapacity(1000);
+		executor.setThreadNamePrefix("qr-verify-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.initialize();
+		return executor;
+	}
 }
@@ -16,13 +16,15 @@ import net.javacrumbs.shedlock.spring.annotation.EnableSchedulerLock;
 @EnableSchedulerLock(defaultLockAtMostFor = "10m")
 public class SchedulerConfig {
 
-	// 고정 스케줄러 : QueueExpireScheduler, DraftTicketExpirationScheduler, QueueEntryScheduler
+	// 고정 스케줄러 : QueueExpireScheduler, DraftTicketExpirationScheduler, DraftTicketExpiryWorker, QueueEntryScheduler,
+	// MerkleEpochAnchorScheduler, PaymentConfirmOutboxScheduler, PaymentReconcileScheduler(대사 + 메타데이터 정리),
+	// ActiveSessionWarmer
 	@Bean(name = "fixedScheduler")
 	@Primary // 기본 스케줄러로 지정
 	public ThreadPoolTaskScheduler fixedScheduler() {
 
 		ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
-		scheduler.setPoolSize(5); // 고정 작업 3개 + 여유분 2개
+		scheduler.setPoolSize(10); // 고정 작업 9개 + 여유분 1개
 
 		scheduler.setThreadNamePrefix("fixed-sched-");
 		scheduler.initialize();
@@ -6,6 +6,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -228,6 +229,7 @@ public class SecurityConfig {
 		config.setAllowedOrigins(corsProperties.getAllowedOrigins());
 		config.setAllowedMethods(corsProperties.getAllowedMethods());
 		config.setAllowedHeaders(corsProperties.getAllowedHeaders());
+		config.addExposedHeader(HttpHeaders.RETRY_AFTER);
 		config.setAllowCredentials(true);
 		config.setMaxAge(3600L);
 
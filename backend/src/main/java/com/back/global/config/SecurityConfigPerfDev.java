@@ -5,6 +5,7 @@ import java.io.IOException;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -101,6 +102,7 @@ public class SecurityConfigPerfDev {
 		config.setAllowedOrigins(corsProperties.getAllowedOrigins());
 		config.setAllowedMethods(corsProperties.getAllowedMethods());
 		config.setAllowedHeaders(corsProperties.getAllowedHeaders());
+		config.addExposedHeader(HttpHeaders.RETRY_AFTER);
 		config.setAllowCredentials(true);
 		config.setMaxAge(3600L);
 
@@ -25,6 +25,10 @@ public enum CommonErrorCode implements ErrorCode {
 	RECAPTCHA_SCORE_TOO_LOW(HttpStatus.BAD_REQUEST, "봇으로 의심되는 활동이 감지되었습니다."),
 	RECAPTCHA_TOKEN_MISSING(HttpStatus.BAD_REQUEST, "reCAPTCHA 토큰이 누락되었습니다."),
 
+	// ===== 멱등성 관련 =====
+	IDEMPOTENT_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "동일한 요청을 처리 중입니다. 잠시 후 결과를 확인해주세요."),
+	IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "이미 다른 요청에 사용된 Idempotency-Key입니다."),
+
 	// ===== 서버 내부 오류 =====
 	INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류가 발생했습니다."),
 
@@ -21,6 +21,7 @@ public enum SeatErrorCode implements ErrorCode {
 
 	SEAT_ALREADY_EXISTS(HttpStatus.BAD_REQUEST, "1개 이상 좌석을 선택할 수 없습니다."),
 	SEAT_NOT_SELECTED(HttpStatus.BAD_REQUEST, "선택된 좌석이 없거나 다른 좌석이 선택되어 있습니다."),
+	NO_AVAILABLE_SEAT(HttpStatus.BAD_REQUEST, "선택 가능한 좌석이 없습니다."),
 
 	// 관리자 예외
 	DUPLICATE_SEAT_CODE(HttpStatus.BAD_REQUEST, "이미 존재하는 좌석 코드가 포함되어 있습니다.");
@@ -24,7 +24,8 @@ public enum TicketErrorCode implements ErrorCode {
 	TICKET_NOT_TRANSFERABLE(HttpStatus.BAD_REQUEST, "아직 발급되지 않은 티켓입니다. 양도가 불가합니다."),
 	TICKET_ALREADY_TRANSFERRED(HttpStatus.BAD_REQUEST, "양도는 티켓당 1회만 가능합니다. 이미 양도가 발생한 티켓입니다."),
 	CANNOT_TRANSFER_TO_SELF(HttpStatus.BAD_REQUEST, "자기자신에게 양도는 불가합니다."),
-	TRANSFER_TARGET_NOT_FOUND(HttpStatus.BAD_REQUEST, "양도 대상 유저를 찾을 수 없습니다.");
+	TRANSFER_TARGET_NOT_FOUND(HttpStatus.BAD_REQUEST, "양도 대상 유저를 찾을 수 없습니다."),
+	TRANSFER_HISTORY_NOT_FOUND(HttpStatus.BAD_REQUEST, "양도 이력을 찾을 수 없습니다.");
 
 	private final HttpStatus httpStatus;
 	private final String message;
@@ -1,5 +1,6 @@
 package com.back.global.error.handler;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -14,8 +15,10 @@ import org.springframework.web.method.annotation.MethodArgumentTypeMismatchExcep
 import com.back.global.error.code.AuthErrorCode;
 import com.back.global.error.code.CommonErrorCode;
 import com.back.global.error.code.ErrorCode;
+import com.back.global.error.code.PaymentErrorCode;
 import com.back.global.error.exception.ErrorException;
 import com.back.global.observability.metrics.ErrorMetrics;
+import com.back.global.properties.PgBulkheadProperties;
 import com.back.global.response.ApiResponse;
 import com.fasterxml.jackson.core.JsonProcessingException;
 
@@ -29,6 +32,7 @@ import lombok.extern.slf4j.Slf4j;
 public class GlobalExceptionHandler {
 
 	private final ErrorMetrics errorMetrics;
+	private final PgBulkheadProperties pgBulkheadProperties;
 
 	// 커스텀 예외 처리
 	@ExceptionHandler(ErrorException.class)
@@ -45,10 +49,16 @@ public class GlobalExceptionHandler {
 		// 에러 메트릭 기록
 		errorMetrics.applicationError(codeName, code.getHttpStatus().value());
 
-		return ResponseEntity
+		ResponseEntity.BodyBuilder response = ResponseEntity
 			.status(code.getHttpStatus())
-			.contentType(MediaType.APPLICATION_JSON)
-			.body(ApiResponse.fail(code.getHttpStatus(), ex.getMessage()));
+			.contentType(MediaType.APPLICATION_JSON);
+
+		// PG bulkhead 포화 - 클라이언트 재시도 간격 안내
+		if (code == PaymentErrorCode.PG_BUSY) {
+			response.header(HttpHeaders.RETRY_AFTER, String.valueOf(pgBulkheadProperties.getRetryAfterSeconds()));
+		}
+
+		return response.body(ApiResponse.fail(code.getHttpStatus(), ex.getMessage()));
 	}
 
 	// @Valid 유효성 검사 실패 시 발생하는 예외 처리
@@ -0,0 +1,163 @@
+package com.back.global.idempotency;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.back.global.error.code.CommonErrorCode;
+import com.back.global.error.exception.ErrorException;
+import com.back.global.utils.Sha256Util;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 멱등성 키 저장소 (주문 생성/결제 승인 중복 요청 차단)
+ *
+ * 키: idempotency:{scope}:{userId}:{Idempotency-Key 헤더 또는 orderId 등 자연 키}
+ * 1. SET NX로 IN_PROGRESS 선점 -> 선점한 요청만 실제 처리 (DB/PG 접근)
+ * 2. 처리 성공 시 응답을 COMPLETED로 저장, 이후 같은 키는 저장된 응답 반환
+ * 3. 처리 중 중복 요청은 409, 같은 키로 다른 요청 본문이면 422
+ * 4. 처리 실패 시 키 삭제 (재시도 허용 - 기존 DB 상태 검증이 최종 방어선)
+ *
+ * Redis 장애 시 멱등성 레이어 없이 그대로 처리 (DB 상태 검증으로 대체)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyStore {
+
+	public static final String HEADER = "Idempotency-Key";
+
+	private static final String KEY_PREFIX = "idempotency:";
+
+	// PG 타임아웃(연결 3초 + 읽기 5초) + bulkhead 대기보다 길게
+	private static final Duration IN_PROGRESS_TTL = Duration.ofSeconds(30);
+	private static final Duration COMPLETED_TTL = Duration.ofMinutes(10);
+
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+
+	enum Status {
+		IN_PROGRESS,
+		COMPLETED
+	}
+
+	record Entry(Status status, String fingerprint, String body) {
+	}
+
+	/**
+	 * 멱등 실행
+	 *
+	 * @param scope 엔드포인트 구분 (같은 키라도 scope가 다르면 별개 요청)
+	 * @param idempotencyKey Idempotency-Key 헤더 값 (없으면 naturalKey 사용)
+	 * @param naturalKey 헤더가 없을 때 사용할 요청 고유 값 (orderId 등)
+	 * @param request 요청 본문 (같은 키로 다른 본문이 오면 거부)
+	 * @throws ErrorException IDEMPOTENT_REQUEST_IN_PROGRESS - 같은 요청 처리 중
+	 * @throws ErrorException IDEMPOTENCY_KEY_REUSED - 같은 키로 다른 요청
+	 */
+	public <T> T execute(
+		String scope,
+		Long userId,
+		String idempotencyKey,
+		String naturalKey,
+		Object request,
+		Class<T> responseType,
+		Supplier<T> action
+	) {
+		String requestKey = (idempotencyKey == null || idempotencyKey.isBlank()) ? naturalKey : idempotencyKey;
+		String key = getKey(scope, userId, requestKey);
+
+		String fingerprint;
+		Entry existing;
+		try {
+			fingerprint = Sha256Util.toHex(Sha256Util.digest(objectMapper.writeValueAsString(request)));
+			existing = reserve(key, fingerprint);
+		} catch (Exception e) {
+			log.warn("Idempotency store unavailable, processing without it. key: {}", key, e);
+			return action.get();
+		}
+
+		if (existing != null) {
+			return replay(key, existing, fingerprint, responseType);
+		}
+
+		T response;
+		try {
+			response = action.get();
+		} catch (RuntimeException e) {
+			release(key);
+			throw e;
+		}
+
+		complete(key, fingerprint, response);
+		return response;
+	}
+
+	/**
+	 * IN_PROGRESS 선점
+	 * @return 선점 성공 시 null, 이미 있으면 기존 항목
+	 */
+	private Entry reserve(String key, String fingerprint) throws Exception {
+		String reserved = objectMapper.writeValueAsString(new Entry(Status.IN_PROGRESS, fingerprint, null));
+		Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key, reserved, IN_PROGRESS_TTL);
+		if (Boolean.TRUE.equals(acquired)) {
+			return null;
+		}
+
+		String current = redisTemplate.opsForValue().get(key);
+		if (current == null) {
+			// 선점 직후 만료/삭제됨 - 한 번 더 선점 시도
+			return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, reserved, IN_PROGRESS_TTL))
+				? null
+				: new Entry(Status.IN_PROGRESS, fingerprint, null);
+		}
+		return objectMapper.readValue(current, Entry.class);
+	}
+
+	private <T> T replay(String key, Entry existing, String fingerprint, Class<T> responseType) {
+		if (!existing.fingerprint().equals(fingerprint)) {
+			throw new ErrorException(CommonErrorCode.IDEMPOTENCY_KEY_REUSED);
+		}
+
+		if (existing.status() == Status.IN_PROGRESS) {
+			throw new ErrorException(CommonErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+		}
+
+		try {
+			log.debug("Idempotent replay - key: {}", key);
+			return objectMapper.readValue(existing.body(), responseType);
+		} catch (Exception e) {
+			log.warn("Failed to read idempotent response. key: {}", key, e);
+			throw new ErrorException(CommonErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+		}
+	}
+
+	private void complete(String key, String fingerprint, Object response) {
+		try {
+			String body = objectMapper.writeValueAsString(response);
+			String completed = objectMapper.writeValueAsString(new Entry(Status.COMPLETED, fingerprint, body));
+			redisTemplate.opsForValue().set(key, completed, COMPLETED_TTL);
+		} catch (Exception e) {
+			// 저장 실패 시 선점 해제 (이후 요청은 DB 상태 검증으로 처리)
+			log.warn("Failed to store idempotent response. key: {}", key, e);
+			release(key);
+		}
+	}
+
+	private void release(String key) {
+		try {
+			redisTemplate.delete(key);
+		} catch (Exception e) {
+			// 해제 실패 시 IN_PROGRESS TTL 만료 후 재시도 가능
+			log.warn("Failed to release idempotency key: {}", key, e);
+		}
+	}
+
+	private String getKey(String scope, Long userId, String requestKey) {
+		return KEY_PREFIX + scope + ":" + userId + ":" + requestKey;
+	}
+}
@@ -0,0 +1,39 @@
+package com.back.global.observability;
+
+import org.slf4j.MDC;
+import org.springframework.stereotype.Component;
+
+import io.prometheus.metrics.tracer.common.SpanContext;
+
+/**
+ * Prometheus exemplar용 SpanContext
+ * 분산 트레이싱 없이 RequestIdFilter의 요청 ID(MDC)를 trace_id로 사용
+ * - 히스토그램 버킷(http.server.requests, payment.confirm.phase.duration 등)에 요청 ID가 붙어
+ *   느린 요청을 X-Request-Id 로그로 바로 추적 가능 (OpenMetrics 포맷 scrape 시 노출)
+ * - 요청 스레드 밖(스케줄러/비동기 워커)에서는 exemplar 없음
+ */
+@Component
+public class RequestIdSpanContext implements SpanContext {
+
+	private static final String MDC_KEY = "requestId";
+
+	@Override
+	public String getCurrentTraceId() {
+		return MDC.get(MDC_KEY);
+	}
+
+	// span 개념이 없으므로 요청 ID를 그대로 사용 (exemplar는 trace_id/span_id 모두 필요)
+	@Override
+	public String getCurrentSpanId() {
+		return MDC.get(MDC_KEY);
+	}
+
+	@Override
+	public boolean isCurrentSpanSampled() {
+		return MDC.get(MDC_KEY) != null;
+	}
+
+	@Override
+	public void markCurrentSpanAsExemplar() {
+	}
+}
@@ -48,12 +48,19 @@ public class BusinessMetrics {
 		).increment();
 	}
 
+	public void paymentReconciled(String result, int count) {
+		meterRegistry.counter(
+			"payment.reconcile.count",
+			"result", result
+		).increment(count);
+	}
+
 	/* =========== ticket =========== */
 
-	public void draftTicketExpired(Long eventId) {
+	public void draftTicketsExpired(Long eventId, int count) {
 		meterRegistry.counter(
 			"ticket.draft.expiration.count",
 			"eventId", String.valueOf(eventId)
-		).increment();
+		).increment(count);
 	}
 }
@@ -1,38 +1,56 @@
 package com.back.global.observability.metrics;
 
-import java.util.concurrent.atomic.AtomicInteger;
-
 import org.springframework.stereotype.Component;
 
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 서킷브레이커(tossPayment, redisAuth 등) 상태 게이지
+ * - 레지스트리의 현재 상태를 직접 읽음 (상태 전이 누락 없음)
+ * - OPEN 전이 시 circuit.breaker.open 카운터 증가
+ */
 @Component
 @RequiredArgsConstructor
+@Slf4j
 public class CircuitBreakerMetrics {
 
 	private final MeterRegistry meterRegistry;
-	private final AtomicInteger state = new AtomicInteger(0);
+	private final CircuitBreakerRegistry circuitBreakerRegistry;
+	private final ErrorMetrics errorMetrics;
 
 	@PostConstruct
 	void register() {
-		Gauge.builder("circuit.breaker.state", state, AtomicInteger::get)
-			.description("0=CLOSED, 1=OPEN, 2=HALF_OPEN")
-			.register(meterRegistry);
+		circuitBreakerRegistry.getAllCircuitBreakers().forEach(this::bind);
+		// 설정에 없는 인스턴스는 첫 호출 시 생성됨
+		circuitBreakerRegistry.getEventPublisher().onEntryAdded(event -> bind(event.getAddedEntry()));
 	}
 
-	public void closed() {
-		state.set(0);
-	}
+	private void bind(CircuitBreaker circuitBreaker) {
+		Gauge.builder("circuit.breaker.state", circuitBreaker, cb -> toValue(cb.getState()))
+			.description("0=CLOSED, 1=OPEN, 2=HALF_OPEN")
+			.tag("name", circuitBreaker.getName())
+			.register(meterRegistry);
 
-	public void open() {
-		state.set(1);
+		circuitBreaker.getEventPublisher().onStateTransition(event -> {
+			log.warn("CIRCUIT_BREAKER_TRANSITION name={} transition={}",
+				circuitBreaker.getName(), event.getStateTransition());
+			if (event.getStateTransition().getToState() == CircuitBreaker.State.OPEN) {
+				errorMetrics.circuitBreakerOpen(circuitBreaker.getName());
+			}
+		});
 	}
 
-	public void halfOpen() {
-		state.set(2);
+	private static double toValue(CircuitBreaker.State state) {
+		return switch (state) {
+			case OPEN, FORCED_OPEN -> 1;
+			case HALF_OPEN -> 2;
+			default -> 0;
+		};
 	}
-
 }
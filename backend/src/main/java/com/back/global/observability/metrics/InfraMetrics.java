@@ -1,5 +1,7 @@
 package com.back.global.observability.metrics;
 
+import java.time.Duration;
+
 import org.springframework.stereotype.Component;
 
 import io.micrometer.core.instrument.MeterRegistry;
@@ -12,9 +14,17 @@ public class InfraMetrics {
 
 	private final MeterRegistry meterRegistry;
 
-	public Timer paymentGatewayTimer(String status) {
+	public Timer.Sample startTimer() {
+		return Timer.start(meterRegistry);
+	}
+
+	// PG HTTP 호출 시간 (bulkhead 대기/서킷브레이커 차단 제외) - operation: confirm, lookup
+	public Timer paymentGatewayTimer(String operation, String status) {
 		return Timer.builder("payment.gateway.duration")
-			.tags("status", status)
+			.tags("operation", operation, "status", status)
+			.publishPercentileHistogram()
+			.minimumExpectedValue(Duration.ofMillis(10))
+			.maximumExpectedValue(Duration.ofSeconds(10))
 			.register(meterRegistry);
 	}
 
@@ -0,0 +1,108 @@
+package com.back.global.observability.metrics;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.back.global.error.code.ErrorCode;
+import com.back.global.error.exception.ErrorException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 결제 승인(v2) 구간별 소요 시간
+ * - validate: 멱등성 확인 + 주문 검증
+ * - pg: PG 승인 (bulkhead 대기 포함, 순수 HTTP 시간은 payment.gateway.duration)
+ * - db_commit: 결과 반영 트랜잭션 (쿼리 + 커밋)
+ * - event_publish: 커밋 후 이벤트 리스너 (알림/좌석 브로드캐스트/캐시)
+ *
+ * db_commit/event_publish는 결과 반영 트랜잭션을 공유하는 호출 경로(path)별로 구분
+ * - sync: 동기 승인 API, outbox: 비동기 승인 워커, reconcile: 결제 대사 배치
+ *
+ * 히스토그램 버킷에 요청 ID exemplar가 붙어 느린 구간에서 로그로 바로 이동 가능 (RequestIdSpanContext)
+ */
+@Component
+@RequiredArgsConstructor
+public class PaymentPhaseMetrics {
+
+	public static final String VALIDATE = "validate";
+	public static final String PG = "pg";
+	public static final String DB_COMMIT = "db_commit";
+	public static final String EVENT_PUBLISH = "event_publish";
+
+	public static final String PATH_SYNC = "sync";
+	public static final String PATH_OUTBOX = "outbox";
+	public static final String PATH_RECONCILE = "reconcile";
+
+	private final MeterRegistry meterRegistry;
+
+	/**
+	 * action 실행 시간을 phase로 기록 (실패 시 outcome은 에러 코드)
+	 */
+	public <T> T record(String phase, Supplier<T> action) {
+		Timer.Sample sample = Timer.start(meterRegistry);
+		String outcome = "error";
+		try {
+			T result = action.get();
+			outcome = "success";
+			return result;
+		} catch (ErrorException e) {
+			outcome = codeName(e.getErrorCode());
+			throw e;
+		} finally {
+			sample.stop(timer(phase, outcome, PATH_SYNC));
+		}
+	}
+
+	/**
+	 * 현재 트랜잭션의 커밋까지(db_commit)와 커밋 후 리스너 실행(event_publish) 시간을 기록
+	 * - AFTER_COMMIT 리스너는 afterCompletion에서 실행(기본 order 0)되므로
+	 *   가장 낮은 우선순위(기본값)인 이 동기화의 afterCompletion이 리스너 종료 시점이 됨
+	 *
+	 * @param outcome 반영 결과 (paid, failed 등), 롤백 시 rollback
+	 * @param path 호출 경로 (PATH_SYNC, PATH_OUTBOX, PATH_RECONCILE)
+	 */
+	public void recordCommit(String outcome, String path) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+
+		long startedAt = System.nanoTime();
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			private long committedAt;
+
+			@Override
+			public void afterCommit() {
+				committedAt = System.nanoTime();
+				timer(DB_COMMIT, outcome, path).record(Duration.ofNanos(committedAt - startedAt));
+			}
+
+			@Override
+			public void afterCompletion(int status) {
+				if (status == STATUS_COMMITTED) {
+					timer(EVENT_PUBLISH, outcome, path).record(Duration.ofNanos(System.nanoTime() - committedAt));
+				} else {
+					timer(DB_COMMIT, "rollback", path).record(Duration.ofNanos(System.nanoTime() - startedAt));
+				}
+			}
+		});
+	}
+
+	private Timer timer(String phase, String outcome, String path) {
+		return Timer.builder("payment.confirm.phase.duration")
+			.tags("phase", phase, "outcome", outcome, "path", path)
+			.publishPercentileHistogram()
+			.minimumExpectedValue(Duration.ofMillis(1))
+			.maximumExpectedValue(Duration.ofSeconds(10))
+			.register(meterRegistry);
+	}
+
+	private String codeName(ErrorCode code) {
+		return (code instanceof Enum<?> e) ? e.name() : code.getClass().getSimpleName();
+	}
+}
@@ -0,0 +1,93 @@
+package com.back.global.observability.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.back.global.utils.CountMinTopK;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 이벤트별 좌석 경합(CAS 실패) 핫스팟 추적
+ * - 좌석별 Prometheus 시계열을 만들지 않고 Count-Min Sketch 기반 근사 Top-K로 집계
+ * - 이벤트당 메모리 고정 (WIDTH x DEPTH 카운터), 추적 이벤트 수도 MAX_EVENTS로 제한
+ * - 메트릭은 이벤트별 Gauge 2개 (최다 경합 좌석 추정치, 전체 경합 수)만 노출
+ */
+@Component
+@RequiredArgsConstructor
+public class SeatContentionTracker {
+
+	private static final int WIDTH = 2048;
+	private static final int DEPTH = 4;
+	private static final int TOP_CAPACITY = 50;
+	private static final int MAX_EVENTS = 32;
+
+	private final MeterRegistry meterRegistry;
+
+	// 최근 경합이 발생한 순서로 유지 (LRU), 초과 시 가장 오래된 이벤트 제거
+	private final Map<Long, CountMinTopK> trackers = new LinkedHashMap<>(16, 0.75f, true);
+
+	public void recordConflict(Long eventId, Long seatId) {
+		tracker(eventId).add(seatId);
+	}
+
+	/**
+	 * 경합 상위 좌석 (추정치 내림차순)
+	 */
+	public List<CountMinTopK.Estimate> topSeats(Long eventId, int limit) {
+		CountMinTopK tracker;
+		synchronized (trackers) {
+			tracker = trackers.get(eventId);
+		}
+		return tracker == null ? List.of() : tracker.top(limit);
+	}
+
+	private CountMinTopK tracker(Long eventId) {
+		synchronized (trackers) {
+			CountMinTopK tracker = trackers.get(eventId);
+			if (tracker != null) {
+				return tracker;
+			}
+
+			if (trackers.size() >= MAX_EVENTS) {
+				Long eldest = trackers.keySet().iterator().next();
+				trackers.remove(eldest);
+				removeGauges(eldest);
+			}
+
+			CountMinTopK created = new CountMinTopK(WIDTH, DEPTH, TOP_CAPACITY);
+			trackers.put(eventId, created);
+			registerGauges(eventId, created);
+			return created;
+		}
+	}
+
+	private void registerGauges(Long eventId, CountMinTopK tracker) {
+		Gauge.builder("seat.contention.hotspot.max", tracker, CountMinTopK::maxEstimate)
+			.tag("eventId", String.valueOf(eventId))
+			.description("Estimated conflict count of the most contended seat")
+			.register(meterRegistry);
+
+		Gauge.builder("seat.contention.total", tracker, CountMinTopK::totalCount)
+			.tag("eventId", String.valueOf(eventId))
+			.description("Total seat CAS conflicts tracked for event")
+			.register(meterRegistry);
+	}
+
+	private void removeGauges(Long eventId) {
+		String tag = String.valueOf(eventId);
+		Gauge max = meterRegistry.find("seat.contention.hotspot.max").tag("eventId", tag).gauge();
+		if (max != null) {
+			meterRegistry.remove(max);
+		}
+		Gauge total = meterRegistry.find("seat.contention.total").tag("eventId", tag).gauge();
+		if (total != null) {
+			meterRegistry.remove(total);
+		}
+	}
+}
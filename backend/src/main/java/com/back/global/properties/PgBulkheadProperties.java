@@ -0,0 +1,33 @@
+package com.back.global.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * PG 호출 동시성 제한(bulkhead) 설정
+ * - 동시 호출 한도는 initialLimit에서 시작해 [minLimit, maxLimit] 안에서 AIMD로 조정
+ * - 한도 초과 요청은 최대 maxQueueSize건까지 maxWaitMs 동안 대기, 그 외에는 즉시 503
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "custom.pg-bulkhead")
+public class PgBulkheadProperties {
+
+	private int initialLimit = 20;
+	private int minLimit = 4;
+	private int maxLimit = 64;
+
+	private int maxQueueSize = 50;
+	private long maxWaitMs = 500;
+
+	// 이 지연을 넘거나 타임아웃이면 과부하로 보고 한도 감소
+	private long latencyThresholdMs = 2000;
+	private double backoffRatio = 0.9;
+
+	// 포화 응답의 Retry-After (초)
+	private long retryAfterSeconds = 2;
+}
@@ -0,0 +1,36 @@
+package com.back.global.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 로컬 Toss 결제 시뮬레이터 설정 (pg-sim 프로필)
+ * - 지연: p50/p95/p99/max 구간 사이를 선형 보간한 분포에서 샘플링
+ * - 실패 주입 비율은 요청마다 독립 (합계 1 이하)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "custom.toss-simulator")
+public class TossSimulatorProperties {
+
+	private int port = 18080;
+
+	private long latencyP50Ms = 150;
+	private long latencyP95Ms = 600;
+	private long latencyP99Ms = 1500;
+	private long latencyMaxMs = 3000;
+
+	// 5xx 응답 비율 (RestClientException -> PAYMENT_FAILED)
+	private double errorRate = 0.01;
+
+	// 승인 거절(ABORTED) 비율
+	private double abortRate = 0.01;
+
+	// 응답 지연 비율 (timeoutMs 동안 응답하지 않음 -> 클라이언트 읽기 타임아웃)
+	private double timeoutRate = 0.0;
+	private long timeoutMs = 8000;
+}
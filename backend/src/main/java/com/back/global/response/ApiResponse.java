@@ -21,6 +21,10 @@ public record ApiResponse<T>(
 		return new ApiResponse<>(HttpStatus.CREATED, message, data);
 	}
 
+	public static <T> ApiResponse<T> accepted(String message, T data) {
+		return new ApiResponse<>(HttpStatus.ACCEPTED, message, data);
+	}
+
 	public static <T> ApiResponse<T> noContent(String message) {
 		return new ApiResponse<>(HttpStatus.NO_CONTENT, message, null);
 	}
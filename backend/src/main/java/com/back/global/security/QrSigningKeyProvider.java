@@ -0,0 +1,106 @@
+package com.back.global.security;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.HexFormat;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * QR 토큰 서명용 Ed25519 키 쌍
+ * - 서버는 개인키로 서명, 게이트 단말은 공개키만으로 오프라인 검증
+ * - private-key: PKCS#8 DER Base64, public-key: X.509 DER Base64
+ * - 키 미설정 시 dev/test/local 프로필에서만 기동 시점에 임시 키 쌍 생성 (인스턴스 간 공유 불가)
+ * - 그 외 프로필은 인스턴스마다 다른 키로 서명하게 되므로 기동 실패
+ */
+@Component
+@Getter
+@Slf4j
+public class QrSigningKeyProvider {
+
+	public static final String KEY_ALGORITHM = "Ed25519";
+	public static final String SIGNATURE_ALGORITHM = "EdDSA";
+
+	private static final Profiles EPHEMERAL_KEY_PROFILES = Profiles.of("dev", "test", "local");
+
+	private final PrivateKey privateKey;
+	private final PublicKey publicKey;
+	private final String keyId;
+
+	public QrSigningKeyProvider(
+		@Value("${custom.qr.signing.private-key:}") String privateKeyBase64,
+		@Value("${custom.qr.signing.public-key:}") String publicKeyBase64,
+		Environment environment
+	) {
+		KeyPair keyPair;
+		if (StringUtils.isAnyBlank(privateKeyBase64, publicKeyBase64)) {
+			if (!environment.acceptsProfiles(EPHEMERAL_KEY_PROFILES)) {
+				throw new IllegalStateException(
+					"custom.qr.signing.private-key and custom.qr.signing.public-key must be configured. "
+						+ "Ephemeral QR signing keys are only allowed in dev/test/local profiles."
+				);
+			}
+			keyPair = generateEphemeralKeyPair();
+		} else {
+			keyPair = decodeKeyPair(privateKeyBase64, publicKeyBase64);
+		}
+
+		this.privateKey = keyPair.getPrivate();
+		this.publicKey = keyPair.getPublic();
+		this.keyId = computeKeyId(publicKey);
+	}
+
+	// 게이트 단말 배포용 공개키 (X.509 DER Base64)
+	public String getEncodedPublicKey() {
+		return Base64.getEncoder().encodeToString(publicKey.getEncoded());
+	}
+
+	private static KeyPair decodeKeyPair(String privateKeyBase64, String publicKeyBase64) {
+		try {
+			KeyFactory keyFactory = KeyFactory.getInstance(KEY_ALGORITHM);
+			PrivateKey privateKey = keyFactory.generatePrivate(
+				new PKCS8EncodedKeySpec(Base64.getDecoder().decode(privateKeyBase64.trim()))
+			);
+			PublicKey publicKey = keyFactory.generatePublic(
+				new X509EncodedKeySpec(Base64.getDecoder().decode(publicKeyBase64.trim()))
+			);
+			return new KeyPair(publicKey, privateKey);
+		} catch (GeneralSecurityException | IllegalArgumentException e) {
+			throw new IllegalStateException("Invalid QR signing key configuration", e);
+		}
+	}
+
+	private static KeyPair generateEphemeralKeyPair() {
+		try {
+			log.warn("QR signing key is not configured. Generating an ephemeral Ed25519 key pair.");
+			return KeyPairGenerator.getInstance(KEY_ALGORITHM).generateKeyPair();
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("Ed25519 is not supported by this JVM", e);
+		}
+	}
+
+	// 공개키 SHA-256 앞 8바이트 (키 교체 시 게이트가 어떤 키로 검증할지 식별)
+	private static String computeKeyId(PublicKey publicKey) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(publicKey.getEncoded());
+			return HexFormat.of().formatHex(digest, 0, 8);
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,123 @@
+package com.back.global.utils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Count-Min Sketch + min-heap 기반 근사 Top-K 추적기
+ * - 항목 수와 무관하게 메모리 고정 (depth x width 카운터 + K개 후보)
+ * - 추정치는 실제값 이상 (과대추정만 발생, 과소추정 없음)
+ * - 좌석 경합(CAS 실패) 핫스팟처럼 고빈도 항목만 필요한 경우에 사용
+ */
+public final class CountMinTopK {
+
+	private final int depth;
+	private final int widthMask;
+	private final long[][] counters;
+	private final int capacity;
+
+	// Top-K 후보: item -> 추정치, 최소 추정치를 heap top에 유지
+	private final Map<Long, Entry> topItems;
+	private final PriorityQueue<Entry> minHeap;
+	private long totalCount;
+
+	/**
+	 * @param width    행당 카운터 수 (2의 거듭제곱으로 올림)
+	 * @param depth    해시 함수 수
+	 * @param capacity 유지할 Top-K 후보 수
+	 */
+	public CountMinTopK(int width, int depth, int capacity) {
+		if (width <= 0 || depth <= 0 || capacity <= 0) {
+			throw new IllegalArgumentException("width, depth, capacity must be positive");
+		}
+		int normalizedWidth = Integer.highestOneBit(width);
+		if (normalizedWidth < width) {
+			normalizedWidth <<= 1;
+		}
+		this.depth = depth;
+		this.widthMask = normalizedWidth - 1;
+		this.counters = new long[depth][normalizedWidth];
+		this.capacity = capacity;
+		this.topItems = new HashMap<>(capacity * 2);
+		this.minHeap = new PriorityQueue<>(capacity, Comparator.comparingLong(Entry::count));
+	}
+
+	/**
+	 * 항목 1회 기록 후 현재 추정치 반환
+	 */
+	public synchronized long add(long item) {
+		totalCount++;
+		long h1 = mix(item);
+		long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1L;
+
+		long estimate = Long.MAX_VALUE;
+		for (int i = 0; i < depth; i++) {
+			int index = (int)((h1 + i * h2) & widthMask);
+			long value = ++counters[i][index];
+			estimate = Math.min(estimate, value);
+		}
+
+		updateTop(item, estimate);
+		return estimate;
+	}
+
+	/**
+	 * 추정치 내림차순 상위 limit개
+	 */
+	public synchronized List<Estimate> top(int limit) {
+		List<Estimate> result = new ArrayList<>(topItems.size());
+		for (Entry entry : topItems.values()) {
+			result.add(new Estimate(entry.item(), entry.count()));
+		}
+		result.sort(Comparator.comparingLong(Estimate::count).reversed());
+		return result.size() > limit ? new ArrayList<>(result.subList(0, limit)) : result;
+	}
+
+	public synchronized long totalCount() {
+		return totalCount;
+	}
+
+	public synchronized long maxEstimate() {
+		long max = 0;
+		for (Entry entry : topItems.values()) {
+			max = Math.max(max, entry.count());
+		}
+		return max;
+	}
+
+	private void updateTop(long item, long estimate) {
+		Entry existing = topItems.get(item);
+		if (existing != null) {
+			minHeap.remove(existing);
+		} else if (topItems.size() >= capacity) {
+			Entry smallest = minHeap.peek();
+			if (smallest == null || smallest.count() >= estimate) {
+				return;
+			}
+			minHeap.poll();
+			topItems.remove(smallest.item());
+		}
+
+		Entry updated = new Entry(item, estimate);
+		topItems.put(item, updated);
+		minHeap.add(updated);
+	}
+
+	// SplitMix64 finalizer
+	private static long mix(long value) {
+		long z = value + 0x9E3779B97F4A7C15L;
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+
+	private record Entry(long item, long count) {
+	}
+
+	public record Estimate(long item, long count) {
+	}
+}
@@ -1,5 +1,7 @@
 package com.back.global.utils;
 
+import java.security.PrivateKey;
+import java.security.PublicKey;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -32,6 +34,23 @@ public class JwtUtil {
 			.compact();
 	}
 
+	// 비대칭 키 서명 (Ed25519 등) - 검증 측은 공개키만 필요
+	public static String sign(PrivateKey privateKey, String keyId, long durationSeconds, Map<String, Object> body) {
+		ClaimsBuilder claimsBuilder = Jwts.claims();
+		body.forEach(claimsBuilder::add);
+
+		Date issuedAt = new Date();
+		Date expiration = new Date(issuedAt.getTime() + 1000L * durationSeconds);
+
+		return Jwts.builder()
+			.header().keyId(keyId).and()
+			.claims(claimsBuilder.build())
+			.issuedAt(issuedAt)
+			.expiration(expiration)
+			.signWith(privateKey)
+			.compact();
+	}
+
 	public static Map<String, Object> payloadOrNull(String jwt, String secret) {
 		Claims claims = claimsOrNull(jwt, secret);
 		if (claims == null) {
@@ -41,6 +60,19 @@ public class JwtUtil {
 		return new HashMap<>(claims);
 	}
 
+	public static Map<String, Object> payloadOrNull(String jwt, PublicKey publicKey) {
+		try {
+			Claims claims = Jwts.parser()
+				.verifyWith(publicKey)
+				.build()
+				.parseSignedClaims(jwt)
+				.getPayload();
+			return new HashMap<>(claims);
+		} catch (Exception e) {
+			return null;
+		}
+	}
+
 	public static boolean isExpired(String jwt, String secret) {
 		try {
 			claimsOrThrow(jwt, secret);
@@ -0,0 +1,94 @@
+package com.back.global.utils;
+
+import java.util.Arrays;
+
+/**
+ * 추가 전용(append-only) Merkle 누산기
+ * - 전체 리프 대신 리프 수의 이진 표현에 대응하는 완전 서브트리 Root(frontier)만 보관
+ * - 리프 추가는 O(log n) 해시 (이진 덧셈의 carry처럼 같은 레벨 노드를 결합)
+ * - Root는 frontier를 낮은 레벨부터 오른쪽 접기로 결합 (O(log n))
+ * - Root는 MerkleUtil.buildDigestRoot(전체 리프)와 동일
+ */
+public final class MerkleAccumulator {
+
+	// 레벨 i의 frontier는 2^i개 리프의 완전 서브트리 Root (최대 2^32 - 1개 리프)
+	public static final int MAX_LEVELS = 32;
+	public static final int MAX_ENCODED_LENGTH = MAX_LEVELS * MerkleUtil.DIGEST_LENGTH;
+
+	private final byte[][] frontier = new byte[MAX_LEVELS][];
+	private long leafCount;
+
+	/**
+	 * 저장된 frontier로 누산기 복원
+	 *
+	 * @param leafCount       누적 리프 수
+	 * @param encodedFrontier encode() 결과 (레벨 순서, 비어 있는 레벨은 0으로 채움)
+	 */
+	public static MerkleAccumulator restore(long leafCount, byte[] encodedFrontier) {
+		int levels = levelsOf(leafCount);
+		if (levels > MAX_LEVELS || encodedFrontier.length != levels * MerkleUtil.DIGEST_LENGTH) {
+			throw new IllegalArgumentException("frontier does not match leafCount: " + leafCount);
+		}
+
+		MerkleAccumulator accumulator = new MerkleAccumulator();
+		accumulator.leafCount = leafCount;
+		for (int level = 0; level < levels; level++) {
+			if (((leafCount >>> level) & 1L) == 1L) {
+				int from = level * MerkleUtil.DIGEST_LENGTH;
+				accumulator.frontier[level] =
+					Arrays.copyOfRange(encodedFrontier, from, from + MerkleUtil.DIGEST_LENGTH);
+			}
+		}
+		return accumulator;
+	}
+
+	public void append(byte[] leaf) {
+		if (leaf.length != MerkleUtil.DIGEST_LENGTH) {
+			throw new IllegalArgumentException("leaf must be a SHA-256 digest");
+		}
+		if (levelsOf(leafCount + 1) > MAX_LEVELS) {
+			throw new IllegalStateException("accumulator is full");
+		}
+
+		byte[] node = leaf;
+		int level = 0;
+		while (((leafCount >>> level) & 1L) == 1L) {
+			node = MerkleUtil.hashPair(frontier[level], node);
+			frontier[level] = null;
+			level++;
+		}
+		frontier[level] = node;
+		leafCount++;
+	}
+
+	// 리프가 없으면 빈 배열
+	public byte[] root() {
+		byte[] root = null;
+		for (int level = 0; level < MAX_LEVELS; level++) {
+			if (frontier[level] != null) {
+				root = root == null ? frontier[level] : MerkleUtil.hashPair(frontier[level], root);
+			}
+		}
+		return root == null ? new byte[0] : root;
+	}
+
+	public byte[] encode() {
+		int levels = levelsOf(leafCount);
+		byte[] encoded = new byte[levels * MerkleUtil.DIGEST_LENGTH];
+		for (int level = 0; level < levels; level++) {
+			if (frontier[level] != null) {
+				System.arraycopy(frontier[level], 0, encoded, level * MerkleUtil.DIGEST_LENGTH,
+					MerkleUtil.DIGEST_LENGTH);
+			}
+		}
+		return encoded;
+	}
+
+	public long getLeafCount() {
+		return leafCount;
+	}
+
+	private static int levelsOf(long leafCount) {
+		return Long.SIZE - Long.numberOfLeadingZeros(leafCount);
+	}
+}
@@ -1,8 +1,6 @@
 package com.back.global.utils;
 
-import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -12,6 +10,10 @@ import com.back.global.error.exception.ErrorException;
 /**
  * Merkle Tree 유틸리티 클래스
  * 티켓 양도 이력의 무결성 검증을 위한 Merkle Root 계산
+ *
+ * - 문자열 API (buildRoot, verify(String...)): hex 문자열 결합 후 해시, 홀수 레벨은 마지막 노드 복제
+ * - digest API (buildDigestRoot, buildProof, verify(byte[]...)): raw byte[] 결합 후 해시,
+ *   왼쪽 서브트리를 2의 거듭제곱 크기로 분할 (RFC 6962 형태, 복제 없음) - MerkleAccumulator와 동일한 Root
  */
 public final class MerkleUtil {
 
@@ -27,6 +29,8 @@ public final class MerkleUtil {
 	 */
 	private static final int MAX_ITERATIONS = 20;
 
+	public static final int DIGEST_LENGTH = Sha256Util.DIGEST_LENGTH;
+
 	private MerkleUtil() {
 		// 유틸리티 클래스 - 인스턴스화 방지
 	}
@@ -64,7 +68,7 @@ public final class MerkleUtil {
 	 * 홀수 개인 경우 마지막 해시를 복제하여 짝수로 맞춤
 	 */
 	private static List<String> buildNextLevel(List<String> currentLevel) {
-		List<String> nextLevel = new ArrayList<>();
+		List<String> nextLevel = new ArrayList<>((currentLevel.size() + 1) / 2);
 
 		// 홀수인 경우 마지막 요소 복제
 		if (currentLevel.size() % 2 != 0) {
@@ -74,7 +78,7 @@ public final class MerkleUtil {
 		for (int i = 0; i < currentLevel.size(); i += 2) {
 			String left = currentLevel.get(i);
 			String right = currentLevel.get(i + 1);
-			String combined = sha256(left + right);
+			String combined = Sha256Util.toHex(Sha256Util.digest(left, right));
 			nextLevel.add(combined);
 		}
 
@@ -83,21 +87,7 @@ public final class MerkleUtil {
 
 	// SHA-256 해시 계산
 	public static String sha256(String input) {
-		try {
-			MessageDigest digest = MessageDigest.getInstance("SHA-256");
-			byte[] hashBytes = digest.digest(input.getBytes(StandardCharsets.UTF_8));
-			return bytesToHex(hashBytes);
-		} catch (NoSuchAlgorithmException e) {
-			throw new RuntimeException("SHA-256 algorithm not available", e);
-		}
-	}
-
-	private static String bytesToHex(byte[] bytes) {
-		StringBuilder sb = new StringBuilder();
-		for (byte b : bytes) {
-			sb.append(String.format("%02x", b));
-		}
-		return sb.toString();
+		return Sha256Util.toHex(Sha256Util.digest(input));
 	}
 
 	/**
@@ -114,15 +104,100 @@ public final class MerkleUtil {
 
 		for (ProofNode node : proof) {
 			if (node.isLeft()) {
-				currentHash = sha256(node.hash() + currentHash);
+				currentHash = Sha256Util.toHex(Sha256Util.digest(node.hash(), currentHash));
 			} else {
-				currentHash = sha256(currentHash + node.hash());
+				currentHash = Sha256Util.toHex(Sha256Util.digest(currentHash, node.hash()));
 			}
 		}
 
 		return currentHash.equals(root);
 	}
 
+	// 두 노드 결합 해시 SHA-256(left || right)
+	public static byte[] hashPair(byte[] left, byte[] right) {
+		return Sha256Util.digest(left, right);
+	}
+
+	/**
+	 * 리프 digest 목록의 Merkle Root
+	 * 리프를 하나씩 MerkleAccumulator에 추가한 결과와 동일
+	 */
+	public static byte[] buildDigestRoot(List<byte[]> leaves) {
+		if (leaves == null || leaves.isEmpty()) {
+			return new byte[0];
+		}
+
+		if (leaves.size() > MAX_LEAVES) {
+			throw new ErrorException(CommonErrorCode.MERKLE_TOO_MANY_LEAVES);
+		}
+
+		return subtreeRoot(leaves, 0, leaves.size());
+	}
+
+	/**
+	 * leafIndex 번째 리프의 Merkle Proof (리프 -> Root 순서의 형제 노드, hash는 hex 인코딩)
+	 * verify(byte[], List, byte[])로 검증
+	 */
+	public static List<ProofNode> buildProof(List<byte[]> leaves, int leafIndex) {
+		if (leaves.size() > MAX_LEAVES) {
+			throw new ErrorException(CommonErrorCode.MERKLE_TOO_MANY_LEAVES);
+		}
+		if (leafIndex < 0 || leafIndex >= leaves.size()) {
+			throw new IllegalArgumentException("leafIndex out of range: " + leafIndex);
+		}
+
+		List<ProofNode> proof = new ArrayList<>();
+		collectProof(leaves, 0, leaves.size(), leafIndex, proof);
+		return proof;
+	}
+
+	// digest 기반 Merkle Proof 검증
+	public static boolean verify(byte[] leaf, List<ProofNode> proof, byte[] root) {
+		byte[] current = leaf;
+
+		for (ProofNode node : proof) {
+			byte[] sibling = fromHex(node.hash());
+			current = node.isLeft() ? hashPair(sibling, current) : hashPair(current, sibling);
+		}
+
+		return MessageDigest.isEqual(current, root);
+	}
+
+	public static String toHex(byte[] bytes) {
+		return Sha256Util.toHex(bytes);
+	}
+
+	public static byte[] fromHex(String hex) {
+		return Sha256Util.fromHex(hex);
+	}
+
+	private static byte[] subtreeRoot(List<byte[]> leaves, int from, int to) {
+		if (to - from == 1) {
+			return leaves.get(from);
+		}
+		int mid = from + splitSize(to - from);
+		return hashPair(subtreeRoot(leaves, from, mid), subtreeRoot(leaves, mid, to));
+	}
+
+	private static void collectProof(List<byte[]> leaves, int from, int to, int index, List<ProofNode> proof) {
+		if (to - from == 1) {
+			return;
+		}
+		int mid = from + splitSize(to - from);
+		if (index < mid) {
+			collectProof(leaves, from, mid, index, proof);
+			proof.add(new ProofNode(toHex(subtreeRoot(leaves, mid, to)), false));
+		} else {
+			collectProof(leaves, mid, to, index, proof);
+			proof.add(new ProofNode(toHex(subtreeRoot(leaves, from, mid)), true));
+		}
+	}
+
+	// n보다 작은 최대 2의 거듭제곱 (왼쪽 서브트리 크기)
+	private static int splitSize(int n) {
+		return Integer.highestOneBit(n - 1);
+	}
+
 	// Merkle Proof 노드
 	public record ProofNode(String hash, boolean isLeft) {
 	}
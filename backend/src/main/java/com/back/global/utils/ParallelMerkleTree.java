@@ -0,0 +1,182 @@
+package com.back.global.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+
+import com.back.global.error.code.CommonErrorCode;
+import com.back.global.error.exception.ErrorException;
+
+/**
+ * 전체 레벨을 보관하는 Merkle Tree (에포크 앵커링용)
+ * - 레벨별 노드 결합을 fork-join으로 병렬 계산
+ * - 짝이 없는 마지막 노드는 해시 없이 다음 레벨로 올림 (MerkleUtil.buildDigestRoot와 같은 Root)
+ * - 모든 레벨을 보관하므로 리프별 Proof를 추가 해시 없이 추출
+ * - 기본 풀은 전용 ForkJoinPool (commonPool을 쓰는 parallel stream 등과 CPU를 다투지 않도록 코어 절반만 사용)
+ */
+public final class ParallelMerkleTree {
+
+	public static final int MAX_LEAVES = 1 << 20;
+
+	// 이 개수 이하의 노드 쌍은 한 작업에서 순차 처리
+	private static final int SEQUENTIAL_THRESHOLD = 512;
+
+	private static final ForkJoinPool POOL = new ForkJoinPool(
+		Math.max(1, Runtime.getRuntime().availableProcessors() / 2),
+		pool -> {
+			ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+			thread.setName("merkle-" + thread.getPoolIndex());
+			return thread;
+		},
+		null,
+		false
+	);
+
+	private final List<byte[][]> levels;
+
+	private ParallelMerkleTree(List<byte[][]> levels) {
+		this.levels = levels;
+	}
+
+	public static ParallelMerkleTree build(List<byte[]> leaves) {
+		return build(leaves, POOL);
+	}
+
+	public static ParallelMerkleTree build(List<byte[]> leaves, ForkJoinPool pool) {
+		if (leaves.isEmpty()) {
+			throw new IllegalArgumentException("leaves must not be empty");
+		}
+		if (leaves.size() > MAX_LEAVES) {
+			throw new ErrorException(CommonErrorCode.MERKLE_TOO_MANY_LEAVES);
+		}
+
+		List<byte[][]> levels = new ArrayList<>();
+		byte[][] current = leaves.toArray(new byte[0][]);
+		levels.add(current);
+
+		while (current.length > 1) {
+			byte[][] next = new byte[(current.length + 1) / 2][];
+			pool.invoke(new CombineTask(current, next, 0, current.length / 2));
+			// 홀수 개면 마지막 노드를 그대로 올림
+			if (current.length % 2 != 0) {
+				next[next.length - 1] = current[current.length - 1];
+			}
+			levels.add(next);
+			current = next;
+		}
+		return new ParallelMerkleTree(levels);
+	}
+
+	public byte[] root() {
+		return levels.get(levels.size() - 1)[0];
+	}
+
+	public int size() {
+		return levels.get(0).length;
+	}
+
+	/**
+	 * 리프 -> Root 순서의 형제 노드 목록
+	 * MerkleUtil.verify(byte[], List, byte[])로 검증
+	 */
+	public List<MerkleUtil.ProofNode> proofOf(int leafIndex) {
+		List<MerkleUtil.ProofNode> proof = new ArrayList<>();
+		forEachSibling(leafIndex, (sibling, isLeft) ->
+			proof.add(new MerkleUtil.ProofNode(MerkleUtil.toHex(sibling), isLeft))
+		);
+		return proof;
+	}
+
+	/**
+	 * 저장용 Proof 인코딩
+	 * - siblings: 형제 digest를 리프 -> Root 순서로 이어 붙인 값
+	 * - leftMask: i번째 형제가 왼쪽이면 i번째 비트 1
+	 */
+	public EncodedProof encodedProofOf(int leafIndex) {
+		List<byte[]> siblings = new ArrayList<>();
+		long[] leftMask = {0L};
+		forEachSibling(leafIndex, (sibling, isLeft) -> {
+			if (isLeft) {
+				leftMask[0] |= 1L << siblings.size();
+			}
+			siblings.add(sibling);
+		});
+
+		byte[] encoded = new byte[siblings.size() * MerkleUtil.DIGEST_LENGTH];
+		for (int i = 0; i < siblings.size(); i++) {
+			System.arraycopy(siblings.get(i), 0, encoded, i * MerkleUtil.DIGEST_LENGTH, MerkleUtil.DIGEST_LENGTH);
+		}
+		return new EncodedProof(encoded, leftMask[0]);
+	}
+
+	// encodedProofOf 결과를 ProofNode 목록으로 복원
+	public static List<MerkleUtil.ProofNode> decodeProof(byte[] siblings, long leftMask) {
+		int count = siblings.length / MerkleUtil.DIGEST_LENGTH;
+		List<MerkleUtil.ProofNode> proof = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			int from = i * MerkleUtil.DIGEST_LENGTH;
+			String hash = MerkleUtil.toHex(Arrays.copyOfRange(siblings, from, from + MerkleUtil.DIGEST_LENGTH));
+			proof.add(new MerkleUtil.ProofNode(hash, ((leftMask >>> i) & 1L) == 1L));
+		}
+		return proof;
+	}
+
+	private void forEachSibling(int leafIndex, SiblingConsumer consumer) {
+		if (leafIndex < 0 || leafIndex >= size()) {
+			throw new IllegalArgumentException("leafIndex out of range: " + leafIndex);
+		}
+
+		int index = leafIndex;
+		for (int level = 0; level < levels.size() - 1; level++) {
+			byte[][] nodes = levels.get(level);
+			int siblingIndex = index ^ 1;
+			// 짝이 없어 그대로 올라간 노드는 형제 없음
+			if (siblingIndex < nodes.length) {
+				consumer.accept(nodes[siblingIndex], (index & 1) == 1);
+			}
+			index >>= 1;
+		}
+	}
+
+	public record EncodedProof(byte[] siblings, long leftMask) {
+	}
+
+	@FunctionalInterface
+	private interface SiblingConsumer {
+		void accept(byte[] sibling, boolean isLeft);
+	}
+
+	// [fromPair, toPair) 구간의 노드 쌍 결합
+	private static final class CombineTask extends RecursiveAction {
+
+		private final byte[][] current;
+		private final byte[][] next;
+		private final int fromPair;
+		private final int toPair;
+
+		private CombineTask(byte[][] current, byte[][] next, int fromPair, int toPair) {
+			this.current = current;
+			this.next = next;
+			this.fromPair = fromPair;
+			this.toPair = toPair;
+		}
+
+		@Override
+		protected void compute() {
+			if (toPair - fromPair <= SEQUENTIAL_THRESHOLD) {
+				for (int pair = fromPair; pair < toPair; pair++) {
+					next[pair] = MerkleUtil.hashPair(current[2 * pair], current[2 * pair + 1]);
+				}
+				return;
+			}
+			int mid = (fromPair + toPair) >>> 1;
+			invokeAll(
+				new CombineTask(current, next, fromPair, mid),
+				new CombineTask(current, next, mid, toPair)
+			);
+		}
+	}
+}
@@ -0,0 +1,82 @@
+package com.back.global.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * SHA-256 해시 유틸리티
+ * - 스레드별 MessageDigest 재사용 (호출마다 getInstance 하지 않음)
+ * - byte[] 단위 결합 해시 (문자열 연결 없음)
+ * - 조회 테이블 기반 hex 인코딩 (바이트마다 String.format 하지 않음)
+ */
+public final class Sha256Util {
+
+	public static final int DIGEST_LENGTH = 32;
+
+	private static final ThreadLocal<MessageDigest> DIGEST = ThreadLocal.withInitial(Sha256Util::newDigest);
+
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+	private Sha256Util() {
+		// 유틸리티 클래스 - 인스턴스화 방지
+	}
+
+	public static byte[] digest(byte[] input) {
+		MessageDigest digest = DIGEST.get();
+		digest.reset();
+		return digest.digest(input);
+	}
+
+	public static byte[] digest(String input) {
+		return digest(input.getBytes(StandardCharsets.UTF_8));
+	}
+
+	// SHA-256(left || right)
+	public static byte[] digest(byte[] left, byte[] right) {
+		MessageDigest digest = DIGEST.get();
+		digest.reset();
+		digest.update(left);
+		digest.update(right);
+		return digest.digest();
+	}
+
+	// SHA-256(UTF-8(left) || UTF-8(right)) - 문자열 연결 없이 left + right 해시와 동일
+	public static byte[] digest(String left, String right) {
+		return digest(left.getBytes(StandardCharsets.UTF_8), right.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static String toHex(byte[] bytes) {
+		char[] chars = new char[bytes.length * 2];
+		for (int i = 0; i < bytes.length; i++) {
+			int value = bytes[i] & 0xff;
+			chars[i * 2] = HEX_DIGITS[value >>> 4];
+			chars[i * 2 + 1] = HEX_DIGITS[value & 0x0f];
+		}
+		return new String(chars);
+	}
+
+	public static byte[] fromHex(String hex) {
+		if (hex.length() % 2 != 0) {
+			throw new IllegalArgumentException("hex length must be even");
+		}
+		byte[] bytes = new byte[hex.length() / 2];
+		for (int i = 0; i < bytes.length; i++) {
+			int high = Character.digit(hex.charAt(i * 2), 16);
+			int low = Character.digit(hex.charAt(i * 2 + 1), 16);
+			if (high < 0 || low < 0) {
+				throw new IllegalArgumentException("invalid hex: " + hex);
+			}
+			bytes[i] = (byte)((high << 4) | low);
+		}
+		return bytes;
+	}
+
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException("SHA-256 algorithm not available", e);
+		}
+	}
+}
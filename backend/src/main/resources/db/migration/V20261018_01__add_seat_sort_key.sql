@@ -0,0 +1,16 @@
+-- 1. 좌석 자연 정렬 키 컬럼 추가 (행 prefix + 10자리 zero-padding 번호)
+ALTER TABLE seats
+    ADD COLUMN IF NOT EXISTS sort_key VARCHAR(40);
+
+-- 2. 기존 좌석 backfill (Seat.toSortKey와 동일 규칙)
+UPDATE seats
+SET sort_key = REGEXP_REPLACE(seat_code, '[0-9]', '', 'g')
+    || LPAD(REGEXP_REPLACE(seat_code, '[^0-9]', '', 'g'), 10, '0')
+WHERE sort_key IS NULL;
+
+ALTER TABLE seats
+    ALTER COLUMN sort_key SET NOT NULL;
+
+-- 3. 관리자 좌석 목록 정렬/페이징용 인덱스
+CREATE INDEX IF NOT EXISTS idx_seats_event_grade_sort_key
+    ON seats (event_id, grade, sort_key);
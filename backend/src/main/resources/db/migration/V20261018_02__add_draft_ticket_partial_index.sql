@@ -0,0 +1,5 @@
+-- 만료 대상 Draft 티켓 keyset 순회용 부분 인덱스
+-- DraftTicketExpirationScheduler: WHERE ticket_status = 'DRAFT' AND created_at < ? AND id > ? ORDER BY id
+CREATE INDEX IF NOT EXISTS idx_tickets_draft_id_created_at
+    ON tickets (id, created_at)
+    WHERE ticket_status = 'DRAFT';
@@ -0,0 +1,10 @@
+-- 티켓별 양도 이력 Merkle 누산기 frontier (양도 시 O(log n) 해시로 Root 갱신)
+-- 기존 양도 이력이 있는 티켓은 다음 양도 시 전체 이력으로 frontier를 구성
+CREATE TABLE IF NOT EXISTS ticket_merkle_frontier (
+    ticket_id   BIGINT PRIMARY KEY,
+    leaf_count  BIGINT      NOT NULL,
+    frontier    BYTEA       NOT NULL,
+    root        VARCHAR(64) NOT NULL,
+    created_at  TIMESTAMP,
+    modified_at TIMESTAMP
+);
@@ -0,0 +1,25 @@
+-- 1. 에포크 단위 양도 이력 전역 Merkle Root
+CREATE TABLE IF NOT EXISTS merkle_epoch_anchor (
+    id               BIGSERIAL PRIMARY KEY,
+    first_history_id BIGINT      NOT NULL,
+    last_history_id  BIGINT      NOT NULL,
+    leaf_count       INT         NOT NULL,
+    root             VARCHAR(64) NOT NULL,
+    anchored_at      TIMESTAMP   NOT NULL,
+    created_at       TIMESTAMP,
+    modified_at      TIMESTAMP
+);
+
+-- 2. 양도 이력별 에포크 Merkle Proof (형제 digest + 좌우 비트마스크)
+CREATE TABLE IF NOT EXISTS transfer_merkle_proof (
+    history_id  BIGINT PRIMARY KEY,
+    epoch_id    BIGINT NOT NULL,
+    leaf_index  INT    NOT NULL,
+    siblings    BYTEA  NOT NULL,
+    left_mask   BIGINT NOT NULL,
+    created_at  TIMESTAMP,
+    modified_at TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_transfer_merkle_proof_epoch_id
+    ON transfer_merkle_proof (epoch_id);
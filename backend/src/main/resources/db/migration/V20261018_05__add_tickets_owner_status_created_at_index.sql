@@ -0,0 +1,4 @@
+-- 내 티켓 목록 조회용 복합 인덱스 (캐시 miss 시)
+-- findMyTicketDto: WHERE owner_user_id = ? AND ticket_status IN (...) ORDER BY created_at DESC
+CREATE INDEX IF NOT EXISTS idx_tickets_owner_status_created_at
+    ON tickets (owner_user_id, ticket_status, created_at DESC);
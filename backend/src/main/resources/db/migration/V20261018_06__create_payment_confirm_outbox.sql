@@ -0,0 +1,20 @@
+-- 결제 승인 요청 outbox (비동기 승인 워커 처리 대상)
+CREATE TABLE IF NOT EXISTS payment_confirm_outbox (
+    id              BIGSERIAL PRIMARY KEY,
+    order_id        VARCHAR(36)  NOT NULL UNIQUE,
+    user_id         BIGINT       NOT NULL,
+    ticket_id       BIGINT       NOT NULL,
+    payment_key     VARCHAR(255) NOT NULL,
+    amount          BIGINT       NOT NULL,
+    status          VARCHAR(20)  NOT NULL,
+    attempts        INT          NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP    NOT NULL,
+    claimed_at      TIMESTAMP,
+    failure_code    VARCHAR(50),
+    created_at      TIMESTAMP,
+    modified_at     TIMESTAMP
+);
+
+-- 워커 폴링: WHERE status = 'PENDING' AND next_attempt_at <= ? ORDER BY id
+CREATE INDEX IF NOT EXISTS idx_payment_confirm_outbox_status_next
+    ON payment_confirm_outbox (status, next_attempt_at);
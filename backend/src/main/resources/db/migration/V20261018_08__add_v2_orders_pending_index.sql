@@ -0,0 +1,5 @@
+-- 결제 대사 배치: WHERE status = 'PENDING' AND created_at < ? AND v2_order_id > ? ORDER BY v2_order_id
+-- PENDING 주문만 인덱싱 (완료/실패 주문은 제외되어 크기가 작게 유지됨)
+CREATE INDEX IF NOT EXISTS idx_v2_orders_pending_order_id
+    ON v2_orders (v2_order_id, created_at)
+    WHERE status = 'PENDING';
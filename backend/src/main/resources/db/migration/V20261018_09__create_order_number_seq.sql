@@ -0,0 +1,10 @@
+-- 주문번호 블록 할당용 시퀀스
+-- 노드별로 nextval 1회에 1000개 구간을 임대 (OrderNumberGenerator.BLOCK_SIZE와 일치해야 함)
+CREATE SEQUENCE IF NOT EXISTS order_number_seq
+    START WITH 1
+    INCREMENT BY 1000;
+
+-- 주문번호 중복 방지 (기존 랜덤 번호와 일련번호 형식이 겹치는 경우 등은 저장 시 실패)
+CREATE UNIQUE INDEX IF NOT EXISTS ux_orders_order_number_not_null
+    ON orders (order_number)
+    WHERE order_number IS NOT NULL;
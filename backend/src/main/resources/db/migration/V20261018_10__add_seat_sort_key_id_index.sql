@@ -0,0 +1,6 @@
+-- 관리자 좌석 keyset 페이징 tie-breaker: sort_key는 유일하지 않으므로 (sort_key, id) 순으로 탐색
+-- (예: "A1", "A01" 모두 A0000000001)
+CREATE INDEX IF NOT EXISTS idx_seats_event_grade_sort_key_id
+    ON seats (event_id, grade, sort_key, id);
+
+DROP INDEX IF EXISTS idx_seats_event_grade_sort_key;
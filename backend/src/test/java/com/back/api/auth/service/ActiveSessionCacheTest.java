@@ -0,0 +1,176 @@
+package com.back.api.auth.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.back.api.auth.dto.cache.ActiveSessionDto;
+import com.back.domain.auth.entity.ActiveSession;
+import com.back.domain.auth.repository.ActiveSessionRepository;
+import com.back.global.error.code.AuthErrorCode;
+import com.back.global.error.exception.ErrorException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ActiveSessionCache 단위 테스트")
+class ActiveSessionCacheTest {
+
+	private static final long USER_ID = 1L;
+	private static final String KEY = "active_session:" + USER_ID;
+
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	@Mock
+	private ActiveSessionRepository activeSessionRepository;
+
+	@Mock
+	private RedisMessageListenerContainer listenerContainer;
+
+	private ActiveSessionCache activeSessionCache;
+
+	@BeforeEach
+	void setUp() {
+		activeSessionCache = new ActiveSessionCache(redisTemplate, activeSessionRepository, listenerContainer);
+		given(redisTemplate.opsForValue()).willReturn(valueOperations);
+	}
+
+	@Test
+	@DisplayName("로컬 캐시 hit 시 Redis를 조회하지 않는다")
+	void get_nearCacheHit_skipsRedis() {
+		given(valueOperations.get(KEY)).willReturn("sid-1:1");
+
+		Optional<ActiveSessionDto> first = activeSessionCache.get(USER_ID);
+		Optional<ActiveSessionDto> second = activeSessionCache.get(USER_ID);
+
+		assertThat(first).isPresent();
+		assertThat(second.get().matches("sid-1", 1L)).isTrue();
+		then(valueOperations).should(times(1)).get(KEY);
+	}
+
+	@Test
+	@DisplayName("무효화 메시지를 받으면 로컬 캐시를 버리고 Redis에서 다시 조회한다")
+	void onMessage_invalidatesNearCache() {
+		given(valueOperations.get(KEY)).willReturn("sid-1:1", "sid-2:2");
+		activeSessionCache.get(USER_ID);
+
+		activeSessionCache.onMessage(invalidation(USER_ID), null);
+		Optional<ActiveSessionDto> reloaded = activeSessionCache.get(USER_ID);
+
+		assertThat(reloaded.get().matches("sid-2", 2L)).isTrue();
+		then(valueOperations).should(times(2)).get(KEY);
+	}
+
+	@Test
+	@DisplayName("Redis 조회 도중 무효화된 값은 로컬 캐시에 넣지 않는다")
+	void get_invalidatedDuringLoad_notCachedLocally() {
+		given(valueOperations.get(KEY))
+			.willAnswer(invocation -> {
+				// 다른 노드에서 로그인 → 무효화 메시지가 조회 응답보다 먼저 도착
+				activeSessionCache.onMessage(invalidation(USER_ID), null);
+				return "sid-1:1";
+			})
+			.willReturn("sid-2:2");
+
+		activeSessionCache.get(USER_ID);
+		Optional<ActiveSessionDto> reloaded = activeSessionCache.get(USER_ID);
+
+		assertThat(reloaded.get().matches("sid-2", 2L)).isTrue();
+	}
+
+	@Test
+	@DisplayName("로그인 시 세션을 저장하고 다른 노드에 무효화를 발행한다")
+	void set_publishesInvalidation() {
+		activeSessionCache.set(USER_ID, new ActiveSessionDto("sid-2", 2L));
+
+		then(valueOperations).should().set(eq(KEY), eq("sid-2:2"), any());
+		then(redisTemplate).should().convertAndSend(ActiveSessionCache.INVALIDATION_CHANNEL, String.valueOf(USER_ID));
+	}
+
+	@Test
+	@DisplayName("로컬 값이 무효화된 상태에서 Redis 장애 시 fast-fail 한다")
+	void get_redisFailureAfterInvalidation_failsFast() {
+		given(valueOperations.get(KEY))
+			.willReturn("sid-1:1")
+			.willThrow(new RedisConnectionFailureException("down"));
+		activeSessionCache.get(USER_ID);
+		activeSessionCache.onMessage(invalidation(USER_ID), null);
+
+		assertThatThrownBy(() -> activeSessionCache.get(USER_ID))
+			.isInstanceOf(ErrorException.class)
+			.hasFieldOrPropertyWithValue("errorCode", AuthErrorCode.TEMPORARY_AUTH_UNAVAILABLE);
+		then(activeSessionRepository).should(never()).findByUserId(anyLong());
+	}
+
+	@Test
+	@DisplayName("같은 사용자의 동시 miss는 한 번만 조회하고 결과를 공유한다")
+	void get_concurrentMiss_singleFlight() throws Exception {
+		CountDownLatch leaderLoading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		given(valueOperations.get(KEY)).willAnswer(invocation -> {
+			leaderLoading.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return null;
+		});
+
+		ActiveSession session = mock(ActiveSession.class);
+		given(session.getSessionId()).willReturn("sid-1");
+		given(session.getTokenVersion()).willReturn(1L);
+		given(activeSessionRepository.findByUserId(USER_ID)).willReturn(Optional.of(session));
+
+		int followers = 8;
+		ExecutorService executor = Executors.newFixedThreadPool(followers + 1);
+		try {
+			Future<Optional<ActiveSessionDto>> leader = executor.submit(() -> activeSessionCache.get(USER_ID));
+			leaderLoading.await(5, TimeUnit.SECONDS);
+
+			List<Future<Optional<ActiveSessionDto>>> results = new ArrayList<>();
+			for (int i = 0; i < followers; i++) {
+				results.add(executor.submit(() -> activeSessionCache.get(USER_ID)));
+			}
+			Thread.sleep(100); // 후속 요청이 선행 조회에 합류할 시간
+			release.countDown();
+
+			assertThat(leader.get(5, TimeUnit.SECONDS).get().matches("sid-1", 1L)).isTrue();
+			for (Future<Optional<ActiveSessionDto>> result : results) {
+				assertThat(result.get(5, TimeUnit.SECONDS).get().matches("sid-1", 1L)).isTrue();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		then(valueOperations).should(times(1)).get(KEY);
+		then(activeSessionRepository).should(times(1)).findByUserId(USER_ID);
+	}
+
+	private DefaultMessage invalidation(long userId) {
+		return new DefaultMessage(
+			ActiveSessionCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+			String.valueOf(userId).getBytes(StandardCharsets.UTF_8)
+		);
+	}
+}
@@ -21,6 +21,7 @@ import com.back.api.event.dto.request.EventCreateRequest;
 import com.back.api.event.dto.request.EventUpdateRequest;
 import com.back.api.event.dto.response.AdminEventDashboardResponse;
 import com.back.api.event.dto.response.EventResponse;
+import com.back.api.seat.service.SeatAvailabilityService;
 import com.back.domain.event.entity.Event;
 import com.back.domain.event.repository.EventRepository;
 import com.back.domain.preregister.entity.PreRegisterStatus;
@@ -50,6 +51,9 @@ class AdminEventServiceTest {
 	@Mock
 	private SeatRepository seatRepository;
 
+	@Mock
+	private SeatAvailabilityService seatAvailabilityService;
+
 	private final Store store = StoreFactory.fakeStore(1L);
 
 	@Nested
@@ -134,7 +138,7 @@ class AdminEventServiceTest {
 				.willReturn(eventPage);
 			given(preRegisterRepository.countByEvent_IdAndPreRegisterStatus(
 				any(), eq(PreRegisterStatus.REGISTERED))).willReturn(10L);
-			given(seatRepository.countByEventIdAndSeatStatus(any(), eq(SeatStatus.SOLD))).willReturn(5L);
+			given(seatAvailabilityService.countByStatus(any(), eq(SeatStatus.SOLD))).willReturn(5L);
 			given(seatRepository.sumPriceByEventIdAndSeatStatus(any(), eq(SeatStatus.SOLD))).willReturn(50000L);
 
 			// when
@@ -183,7 +187,7 @@ class AdminEventServiceTest {
 				.willReturn(eventPage);
 			given(preRegisterRepository.countByEvent_IdAndPreRegisterStatus(
 				any(), eq(PreRegisterStatus.REGISTERED))).willReturn(0L);
-			given(seatRepository.countByEventIdAndSeatStatus(any(), eq(SeatStatus.SOLD))).willReturn(0L);
+			given(seatAvailabilityService.countByStatus(any(), eq(SeatStatus.SOLD))).willReturn(0L);
 			given(seatRepository.sumPriceByEventIdAndSeatStatus(any(), eq(SeatStatus.SOLD))).willReturn(null);
 
 			// when
@@ -0,0 +1,63 @@
+package com.back.api.order.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.back.api.payment.order.service.OrderNumberGenerator;
+import com.back.domain.payment.order.repository.OrderRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderNumberGenerator 단위 테스트")
+class OrderNumberGeneratorTest {
+
+	@InjectMocks
+	private OrderNumberGenerator orderNumberGenerator;
+
+	@Mock
+	private OrderRepository orderRepository;
+
+	@Test
+	@DisplayName("임대한 구간 안에서는 DB 조회 없이 순차 발급하고, 소진 시 다음 구간을 임대한다")
+	void generate_leasesBlock() {
+		// given - order_number_seq: 1, 1001, ...
+		given(orderRepository.nextOrderNumberBlock()).willReturn(1L, 1001L);
+
+		// when
+		String first = orderNumberGenerator.generate();
+		for (int i = 1; i < 999; i++) {
+			orderNumberGenerator.generate();
+		}
+		String lastOfBlock = orderNumberGenerator.generate();
+		String firstOfNextBlock = orderNumberGenerator.generate();
+
+		// then
+		assertThat(first).isEqualTo("WFS0000000018");
+		assertThat(lastOfBlock).startsWith("WFS000001000");
+		assertThat(firstOfNextBlock).isEqualTo("WFS0000010017");
+		then(orderRepository).should(times(2)).nextOrderNumberBlock();
+	}
+
+	@Test
+	@DisplayName("체크 숫자로 오타가 있는 주문번호를 걸러낸다")
+	void isValid_detectsTypo() {
+		assertThat(OrderNumberGenerator.isValid("WFS0000010017")).isTrue();
+		assertThat(OrderNumberGenerator.isValid("WFS0000010027")).isFalse();
+		assertThat(OrderNumberGenerator.isValid("WFS000001001")).isFalse();
+		assertThat(OrderNumberGenerator.isValid("XXS0000010017")).isFalse();
+		assertThat(OrderNumberGenerator.isValid(null)).isFalse();
+	}
+
+	@Test
+	@DisplayName("기존 랜덤 주문번호(WF + 숫자 10자리)와 형식이 겹치지 않는다")
+	void format_doesNotOverlapLegacyNumbers() {
+		assertThat(OrderNumberGenerator.isValid("WF0000010017")).isFalse();
+		assertThat(OrderNumberGenerator.isValid("WF4840318933")).isFalse();
+	}
+}
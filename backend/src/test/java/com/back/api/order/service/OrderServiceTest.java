@@ -14,6 +14,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.back.api.payment.order.dto.request.OrderRequestDto;
 import com.back.api.payment.order.dto.response.OrderResponseDto;
+import com.back.api.payment.order.service.OrderNumberGenerator;
 import com.back.api.payment.order.service.OrderService;
 import com.back.api.ticket.service.TicketService;
 import com.back.domain.payment.order.repository.OrderRepository;
@@ -42,6 +43,9 @@ class OrderServiceTest {
 	@Mock
 	private TicketService ticketService;
 
+	@Mock
+	private OrderNumberGenerator orderNumberGenerator;
+
 	@Mock
 	private PasswordEncoder passwordEncoder;
 
@@ -64,6 +68,9 @@ class OrderServiceTest {
 		given(ticketService.getDraftTicket(eventId, seatId, userId))
 			.willReturn(draftTicket);
 
+		given(orderNumberGenerator.generate())
+			.willReturn("WFS0000010017");
+
 		var savedOrder = OrderFactory.fakePendingOrder(draftTicket, amount);
 		given(orderRepository.save(any()))
 			.willReturn(savedOrder);
@@ -0,0 +1,131 @@
+package com.back.api.payment.batch;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.Chunk;
+
+import com.back.api.payment.payment.batch.PaymentReconcileWriter;
+import com.back.api.payment.payment.dto.response.TossPaymentResponse;
+import com.back.api.payment.payment.dto.response.TossPaymentStatusResponse;
+import com.back.api.payment.payment.service.PaymentTransactionService;
+import com.back.api.payment.payment.service.PgBulkhead;
+import com.back.api.payment.payment.service.TossPaymentService;
+import com.back.domain.payment.order.repository.StalePendingOrder;
+import com.back.domain.payment.payment.entity.ApproveStatus;
+import com.back.global.error.code.PaymentErrorCode;
+import com.back.global.error.exception.ErrorException;
+import com.back.global.observability.metrics.BusinessMetrics;
+import com.back.global.observability.metrics.PaymentPhaseMetrics;
+import com.back.global.properties.PgBulkheadProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentReconcileWriter 단위 테스트")
+class PaymentReconcileWriterTest {
+
+	@Mock
+	private TossPaymentService tossPaymentService;
+
+	@Mock
+	private PaymentTransactionService paymentTransactionService;
+
+	@Mock
+	private BusinessMetrics businessMetrics;
+
+	private PaymentReconcileWriter writer;
+
+	record Order(String getOrderId, Long getTicketId, Long getUserId, LocalDateTime getCreatedAt)
+		implements StalePendingOrder {
+	}
+
+	@BeforeEach
+	void setUp() {
+		// PG 조회 풀 대신 호출 스레드에서 바로 실행
+		Executor directExecutor = Runnable::run;
+		PgBulkhead pgBulkhead = new PgBulkhead(new PgBulkheadProperties(), new SimpleMeterRegistry());
+		writer = new PaymentReconcileWriter(
+			tossPaymentService, pgBulkhead, paymentTransactionService, businessMetrics, directExecutor
+		);
+	}
+
+	@Test
+	@DisplayName("PG 승인 완료 주문은 결제 성공 처리한다")
+	void write_pgDone_appliesSuccess() {
+		Order order = new Order("order-1", 10L, 100L, LocalDateTime.now().minusMinutes(3));
+		given(tossPaymentService.getPaymentByOrderId("order-1"))
+			.willReturn(Optional.of(status("order-1", "DONE")));
+
+		writer.write(Chunk.of(order));
+
+		then(paymentTransactionService).should().handleSuccess(
+			eq("order-1"),
+			eq(new TossPaymentResponse("pk-order-1", ApproveStatus.DONE, "카드", 50_000L, null)),
+			eq(100L),
+			eq(PaymentPhaseMetrics.PATH_RECONCILE)
+		);
+		then(paymentTransactionService).should().handleFailures(List.of(), List.of());
+	}
+
+	@Test
+	@DisplayName("PG 종료 상태(ABORTED/EXPIRED/CANCELED) 주문은 일괄 실패 처리한다")
+	void write_pgFinalFailure_failsInBulk() {
+		Order aborted = new Order("order-1", 10L, 100L, LocalDateTime.now().minusMinutes(3));
+		Order expired = new Order("order-2", 20L, 200L, LocalDateTime.now().minusMinutes(3));
+		given(tossPaymentService.getPaymentByOrderId("order-1"))
+			.willReturn(Optional.of(status("order-1", "ABORTED")));
+		given(tossPaymentService.getPaymentByOrderId("order-2"))
+			.willReturn(Optional.of(status("order-2", "EXPIRED")));
+
+		writer.write(Chunk.of(aborted, expired));
+
+		then(paymentTransactionService).should()
+			.handleFailures(List.of("order-1", "order-2"), List.of(10L, 20L));
+		then(paymentTransactionService).should(never()).handleSuccess(any(), any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("승인 이력이 없으면 Draft 만료 시간이 지난 주문만 실패 처리한다")
+	void write_notFound_failsOnlyAbandoned() {
+		Order abandoned = new Order("order-1", 10L, 100L, LocalDateTime.now().minusMinutes(10));
+		Order recent = new Order("order-2", 20L, 200L, LocalDateTime.now().minusMinutes(3));
+		given(tossPaymentService.getPaymentByOrderId(anyString())).willReturn(Optional.empty());
+
+		writer.write(Chunk.of(abandoned, recent));
+
+		then(paymentTransactionService).should().handleFailures(List.of("order-1"), List.of(10L));
+	}
+
+	@Test
+	@DisplayName("PG 조회 실패나 진행 중인 결제는 다음 실행으로 미룬다")
+	void write_pgUnavailableOrInProgress_skips() {
+		Order unavailable = new Order("order-1", 10L, 100L, LocalDateTime.now().minusMinutes(10));
+		Order inProgress = new Order("order-2", 20L, 200L, LocalDateTime.now().minusMinutes(10));
+		given(tossPaymentService.getPaymentByOrderId("order-1"))
+			.willThrow(new ErrorException(PaymentErrorCode.PG_UNAVAILABLE));
+		given(tossPaymentService.getPaymentByOrderId("order-2"))
+			.willReturn(Optional.of(status("order-2", "IN_PROGRESS")));
+
+		writer.write(Chunk.of(unavailable, inProgress));
+
+		then(paymentTransactionService).should().handleFailures(List.of(), List.of());
+		then(paymentTransactionService).should(never()).handleSuccess(any(), any(), any(), any());
+		then(businessMetrics).should().paymentReconciled("skipped", 2);
+	}
+
+	private TossPaymentStatusResponse status(String orderId, String status) {
+		return new TossPaymentStatusResponse("pk-" + orderId, orderId, status, "카드", 50_000L, null);
+	}
+}
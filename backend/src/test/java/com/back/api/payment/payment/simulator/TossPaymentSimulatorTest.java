@@ -0,0 +1,47 @@
+package com.back.api.payment.payment.simulator;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.back.api.payment.payment.simulator.TossPaymentSimulator.Outcome;
+import com.back.global.properties.TossSimulatorProperties;
+
+@DisplayName("TossPaymentSimulator 단위 테스트")
+class TossPaymentSimulatorTest {
+
+	private TossSimulatorProperties properties;
+
+	@BeforeEach
+	void setUp() {
+		properties = new TossSimulatorProperties();
+		properties.setLatencyP50Ms(100);
+		properties.setLatencyP95Ms(500);
+		properties.setLatencyP99Ms(1000);
+		properties.setLatencyMaxMs(2000);
+		properties.setTimeoutRate(0.1);
+		properties.setErrorRate(0.2);
+		properties.setAbortRate(0.3);
+	}
+
+	@Test
+	@DisplayName("지연 샘플은 설정한 백분위 경계값을 지난다")
+	void sampleLatency_matchesPercentiles() {
+		assertThat(TossPaymentSimulator.sampleLatencyMs(properties, 0.0)).isZero();
+		assertThat(TossPaymentSimulator.sampleLatencyMs(properties, 0.50)).isEqualTo(100);
+		assertThat(TossPaymentSimulator.sampleLatencyMs(properties, 0.95)).isEqualTo(500);
+		assertThat(TossPaymentSimulator.sampleLatencyMs(properties, 0.99)).isEqualTo(1000);
+		assertThat(TossPaymentSimulator.sampleLatencyMs(properties, 0.999999)).isBetween(1000L, 2000L);
+	}
+
+	@Test
+	@DisplayName("실패 주입 비율 구간에 따라 결과가 정해진다")
+	void decide_followsRates() {
+		assertThat(TossPaymentSimulator.decide(properties, 0.05)).isEqualTo(Outcome.TIMEOUT);
+		assertThat(TossPaymentSimulator.decide(properties, 0.25)).isEqualTo(Outcome.ERROR);
+		assertThat(TossPaymentSimulator.decide(properties, 0.55)).isEqualTo(Outcome.ABORTED);
+		assertThat(TossPaymentSimulator.decide(properties, 0.65)).isEqualTo(Outcome.APPROVED);
+	}
+}
@@ -0,0 +1,189 @@
+package com.back.api.payment.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.back.api.payment.payment.dto.response.TossPaymentResponse;
+import com.back.api.payment.payment.dto.response.TossPaymentStatusResponse;
+import com.back.api.payment.payment.service.PaymentConfirmOutboxService;
+import com.back.api.payment.payment.service.PaymentConfirmWorker;
+import com.back.api.payment.payment.service.PgBulkhead;
+import com.back.api.payment.payment.service.TossPaymentService;
+import com.back.domain.payment.payment.entity.ApproveStatus;
+import com.back.domain.payment.payment.entity.PaymentConfirmOutbox;
+import com.back.global.error.code.PaymentErrorCode;
+import com.back.global.error.exception.ErrorException;
+import com.back.global.observability.metrics.BusinessMetrics;
+import com.back.global.properties.PgBulkheadProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentConfirmWorker 단위 테스트")
+class PaymentConfirmWorkerTest {
+
+	private static final Long OUTBOX_ID = 1L;
+	private static final String ORDER_ID = "order-1";
+
+	@Mock
+	private PaymentConfirmOutboxService outboxService;
+
+	@Mock
+	private TossPaymentService tossPaymentService;
+
+	@Mock
+	private BusinessMetrics businessMetrics;
+
+	private PgBulkhead pgBulkhead;
+	private PaymentConfirmWorker worker;
+	private PaymentConfirmOutbox outbox;
+
+	@BeforeEach
+	void setUp() {
+		// 워커 풀 대신 호출 스레드에서 바로 실행
+		Executor directExecutor = Runnable::run;
+		pgBulkhead = new PgBulkhead(new PgBulkheadProperties(), new SimpleMeterRegistry());
+		worker = new PaymentConfirmWorker(
+			outboxService, tossPaymentService, pgBulkhead, businessMetrics, directExecutor
+		);
+
+		outbox = PaymentConfirmOutbox.builder()
+			.orderId(ORDER_ID)
+			.userId(100L)
+			.ticketId(10L)
+			.paymentKey("payment-key")
+			.amount(50_000L)
+			.build();
+		ReflectionTestUtils.setField(outbox, "id", OUTBOX_ID);
+	}
+
+	@Test
+	@DisplayName("PG 승인 성공 - 후속 처리 완료")
+	void dispatch_pgDone_completesSuccess() {
+		TossPaymentResponse done = new TossPaymentResponse("payment-key", ApproveStatus.DONE, "CARD", 50_000L, null);
+		given(outboxService.claim(OUTBOX_ID)).willReturn(Optional.of(outbox));
+		given(tossPaymentService.confirmPayment(any())).willReturn(done);
+
+		assertThat(worker.dispatch(OUTBOX_ID)).isTrue();
+
+		then(outboxService).should().completeSuccess(OUTBOX_ID, done);
+		then(outboxService).should(never()).completeFailure(anyLong(), anyString(), anyBoolean());
+	}
+
+	@Test
+	@DisplayName("다른 워커가 선점한 outbox는 PG를 호출하지 않는다")
+	void dispatch_notClaimed_skipsPg() {
+		given(outboxService.claim(OUTBOX_ID)).willReturn(Optional.empty());
+
+		worker.dispatch(OUTBOX_ID);
+
+		then(tossPaymentService).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("PG 승인 거절 - 주문 실패 처리")
+	void dispatch_pgAborted_failsOrder() {
+		given(outboxService.claim(OUTBOX_ID)).willReturn(Optional.of(outbox));
+		given(tossPaymentService.confirmPayment(any()))
+			.willReturn(new TossPaymentResponse("payment-key", ApproveStatus.ABORTED, "CARD", 50_000L, null));
+
+		worker.dispatch(OUTBOX_ID);
+
+		then(outboxService).should().completeFailure(OUTBOX_ID, "TOSS_PAYMENT_NOT_DONE", true);
+	}
+
+	@Test
+	@DisplayName("PG 타임아웃 - 재시도 예약 (주문 상태 유지)")
+	void dispatch_pgTimeout_schedulesRetry() {
+		given(outboxService.claim(OUTBOX_ID)).willReturn(Optional.of(outbox));
+		given(tossPaymentService.confirmPayment(any())).willThrow(new ErrorException(PaymentErrorCode.PG_TIMEOUT));
+
+		worker.dispatch(OUTBOX_ID);
+
+		then(outboxService).should().scheduleRetry(OUTBOX_ID, "PG_TIMEOUT");
+		then(outboxService).should(never()).completeFailure(anyLong(), anyString(), anyBoolean());
+	}
+
+	@Test
+	@DisplayName("재시도 시 PG에 이미 승인된 결제면 승인 재요청 없이 성공 처리")
+	void dispatch_retryAlreadyApproved_completesWithoutConfirm() {
+		ReflectionTestUtils.setField(outbox, "attempts", 2);
+		given(outboxService.claim(OUTBOX_ID)).willReturn(Optional.of(outbox));
+		given(tossPaymentService.getPaymentByOrderId(ORDER_ID)).willReturn(Optional.of(
+			new TossPaymentStatusResponse("payment-key", ORDER_ID, "DONE", "CARD", 50_000L, null)
+		));
+
+		worker.dispatch(OUTBOX_ID);
+
+		then(tossPaymentService).should(never()).confirmPayment(any());
+		then(outboxService).should().completeSuccess(eq(OUTBOX_ID), argThat(response ->
+			response.status() == ApproveStatus.DONE && "payment-key".equals(response.paymentKey())
+		));
+	}
+
+	@Test
+	@DisplayName("재시도 시 PG 승인 이력이 없으면 다시 승인 요청")
+	void dispatch_retryNotFound_confirmsAgain() {
+		ReflectionTestUtils.setField(outbox, "attempts", 2);
+		TossPaymentResponse done = new TossPaymentResponse("payment-key", ApproveStatus.DONE, "CARD", 50_000L, null);
+		given(outboxService.claim(OUTBOX_ID)).willReturn(Optional.of(outbox));
+		given(tossPaymentService.getPaymentByOrderId(ORDER_ID)).willReturn(Optional.empty());
+		given(tossPaymentService.confirmPayment(any())).willReturn(done);
+
+		worker.dispatch(OUTBOX_ID);
+
+		then(outboxService).should().completeSuccess(OUTBOX_ID, done);
+	}
+
+	@Test
+	@DisplayName("PG bulkhead 포화 - 시도 횟수를 쓰지 않고 다시 대기")
+	void dispatch_pgBusy_requeuesWithoutAttempt() {
+		given(outboxService.claim(OUTBOX_ID)).willReturn(Optional.of(outbox));
+		given(tossPaymentService.confirmPayment(any())).willThrow(new ErrorException(PaymentErrorCode.PG_BUSY));
+
+		worker.dispatch(OUTBOX_ID);
+
+		then(outboxService).should().requeueBusy(OUTBOX_ID);
+		then(outboxService).should(never()).scheduleRetry(anyLong(), anyString());
+	}
+
+	@Test
+	@DisplayName("PG 승인 후 후속 처리 실패 - 주문은 REFUND_REQUIRED로 표시")
+	void dispatch_postProcessFails_flagsRefundRequired() {
+		TossPaymentResponse done = new TossPaymentResponse("payment-key", ApproveStatus.DONE, "CARD", 50_000L, null);
+		given(outboxService.claim(OUTBOX_ID)).willReturn(Optional.of(outbox));
+		given(tossPaymentService.confirmPayment(any())).willReturn(done);
+		willThrow(new IllegalStateException("boom")).given(outboxService).completeSuccess(OUTBOX_ID, done);
+
+		worker.dispatch(OUTBOX_ID);
+
+		then(outboxService).should().completeRefundRequired(OUTBOX_ID, "payment-key", "POST_PROCESS_FAILED");
+		then(outboxService).should(never()).completeFailure(anyLong(), anyString(), anyBoolean());
+	}
+
+	@Test
+	@DisplayName("워커 풀이 가득 차면 false를 반환하고 outbox는 그대로 둔다")
+	void dispatch_rejected_returnsFalse() {
+		Executor rejecting = task -> {
+			throw new TaskRejectedException("full");
+		};
+		PaymentConfirmWorker saturated =
+			new PaymentConfirmWorker(outboxService, tossPaymentService, pgBulkhead, businessMetrics, rejecting);
+
+		assertThat(saturated.dispatch(OUTBOX_ID)).isFalse();
+		then(outboxService).shouldHaveNoInteractions();
+	}
+}
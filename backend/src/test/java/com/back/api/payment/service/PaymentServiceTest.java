@@ -21,6 +21,7 @@ import com.back.api.payment.payment.service.PaymentService;
 import com.back.api.queue.service.QueueEntryProcessService;
 import com.back.api.ticket.service.TicketService;
 import com.back.domain.payment.order.entity.OrderStatus;
+import com.back.domain.payment.order.repository.PaymentReceiptView;
 import com.back.domain.seat.entity.SeatGrade;
 import com.back.domain.store.entity.Store;
 import com.back.domain.ticket.entity.TicketStatus;
@@ -79,16 +80,10 @@ class PaymentServiceTest {
 		var order = OrderFactory.fakePendingOrder(draftTicket, amount);
 
 		var issuedTicket = TicketFactory.fakeIssuedTicket(user, seat, event);
-		// 결제 완료 후 상태 (PAID + issuedTicket)
-		var paidOrder = OrderFactory.fakePaidOrder(issuedTicket, amount, paymentKey);
 
 		given(orderService.getOrderForPayment(any(), any(), any()))
 			.willReturn(order);
 
-		// 영수증 조회 시 PAID 상태의 order 반환
-		given(orderService.getOrderWithDetails(any(), any()))
-			.willReturn(paidOrder);
-
 		given(paymentClient.confirm(any()))
 			.willReturn(new PaymentConfirmResult(paymentKey, amount, true));
 
@@ -148,4 +143,24 @@ class PaymentServiceTest {
 		verify(ticketService, never()).confirmPayment(any(), any());
 		verify(queueEntryProcessService, never()).completePayment(any(), any());
 	}
+
+	@Test
+	@DisplayName("영수증 조회 - projection 조회 결과로 구성")
+	void getPaymentReceipt_projection() {
+		// given
+		Long userId = 100L;
+		PaymentReceiptView view = mock(PaymentReceiptView.class);
+		given(view.getOrderId()).willReturn(1L);
+		given(view.getOrderStatus()).willReturn(OrderStatus.PAID);
+		given(view.getSeatGrade()).willReturn(SeatGrade.VIP);
+
+		given(orderService.getPaymentReceipt(1L, userId)).willReturn(view);
+
+		// when
+		PaymentReceiptResponse response = paymentService.getPaymentReceipt(1L, userId);
+
+		// then
+		assertThat(response.orderStatus()).isEqualTo(OrderStatus.PAID);
+		assertThat(response.seatGrade()).isEqualTo(SeatGrade.VIP.getDisplayName());
+	}
 }
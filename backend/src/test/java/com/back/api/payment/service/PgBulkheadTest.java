@@ -0,0 +1,204 @@
+package com.back.api.payment.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.back.api.payment.payment.service.PgBulkhead;
+import com.back.global.error.code.PaymentErrorCode;
+import com.back.global.error.exception.ErrorException;
+import com.back.global.properties.PgBulkheadProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("PgBulkhead 단위 테스트")
+class PgBulkheadTest {
+
+	private PgBulkheadProperties properties;
+	private SimpleMeterRegistry meterRegistry;
+
+	@BeforeEach
+	void setUp() {
+		properties = new PgBulkheadProperties();
+		meterRegistry = new SimpleMeterRegistry();
+	}
+
+	@Test
+	@DisplayName("한도와 대기열이 모두 찼으면 즉시 PG_BUSY")
+	void execute_queueFull_rejectsImmediately() throws Exception {
+		properties.setInitialLimit(1);
+		properties.setMaxQueueSize(0);
+		PgBulkhead bulkhead = new PgBulkhead(properties, meterRegistry);
+
+		CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<String> inFlight = occupy(bulkhead, release);
+
+		assertThatThrownBy(() -> bulkhead.execute(() -> "second"))
+			.isInstanceOf(ErrorException.class)
+			.extracting("errorCode")
+			.isEqualTo(PaymentErrorCode.PG_BUSY);
+		assertThat(meterRegistry.get("pg.bulkhead.rejected").tag("reason", "queue_full").counter().count())
+			.isEqualTo(1.0);
+
+		release.countDown();
+		assertThat(inFlight.get(1, TimeUnit.SECONDS)).isEqualTo("first");
+	}
+
+	@Test
+	@DisplayName("대기 시간 안에 허가를 얻지 못하면 PG_BUSY")
+	void execute_waitTimeout_rejects() throws Exception {
+		properties.setInitialLimit(1);
+		properties.setMaxWaitMs(50);
+		PgBulkhead bulkhead = new PgBulkhead(properties, meterRegistry);
+
+		CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<String> inFlight = occupy(bulkhead, release);
+
+		assertThatThrownBy(() -> bulkhead.execute(() -> "second"))
+			.isInstanceOf(ErrorException.class)
+			.extracting("errorCode")
+			.isEqualTo(PaymentErrorCode.PG_BUSY);
+		assertThat(meterRegistry.get("pg.bulkhead.rejected").tag("reason", "wait_timeout").counter().count())
+			.isEqualTo(1.0);
+		assertThat(bulkhead.getWaiting()).isZero();
+
+		release.countDown();
+		inFlight.get(1, TimeUnit.SECONDS);
+	}
+
+	@Test
+	@DisplayName("대기 중 허가가 반환되면 이어서 실행된다")
+	void execute_waitsForPermit() throws Exception {
+		properties.setInitialLimit(1);
+		properties.setMaxWaitMs(5_000);
+		PgBulkhead bulkhead = new PgBulkhead(properties, meterRegistry);
+
+		CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<String> inFlight = occupy(bulkhead, release);
+		CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> bulkhead.execute(() -> "second"));
+
+		release.countDown();
+
+		assertThat(inFlight.get(1, TimeUnit.SECONDS)).isEqualTo("first");
+		assertThat(queued.get(1, TimeUnit.SECONDS)).isEqualTo("second");
+		assertThat(bulkhead.getInFlight()).isZero();
+	}
+
+	@Test
+	@DisplayName("PG 타임아웃이면 한도를 줄인다")
+	void execute_pgTimeout_decreasesLimit() {
+		properties.setInitialLimit(10);
+		PgBulkhead bulkhead = new PgBulkhead(properties, meterRegistry);
+
+		assertThatThrownBy(() -> bulkhead.execute(() -> {
+			throw new ErrorException(PaymentErrorCode.PG_TIMEOUT);
+		})).isInstanceOf(ErrorException.class);
+
+		assertThat(bulkhead.getLimit()).isEqualTo(9);
+		assertThat(bulkhead.getInFlight()).isZero();
+	}
+
+	@Test
+	@DisplayName("같은 구간에 동시에 타임아웃 난 호출들은 한도를 한 번만 줄인다")
+	void execute_concurrentTimeouts_decreaseOnce() throws Exception {
+		properties.setInitialLimit(10);
+		PgBulkhead bulkhead = new PgBulkhead(properties, meterRegistry);
+
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+		CountDownLatch started = new CountDownLatch(3);
+		CountDownLatch release = new CountDownLatch(1);
+		List<CompletableFuture<Void>> calls = IntStream.range(0, 3)
+			.mapToObj(i -> CompletableFuture.runAsync(() -> bulkhead.execute(() -> {
+				started.countDown();
+				awaitQuietly(release);
+				throw new ErrorException(PaymentErrorCode.PG_TIMEOUT);
+			}), executor))
+			.toList();
+
+		assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+		release.countDown();
+		calls.forEach(call -> assertThatThrownBy(() -> call.get(1, TimeUnit.SECONDS)));
+		executor.shutdown();
+
+		assertThat(bulkhead.getLimit()).isEqualTo(9);
+
+		// 감소 이후 시작된 호출의 타임아웃은 다시 반영
+		assertThatThrownBy(() -> bulkhead.execute(() -> {
+			throw new ErrorException(PaymentErrorCode.PG_TIMEOUT);
+		})).isInstanceOf(ErrorException.class);
+
+		assertThat(bulkhead.getLimit()).isEqualTo(8);
+	}
+
+	@Test
+	@DisplayName("한도는 minLimit 아래로 내려가지 않는다")
+	void execute_pgTimeout_respectsMinLimit() {
+		properties.setInitialLimit(4);
+		properties.setMinLimit(4);
+		PgBulkhead bulkhead = new PgBulkhead(properties, meterRegistry);
+
+		assertThatThrownBy(() -> bulkhead.execute(() -> {
+			throw new ErrorException(PaymentErrorCode.PG_TIMEOUT);
+		})).isInstanceOf(ErrorException.class);
+
+		assertThat(bulkhead.getLimit()).isEqualTo(4);
+	}
+
+	@Test
+	@DisplayName("정상 응답이 한도만큼 쌓이면 한도를 1 늘린다")
+	void execute_successes_increaseLimit() {
+		properties.setInitialLimit(5);
+		PgBulkhead bulkhead = new PgBulkhead(properties, meterRegistry);
+
+		for (int i = 0; i < 5; i++) {
+			bulkhead.execute(() -> "ok");
+		}
+
+		assertThat(bulkhead.getLimit()).isEqualTo(6);
+	}
+
+	@Test
+	@DisplayName("서킷브레이커 OPEN 즉시 실패는 한도 조정에 반영하지 않는다")
+	void execute_pgUnavailable_keepsLimit() {
+		properties.setInitialLimit(5);
+		PgBulkhead bulkhead = new PgBulkhead(properties, meterRegistry);
+
+		for (int i = 0; i < 5; i++) {
+			assertThatThrownBy(() -> bulkhead.execute(() -> {
+				throw new ErrorException(PaymentErrorCode.PG_UNAVAILABLE);
+			})).isInstanceOf(ErrorException.class);
+		}
+
+		assertThat(bulkhead.getLimit()).isEqualTo(5);
+	}
+
+	// 허가 1개를 점유한 채 release 신호까지 대기
+	private CompletableFuture<String> occupy(PgBulkhead bulkhead, CountDownLatch release) throws InterruptedException {
+		CountDownLatch started = new CountDownLatch(1);
+		CompletableFuture<String> future = CompletableFuture.supplyAsync(() -> bulkhead.execute(() -> {
+			started.countDown();
+			awaitQuietly(release);
+			return "first";
+		}));
+		assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+		return future;
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -81,7 +81,7 @@ class V2PaymentServiceIntegrationTest {
 		private ErrorException nextException;
 
 		public FakeTossPaymentService() {
-			super(null); // RestClient는 사용하지 않음
+			super(null, null); // RestClient/메트릭은 사용하지 않음
 		}
 
 		public void willReturn(TossPaymentResponse response) {
@@ -19,6 +19,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.back.domain.event.entity.Event;
+import com.back.domain.seat.entity.Seat;
 import com.back.domain.seat.entity.SeatGrade;
 import com.back.domain.store.entity.Store;
 import com.back.domain.user.entity.UserRole;
@@ -731,4 +732,65 @@ class AdminSeatControllerTest {
 				.andExpect(jsonPath("$.data.seatStatus").value("RESERVED"));
 		}
 	}
+
+	@Nested
+	@DisplayName("좌석 목록 커서 조회 (GET /api/v1/admin/events/{eventId}/seats/cursor)")
+	class GetSeatsByEventWithCursor {
+
+		@Test
+		@DisplayName("성공: 등급, 좌석 코드 자연 정렬 순으로 커서 페이징")
+		void getSeatsWithCursor_NaturalOrder() throws Exception {
+			Seat a10 = seatHelper.createSeat(testEvent, "A10", SeatGrade.R, 100000);
+			seatHelper.createSeat(testEvent, "A2", SeatGrade.R, 100000);
+			seatHelper.createSeat(testEvent, "B1", SeatGrade.R, 100000);
+			seatHelper.createSeat(testEvent, "A1", SeatGrade.VIP, 150000);
+
+			mockMvc.perform(get("/api/v1/admin/events/{eventId}/seats/cursor", testEvent.getId())
+					.header("Authorization", "Bearer " + token)
+					.param("size", "2"))
+				.andDo(print())
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.seats", hasSize(2)))
+				.andExpect(jsonPath("$.data.seats[0].seatCode").value("A2"))
+				.andExpect(jsonPath("$.data.seats[1].seatCode").value("A10"))
+				.andExpect(jsonPath("$.data.hasNext").value(true))
+				.andExpect(jsonPath("$.data.nextCursor").value("R:A0000000010:" + a10.getId()));
+
+			mockMvc.perform(get("/api/v1/admin/events/{eventId}/seats/cursor", testEvent.getId())
+					.header("Authorization", "Bearer " + token)
+					.param("cursor", "R:A0000000010:" + a10.getId())
+					.param("size", "2"))
+				.andDo(print())
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.seats", hasSize(2)))
+				.andExpect(jsonPath("$.data.seats[0].seatCode").value("B1"))
+				.andExpect(jsonPath("$.data.seats[1].seatCode").value("A1"))
+				.andExpect(jsonPath("$.data.hasNext").value(false));
+		}
+
+		@Test
+		@DisplayName("성공: 정렬 키가 같은 좌석이 페이지 경계에 걸려도 누락하지 않는다")
+		void getSeatsWithCursor_SameSortKeyAcrossPages() throws Exception {
+			Seat a1 = seatHelper.createSeat(testEvent, "A1", SeatGrade.R, 100000);
+			Seat a01 = seatHelper.createSeat(testEvent, "A01", SeatGrade.R, 100000);
+
+			mockMvc.perform(get("/api/v1/admin/events/{eventId}/seats/cursor", testEvent.getId())
+					.header("Authorization", "Bearer " + token)
+					.param("size", "1"))
+				.andDo(print())
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.seats[0].seatCode").value("A1"))
+				.andExpect(jsonPath("$.data.nextCursor").value("R:A0000000001:" + a1.getId()));
+
+			mockMvc.perform(get("/api/v1/admin/events/{eventId}/seats/cursor", testEvent.getId())
+					.header("Authorization", "Bearer " + token)
+					.param("cursor", "R:A0000000001:" + a1.getId())
+					.param("size", "1"))
+				.andDo(print())
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.seats", hasSize(1)))
+				.andExpect(jsonPath("$.data.seats[0].id").value(a01.getId()))
+				.andExpect(jsonPath("$.data.hasNext").value(false));
+		}
+	}
 }
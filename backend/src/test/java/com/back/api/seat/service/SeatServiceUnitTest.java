@@ -36,6 +36,7 @@ import com.back.domain.seat.repository.SeatRepository;
 import com.back.global.error.code.SeatErrorCode;
 import com.back.global.error.exception.ErrorException;
 import com.back.global.event.EventPublisher;
+import com.back.global.observability.metrics.SeatContentionTracker;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("SeatService 단위 테스트")
@@ -62,6 +63,12 @@ class SeatServiceUnitTest {
 	@Mock
 	private com.back.global.observability.metrics.BusinessMetrics businessMetrics;
 
+	@Mock
+	private SeatAvailabilityService seatAvailabilityService;
+
+	@Mock
+	private SeatContentionTracker seatContentionTracker;
+
 	private Event testEvent;
 	private Seat testSeat;
 	private Long eventId;
@@ -191,6 +198,9 @@ class SeatServiceUnitTest {
 			);
 			then(seatRepository).should().findByEventIdAndId(eventId, seatId);
 			then(eventPublisher).should().publishEvent(any(SeatStatusMessage.class));
+			then(seatAvailabilityService).should().recordTransition(
+				eq(eventId), any(SeatGrade.class), eq(SeatStatus.AVAILABLE), eq(SeatStatus.RESERVED)
+			);
 		}
 
 		@Test
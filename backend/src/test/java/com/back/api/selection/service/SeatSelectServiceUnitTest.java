@@ -4,6 +4,9 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
 
+import java.util.List;
+import java.util.Optional;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -55,6 +58,9 @@ class SeatSelectServiceUnitTest {
 	@Mock
 	private QueueEntryReadService queueEntryReadService;
 
+	@Mock
+	private BestAvailableSeatIndex bestAvailableSeatIndex;
+
 	@Mock
 	private PasswordEncoder passwordEncoder;
 
@@ -192,6 +198,56 @@ class SeatSelectServiceUnitTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("autoSelectSeatAndCreateTicket 테스트")
+	class AutoSelectSeatAndCreateTicketTest {
+
+		@Test
+		@DisplayName("후보 좌석 충돌 시 다음 후보로 재시도하여 배정한다")
+		void autoSelect_RetriesOnConflict() {
+			// given
+			Ticket draftTicket = Ticket.builder()
+				.owner(testUser)
+				.event(testEvent)
+				.seat(null)
+				.ticketStatus(TicketStatus.DRAFT)
+				.build();
+
+			given(queueEntryReadService.isUserEntered(eventId, userId)).willReturn(true);
+			given(ticketService.getOrCreateDraft(eventId, userId)).willReturn(draftTicket);
+			given(bestAvailableSeatIndex.pickBlock(eventId, SeatGrade.VIP, 1))
+				.willReturn(Optional.of(List.of(10L)), Optional.of(List.of(11L)));
+			given(seatService.tryReserveSeat(eventId, 10L)).willReturn(Optional.empty());
+			given(seatService.tryReserveSeat(eventId, 11L)).willReturn(Optional.of(testSeat));
+
+			// when
+			Ticket result = seatSelectionService.autoSelectSeatAndCreateTicket(eventId, SeatGrade.VIP, userId);
+
+			// then
+			assertThat(result.getSeat()).isEqualTo(testSeat);
+			then(bestAvailableSeatIndex).should().markUnavailable(eventId, SeatGrade.VIP, List.of(10L));
+			then(bestAvailableSeatIndex).should().markUnavailable(eventId, SeatGrade.VIP, List.of(11L));
+			then(ticketRepository).should().save(draftTicket);
+		}
+
+		@Test
+		@DisplayName("가용 좌석이 없으면 NO_AVAILABLE_SEAT 예외가 발생한다")
+		void autoSelect_NoCandidate_ThrowsException() {
+			// given
+			given(queueEntryReadService.isUserEntered(eventId, userId)).willReturn(true);
+			given(ticketService.getOrCreateDraft(eventId, userId)).willReturn(testTicket);
+			given(bestAvailableSeatIndex.pickBlock(eventId, SeatGrade.VIP, 1)).willReturn(Optional.empty());
+
+			// when & then
+			assertThatThrownBy(() -> seatSelectionService.autoSelectSeatAndCreateTicket(eventId, SeatGrade.VIP, userId))
+				.isInstanceOf(ErrorException.class)
+				.hasFieldOrPropertyWithValue("errorCode", SeatErrorCode.NO_AVAILABLE_SEAT);
+
+			then(seatService).should(never()).tryReserveSeat(any(), any());
+			then(seatService).should(never()).markSeatAsAvailable(any(), any());
+		}
+	}
+
 	@Nested
 	@DisplayName("트랜잭션 롤백 검증 테스트")
 	class TransactionRollbackTest {
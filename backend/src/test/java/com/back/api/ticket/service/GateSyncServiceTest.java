@@ -0,0 +1,189 @@
+package com.back.api.ticket.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.back.api.ticket.dto.request.GateScanBatchRequest;
+import com.back.api.ticket.dto.response.GateScanBatchResponse;
+import com.back.api.ticket.dto.response.GateSnapshotResponse;
+import com.back.config.TestRedisConfig;
+import com.back.domain.event.entity.Event;
+import com.back.domain.seat.entity.Seat;
+import com.back.domain.seat.entity.SeatGrade;
+import com.back.domain.store.entity.Store;
+import com.back.domain.ticket.entity.Ticket;
+import com.back.domain.ticket.entity.TicketStatus;
+import com.back.domain.ticket.repository.TicketRepository;
+import com.back.domain.user.entity.User;
+import com.back.domain.user.entity.UserRole;
+import com.back.support.helper.EventHelper;
+import com.back.support.helper.SeatHelper;
+import com.back.support.helper.StoreHelper;
+import com.back.support.helper.TicketHelper;
+import com.back.support.helper.UserHelper;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@Import(TestRedisConfig.class)
+@DisplayName("GateSyncService 통합 테스트")
+class GateSyncServiceTest {
+
+	@Autowired
+	private GateSyncService gateSyncService;
+
+	@Autowired
+	private UserHelper userHelper;
+
+	@Autowired
+	private StoreHelper storeHelper;
+
+	@Autowired
+	private EventHelper eventHelper;
+
+	@Autowired
+	private SeatHelper seatHelper;
+
+	@Autowired
+	private TicketHelper ticketHelper;
+
+	@Autowired
+	private TicketRepository ticketRepository;
+
+	@Autowired
+	private StringRedisTemplate redisTemplate;
+
+	private User user;
+	private Event event;
+	private Ticket ticket1;
+	private Ticket ticket2;
+
+	@BeforeEach
+	void setUp() {
+		Store store = storeHelper.createStore();
+		user = userHelper.createUser(UserRole.NORMAL, null).user();
+		event = eventHelper.createEvent(store);
+
+		Seat seat1 = seatHelper.createSeat(event, "A1", SeatGrade.VIP);
+		Seat seat2 = seatHelper.createSeat(event, "A2", SeatGrade.VIP);
+		ticket1 = ticketHelper.createIssuedTicket(user, seat1, event);
+		ticket2 = ticketHelper.createIssuedTicket(user, seat2, event);
+	}
+
+	@AfterEach
+	void tearDown() {
+		redisTemplate.delete(List.of("entry:ticket:" + ticket1.getId(), "entry:ticket:" + ticket2.getId()));
+	}
+
+	@Nested
+	@DisplayName("스캔 일괄 업로드")
+	class IngestScans {
+
+		@Test
+		@DisplayName("최초 스캔은 입장 확정되고 스캔 시각으로 USED 처리된다")
+		void firstScan_accepted() {
+			LocalDateTime scannedAt = LocalDateTime.now().minusMinutes(3).withNano(0);
+			GateScanBatchRequest request = new GateScanBatchRequest(
+				"GATE-A-01",
+				List.of(new GateScanBatchRequest.Scan(ticket1.getId(), scannedAt))
+			);
+
+			GateScanBatchResponse response = gateSyncService.ingestScans(event.getId(), request);
+
+			assertThat(response.accepted()).containsExactly(ticket1.getId());
+			assertThat(response.duplicates()).isEmpty();
+			assertThat(response.rejected()).isEmpty();
+
+			Ticket used = ticketRepository.findById(ticket1.getId()).orElseThrow();
+			assertThat(used.getTicketStatus()).isEqualTo(TicketStatus.USED);
+			assertThat(used.getUsedAt()).isEqualTo(scannedAt);
+			assertThat(redisTemplate.hasKey("entry:ticket:" + ticket1.getId())).isTrue();
+		}
+
+		@Test
+		@DisplayName("같은 배치에서 여러 번 스캔된 티켓은 가장 이른 스캔만 인정된다")
+		void sameTicketTwice_secondIsDuplicate() {
+			LocalDateTime now = LocalDateTime.now();
+			GateScanBatchRequest request = new GateScanBatchRequest(
+				"GATE-A-01",
+				List.of(
+					new GateScanBatchRequest.Scan(ticket1.getId(), now),
+					new GateScanBatchRequest.Scan(ticket1.getId(), now.minusSeconds(5))
+				)
+			);
+
+			GateScanBatchResponse response = gateSyncService.ingestScans(event.getId(), request);
+
+			assertThat(response.received()).isEqualTo(2);
+			assertThat(response.accepted()).containsExactly(ticket1.getId());
+			assertThat(response.duplicates()).containsExactly(ticket1.getId());
+			assertThat(ticketRepository.findById(ticket1.getId()).orElseThrow().getUsedAt())
+				.isEqualTo(now.minusSeconds(5));
+		}
+
+		@Test
+		@DisplayName("다른 게이트에서 이미 입장한 티켓은 중복으로 반환된다")
+		void alreadyEntered_duplicate() {
+			redisTemplate.opsForValue().set("entry:ticket:" + ticket2.getId(), "0");
+			GateScanBatchRequest request = new GateScanBatchRequest(
+				"GATE-B-02",
+				List.of(new GateScanBatchRequest.Scan(ticket2.getId(), LocalDateTime.now()))
+			);
+
+			GateScanBatchResponse response = gateSyncService.ingestScans(event.getId(), request);
+
+			assertThat(response.accepted()).isEmpty();
+			assertThat(response.duplicates()).containsExactly(ticket2.getId());
+			assertThat(ticketRepository.findById(ticket2.getId()).orElseThrow().getTicketStatus())
+				.isEqualTo(TicketStatus.ISSUED);
+		}
+
+		@Test
+		@DisplayName("존재하지 않거나 다른 이벤트의 티켓은 거부된다")
+		void unknownOrOtherEventTicket_rejected() {
+			GateScanBatchRequest request = new GateScanBatchRequest(
+				"GATE-A-01",
+				List.of(
+					new GateScanBatchRequest.Scan(999_999L, LocalDateTime.now()),
+					new GateScanBatchRequest.Scan(ticket1.getId(), LocalDateTime.now())
+				)
+			);
+
+			GateScanBatchResponse response = gateSyncService.ingestScans(event.getId() + 1, request);
+
+			assertThat(response.accepted()).isEmpty();
+			assertThat(response.rejected()).containsExactlyInAnyOrder(999_999L, ticket1.getId());
+		}
+	}
+
+	@Test
+	@DisplayName("스냅샷은 티켓 ID 커서로 끝까지 조회된다")
+	void snapshot_pagesByCursor() {
+		GateSnapshotResponse first = gateSyncService.getSnapshot(event.getId(), null, 1);
+
+		assertThat(first.tickets()).hasSize(1);
+		assertThat(first.hasNext()).isTrue();
+
+		GateSnapshotResponse second = gateSyncService.getSnapshot(event.getId(), first.nextCursor(), 1);
+
+		assertThat(second.tickets()).hasSize(1);
+		assertThat(second.hasNext()).isFalse();
+		assertThat(second.nextCursor()).isNull();
+		assertThat(List.of(first.tickets().get(0).ticketId(), second.tickets().get(0).ticketId()))
+			.containsExactly(ticket1.getId(), ticket2.getId());
+	}
+}
@@ -0,0 +1,122 @@
+package com.back.api.ticket.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.back.config.TestRedisConfig;
+import com.back.domain.ticket.entity.MerkleEpochAnchor;
+import com.back.domain.ticket.entity.TicketTransferHistory;
+import com.back.domain.ticket.repository.TicketTransferHistoryRepository;
+import com.back.global.utils.MerkleUtil;
+
+import jakarta.persistence.EntityManager;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@Import(TestRedisConfig.class)
+@DisplayName("MerkleEpochAnchorService 통합 테스트")
+class MerkleEpochAnchorServiceTest {
+
+	@Autowired
+	private MerkleEpochAnchorService merkleEpochAnchorService;
+
+	@Autowired
+	private TicketTransferHistoryRepository transferHistoryRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Test
+	@DisplayName("여러 티켓의 양도 이력을 에포크 하나로 앵커링하고 Proof로 검증한다")
+	void anchorEpoch_andVerifyByProof() {
+		TicketTransferHistory first = transferHistoryRepository.save(TicketTransferHistory.record(1L, 10L, 20L));
+		TicketTransferHistory second = transferHistoryRepository.save(TicketTransferHistory.record(2L, 30L, 40L));
+		TicketTransferHistory third = transferHistoryRepository.save(TicketTransferHistory.record(1L, 20L, 50L));
+
+		Optional<MerkleEpochAnchor> anchor = merkleEpochAnchorService.anchorEpoch(LocalDateTime.now().plusSeconds(1));
+
+		assertThat(anchor).isPresent();
+		assertThat(anchor.get().getLeafCount()).isEqualTo(3);
+		assertThat(anchor.get().getFirstHistoryId()).isEqualTo(first.getId());
+		assertThat(anchor.get().getLastHistoryId()).isEqualTo(third.getId());
+		assertThat(anchor.get().getRoot()).isEqualTo(MerkleUtil.toHex(MerkleUtil.buildDigestRoot(List.of(
+			first.computeDigest(), second.computeDigest(), third.computeDigest()
+		))));
+
+		assertThat(merkleEpochAnchorService.verifyTransfer(second.getId(), anchor.get().getRoot())).isTrue();
+		assertThat(merkleEpochAnchorService.verifyTransfer(third.getId(), null)).isTrue();
+	}
+
+	@Test
+	@DisplayName("앵커링된 이력은 다음 에포크에 다시 포함되지 않는다")
+	void anchorEpoch_onlyNewHistories() {
+		transferHistoryRepository.save(TicketTransferHistory.record(1L, 10L, 20L));
+		merkleEpochAnchorService.anchorEpoch(LocalDateTime.now().plusSeconds(1));
+
+		assertThat(merkleEpochAnchorService.anchorEpoch(LocalDateTime.now().plusSeconds(1))).isEmpty();
+
+		TicketTransferHistory next = transferHistoryRepository.save(TicketTransferHistory.record(3L, 60L, 70L));
+		Optional<MerkleEpochAnchor> anchor = merkleEpochAnchorService.anchorEpoch(LocalDateTime.now().plusSeconds(1));
+
+		assertThat(anchor).isPresent();
+		assertThat(anchor.get().getLeafCount()).isEqualTo(1);
+		assertThat(anchor.get().getRoot()).isEqualTo(next.computeHash());
+	}
+
+	@Test
+	@DisplayName("더 큰 id가 앵커링된 뒤에 보이게 된 이력도 다음 에포크에 포함된다")
+	void anchorEpoch_includesLateCommittedHistory() {
+		TicketTransferHistory late = transferHistoryRepository.save(TicketTransferHistory.record(1L, 10L, 20L));
+		TicketTransferHistory committed = transferHistoryRepository.save(TicketTransferHistory.record(2L, 30L, 40L));
+		// 늦게 커밋된 트랜잭션처럼 cutoff 이후로 미뤄 첫 에포크에서 제외
+		setCreateAt(late.getId(), LocalDateTime.now().plusMinutes(1));
+
+		Optional<MerkleEpochAnchor> first = merkleEpochAnchorService.anchorEpoch(LocalDateTime.now().plusSeconds(1));
+
+		assertThat(first).isPresent();
+		assertThat(first.get().getLeafCount()).isEqualTo(1);
+		assertThat(first.get().getLastHistoryId()).isEqualTo(committed.getId());
+
+		setCreateAt(late.getId(), LocalDateTime.now());
+		Optional<MerkleEpochAnchor> next = merkleEpochAnchorService.anchorEpoch(LocalDateTime.now().plusSeconds(1));
+
+		assertThat(next).isPresent();
+		assertThat(next.get().getLeafCount()).isEqualTo(1);
+		assertThat(next.get().getRoot()).isEqualTo(late.computeHash());
+		assertThat(merkleEpochAnchorService.verifyTransfer(late.getId(), null)).isTrue();
+		assertThat(merkleEpochAnchorService.anchorEpoch(LocalDateTime.now().plusSeconds(1))).isEmpty();
+	}
+
+	@Test
+	@DisplayName("앵커링 전 이력이나 다른 Root로는 검증에 실패한다")
+	void verifyTransfer_fails() {
+		TicketTransferHistory history = transferHistoryRepository.save(TicketTransferHistory.record(1L, 10L, 20L));
+
+		assertThat(merkleEpochAnchorService.verifyTransfer(history.getId(), null)).isFalse();
+
+		merkleEpochAnchorService.anchorEpoch(LocalDateTime.now().plusSeconds(1));
+
+		assertThat(merkleEpochAnchorService.verifyTransfer(history.getId(), MerkleUtil.sha256("other"))).isFalse();
+	}
+
+	private void setCreateAt(Long historyId, LocalDateTime createAt) {
+		entityManager.flush();
+		entityManager.createQuery("UPDATE TicketTransferHistory h SET h.createAt = :createAt WHERE h.id = :id")
+			.setParameter("createAt", createAt)
+			.setParameter("id", historyId)
+			.executeUpdate();
+		entityManager.clear();
+	}
+}
@@ -1,11 +1,15 @@
 package com.back.api.ticket.service;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,16 +17,24 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.back.api.ticket.dto.response.QrEntryBatchResponse;
+import com.back.api.ticket.dto.response.QrEntryBatchResponse.EntryStatus;
+import com.back.api.ticket.dto.response.QrEntryBatchResponse.QrEntryResult;
 import com.back.api.ticket.dto.response.QrTokenResponse;
 import com.back.api.ticket.dto.response.QrValidationResponse;
+import com.back.api.ticket.dto.response.TicketResponse;
+import com.back.api.ticket.event.MyTicketsCacheEventHandler;
+import com.back.api.ticket.event.MyTicketsChangedEvent;
 import com.back.config.TestRedisConfig;
 import com.back.domain.event.entity.Event;
 import com.back.domain.event.entity.EventCategory;
@@ -33,11 +45,13 @@ import com.back.domain.seat.entity.SeatGrade;
 import com.back.domain.store.entity.Store;
 import com.back.domain.ticket.entity.Ticket;
 import com.back.domain.ticket.entity.TicketStatus;
+import com.back.domain.ticket.repository.TicketBulkRepository;
 import com.back.domain.ticket.repository.TicketRepository;
 import com.back.domain.user.entity.User;
 import com.back.domain.user.entity.UserRole;
 import com.back.global.error.code.TicketErrorCode;
 import com.back.global.error.exception.ErrorException;
+import com.back.global.security.QrSigningKeyProvider;
 import com.back.global.utils.JwtUtil;
 import com.back.support.data.TestUser;
 import com.back.support.helper.SeatHelper;
@@ -49,6 +63,7 @@ import com.back.support.helper.UserHelper;
 @AutoConfigureMockMvc(addFilters = false)
 @ActiveProfiles("test")
 @Transactional
+@RecordApplicationEvents
 @Import(TestRedisConfig.class)
 @DisplayName("QrService 통합 테스트")
 public class QrServiceTest {
@@ -77,8 +92,26 @@ public class QrServiceTest {
 	@Autowired
 	private StringRedisTemplate redisTemplate;
 
-	@Value("${custom.jwt.qr-secret}")
-	private String qrSecret;
+	@Autowired
+	private QrSigningKeyProvider qrSigningKeyProvider;
+
+	@Autowired
+	private QrTokenCache qrTokenCache;
+
+	@Autowired
+	private TicketService ticketService;
+
+	@Autowired
+	private MyTicketsCache myTicketsCache;
+
+	@Autowired
+	private MyTicketsCacheEventHandler myTicketsCacheEventHandler;
+
+	@Autowired
+	private ApplicationEvents applicationEvents;
+
+	@MockitoSpyBean
+	private TicketBulkRepository ticketBulkRepository;
 
 	private Store store;
 	private User testUser;
@@ -127,6 +160,8 @@ public class QrServiceTest {
 		// Redis 초기화
 		String redisKey = "entry:ticket:" + testTicket.getId();
 		redisTemplate.delete(redisKey);
+		qrTokenCache.evict(testTicket.getId());
+		myTicketsCache.evictAll(List.of(testUser.getId()));
 	}
 
 	@Nested
@@ -147,7 +182,8 @@ public class QrServiceTest {
 			assertThat(response.qrUrl()).contains("/tickets/verify?token=");
 
 			// JWT 토큰 검증
-			Map<String, Object> payload = JwtUtil.payloadOrNull(response.qrToken(), qrSecret);
+			Map<String, Object> payload =
+				JwtUtil.payloadOrNull(response.qrToken(), qrSigningKeyProvider.getPublicKey());
 			assertThat(payload).isNotNull();
 			assertThat(payload.get("ticketId")).isEqualTo(testTicket.getId().intValue());
 			assertThat(payload.get("eventId")).isEqualTo(testEvent.getId().intValue());
@@ -265,22 +301,74 @@ public class QrServiceTest {
 		}
 
 		@Test
-		@DisplayName("동일 티켓으로 여러 번 QR 발급 가능 (토큰은 매번 다름)")
-		void generateQrTokenMultipleTimes() throws InterruptedException {
+		@DisplayName("같은 30초 구간 안의 재발급은 캐시된 동일 토큰 반환")
+		void generateQrTokenMultipleTimesInSameWindow() throws InterruptedException {
+			// given - 구간 경계 직전이면 다음 구간까지 대기
+			if(Instant.now().getEpochSecond() % QrTokenCache.WINDOW_SECONDS >= QrTokenCache.WINDOW_SECONDS - 3) {
+				Thread.sleep(3000);
+			}
+
+			// when
+			QrTokenResponse response1 = qrService.generateQrTokenResponse(testTicket.getId(), testUser.getId());
+			Thread.sleep(1000); // 1초 대기 (새로 서명하면 iat 값이 달라짐)
+			QrTokenResponse response2 = qrService.generateQrTokenResponse(testTicket.getId(), testUser.getId());
+
+			// then
+			assertThat(response1.qrToken()).isEqualTo(response2.qrToken());
+		}
+
+		@Test
+		@DisplayName("캐시가 비워지면 새 토큰 발급 (토큰은 매번 다름)")
+		void generateQrTokenAfterEvict() throws InterruptedException {
 			// when
 			QrTokenResponse response1 = qrService.generateQrTokenResponse(testTicket.getId(), testUser.getId());
 			Thread.sleep(1000); // 1초 대기 (iat 값이 다르도록)
+			qrTokenCache.evict(testTicket.getId());
 			QrTokenResponse response2 = qrService.generateQrTokenResponse(testTicket.getId(), testUser.getId());
 
 			// then
 			assertThat(response1.qrToken()).isNotEqualTo(response2.qrToken());
 		}
+
+		@Test
+		@DisplayName("캐시된 토큰도 다른 사용자에게는 발급 불가")
+		void cachedQrTokenFailWhenUnauthorizedUser() {
+			// given
+			qrService.generateQrTokenResponse(testTicket.getId(), testUser.getId());
+			TestUser otherUser = userHelper.createUser(UserRole.NORMAL, null);
+
+			// when & then
+			assertThatThrownBy(() -> qrService.generateQrTokenResponse(testTicket.getId(), otherUser.user().getId()))
+				.isInstanceOf(ErrorException.class)
+				.hasFieldOrPropertyWithValue("errorCode", TicketErrorCode.UNAUTHORIZED_TICKET_ACCESS);
+		}
 	}
 
 	@Nested
 	@DisplayName("QR 입장 검증 및 처리")
 	class ValidateAndProcessEntry {
 
+		@Test
+		@DisplayName("입장 처리 커밋 후 내 티켓 목록 캐시 무효화")
+		void validateAndProcessEntryEvictsMyTickets() {
+			// given
+			assertThat(ticketService.getMyTickets(testUser.getId()))
+				.extracting(TicketResponse::ticketStatus)
+				.containsExactly(TicketStatus.ISSUED.name());
+			String qrToken = generateValidQrToken();
+
+			// when
+			qrService.validateAndProcessEntry(qrToken);
+			// 테스트 트랜잭션은 커밋되지 않으므로 AFTER_COMMIT 핸들러에 기록된 이벤트를 직접 전달
+			applicationEvents.stream(MyTicketsChangedEvent.class)
+				.forEach(myTicketsCacheEventHandler::handleMyTicketsChanged);
+
+			// then
+			assertThat(ticketService.getMyTickets(testUser.getId()))
+				.extracting(TicketResponse::ticketStatus)
+				.containsExactly(TicketStatus.USED.name());
+		}
+
 		@Test
 		@DisplayName("유효한 QR 토큰으로 입장 처리 성공")
 		void validateAndProcessEntrySuccess() {
@@ -451,7 +539,7 @@ public class QrServiceTest {
 			claims.put("userId", testUser.getId());
 			claims.put("iat", expiredIat);
 
-			return JwtUtil.sign(qrSecret, 60L, claims);
+			return JwtUtil.sign(qrSigningKeyProvider.getPrivateKey(), qrSigningKeyProvider.getKeyId(), 60L, claims);
 		}
 	}
 
@@ -535,4 +623,104 @@ public class QrServiceTest {
 			return response.qrToken();
 		}
 	}
+
+	@Nested
+	@DisplayName("QR 일괄 입장 처리")
+	class ValidateAndProcessEntries {
+
+		@Test
+		@DisplayName("유효한 토큰은 입장 처리되고 결과는 요청 순서대로 반환됨")
+		void validateAndProcessEntriesSuccess() {
+			// given
+			Seat seat2 = seatHelper.createSeat(testEvent, "B1");
+			Ticket ticket2 = ticketHelper.createIssuedTicket(testUser, seat2, testEvent);
+
+			String qrToken1 = qrService.generateQrTokenResponse(testTicket.getId(), testUser.getId()).qrToken();
+			String qrToken2 = qrService.generateQrTokenResponse(ticket2.getId(), testUser.getId()).qrToken();
+
+			// when
+			QrEntryBatchResponse response = qrService.validateAndProcessEntries(
+				testEvent.getId(), List.of(qrToken1, "invalid.qr.token", qrToken2)
+			);
+
+			// then
+			assertThat(response.received()).isEqualTo(3);
+			assertThat(response.entered()).isEqualTo(2);
+			assertThat(response.results()).extracting(QrEntryResult::status)
+				.containsExactly(EntryStatus.ENTERED, EntryStatus.INVALID_TOKEN, EntryStatus.ENTERED);
+			assertThat(response.results().get(2).ticketId()).isEqualTo(ticket2.getId());
+
+			assertThat(ticketRepository.findById(testTicket.getId()).orElseThrow().getTicketStatus())
+				.isEqualTo(TicketStatus.USED);
+			assertThat(ticketRepository.findById(ticket2.getId()).orElseThrow().getUsedAt()).isNotNull();
+			assertThat(redisTemplate.opsForValue().get("entry:ticket:" + ticket2.getId())).isNotNull();
+
+			redisTemplate.delete("entry:ticket:" + ticket2.getId());
+		}
+
+		@Test
+		@DisplayName("같은 티켓 토큰이 배치에 여러 개면 첫 토큰만 입장 처리됨")
+		void duplicateTokensInBatch() {
+			// given
+			String qrToken = qrService.generateQrTokenResponse(testTicket.getId(), testUser.getId()).qrToken();
+
+			// when
+			QrEntryBatchResponse response =
+				qrService.validateAndProcessEntries(testEvent.getId(), List.of(qrToken, qrToken));
+
+			// then
+			assertThat(response.entered()).isEqualTo(1);
+			assertThat(response.results()).extracting(QrEntryResult::status)
+				.containsExactly(EntryStatus.ENTERED, EntryStatus.ALREADY_ENTERED);
+		}
+
+		@Test
+		@DisplayName("다른 이벤트의 티켓은 입장 처리되지 않음")
+		void otherEventTicket() {
+			// given
+			String qrToken = qrService.generateQrTokenResponse(testTicket.getId(), testUser.getId()).qrToken();
+
+			// when
+			QrEntryBatchResponse response =
+				qrService.validateAndProcessEntries(testEvent.getId() + 1, List.of(qrToken));
+
+			// then
+			assertThat(response.entered()).isZero();
+			assertThat(response.results().get(0).status()).isEqualTo(EntryStatus.TICKET_NOT_FOUND);
+			assertThat(redisTemplate.hasKey("entry:ticket:" + testTicket.getId())).isFalse();
+		}
+
+		@Test
+		@DisplayName("Redis 입장 기록이 있는 티켓은 입장 처리되지 않음")
+		void alreadyEnteredTicket() {
+			// given
+			String qrToken = qrService.generateQrTokenResponse(testTicket.getId(), testUser.getId()).qrToken();
+			redisTemplate.opsForValue().set("entry:ticket:" + testTicket.getId(), "0");
+
+			// when
+			QrEntryBatchResponse response = qrService.validateAndProcessEntries(testEvent.getId(), List.of(qrToken));
+
+			// then
+			assertThat(response.entered()).isZero();
+			assertThat(response.results().get(0).status()).isEqualTo(EntryStatus.ALREADY_ENTERED);
+			assertThat(ticketRepository.findById(testTicket.getId()).orElseThrow().getTicketStatus())
+				.isEqualTo(TicketStatus.ISSUED);
+		}
+
+		@Test
+		@DisplayName("조회 이후 상태가 바뀌어 DB 반영되지 않은 티켓은 입장 기록을 되돌리고 실패로 응답함")
+		void notUpdatedTicketRollsBackEntryMark() {
+			// given: 조건부 UPDATE가 0건 반영된 상황 (다른 경로에서 먼저 상태 변경)
+			String qrToken = qrService.generateQrTokenResponse(testTicket.getId(), testUser.getId()).qrToken();
+			willReturn(Set.of()).given(ticketBulkRepository).markAsUsedIfIssued(anyMap());
+
+			// when
+			QrEntryBatchResponse response = qrService.validateAndProcessEntries(testEvent.getId(), List.of(qrToken));
+
+			// then
+			assertThat(response.entered()).isZero();
+			assertThat(response.results().get(0).status()).isEqualTo(EntryStatus.INVALID_TICKET_STATE);
+			assertThat(redisTemplate.hasKey("entry:ticket:" + testTicket.getId())).isFalse();
+		}
+	}
 }
@@ -3,6 +3,7 @@ package com.back.api.ticket.service;
 import static org.assertj.core.api.Assertions.*;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -11,9 +12,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.back.api.ticket.dto.response.TicketResponse;
+import com.back.api.ticket.event.MyTicketsCacheEventHandler;
+import com.back.api.ticket.event.MyTicketsChangedEvent;
 import com.back.domain.event.entity.Event;
 import com.back.domain.event.repository.EventRepository;
 import com.back.domain.seat.entity.Seat;
@@ -39,6 +44,7 @@ import com.back.support.helper.UserHelper;
 @AutoConfigureMockMvc(addFilters = false)
 @ActiveProfiles("test")
 @Transactional
+@RecordApplicationEvents
 @DisplayName("TicketService 통합 테스트")
 class TicketServiceIntegrationTest {
 
@@ -60,6 +66,12 @@ class TicketServiceIntegrationTest {
 	private SeatRepository seatRepository;
 	@Autowired
 	private TicketTransferHistoryRepository transferHistoryRepository;
+	@Autowired
+	private MyTicketsCache myTicketsCache;
+	@Autowired
+	private MyTicketsCacheEventHandler myTicketsCacheEventHandler;
+	@Autowired
+	private ApplicationEvents applicationEvents;
 
 	private User user;
 	private Event event;
@@ -195,6 +207,86 @@ class TicketServiceIntegrationTest {
 		assertThat(myTickets).hasSize(2);
 	}
 
+	@Test
+	@DisplayName("내 티켓 조회 - 캐시된 목록을 반환하고 무효화 후 다시 조회한다")
+	void getMyTickets_cachedUntilEvicted() {
+
+		Seat seat2 = seatHelper.createSeat(event, "A2", SeatGrade.R);
+		ticketHelper.createIssuedTicket(user, seat, event);
+
+		assertThat(ticketService.getMyTickets(user.getId())).hasSize(1);
+
+		// 캐시 무효화 전에는 새로 발급된 티켓이 보이지 않음
+		ticketHelper.createIssuedTicket(user, seat2, event);
+		assertThat(ticketService.getMyTickets(user.getId())).hasSize(1);
+
+		myTicketsCache.evictAll(List.of(user.getId()));
+
+		assertThat(ticketService.getMyTickets(user.getId())).hasSize(2);
+	}
+
+	@Test
+	@DisplayName("내 티켓 조회 캐시 - 결제 확정(발급) 커밋 후 무효화")
+	void getMyTickets_evictedOnIssue() {
+
+		Ticket draft = ticketService.getOrCreateDraft(event.getId(), user.getId());
+		draft.assignSeat(seat);
+		ticketRepository.save(draft);
+		seat.markAsReserved();
+		seatRepository.save(seat);
+
+		assertThat(ticketService.getMyTickets(user.getId())).isEmpty();
+
+		ticketService.confirmPayment(draft.getId(), user.getId());
+		dispatchMyTicketsChangedAfterCommit();
+
+		assertThat(ticketService.getMyTickets(user.getId()))
+			.extracting(TicketResponse::ticketStatus)
+			.containsExactly(TicketStatus.ISSUED.name());
+	}
+
+	@Test
+	@DisplayName("내 티켓 조회 캐시 - 양도 커밋 후 양도인/양수인 모두 무효화")
+	void getMyTickets_evictedOnTransfer() {
+
+		Ticket ticket = ticketHelper.createIssuedTicket(user, seat, event);
+		User targetUser = userHelper.createUser(UserRole.NORMAL, null).user();
+
+		assertThat(ticketService.getMyTickets(user.getId())).hasSize(1);
+		assertThat(ticketService.getMyTickets(targetUser.getId())).isEmpty();
+
+		ticketService.transferTicket(ticket.getId(), user.getId(), targetUser.getNickname());
+		dispatchMyTicketsChangedAfterCommit();
+
+		assertThat(ticketService.getMyTickets(user.getId())).isEmpty();
+		assertThat(ticketService.getMyTickets(targetUser.getId()))
+			.extracting(TicketResponse::ticketId)
+			.containsExactly(ticket.getId());
+	}
+
+	@Test
+	@DisplayName("내 티켓 조회 캐시 - DB 조회 중 무효화되면 조회 결과를 캐싱하지 않음")
+	void getMyTickets_notCachedWhenEvictedDuringLoad() {
+
+		ticketHelper.createIssuedTicket(user, seat, event);
+		AtomicInteger loads = new AtomicInteger();
+
+		List<TicketResponse> loaded = myTicketsCache.getOrLoad(user.getId(), () -> {
+			loads.incrementAndGet();
+			List<TicketResponse> tickets = ticketRepository.findMyTicketDto(user.getId());
+			// 조회와 캐싱 사이에 다른 트랜잭션의 커밋 후 무효화가 끼어든 상황
+			myTicketsCache.evictAll(List.of(user.getId()));
+			return tickets;
+		});
+
+		assertThat(loaded).hasSize(1);
+		myTicketsCache.getOrLoad(user.getId(), () -> {
+			loads.incrementAndGet();
+			return ticketRepository.findMyTicketDto(user.getId());
+		});
+		assertThat(loads).hasValue(2);
+	}
+
 	@Test
 	@DisplayName("티켓 상세 조회 - 성공")
 	void getTicketDetail_success() {
@@ -528,4 +620,10 @@ class TicketServiceIntegrationTest {
 			.isInstanceOf(ErrorException.class)
 			.hasMessageContaining("티켓을 찾을 수 없습니다");
 	}
-}
\ No newline at end of file
+
+	// 테스트 트랜잭션은 커밋되지 않으므로 AFTER_COMMIT 핸들러에 기록된 이벤트를 직접 전달
+	private void dispatchMyTicketsChangedAfterCommit() {
+		applicationEvents.stream(MyTicketsChangedEvent.class)
+			.forEach(myTicketsCacheEventHandler::handleMyTicketsChanged);
+	}
+}
@@ -0,0 +1,122 @@
+package com.back.domain.ticket.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.back.domain.event.entity.Event;
+import com.back.domain.seat.entity.Seat;
+import com.back.domain.seat.entity.SeatGrade;
+import com.back.domain.seat.entity.SeatStatus;
+import com.back.domain.store.entity.Store;
+import com.back.domain.ticket.entity.Ticket;
+import com.back.domain.ticket.entity.TicketStatus;
+import com.back.domain.user.entity.User;
+import com.back.domain.user.entity.UserRole;
+import com.back.support.factory.EventFactory;
+import com.back.support.factory.SeatFactory;
+import com.back.support.factory.StoreFactory;
+import com.back.support.factory.TicketFactory;
+import com.back.support.factory.UserFactory;
+
+/**
+ * Draft 일괄 만료 CTE(UPDATE ... RETURNING)는 H2에서 실행할 수 없어 PostgreSQL 컨테이너로 검증
+ * Docker가 없는 환경에서는 건너뜀
+ */
+@DataJpaTest(properties = {
+	"spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+	"spring.jpa.properties.hibernate.default_schema=public",
+	"spring.datasource.hikari.connection-init-sql=SELECT 1"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("TicketRepository PostgreSQL 테스트")
+class TicketRepositoryTest {
+
+	@Container
+	@ServiceConnection
+	static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	@Autowired
+	private TicketRepository ticketRepository;
+
+	@Autowired
+	private TestEntityManager em;
+
+	private User user;
+	private Event event;
+
+	@BeforeEach
+	void setUp() {
+		Store store = em.persist(StoreFactory.fakeStore());
+		user = em.persist(UserFactory.fakeUser(UserRole.NORMAL).user());
+		event = em.persist(EventFactory.fakeEvent(store));
+	}
+
+	@Test
+	@DisplayName("DRAFT 티켓을 FAILED로 바꾸고 RESERVED 좌석을 해제한다")
+	void expireDraftsAndReleaseSeats_releasesReservedSeat() {
+		Seat seat = SeatFactory.fakeSeat(event, "A1", SeatGrade.VIP, 150000);
+		seat.markAsReserved();
+		em.persist(seat);
+		Ticket draft = em.persist(TicketFactory.fakeDraftTicket(user, seat, event));
+		Ticket noSeat = em.persist(TicketFactory.fakeDraftTicket(user, null, event));
+		em.flush();
+		em.clear();
+
+		List<ExpiredDraftTicket> expired = ticketRepository.expireDraftsAndReleaseSeats(
+			List.of(draft.getId(), noSeat.getId())
+		);
+		em.clear();
+
+		assertThat(expired).hasSize(2);
+		ExpiredDraftTicket withSeat = expired.stream()
+			.filter(row -> row.getTicketId().equals(draft.getId()))
+			.findFirst()
+			.orElseThrow();
+		assertThat(withSeat.getEventId()).isEqualTo(event.getId());
+		assertThat(withSeat.getSeatId()).isEqualTo(seat.getId());
+		assertThat(withSeat.getSeatCode()).isEqualTo("A1");
+		assertThat(withSeat.getGrade()).isEqualTo(SeatGrade.VIP.name());
+		assertThat(withSeat.getPrice()).isEqualTo(150000);
+
+		assertThat(em.find(Ticket.class, draft.getId()).getTicketStatus()).isEqualTo(TicketStatus.FAILED);
+		assertThat(em.find(Ticket.class, noSeat.getId()).getTicketStatus()).isEqualTo(TicketStatus.FAILED);
+		Seat released = em.find(Seat.class, seat.getId());
+		assertThat(released.getSeatStatus()).isEqualTo(SeatStatus.AVAILABLE);
+		assertThat(released.getVersion()).isEqualTo(seat.getVersion() + 1);
+	}
+
+	@Test
+	@DisplayName("이미 결제된 티켓은 만료하지 않고 좌석도 유지한다")
+	void expireDraftsAndReleaseSeats_skipsNonDraft() {
+		Seat seat = SeatFactory.fakeSeat(event, "A2", SeatGrade.R, 100000);
+		seat.markAsReserved();
+		seat.markAsSold();
+		em.persist(seat);
+		Ticket paid = em.persist(TicketFactory.fakePaidTicket(user, seat, event));
+		em.flush();
+		em.clear();
+
+		List<ExpiredDraftTicket> expired = ticketRepository.expireDraftsAndReleaseSeats(List.of(paid.getId()));
+		em.clear();
+
+		assertThat(expired).isEmpty();
+		assertThat(em.find(Ticket.class, paid.getId()).getTicketStatus()).isEqualTo(TicketStatus.PAID);
+		assertThat(em.find(Seat.class, seat.getId()).getSeatStatus()).isEqualTo(SeatStatus.SOLD);
+	}
+}
@@ -0,0 +1,143 @@
+package com.back.global.idempotency;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.back.api.payment.payment.dto.request.V2_PaymentConfirmRequest;
+import com.back.api.payment.payment.dto.response.V2_PaymentConfirmResponse;
+import com.back.config.TestRedisConfig;
+import com.back.global.error.code.CommonErrorCode;
+import com.back.global.error.code.PaymentErrorCode;
+import com.back.global.error.exception.ErrorException;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestRedisConfig.class)
+@DisplayName("IdempotencyStore 통합 테스트")
+class IdempotencyStoreTest {
+
+	private static final String SCOPE = "test_scope";
+	private static final Long USER_ID = 1L;
+	private static final String ORDER_ID = "order-1";
+
+	@Autowired
+	private IdempotencyStore idempotencyStore;
+
+	@Autowired
+	private StringRedisTemplate redisTemplate;
+
+	private final V2_PaymentConfirmRequest request = new V2_PaymentConfirmRequest(ORDER_ID, "payment-key", 50_000L);
+
+	@AfterEach
+	void tearDown() {
+		Set<String> keys = redisTemplate.keys("idempotency:" + SCOPE + ":*");
+		if (keys != null && !keys.isEmpty()) {
+			redisTemplate.delete(keys);
+		}
+	}
+
+	@Test
+	@DisplayName("완료된 요청을 다시 보내면 처리 없이 저장된 응답을 반환한다")
+	void execute_completed_replaysResponse() {
+		AtomicInteger calls = new AtomicInteger();
+
+		V2_PaymentConfirmResponse first = confirm(null, request, () -> {
+			calls.incrementAndGet();
+			return new V2_PaymentConfirmResponse(ORDER_ID, true);
+		});
+		V2_PaymentConfirmResponse second = confirm(null, request, () -> {
+			calls.incrementAndGet();
+			return new V2_PaymentConfirmResponse(ORDER_ID, false);
+		});
+
+		assertThat(calls).hasValue(1);
+		assertThat(second).isEqualTo(first);
+	}
+
+	@Test
+	@DisplayName("처리 중인 요청과 같은 요청은 409")
+	void execute_inProgress_conflict() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+
+		try {
+			Future<V2_PaymentConfirmResponse> first = executor.submit(() -> confirm(null, request, () -> {
+				started.countDown();
+				await(release);
+				return new V2_PaymentConfirmResponse(ORDER_ID, true);
+			}));
+			assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+			assertThatThrownBy(() -> confirm(null, request, () -> new V2_PaymentConfirmResponse(ORDER_ID, true)))
+				.isInstanceOf(ErrorException.class)
+				.extracting("errorCode")
+				.isEqualTo(CommonErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+
+			release.countDown();
+			assertThat(first.get(5, TimeUnit.SECONDS).success()).isTrue();
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	@DisplayName("같은 Idempotency-Key로 다른 요청 본문이면 422")
+	void execute_keyReused_rejected() {
+		confirm("key-1", request, () -> new V2_PaymentConfirmResponse(ORDER_ID, true));
+
+		V2_PaymentConfirmRequest other = new V2_PaymentConfirmRequest(ORDER_ID, "payment-key", 1L);
+
+		assertThatThrownBy(() -> confirm("key-1", other, () -> new V2_PaymentConfirmResponse(ORDER_ID, true)))
+			.isInstanceOf(ErrorException.class)
+			.extracting("errorCode")
+			.isEqualTo(CommonErrorCode.IDEMPOTENCY_KEY_REUSED);
+	}
+
+	@Test
+	@DisplayName("처리 실패 시 키를 해제해 재시도할 수 있다")
+	void execute_failure_releasesKey() {
+		assertThatThrownBy(() -> confirm(null, request, () -> {
+			throw new ErrorException(PaymentErrorCode.PG_TIMEOUT);
+		})).isInstanceOf(ErrorException.class);
+
+		V2_PaymentConfirmResponse retried = confirm(null, request, () -> new V2_PaymentConfirmResponse(ORDER_ID, true));
+
+		assertThat(retried.success()).isTrue();
+	}
+
+	private V2_PaymentConfirmResponse confirm(
+		String idempotencyKey,
+		V2_PaymentConfirmRequest body,
+		Supplier<V2_PaymentConfirmResponse> action
+	) {
+		return idempotencyStore.execute(
+			SCOPE, USER_ID, idempotencyKey, body.orderId(), body, V2_PaymentConfirmResponse.class, action
+		);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,99 @@
+package com.back.global.observability;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import com.back.global.error.code.PaymentErrorCode;
+import com.back.global.error.exception.ErrorException;
+import com.back.global.observability.metrics.PaymentPhaseMetrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("PaymentPhaseMetrics 단위 테스트")
+class PaymentPhaseMetricsTest {
+
+	private SimpleMeterRegistry meterRegistry;
+	private PaymentPhaseMetrics paymentPhaseMetrics;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		paymentPhaseMetrics = new PaymentPhaseMetrics(meterRegistry);
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	@DisplayName("구간 실행 결과를 outcome 태그로 기록한다 (실패 시 에러 코드)")
+	void record_tagsOutcome() {
+		String result = paymentPhaseMetrics.record(PaymentPhaseMetrics.VALIDATE, () -> "ok");
+
+		assertThat(result).isEqualTo("ok");
+		assertThat(timer(PaymentPhaseMetrics.VALIDATE, "success").count()).isEqualTo(1);
+
+		assertThatThrownBy(() -> paymentPhaseMetrics.record(PaymentPhaseMetrics.PG, () -> {
+			throw new ErrorException(PaymentErrorCode.PG_TIMEOUT);
+		})).isInstanceOf(ErrorException.class);
+
+		assertThat(timer(PaymentPhaseMetrics.PG, "PG_TIMEOUT").count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("커밋 시 db_commit과 커밋 후 리스너 구간(event_publish)을 나눠 기록한다")
+	void recordCommit_committed() {
+		TransactionSynchronizationManager.initSynchronization();
+		paymentPhaseMetrics.recordCommit("paid", PaymentPhaseMetrics.PATH_OUTBOX);
+
+		TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+		TransactionSynchronizationUtils.invokeAfterCompletion(
+			TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_COMMITTED
+		);
+
+		assertThat(timer(PaymentPhaseMetrics.DB_COMMIT, "paid").count()).isEqualTo(1);
+		assertThat(timer(PaymentPhaseMetrics.EVENT_PUBLISH, "paid").count()).isEqualTo(1);
+		assertThat(timer(PaymentPhaseMetrics.DB_COMMIT, "paid").getId().getTag("path"))
+			.isEqualTo(PaymentPhaseMetrics.PATH_OUTBOX);
+	}
+
+	@Test
+	@DisplayName("롤백 시 db_commit을 rollback으로 기록하고 event_publish는 기록하지 않는다")
+	void recordCommit_rolledBack() {
+		TransactionSynchronizationManager.initSynchronization();
+		paymentPhaseMetrics.recordCommit("paid", PaymentPhaseMetrics.PATH_OUTBOX);
+
+		TransactionSynchronizationUtils.invokeAfterCompletion(
+			TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_ROLLED_BACK
+		);
+
+		assertThat(timer(PaymentPhaseMetrics.DB_COMMIT, "rollback").count()).isEqualTo(1);
+		assertThat(meterRegistry.find("payment.confirm.phase.duration")
+			.tag("phase", PaymentPhaseMetrics.EVENT_PUBLISH).timer()).isNull();
+	}
+
+	@Test
+	@DisplayName("트랜잭션 밖에서는 기록하지 않는다")
+	void recordCommit_noTransaction() {
+		paymentPhaseMetrics.recordCommit("paid", PaymentPhaseMetrics.PATH_OUTBOX);
+
+		assertThat(meterRegistry.find("payment.confirm.phase.duration").timers()).isEmpty();
+	}
+
+	private Timer timer(String phase, String outcome) {
+		return meterRegistry.get("payment.confirm.phase.duration")
+			.tags("phase", phase, "outcome", outcome)
+			.timer();
+	}
+}
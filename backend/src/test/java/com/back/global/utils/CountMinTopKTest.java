@@ -0,0 +1,76 @@
+package com.back.global.utils;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CountMinTopK 단위 테스트")
+class CountMinTopKTest {
+
+	@Nested
+	@DisplayName("add 메서드")
+	class Add {
+
+		@Test
+		@DisplayName("추정치는 실제 횟수 이상")
+		void estimate_neverUnderCounts() {
+			CountMinTopK sketch = new CountMinTopK(64, 4, 10);
+
+			for (long item = 0; item < 500; item++) {
+				for (int i = 0; i <= item % 5; i++) {
+					sketch.add(item);
+				}
+			}
+
+			assertThat(sketch.add(7L)).isGreaterThanOrEqualTo(4);
+			assertThat(sketch.totalCount()).isEqualTo(1501);
+		}
+	}
+
+	@Nested
+	@DisplayName("top 메서드")
+	class Top {
+
+		@Test
+		@DisplayName("고빈도 항목이 추정치 내림차순으로 반환")
+		void heavyHitters_returnedInDescendingOrder() {
+			CountMinTopK sketch = new CountMinTopK(2048, 4, 5);
+
+			for (int i = 0; i < 300; i++) {
+				sketch.add(1L);
+			}
+			for (int i = 0; i < 200; i++) {
+				sketch.add(2L);
+			}
+			for (long item = 100; item < 1100; item++) {
+				sketch.add(item);
+			}
+
+			List<CountMinTopK.Estimate> top = sketch.top(2);
+
+			assertThat(top).extracting(CountMinTopK.Estimate::item).containsExactly(1L, 2L);
+			assertThat(top.get(0).count()).isGreaterThanOrEqualTo(300);
+			assertThat(sketch.maxEstimate()).isEqualTo(top.get(0).count());
+		}
+
+		@Test
+		@DisplayName("기록이 없으면 빈 리스트")
+		void empty_returnsEmptyList() {
+			CountMinTopK sketch = new CountMinTopK(16, 2, 3);
+
+			assertThat(sketch.top(10)).isEmpty();
+			assertThat(sketch.maxEstimate()).isZero();
+		}
+	}
+
+	@Test
+	@DisplayName("0 이하 파라미터 → IllegalArgumentException")
+	void invalidParameters_throwException() {
+		assertThatThrownBy(() -> new CountMinTopK(0, 4, 10))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,84 @@
+package com.back.global.utils;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("MerkleAccumulator 단위 테스트")
+class MerkleAccumulatorTest {
+
+	@Test
+	@DisplayName("리프가 없으면 빈 Root")
+	void empty_returnsEmptyRoot() {
+		MerkleAccumulator accumulator = new MerkleAccumulator();
+
+		assertThat(accumulator.root()).isEmpty();
+		assertThat(accumulator.encode()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("리프를 하나씩 추가한 Root는 전체 리프로 계산한 Root와 같다")
+	void incrementalRoot_matchesFullRebuild() {
+		MerkleAccumulator accumulator = new MerkleAccumulator();
+		List<byte[]> leaves = new ArrayList<>();
+
+		for (int i = 0; i < 40; i++) {
+			byte[] leaf = leaf(i);
+			leaves.add(leaf);
+			accumulator.append(leaf);
+
+			assertThat(accumulator.root()).isEqualTo(MerkleUtil.buildDigestRoot(leaves));
+		}
+	}
+
+	@Test
+	@DisplayName("encode/restore 후에도 이어서 추가 가능")
+	void restore_continuesAppending() {
+		MerkleAccumulator original = new MerkleAccumulator();
+		for (int i = 0; i < 11; i++) {
+			original.append(leaf(i));
+		}
+
+		MerkleAccumulator restored = MerkleAccumulator.restore(original.getLeafCount(), original.encode());
+		original.append(leaf(11));
+		restored.append(leaf(11));
+
+		assertThat(restored.getLeafCount()).isEqualTo(12);
+		assertThat(restored.root()).isEqualTo(original.root());
+	}
+
+	@Test
+	@DisplayName("frontier 길이가 리프 수와 맞지 않으면 예외")
+	void restore_invalidFrontier_throws() {
+		assertThatThrownBy(() -> MerkleAccumulator.restore(3, new byte[MerkleUtil.DIGEST_LENGTH]))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	@DisplayName("모든 리프의 Proof가 누산기 Root로 검증된다")
+	void proofs_verifyAgainstAccumulatorRoot() {
+		MerkleAccumulator accumulator = new MerkleAccumulator();
+		List<byte[]> leaves = new ArrayList<>();
+		for (int i = 0; i < 13; i++) {
+			leaves.add(leaf(i));
+			accumulator.append(leaf(i));
+		}
+		byte[] root = accumulator.root();
+
+		for (int i = 0; i < leaves.size(); i++) {
+			List<MerkleUtil.ProofNode> proof = MerkleUtil.buildProof(leaves, i);
+
+			assertThat(MerkleUtil.verify(leaves.get(i), proof, root)).isTrue();
+			assertThat(MerkleUtil.verify(leaf(100), proof, root)).isFalse();
+		}
+	}
+
+	private byte[] leaf(int i) {
+		return MerkleUtil.fromHex(MerkleUtil.sha256("leaf-" + i));
+	}
+}
@@ -0,0 +1,69 @@
+package com.back.global.utils;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ParallelMerkleTree 단위 테스트")
+class ParallelMerkleTreeTest {
+
+	@Test
+	@DisplayName("Root는 MerkleUtil.buildDigestRoot와 같다")
+	void root_matchesDigestRoot() {
+		for (int size : new int[] {1, 2, 3, 5, 8, 13, 1025, 3001}) {
+			List<byte[]> leaves = leaves(size);
+
+			ParallelMerkleTree tree = ParallelMerkleTree.build(leaves);
+
+			assertThat(tree.root()).isEqualTo(MerkleUtil.buildDigestRoot(leaves));
+		}
+	}
+
+	@Test
+	@DisplayName("리프별 Proof는 MerkleUtil.verify로 검증되고 buildProof와 같다")
+	void proofs_verify() {
+		List<byte[]> leaves = leaves(21);
+		ParallelMerkleTree tree = ParallelMerkleTree.build(leaves);
+
+		for (int i = 0; i < leaves.size(); i++) {
+			List<MerkleUtil.ProofNode> proof = tree.proofOf(i);
+
+			assertThat(proof).isEqualTo(MerkleUtil.buildProof(leaves, i));
+			assertThat(MerkleUtil.verify(leaves.get(i), proof, tree.root())).isTrue();
+		}
+	}
+
+	@Test
+	@DisplayName("저장용 인코딩 Proof를 복원하면 같은 Proof")
+	void encodedProof_roundTrip() {
+		List<byte[]> leaves = leaves(7);
+		ParallelMerkleTree tree = ParallelMerkleTree.build(leaves);
+
+		for (int i = 0; i < leaves.size(); i++) {
+			ParallelMerkleTree.EncodedProof encoded = tree.encodedProofOf(i);
+
+			assertThat(ParallelMerkleTree.decodeProof(encoded.siblings(), encoded.leftMask()))
+				.isEqualTo(tree.proofOf(i));
+		}
+	}
+
+	@Test
+	@DisplayName("리프가 하나면 Root는 리프 자체이고 Proof는 비어 있다")
+	void singleLeaf() {
+		List<byte[]> leaves = leaves(1);
+		ParallelMerkleTree tree = ParallelMerkleTree.build(leaves);
+
+		assertThat(tree.root()).isEqualTo(leaves.get(0));
+		assertThat(tree.proofOf(0)).isEmpty();
+	}
+
+	private List<byte[]> leaves(int size) {
+		return IntStream.range(0, size)
+			.mapToObj(i -> MerkleUtil.fromHex(MerkleUtil.sha256("transfer-" + i)))
+			.toList();
+	}
+}
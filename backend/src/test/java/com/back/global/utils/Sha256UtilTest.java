@@ -0,0 +1,64 @@
+package com.back.global.utils;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Sha256Util 단위 테스트")
+class Sha256UtilTest {
+
+	@Test
+	@DisplayName("알려진 입력의 SHA-256 hex 값과 일치한다")
+	void digest_knownVector() {
+		assertThat(Sha256Util.toHex(Sha256Util.digest("hello")))
+			.isEqualTo("2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824");
+	}
+
+	@Test
+	@DisplayName("두 입력 결합 해시는 연결한 문자열의 해시와 같다")
+	void digestPair_matchesConcatenation() {
+		assertThat(Sha256Util.digest("left", "right")).isEqualTo(Sha256Util.digest("leftright"));
+		assertThat(Sha256Util.digest("left".getBytes(StandardCharsets.UTF_8), "right".getBytes(StandardCharsets.UTF_8)))
+			.isEqualTo(Sha256Util.digest("leftright"));
+	}
+
+	@Test
+	@DisplayName("hex 인코딩/디코딩은 HexFormat과 같고 왕복 시 원래 값이 된다")
+	void hex_roundTrip() {
+		byte[] bytes = new byte[256];
+		for (int i = 0; i < bytes.length; i++) {
+			bytes[i] = (byte)i;
+		}
+
+		String hex = Sha256Util.toHex(bytes);
+
+		assertThat(hex).isEqualTo(HexFormat.of().formatHex(bytes));
+		assertThat(Sha256Util.fromHex(hex)).isEqualTo(bytes);
+		assertThat(Sha256Util.fromHex(hex.toUpperCase())).isEqualTo(bytes);
+	}
+
+	@Test
+	@DisplayName("잘못된 hex 문자열은 예외가 발생한다")
+	void fromHex_invalid() {
+		assertThatThrownBy(() -> Sha256Util.fromHex("abc")).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> Sha256Util.fromHex("zz")).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	@DisplayName("여러 스레드에서 동시에 호출해도 결과가 같다")
+	void digest_concurrent() {
+		String expected = Sha256Util.toHex(Sha256Util.digest("ticket"));
+
+		List<String> results = IntStream.range(0, 1000).parallel()
+			.mapToObj(i -> Sha256Util.toHex(Sha256Util.digest("ticket")))
+			.toList();
+
+		assertThat(results).allMatch(expected::equals);
+	}
+}